@@ -231,7 +231,7 @@ public class LargeEpochChangeTest {
 		logger.info(
 			"epoch_preparation: state_updates={} verification_time={}s store_time={}s total_time={}s",
 			stateUpdates,
-			result.getVerificationTime() / 1000,
+			result.getVerificationTime().orElseThrow() / 1000,
 			result.getStoreTime() / 1000,
 			construction.elapsed(TimeUnit.SECONDS)
 		);
@@ -245,7 +245,7 @@ public class LargeEpochChangeTest {
 		construction.stop();
 		logger.info(
 			"epoch_execution: verification_time={}s store_time={}s total_time={}s",
-			executionResult.getVerificationTime() / 1000,
+			executionResult.getVerificationTime().orElseThrow() / 1000,
 			executionResult.getStoreTime() / 1000,
 			construction.elapsed(TimeUnit.SECONDS)
 		);
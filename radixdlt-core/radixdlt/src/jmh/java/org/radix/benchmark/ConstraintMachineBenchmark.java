@@ -0,0 +1,167 @@
+/*
+ * (C) Copyright 2021 Radix DLT Ltd
+ *
+ * Radix DLT Ltd licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ */
+
+package org.radix.benchmark;
+
+import com.radixdlt.application.system.construction.CreateSystemConstructorV2;
+import com.radixdlt.application.system.scrypt.SystemConstraintScrypt;
+import com.radixdlt.application.tokens.Amount;
+import com.radixdlt.application.tokens.construction.CreateMutableTokenConstructor;
+import com.radixdlt.application.tokens.construction.MintTokenConstructor;
+import com.radixdlt.application.tokens.construction.StakeTokensConstructorV3;
+import com.radixdlt.application.tokens.construction.TransferTokensConstructorV2;
+import com.radixdlt.application.tokens.scrypt.StakingConstraintScryptV4;
+import com.radixdlt.application.tokens.scrypt.TokensConstraintScryptV3;
+import com.radixdlt.application.validators.scrypt.ValidatorConstraintScryptV2;
+import com.radixdlt.application.validators.scrypt.ValidatorUpdateOwnerConstraintScrypt;
+import com.radixdlt.atom.REConstructor;
+import com.radixdlt.atom.TxnConstructionRequest;
+import com.radixdlt.atom.actions.CreateMutableToken;
+import com.radixdlt.atom.actions.CreateSystem;
+import com.radixdlt.atom.actions.MintToken;
+import com.radixdlt.atom.actions.StakeTokens;
+import com.radixdlt.atom.actions.TransferToken;
+import com.radixdlt.atomos.CMAtomOS;
+import com.radixdlt.constraintmachine.ConstraintMachine;
+import com.radixdlt.constraintmachine.ConstraintMachineConfig;
+import com.radixdlt.constraintmachine.ExecutionContext;
+import com.radixdlt.constraintmachine.PermissionLevel;
+import com.radixdlt.constraintmachine.REStateUpdate;
+import com.radixdlt.constraintmachine.exceptions.ConstraintMachineException;
+import com.radixdlt.constraintmachine.meter.Meter;
+import com.radixdlt.crypto.ECKeyPair;
+import com.radixdlt.engine.RadixEngine;
+import com.radixdlt.engine.RadixEngineException;
+import com.radixdlt.engine.parser.ParsedTxn;
+import com.radixdlt.engine.parser.REParser;
+import com.radixdlt.engine.parser.exceptions.TxnParseException;
+import com.radixdlt.identifiers.REAddr;
+import com.radixdlt.store.InMemoryEngineStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH driven benchmarks for the instruction dispatch of the constraint machine.
+ * <p>
+ * Token transfer and stake transactions are constructed and parsed once, and each
+ * benchmark runs the parsed instructions through {@link ConstraintMachine#verify}
+ * against an in-memory store. Run with:
+ * <pre>
+ *    $ gradle --no-daemon clean jmh
+ * </pre>
+ * from the radixdlt directory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+public class ConstraintMachineBenchmark {
+	private InMemoryEngineStore<Void> store;
+	private ConstraintMachine cm;
+	private ParsedTxn transfer;
+	private ParsedTxn stake;
+
+	@Setup
+	public void setup() throws Exception {
+		var cmAtomOS = new CMAtomOS();
+		cmAtomOS.load(new SystemConstraintScrypt(Set.of()));
+		cmAtomOS.load(new TokensConstraintScryptV3());
+		cmAtomOS.load(new StakingConstraintScryptV4(Amount.ofTokens(10).toSubunits()));
+		cmAtomOS.load(new ValidatorConstraintScryptV2());
+		cmAtomOS.load(new ValidatorUpdateOwnerConstraintScrypt());
+		var config = new ConstraintMachineConfig(
+			cmAtomOS.getProcedures(),
+			cmAtomOS.buildSubstateDeserialization(),
+			cmAtomOS.buildVirtualSubstateDeserialization(),
+			Meter.EMPTY
+		);
+		this.cm = new ConstraintMachine(config);
+		var parser = new REParser(cmAtomOS.buildSubstateDeserialization());
+		this.store = new InMemoryEngineStore<>();
+		var engine = new RadixEngine<>(
+			parser,
+			cmAtomOS.buildSubstateSerialization(),
+			REConstructor.newBuilder()
+				.put(CreateSystem.class, new CreateSystemConstructorV2())
+				.put(CreateMutableToken.class, new CreateMutableTokenConstructor())
+				.put(MintToken.class, new MintTokenConstructor())
+				.put(TransferToken.class, new TransferTokensConstructorV2())
+				.put(StakeTokens.class, new StakeTokensConstructorV3(Amount.ofTokens(10).toSubunits()))
+				.build(),
+			cm,
+			store
+		);
+		var genesis = engine.construct(new CreateSystem(0)).buildWithoutSignature();
+		engine.execute(List.of(genesis), null, PermissionLevel.SYSTEM);
+
+		var key = ECKeyPair.generateNew();
+		var account = REAddr.ofPubKeyAccount(key.getPublicKey());
+		var to = REAddr.ofPubKeyAccount(ECKeyPair.generateNew().getPublicKey());
+		var mint = engine.construct(
+			TxnConstructionRequest.create()
+				.action(new CreateMutableToken(null, "xrd", "Name", "", "", ""))
+				.action(new MintToken(REAddr.ofNativeToken(), account, Amount.ofTokens(1000).toSubunits()))
+		).buildWithoutSignature();
+		engine.execute(List.of(mint), null, PermissionLevel.SYSTEM);
+
+		var transferTxn = engine.construct(
+			new TransferToken(REAddr.ofNativeToken(), account, to, Amount.ofTokens(1).toSubunits())
+		).signAndBuild(key::sign);
+		var stakeTxn = engine.construct(
+			new StakeTokens(account, key.getPublicKey(), Amount.ofTokens(10).toSubunits())
+		).signAndBuild(key::sign);
+
+		this.transfer = parser.parse(transferTxn);
+		this.stake = parser.parse(stakeTxn);
+	}
+
+	@Benchmark
+	public void verifyTransfer(Blackhole bh) throws RadixEngineException {
+		bh.consume(verify(transfer));
+	}
+
+	@Benchmark
+	public void verifyStake(Blackhole bh) throws RadixEngineException {
+		bh.consume(verify(stake));
+	}
+
+	private List<List<REStateUpdate>> verify(ParsedTxn parsedTxn) throws RadixEngineException {
+		return store.transaction(tx -> {
+			var context = new ExecutionContext(parsedTxn.txn(), PermissionLevel.USER, 1, Amount.ofTokens(200).toSubunits());
+			parsedTxn.getSignedBy().ifPresent(context::setKey);
+			try {
+				return cm.verify(tx, context, parsedTxn.instructions());
+			} catch (TxnParseException | ConstraintMachineException e) {
+				throw new IllegalStateException(e);
+			}
+		});
+	}
+}
@@ -26,8 +26,11 @@ import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
+import com.radixdlt.utils.MutableUInt256;
 import com.radixdlt.utils.UInt256;
 
 import com.google.common.math.BigIntegerMath;
@@ -49,6 +52,7 @@ import com.google.common.math.BigIntegerMath;
  *    $ gradle --no-daemon clean jmh
  * </pre>
  */
+@State(Scope.Thread)
 @BenchmarkMode(Mode.AverageTime)
 @OutputTimeUnit(TimeUnit.NANOSECONDS)
 @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
@@ -64,6 +68,8 @@ public class UInt256Benchmark {
 	private static final UInt256 UI_LARGE_VALUE1 = fromBigInt(BI_LARGE_VALUE1);
 	private static final UInt256 UI_LARGE_VALUE2 = fromBigInt(BI_LARGE_VALUE2);
 
+	private final MutableUInt256 accumulator = new MutableUInt256();
+
     static UInt256 fromBigInt(BigInteger bi) {
     	return UInt256.from(bi.toByteArray());
     }
@@ -108,6 +114,54 @@ public class UInt256Benchmark {
 		bh.consume(BI_LARGE_VALUE1.divide(BI_SMALL_VALUE));
 	}
 
+	@Benchmark
+	public void divLargeLargeInt256(Blackhole bh) {
+		bh.consume(UI_LARGE_VALUE1.divide(UI_LARGE_VALUE2));
+	}
+
+	@Benchmark
+	public void divLargeLargeBigInt(Blackhole bh) {
+		bh.consume(BI_LARGE_VALUE1.divide(BI_LARGE_VALUE2));
+	}
+
+	@Benchmark
+	public void remLargeSmallInt256(Blackhole bh) {
+		bh.consume(UI_LARGE_VALUE1.remainder(UI_SMALL_VALUE));
+	}
+
+	@Benchmark
+	public void remLargeSmallBigInt(Blackhole bh) {
+		bh.consume(BI_LARGE_VALUE1.remainder(BI_SMALL_VALUE));
+	}
+
+	@Benchmark
+	public void mulDivChainInt256(Blackhole bh) {
+		bh.consume(UI_LARGE_VALUE2.divide(UI_SMALL_VALUE).multiply(UI_SMALL_VALUE).divide(UI_LARGE_VALUE1));
+	}
+
+	@Benchmark
+	public void mulDivChainMutableInt256(Blackhole bh) {
+		bh.consume(accumulator.set(UI_LARGE_VALUE2).divide(UI_SMALL_VALUE).multiply(UI_SMALL_VALUE).divide(UI_LARGE_VALUE1));
+	}
+
+	@Benchmark
+	public void sumSmallInt256(Blackhole bh) {
+		UInt256 sum = UInt256.ZERO;
+		for (int i = 0; i < 16; i++) {
+			sum = sum.add(UI_SMALL_VALUE);
+		}
+		bh.consume(sum);
+	}
+
+	@Benchmark
+	public void sumSmallMutableInt256(Blackhole bh) {
+		accumulator.set(UInt256.ZERO);
+		for (int i = 0; i < 16; i++) {
+			accumulator.add(UI_SMALL_VALUE);
+		}
+		bh.consume(accumulator);
+	}
+
 	@Benchmark
 	public void sqrtLargeInt256(Blackhole bh) {
 		bh.consume(UI_LARGE_VALUE1.isqrt());
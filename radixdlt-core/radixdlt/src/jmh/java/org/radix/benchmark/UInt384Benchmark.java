@@ -26,8 +26,11 @@ import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
+import com.radixdlt.utils.MutableUInt384;
 import com.radixdlt.utils.UInt384;
 
 import com.google.common.math.BigIntegerMath;
@@ -49,6 +52,7 @@ import com.google.common.math.BigIntegerMath;
  *    $ gradle --no-daemon clean jmh
  * </pre>
  */
+@State(Scope.Thread)
 @BenchmarkMode(Mode.AverageTime)
 @OutputTimeUnit(TimeUnit.NANOSECONDS)
 @Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
@@ -64,6 +68,8 @@ public class UInt384Benchmark {
 	private static final UInt384 UI_LARGE_VALUE1 = fromBigInt(BI_LARGE_VALUE1);
 	private static final UInt384 UI_LARGE_VALUE2 = fromBigInt(BI_LARGE_VALUE2);
 
+	private final MutableUInt384 accumulator = new MutableUInt384();
+
     static UInt384 fromBigInt(BigInteger bi) {
     	return UInt384.from(bi.toByteArray());
     }
@@ -108,6 +114,54 @@ public class UInt384Benchmark {
 		bh.consume(BI_LARGE_VALUE1.divide(BI_SMALL_VALUE));
 	}
 
+	@Benchmark
+	public void divLargeLargeInt384(Blackhole bh) {
+		bh.consume(UI_LARGE_VALUE1.divide(UI_LARGE_VALUE2));
+	}
+
+	@Benchmark
+	public void divLargeLargeBigInt(Blackhole bh) {
+		bh.consume(BI_LARGE_VALUE1.divide(BI_LARGE_VALUE2));
+	}
+
+	@Benchmark
+	public void remLargeSmallInt384(Blackhole bh) {
+		bh.consume(UI_LARGE_VALUE1.remainder(UI_SMALL_VALUE));
+	}
+
+	@Benchmark
+	public void remLargeSmallBigInt(Blackhole bh) {
+		bh.consume(BI_LARGE_VALUE1.remainder(BI_SMALL_VALUE));
+	}
+
+	@Benchmark
+	public void mulDivChainInt384(Blackhole bh) {
+		bh.consume(UI_LARGE_VALUE2.divide(UI_SMALL_VALUE).multiply(UI_SMALL_VALUE.getLow()).divide(UI_LARGE_VALUE1));
+	}
+
+	@Benchmark
+	public void mulDivChainMutableInt384(Blackhole bh) {
+		bh.consume(accumulator.set(UI_LARGE_VALUE2).divide(UI_SMALL_VALUE).multiply(UI_SMALL_VALUE.getLow()).divide(UI_LARGE_VALUE1));
+	}
+
+	@Benchmark
+	public void sumSmallInt384(Blackhole bh) {
+		UInt384 sum = UInt384.ZERO;
+		for (int i = 0; i < 16; i++) {
+			sum = sum.add(UI_SMALL_VALUE);
+		}
+		bh.consume(sum);
+	}
+
+	@Benchmark
+	public void sumSmallMutableInt384(Blackhole bh) {
+		accumulator.set(UInt384.ZERO);
+		for (int i = 0; i < 16; i++) {
+			accumulator.add(UI_SMALL_VALUE);
+		}
+		bh.consume(accumulator);
+	}
+
 	@Benchmark
 	public void sqrtLargeInt384(Blackhole bh) {
 		bh.consume(UI_LARGE_VALUE1.isqrt());
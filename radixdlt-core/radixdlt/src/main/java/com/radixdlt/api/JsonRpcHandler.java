@@ -20,9 +20,37 @@ package com.radixdlt.api;
 
 import org.json.JSONObject;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
 /**
  * Handles Json RPC requests
  */
 public interface JsonRpcHandler {
 	JSONObject execute(JSONObject request);
+
+	/**
+	 * Executes request without holding the calling thread while the response is being prepared.
+	 * By default the request is executed synchronously.
+	 */
+	default CompletableFuture<JSONObject> executeAsync(JSONObject request) {
+		return CompletableFuture.completedFuture(execute(request));
+	}
+
+	/**
+	 * Creates handler from the function which completes response asynchronously.
+	 */
+	static JsonRpcHandler async(Function<JSONObject, CompletableFuture<JSONObject>> handler) {
+		return new JsonRpcHandler() {
+			@Override
+			public JSONObject execute(JSONObject request) {
+				return handler.apply(request).join();
+			}
+
+			@Override
+			public CompletableFuture<JSONObject> executeAsync(JSONObject request) {
+				return handler.apply(request);
+			}
+		};
+	}
 }
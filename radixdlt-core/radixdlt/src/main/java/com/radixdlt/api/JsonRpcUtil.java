@@ -26,6 +26,7 @@ import com.radixdlt.utils.functional.Result;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 import static com.radixdlt.api.data.ApiErrors.INVALID_HEX_STRING;
@@ -196,6 +197,31 @@ public final class JsonRpcUtil {
 			);
 	}
 
+	public static CompletableFuture<JSONObject> withRequiredParametersAsync(
+		JSONObject request,
+		List<String> required,
+		List<String> optional,
+		Function<JSONObject, CompletableFuture<Result<JSONObject>>> fn
+	) {
+		return params(request)
+			.flatMap(params -> sanitizeParams(params, required, optional))
+			.fold(
+				failure -> CompletableFuture.completedFuture(failure.<JSONObject>result()),
+				fn
+			)
+			.thenApply(result -> result.fold(
+				failure -> extendedError(request, failure.code(), failure.message()),
+				response -> response(request, response)
+			));
+	}
+
+	/**
+	 * Turns a failure to start an asynchronous operation into an already completed failed result.
+	 */
+	public static <T> CompletableFuture<Result<T>> async(Result<CompletableFuture<Result<T>>> result) {
+		return result.fold(failure -> CompletableFuture.completedFuture(failure.<T>result()), future -> future);
+	}
+
 	private static Result<JSONObject> sanitizeParams(Object params, List<String> required, List<String> optional) {
 		if (params instanceof JSONObject) {
 			return ok((JSONObject) params);
@@ -20,6 +20,7 @@ package com.radixdlt.api;
 
 import org.json.JSONException;
 import org.json.JSONObject;
+import org.json.JSONTokener;
 
 import com.google.common.io.CharStreams;
 import com.radixdlt.crypto.exception.PublicKeyException;
@@ -27,10 +28,15 @@ import com.radixdlt.crypto.exception.PublicKeyException;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 
 import io.undertow.server.HttpServerExchange;
 import io.undertow.util.Headers;
 import io.undertow.util.HttpString;
+import io.undertow.util.SameThreadExecutor;
 import io.undertow.util.StatusCodes;
 
 import static com.radixdlt.api.JsonRpcUtil.jsonObject;
@@ -54,6 +60,21 @@ public final class RestUtils {
 		}
 	}
 
+	/**
+	 * Reads request body and passes it to the handler, but unlike {@link #withBody} does not hold
+	 * the worker thread until the response is ready. The exchange stays open until the future
+	 * returned by the handler is completed.
+	 * <p>
+	 * Body is passed as parsed JSON value, i.e. either {@link JSONObject} or {@link org.json.JSONArray}.
+	 */
+	public static void withBodyAsync(HttpServerExchange exchange, Function<Object, CompletableFuture<?>> bodyHandler) {
+		if (exchange.isInIoThread()) {
+			exchange.dispatch(() -> safeHandleBodyAsync(exchange, bodyHandler));
+		} else {
+			safeHandleBodyAsync(exchange, bodyHandler);
+		}
+	}
+
 	public static void respond(HttpServerExchange exchange, Object object) {
 		respondWithCode(exchange, StatusCodes.OK, object.toString());
 	}
@@ -73,6 +94,30 @@ public final class RestUtils {
 		}
 	}
 
+	private static void safeHandleBodyAsync(HttpServerExchange exchange, Function<Object, CompletableFuture<?>> bodyHandler) {
+		var response = new AtomicReference<CompletableFuture<?>>();
+
+		try {
+			handleBody(exchange, body -> new JSONTokener(body).nextValue(), body -> response.set(bodyHandler.apply(body)));
+		} catch (Exception e) {
+			sendStatusResponse(exchange, e);
+			return;
+		}
+
+		// Mark exchange as dispatched, so it is not ended once the current handler returns
+		exchange.dispatch(SameThreadExecutor.INSTANCE, () -> response.get().whenComplete((result, error) -> {
+			if (error == null) {
+				respond(exchange, result);
+			} else {
+				sendStatusResponse(exchange, new RuntimeException(unwrap(error)));
+			}
+		}));
+	}
+
+	private static Throwable unwrap(Throwable error) {
+		return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+	}
+
 	private static void sendStatusResponse(HttpServerExchange exchange, Throwable err) {
 		if (err == null) {
 			if (!exchange.isResponseStarted()) {
@@ -98,13 +143,17 @@ public final class RestUtils {
 	}
 
 	private static void handleBody(HttpServerExchange exchange, ThrowingConsumer<JSONObject> bodyHandler) {
+		handleBody(exchange, JSONObject::new, bodyHandler);
+	}
+
+	private static <T> void handleBody(HttpServerExchange exchange, Function<String, T> parser, ThrowingConsumer<T> bodyHandler) {
 		copyHeader(exchange, METHOD_HEADER);
 		copyHeader(exchange, CORRELATION_HEADER);
 
 		var body = readBody(exchange, DEFAULT_MAX_REQUEST_SIZE);
 
 		try {
-			bodyHandler.accept(new JSONObject(body));
+			bodyHandler.accept(parser.apply(body));
 		} catch (Exception t) {
 			throw new RuntimeException(t);
 		}
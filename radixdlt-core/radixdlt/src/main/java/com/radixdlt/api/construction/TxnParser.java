@@ -49,12 +49,7 @@ public final class TxnParser {
 		var parser = rules.getParser();
 		var parsedTxn = parser.parse(txn);
 		var cmConfig = rules.getConstraintMachineConfig();
-		var cm = new ConstraintMachine(
-			cmConfig.getProcedures(),
-			cmConfig.getDeserialization(),
-			cmConfig.getVirtualSubstateDeserialization(),
-			cmConfig.getMeter()
-		);
+		var cm = new ConstraintMachine(cmConfig);
 		var context = new ExecutionContext(
 			txn,
 			PermissionLevel.SYSTEM,
@@ -38,7 +38,8 @@ public enum ApiErrors implements Failure {
 	UNKNOWN_RRI(2520, "Unknown RRI {0}"),
 	UNKNOWN_ACCOUNT_ADDRESS(2521, "Unknown account address {0}"),
 	UNABLE_TO_RESTORE_CREATOR(2522, "Unable to restore creator from transaction {0}"),
-	UNKNOWN_TX_ID(2523, "Transaction with id {0} not found");
+	UNKNOWN_TX_ID(2523, "Transaction with id {0} not found"),
+	INVALID_BATCH_SIZE(2524, "Batch size {0} must be between 1 and {1}");
 
 	private final int code;
 	private final String message;
@@ -33,12 +33,14 @@ import com.radixdlt.utils.functional.Result;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
+import static com.radixdlt.api.JsonRpcUtil.async;
 import static com.radixdlt.api.JsonRpcUtil.jsonObject;
 import static com.radixdlt.api.JsonRpcUtil.optString;
 import static com.radixdlt.api.JsonRpcUtil.response;
 import static com.radixdlt.api.JsonRpcUtil.safeArray;
-import static com.radixdlt.api.JsonRpcUtil.withRequiredParameters;
+import static com.radixdlt.api.JsonRpcUtil.withRequiredParametersAsync;
 import static com.radixdlt.utils.functional.Result.allOf;
 
 public class AccountHandler {
@@ -67,25 +69,25 @@ public class AccountHandler {
 		return response(request, accountService.getAccountInfo());
 	}
 
-	public JSONObject handleAccountSubmitTransactionSingleStep(JSONObject request) {
-		return withRequiredParameters(request, List.of("actions"), List.of("message"), this::respondWithTransactionId);
+	public CompletableFuture<JSONObject> handleAccountSubmitTransactionSingleStep(JSONObject request) {
+		return withRequiredParametersAsync(request, List.of("actions"), List.of("message"), this::respondWithTransactionId);
 	}
 
-	private Result<JSONObject> respondWithTransactionId(JSONObject params) {
-		return allOf(
-			safeArray(params, "actions"),
-			Result.ok(optString(params, "message")),
-			Result.ok(params.optBoolean("disableResourceAllocationAndDestroy"))
-		)
-			.flatMap(this::parseSignSubmit)
-			.map(AccountHandler::formatTxId);
+	private CompletableFuture<Result<JSONObject>> respondWithTransactionId(JSONObject params) {
+		return async(
+			allOf(
+				safeArray(params, "actions"),
+				Result.ok(optString(params, "message")),
+				Result.ok(params.optBoolean("disableResourceAllocationAndDestroy"))
+			).flatMap(this::parseSignSubmit)
+		).thenApply(result -> result.map(AccountHandler::formatTxId));
 	}
 
-	private Result<AID> parseSignSubmit(
+	private Result<CompletableFuture<Result<AID>>> parseSignSubmit(
 		JSONArray actions, Optional<String> message, boolean disableResourceAllocationAndDestroy
 	) {
 		return actionParserService.parse(actions)
-			.flatMap(steps -> submissionService.oneStepSubmit(
+			.map(steps -> submissionService.oneStepSubmit(
 				account, steps, message, hashSigner, disableResourceAllocationAndDestroy
 			));
 	}
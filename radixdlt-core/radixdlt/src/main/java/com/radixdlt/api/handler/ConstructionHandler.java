@@ -17,6 +17,7 @@
 
 package com.radixdlt.api.handler;
 
+import org.json.JSONArray;
 import org.json.JSONObject;
 
 import com.google.inject.Inject;
@@ -31,20 +32,29 @@ import com.radixdlt.crypto.HashUtils;
 import com.radixdlt.identifiers.AID;
 import com.radixdlt.identifiers.REAddr;
 import com.radixdlt.networks.Addressing;
+import com.radixdlt.utils.Bytes;
 import com.radixdlt.utils.functional.Result;
 import com.radixdlt.utils.functional.Result.Mapper2;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.bouncycastle.util.encoders.Hex.toHexString;
 
+import static com.radixdlt.api.JsonRpcUtil.ARRAY;
+import static com.radixdlt.api.JsonRpcUtil.async;
+import static com.radixdlt.api.JsonRpcUtil.fromList;
 import static com.radixdlt.api.JsonRpcUtil.jsonObject;
 import static com.radixdlt.api.JsonRpcUtil.optString;
 import static com.radixdlt.api.JsonRpcUtil.safeArray;
 import static com.radixdlt.api.JsonRpcUtil.safeBlob;
 import static com.radixdlt.api.JsonRpcUtil.safeString;
 import static com.radixdlt.api.JsonRpcUtil.withRequiredParameters;
+import static com.radixdlt.api.JsonRpcUtil.withRequiredParametersAsync;
+import static com.radixdlt.api.data.ApiErrors.INVALID_BATCH_SIZE;
+import static com.radixdlt.api.data.ApiErrors.INVALID_HEX_STRING;
 import static com.radixdlt.api.data.ApiErrors.INVALID_SIGNATURE_DER;
 import static com.radixdlt.api.data.ApiErrors.INVALID_TX_ID;
 import static com.radixdlt.identifiers.CommonErrors.INVALID_PUBLIC_KEY;
@@ -54,6 +64,8 @@ import static com.radixdlt.utils.functional.Result.wrap;
 import static com.radixdlt.utils.functional.Tuple.tuple;
 
 public class ConstructionHandler {
+	private static final int MAX_SUBMISSION_BATCH_SIZE = 100;
+
 	private final SubmissionService submissionService;
 	private final ActionParserService actionParserService;
 	private final Addressing addressing;
@@ -87,35 +99,70 @@ public class ConstructionHandler {
 		);
 	}
 
-	public JSONObject handleConstructionFinalizeTransaction(JSONObject request) {
-		return withRequiredParameters(
+	public CompletableFuture<JSONObject> handleConstructionFinalizeTransaction(JSONObject request) {
+		return withRequiredParametersAsync(
 			request,
 			List.of("blob", "signatureDER", "publicKeyOfSigner"),
 			List.of("immediateSubmit"),
-			params ->
+			params -> async(
 				allOf(parseBlob(params), parseSignatureDer(params), parsePublicKey(params))
 					.flatMap((blob, signature, publicKey) -> toRecoverable(blob, signature, publicKey)
-						.flatMap(recoverable -> submissionService.finalizeTxn(
+						.map(recoverable -> submissionService.finalizeTxnAsync(
 							blob, recoverable, params.optBoolean("immediateSubmit")
 						)))
-					.map(ConstructionHandler::formatTx)
+			).thenApply(result -> result.map(ConstructionHandler::formatTx))
 		);
 	}
 
-	public JSONObject handleConstructionSubmitTransaction(JSONObject request) {
-		return withRequiredParameters(
+	public CompletableFuture<JSONObject> handleConstructionSubmitTransaction(JSONObject request) {
+		return withRequiredParametersAsync(
 			request,
 			List.of("blob"),
 			List.of("txID"),
-			params ->
+			params -> async(
 				safeBlob(params, "blob")
 					.flatMap(blob -> parseTxId(blob, params)
-						.flatMap(submissionService::submitTx))
-					.map(Txn::getId)
-					.map(ConstructionHandler::formatTxId)
+						.map(submissionService::submitTxAsync))
+			).thenApply(result -> result.map(Txn::getId).map(ConstructionHandler::formatTxId))
 		);
 	}
 
+	public CompletableFuture<JSONObject> handleConstructionSubmitTransactionBatch(JSONObject request) {
+		return withRequiredParametersAsync(
+			request,
+			List.of("blobs"),
+			List.of(),
+			params -> async(
+				safeArray(params, "blobs")
+					.flatMap(ConstructionHandler::parseBlobs)
+					.map(submissionService::submitTxBatch)
+					.map(submissions -> submissions.thenApply(Result::ok))
+			).thenApply(result -> result.map(ConstructionHandler::formatBatch))
+		);
+	}
+
+	private static Result<List<byte[]>> parseBlobs(JSONArray blobs) {
+		if (blobs.length() == 0 || blobs.length() > MAX_SUBMISSION_BATCH_SIZE) {
+			return INVALID_BATCH_SIZE.with(blobs.length(), MAX_SUBMISSION_BATCH_SIZE).result();
+		}
+
+		var result = new ArrayList<byte[]>(blobs.length());
+
+		for (var blob : blobs) {
+			var parsed = Optional.of(blob)
+				.filter(String.class::isInstance)
+				.flatMap(hex -> wrap(INVALID_HEX_STRING, () -> Bytes.fromHexString((String) hex)).toOptional());
+
+			if (parsed.isEmpty()) {
+				return INVALID_HEX_STRING.with(blob).result();
+			}
+
+			result.add(parsed.get());
+		}
+
+		return Result.ok(result);
+	}
+
 	private static Result<ECDSASignature> toRecoverable(byte[] blob, ECDSASignature signature, ECPublicKey publicKey) {
 		return ECKeyUtils.toRecoverable(signature, HashUtils.sha256(blob).asBytes(), publicKey);
 	}
@@ -155,6 +202,13 @@ public class ConstructionHandler {
 		return jsonObject().put("txID", txId);
 	}
 
+	private static JSONObject formatBatch(List<Result<Txn>> submissions) {
+		return jsonObject().put(ARRAY, fromList(submissions, submission -> submission.fold(
+			failure -> jsonObject().put("error", jsonObject().put("code", failure.code()).put("message", failure.message())),
+			txn -> formatTxId(txn.getId())
+		)));
+	}
+
 	private static JSONObject formatTx(Txn txn) {
 		return jsonObject()
 			.put("txID", txn.getId())
@@ -31,6 +31,7 @@ import com.radixdlt.api.qualifier.NodeServer;
 import com.radixdlt.api.server.JsonRpcServer;
 
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 public class AccountEndpointModule extends AbstractModule {
 	@Override
@@ -47,8 +48,11 @@ public class AccountEndpointModule extends AbstractModule {
 
 	@AccountEndpoint
 	@Provides
-	public JsonRpcServer rpcServer(@AccountEndpoint Map<String, JsonRpcHandler> additionalHandlers) {
-		return new JsonRpcServer(additionalHandlers);
+	public JsonRpcServer rpcServer(
+		@AccountEndpoint Map<String, JsonRpcHandler> additionalHandlers,
+		@NodeServer ExecutorService batchExecutor
+	) {
+		return new JsonRpcServer(additionalHandlers, batchExecutor);
 	}
 
 	@AccountEndpoint
@@ -62,6 +66,6 @@ public class AccountEndpointModule extends AbstractModule {
 	@ProvidesIntoMap
 	@StringMapKey("account.submit_transaction_single_step")
 	public JsonRpcHandler accountSubmitTransactionSingleStep(AccountHandler accountHandler) {
-		return accountHandler::handleAccountSubmitTransactionSingleStep;
+		return JsonRpcHandler.async(accountHandler::handleAccountSubmitTransactionSingleStep);
 	}
 }
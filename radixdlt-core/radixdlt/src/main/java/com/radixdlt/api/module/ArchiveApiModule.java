@@ -21,13 +21,17 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import com.google.inject.AbstractModule;
+import com.google.inject.Provides;
 import com.google.inject.Scopes;
+import com.google.inject.Singleton;
 import com.google.inject.multibindings.MapBinder;
 import com.google.inject.multibindings.ProvidesIntoSet;
 import com.radixdlt.EndpointConfig;
 import com.radixdlt.ModuleRunner;
 import com.radixdlt.api.data.ScheduledQueueFlush;
+import com.radixdlt.api.qualifier.ArchiveServer;
 import com.radixdlt.api.server.ArchiveHttpServer;
+import com.radixdlt.api.server.JsonRpcServer;
 import com.radixdlt.api.service.ScheduledCacheCleanup;
 import com.radixdlt.api.service.TransactionStatusService;
 import com.radixdlt.api.store.ClientApiStore;
@@ -40,6 +44,7 @@ import com.radixdlt.mempool.MempoolAddSuccess;
 import com.radixdlt.statecomputer.REOutput;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 public class ArchiveApiModule extends AbstractModule {
 	private static final Logger log = LogManager.getLogger();
@@ -66,6 +71,13 @@ public class ArchiveApiModule extends AbstractModule {
 		bind(ArchiveHttpServer.class).in(Scopes.SINGLETON);
 	}
 
+	@Provides
+	@Singleton
+	@ArchiveServer
+	ExecutorService jsonRpcBatchExecutor() {
+		return JsonRpcServer.createBatchExecutor("ArchiveJsonRpcBatch");
+	}
+
 	@ProvidesIntoSet
 	private EventProcessorOnRunner<?> atomsCommittedToLedgerEventProcessorApiStore(ClientApiStore clientApiStore) {
 		return new EventProcessorOnRunner<>(
@@ -35,6 +35,7 @@ import com.radixdlt.api.qualifier.ArchiveServer;
 import com.radixdlt.api.server.JsonRpcServer;
 
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 public class ArchiveEndpointModule extends AbstractModule {
 	@Override
@@ -51,8 +52,11 @@ public class ArchiveEndpointModule extends AbstractModule {
 
 	@ArchiveEndpoint
 	@Provides
-	public JsonRpcServer rpcServer(@ArchiveEndpoint Map<String, JsonRpcHandler> additionalHandlers) {
-		return new JsonRpcServer(additionalHandlers);
+	public JsonRpcServer rpcServer(
+		@ArchiveEndpoint Map<String, JsonRpcHandler> additionalHandlers,
+		@ArchiveServer ExecutorService batchExecutor
+	) {
+		return new JsonRpcServer(additionalHandlers, batchExecutor);
 	}
 
 	@ArchiveEndpoint
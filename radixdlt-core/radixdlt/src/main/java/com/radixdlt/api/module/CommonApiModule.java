@@ -26,6 +26,8 @@ import com.radixdlt.api.data.ScheduledQueueFlush;
 import com.radixdlt.api.service.NetworkInfoService;
 import com.radixdlt.api.service.ScheduledCacheCleanup;
 import com.radixdlt.api.service.ScheduledStatsCollecting;
+import com.radixdlt.api.service.reducer.AllValidatorsReducer;
+import com.radixdlt.engine.StateReducer;
 import com.radixdlt.environment.EventProcessorOnRunner;
 import com.radixdlt.environment.LocalEvents;
 import com.radixdlt.environment.Runners;
@@ -47,6 +49,8 @@ public class CommonApiModule extends AbstractModule {
 		eventBinder.addBinding().toInstance(ScheduledStatsCollecting.class);
 
 		bind(NetworkInfoService.class).in(Scopes.SINGLETON);
+		Multibinder.newSetBinder(binder(), new TypeLiteral<StateReducer<?>>() { })
+			.addBinding().to(AllValidatorsReducer.class).in(Scopes.SINGLETON);
 	}
 
 	@ProvidesIntoSet
@@ -31,6 +31,7 @@ import com.radixdlt.api.qualifier.ConstructionEndpoint;
 import com.radixdlt.api.server.JsonRpcServer;
 
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 public class ConstructEndpointModule extends AbstractModule {
 	@Override
@@ -47,8 +48,11 @@ public class ConstructEndpointModule extends AbstractModule {
 
 	@ConstructionEndpoint
 	@Provides
-	public JsonRpcServer rpcServer(@ConstructionEndpoint Map<String, JsonRpcHandler> additionalHandlers) {
-		return new JsonRpcServer(additionalHandlers);
+	public JsonRpcServer rpcServer(
+		@ConstructionEndpoint Map<String, JsonRpcHandler> additionalHandlers,
+		@ArchiveServer ExecutorService batchExecutor
+	) {
+		return new JsonRpcServer(additionalHandlers, batchExecutor);
 	}
 
 	@ConstructionEndpoint
@@ -62,13 +66,20 @@ public class ConstructEndpointModule extends AbstractModule {
 	@ProvidesIntoMap
 	@StringMapKey("construction.finalize_transaction")
 	public JsonRpcHandler constructionFinalizeTransaction(ConstructionHandler constructionHandler) {
-		return constructionHandler::handleConstructionFinalizeTransaction;
+		return JsonRpcHandler.async(constructionHandler::handleConstructionFinalizeTransaction);
 	}
 
 	@ConstructionEndpoint
 	@ProvidesIntoMap
 	@StringMapKey("construction.submit_transaction")
 	public JsonRpcHandler constructionSubmitTransaction(ConstructionHandler constructionHandler) {
-		return constructionHandler::handleConstructionSubmitTransaction;
+		return JsonRpcHandler.async(constructionHandler::handleConstructionSubmitTransaction);
+	}
+
+	@ConstructionEndpoint
+	@ProvidesIntoMap
+	@StringMapKey("construction.submit_transaction_batch")
+	public JsonRpcHandler constructionSubmitTransactionBatch(ConstructionHandler constructionHandler) {
+		return JsonRpcHandler.async(constructionHandler::handleConstructionSubmitTransactionBatch);
 	}
 }
@@ -32,6 +32,7 @@ import com.radixdlt.api.qualifier.NodeServer;
 import com.radixdlt.api.server.JsonRpcServer;
 
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 public class DeveloperEndpointModule extends AbstractModule {
 	@Override
@@ -48,8 +49,11 @@ public class DeveloperEndpointModule extends AbstractModule {
 
 	@DeveloperEndpoint
 	@Provides
-	public JsonRpcServer rpcServer(@DeveloperEndpoint Map<String, JsonRpcHandler> additionalHandlers) {
-		return new JsonRpcServer(additionalHandlers);
+	public JsonRpcServer rpcServer(
+		@DeveloperEndpoint Map<String, JsonRpcHandler> additionalHandlers,
+		@NodeServer ExecutorService batchExecutor
+	) {
+		return new JsonRpcServer(additionalHandlers, batchExecutor);
 	}
 
 	@DeveloperEndpoint
@@ -31,6 +31,7 @@ import com.radixdlt.api.qualifier.FaucetEndpoint;
 import com.radixdlt.api.server.JsonRpcServer;
 
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 public class FaucetEndpointModule extends AbstractModule {
 	@Override
@@ -47,8 +48,11 @@ public class FaucetEndpointModule extends AbstractModule {
 
 	@FaucetEndpoint
 	@Provides
-	public JsonRpcServer jsonRpcServer(@FaucetEndpoint Map<String, JsonRpcHandler> handlers) {
-		return new JsonRpcServer(handlers);
+	public JsonRpcServer jsonRpcServer(
+		@FaucetEndpoint Map<String, JsonRpcHandler> handlers,
+		@NodeServer ExecutorService batchExecutor
+	) {
+		return new JsonRpcServer(handlers, batchExecutor);
 	}
 
 	@FaucetEndpoint
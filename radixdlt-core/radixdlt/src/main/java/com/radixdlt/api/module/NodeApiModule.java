@@ -22,14 +22,19 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import com.google.inject.AbstractModule;
+import com.google.inject.Provides;
 import com.google.inject.Scopes;
+import com.google.inject.Singleton;
 import com.google.inject.multibindings.MapBinder;
 import com.radixdlt.EndpointConfig;
 import com.radixdlt.ModuleRunner;
+import com.radixdlt.api.qualifier.NodeServer;
+import com.radixdlt.api.server.JsonRpcServer;
 import com.radixdlt.api.server.NodeHttpServer;
 import com.radixdlt.environment.Runners;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Configures the api including http server setup
@@ -56,4 +61,11 @@ public final class NodeApiModule extends AbstractModule {
 
 		bind(NodeHttpServer.class).in(Scopes.SINGLETON);
 	}
+
+	@Provides
+	@Singleton
+	@NodeServer
+	ExecutorService jsonRpcBatchExecutor() {
+		return JsonRpcServer.createBatchExecutor("NodeJsonRpcBatch");
+	}
 }
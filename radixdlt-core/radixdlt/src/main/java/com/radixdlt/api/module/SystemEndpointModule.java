@@ -31,6 +31,7 @@ import com.radixdlt.api.qualifier.SystemEndpoint;
 import com.radixdlt.api.server.JsonRpcServer;
 
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 public class SystemEndpointModule extends AbstractModule {
 	@Override
@@ -40,8 +41,11 @@ public class SystemEndpointModule extends AbstractModule {
 
 	@SystemEndpoint
 	@Provides
-	public JsonRpcServer rpcServer(@SystemEndpoint Map<String, JsonRpcHandler> additionalHandlers) {
-		return new JsonRpcServer(additionalHandlers);
+	public JsonRpcServer rpcServer(
+		@SystemEndpoint Map<String, JsonRpcHandler> additionalHandlers,
+		@NodeServer ExecutorService batchExecutor
+	) {
+		return new JsonRpcServer(additionalHandlers, batchExecutor);
 	}
 
 	@NodeServer
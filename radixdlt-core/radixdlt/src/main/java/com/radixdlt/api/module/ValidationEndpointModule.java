@@ -31,6 +31,7 @@ import com.radixdlt.api.qualifier.ValidationEndpoint;
 import com.radixdlt.api.server.JsonRpcServer;
 
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 public class ValidationEndpointModule extends AbstractModule {
 	@Override
@@ -47,8 +48,11 @@ public class ValidationEndpointModule extends AbstractModule {
 
 	@ValidationEndpoint
 	@Provides
-	public JsonRpcServer rpcServer(@ValidationEndpoint Map<String, JsonRpcHandler> additionalHandlers) {
-		return new JsonRpcServer(additionalHandlers);
+	public JsonRpcServer rpcServer(
+		@ValidationEndpoint Map<String, JsonRpcHandler> additionalHandlers,
+		@NodeServer ExecutorService batchExecutor
+	) {
+		return new JsonRpcServer(additionalHandlers, batchExecutor);
 	}
 
 	@ValidationEndpoint
@@ -29,6 +29,7 @@ import com.stijndewitt.undertow.cors.Filter;
 
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import java.util.logging.Level;
 
 import io.undertow.Handlers;
@@ -48,11 +49,19 @@ public class AbstractHttpServer implements ModuleRunner {
 	private final String name;
 	private final int port;
 	private final String bindAddress;
+	private final ExecutorService batchExecutor;
 
 	private Undertow server;
 
-	public AbstractHttpServer(Map<String, Controller> controllers, RuntimeProperties properties, String name, int defaultPort) {
+	public AbstractHttpServer(
+		Map<String, Controller> controllers,
+		ExecutorService batchExecutor,
+		RuntimeProperties properties,
+		String name,
+		int defaultPort
+	) {
 		this.controllers = controllers;
+		this.batchExecutor = batchExecutor;
 		this.name = name.toLowerCase(Locale.US);
 		this.port = properties.get("api." + name + ".port", defaultPort);
 		this.bindAddress = properties.get("api." + name + ".bind.address", DEFAULT_BIND_ADDRESS);
@@ -86,6 +95,7 @@ public class AbstractHttpServer implements ModuleRunner {
 	@Override
 	public void stop() {
 		server.stop();
+		batchExecutor.shutdown();
 	}
 
 	private HttpHandler configureRoutes() {
@@ -24,12 +24,17 @@ import com.radixdlt.api.qualifier.ArchiveServer;
 import com.radixdlt.properties.RuntimeProperties;
 
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 public final class ArchiveHttpServer extends AbstractHttpServer {
 	private static final int DEFAULT_PORT = 8080;
 
 	@Inject
-	public ArchiveHttpServer(@ArchiveServer Map<String, Controller> controllers, RuntimeProperties properties) {
-		super(controllers, properties, "archive", DEFAULT_PORT);
+	public ArchiveHttpServer(
+		@ArchiveServer Map<String, Controller> controllers,
+		@ArchiveServer ExecutorService batchExecutor,
+		RuntimeProperties properties
+	) {
+		super(controllers, batchExecutor, properties, "archive", DEFAULT_PORT);
 	}
 }
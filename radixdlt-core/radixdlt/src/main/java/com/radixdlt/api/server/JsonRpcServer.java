@@ -20,21 +20,30 @@ package com.radixdlt.api.server;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.json.JSONArray;
 import org.json.JSONObject;
 
-import com.google.inject.Inject;
 import com.radixdlt.api.JsonRpcHandler;
+import com.radixdlt.api.JsonRpcUtil.RpcError;
+import com.radixdlt.utils.ThreadFactories;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import io.undertow.server.HttpHandler;
 import io.undertow.server.HttpServerExchange;
 
 import static com.radixdlt.api.JsonRpcUtil.invalidParamsError;
+import static com.radixdlt.api.JsonRpcUtil.jsonArray;
 import static com.radixdlt.api.JsonRpcUtil.methodNotFound;
-import static com.radixdlt.api.RestUtils.respond;
-import static com.radixdlt.api.RestUtils.withBody;
+import static com.radixdlt.api.JsonRpcUtil.protocolError;
+import static com.radixdlt.api.RestUtils.withBodyAsync;
 
 import static java.util.Optional.ofNullable;
 
@@ -44,32 +53,125 @@ import static java.util.Optional.ofNullable;
 public final class JsonRpcServer implements HttpHandler {
 	private static final Logger log = LogManager.getLogger();
 
+	static final int MAX_BATCH_SIZE = 100;
+
 	private final Map<String, JsonRpcHandler> handlers = new HashMap<>();
+	private final Executor batchExecutor;
 
-	@Inject
-	public JsonRpcServer(Map<String, JsonRpcHandler> additionalHandlers) {
+	/**
+	 * @param batchExecutor executor which runs the requests of a batch, shared by all endpoints of one HTTP server
+	 */
+	public JsonRpcServer(Map<String, JsonRpcHandler> additionalHandlers, Executor batchExecutor) {
+		this.batchExecutor = batchExecutor;
 		fillHandlers(additionalHandlers);
 	}
 
+	/**
+	 * Creates executor for requests of JSON RPC batches.
+	 */
+	public static ExecutorService createBatchExecutor(String name) {
+		return Executors.newFixedThreadPool(
+			Math.max(2, Runtime.getRuntime().availableProcessors()),
+			ThreadFactories.daemonThreads(name + "-%d")
+		);
+	}
+
 	@Override
 	public void handleRequest(HttpServerExchange exchange) {
-		withBody(exchange, request -> respond(exchange, handle(request)));
+		withBodyAsync(exchange, this::handleBody);
+	}
+
+	public CompletableFuture<?> handleBody(Object body) {
+		if (body instanceof JSONArray) {
+			return handleBatchAsync((JSONArray) body);
+		}
+
+		if (body instanceof JSONObject) {
+			return handleAsync((JSONObject) body);
+		}
+
+		return CompletableFuture.completedFuture(protocolError(RpcError.INVALID_REQUEST, "Request must be an object or an array"));
+	}
+
+	/**
+	 * Handles JSON RPC 2.0 batch. Read-only methods are executed concurrently, while the remaining ones are executed
+	 * one after another in the order of appearance in the batch. Responses are returned in the order of requests.
+	 * All requests are started on the batch executor, never on the thread which completed the previous request.
+	 */
+	public CompletableFuture<?> handleBatchAsync(JSONArray batch) {
+		if (batch.length() == 0) {
+			return CompletableFuture.completedFuture(protocolError(RpcError.INVALID_REQUEST, "Batch must not be empty"));
+		}
+
+		if (batch.length() > MAX_BATCH_SIZE) {
+			return CompletableFuture.completedFuture(
+				protocolError(RpcError.INVALID_REQUEST, "Batch size must not exceed " + MAX_BATCH_SIZE)
+			);
+		}
+
+		var responses = new ArrayList<CompletableFuture<JSONObject>>(batch.length());
+		var lastUpdate = CompletableFuture.<JSONObject>completedFuture(null);
+
+		for (int i = 0; i < batch.length(); i++) {
+			var request = batch.opt(i);
+
+			if (!(request instanceof JSONObject)) {
+				responses.add(CompletableFuture.completedFuture(protocolError(RpcError.INVALID_REQUEST, "Request must be an object")));
+			} else if (isReadOnly((JSONObject) request)) {
+				responses.add(CompletableFuture.supplyAsync(() -> handleAsync((JSONObject) request), batchExecutor)
+					.thenCompose(response -> response));
+			} else {
+				lastUpdate = lastUpdate.handle((response, error) -> null)
+					.thenComposeAsync(ignored -> handleAsync((JSONObject) request), batchExecutor);
+				responses.add(lastUpdate);
+			}
+		}
+
+		return CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new))
+			.handle((ignored, error) -> collectResponses(responses));
 	}
 
 	public JSONObject handle(JSONObject request) {
+		return handleAsync(request).join();
+	}
+
+	public CompletableFuture<JSONObject> handleAsync(JSONObject request) {
 		log.debug("RPC: input {}", request);
 
 		if (!request.has("id")) {
-			return invalidParamsError(request, "The 'id' missing");
+			return CompletableFuture.completedFuture(invalidParamsError(request, "The 'id' missing"));
 		}
 
 		if (!request.has("method")) {
-			return invalidParamsError(request, "The method must be specified");
+			return CompletableFuture.completedFuture(invalidParamsError(request, "The method must be specified"));
 		}
 
 		return ofNullable(handlers.get(logValue("method", request.getString("method"))))
-			.map(handler -> logValue("output", handler.execute(request)))
-			.orElseGet(() -> methodNotFound(request));
+			.map(handler -> handler.executeAsync(request).thenApply(output -> logValue("output", output)))
+			.orElseGet(() -> CompletableFuture.completedFuture(methodNotFound(request)));
+	}
+
+	private static JSONArray collectResponses(List<CompletableFuture<JSONObject>> responses) {
+		var result = jsonArray();
+
+		responses.forEach(response -> result.put(response.exceptionally(JsonRpcServer::serverError).join()));
+
+		return result;
+	}
+
+	private static JSONObject serverError(Throwable error) {
+		log.warn("RPC: batch request failed", error);
+		return protocolError(RpcError.SERVER_ERROR, "Unable to handle request");
+	}
+
+	/**
+	 * Methods which only retrieve data ({@code *.get_*} and {@code *.lookup_*}) are independent of each other.
+	 */
+	private static boolean isReadOnly(JSONObject request) {
+		var method = request.optString("method", "");
+		var operation = method.substring(method.lastIndexOf('.') + 1);
+
+		return operation.startsWith("get_") || operation.startsWith("lookup_");
 	}
 
 	private void fillHandlers(Map<String, JsonRpcHandler> additionalHandlers) {
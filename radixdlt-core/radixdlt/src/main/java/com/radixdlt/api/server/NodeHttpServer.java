@@ -24,12 +24,17 @@ import com.radixdlt.api.qualifier.NodeServer;
 import com.radixdlt.properties.RuntimeProperties;
 
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 public final class NodeHttpServer extends AbstractHttpServer {
 	private static final int DEFAULT_PORT = 3333;
 
 	@Inject
-	public NodeHttpServer(@NodeServer Map<String, Controller> controllers, RuntimeProperties properties) {
-		super(controllers, properties, "node", DEFAULT_PORT);
+	public NodeHttpServer(
+		@NodeServer Map<String, Controller> controllers,
+		@NodeServer ExecutorService batchExecutor,
+		RuntimeProperties properties
+	) {
+		super(controllers, batchExecutor, properties, "node", DEFAULT_PORT);
 	}
 }
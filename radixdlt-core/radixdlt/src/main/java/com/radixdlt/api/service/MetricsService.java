@@ -90,6 +90,8 @@ public class MetricsService {
 		CounterType.ELAPSED_APIDB_BALANCE_READ,
 		CounterType.ELAPSED_APIDB_BALANCE_WRITE,
 		CounterType.ELAPSED_APIDB_FLUSH_TIME,
+		CounterType.ELAPSED_APIDB_REBUILD_BATCH,
+		CounterType.COUNT_APIDB_REBUILD_STATE_VERSION,
 		CounterType.ELAPSED_APIDB_TRANSACTION_READ,
 		CounterType.ELAPSED_APIDB_TRANSACTION_WRITE,
 		CounterType.ELAPSED_APIDB_TOKEN_READ,
@@ -113,6 +115,7 @@ public class MetricsService {
 		CounterType.LEDGER_STATE_VERSION,
 		CounterType.LEDGER_SYNC_COMMANDS_PROCESSED,
 		CounterType.LEDGER_BFT_COMMANDS_PROCESSED,
+		CounterType.LEDGER_GROUPED_BATCHES,
 		CounterType.MEMPOOL_COUNT,
 		CounterType.MEMPOOL_MAXCOUNT,
 		CounterType.MEMPOOL_RELAYER_SENT_COUNT,
@@ -121,6 +124,8 @@ public class MetricsService {
 		CounterType.MEMPOOL_ERRORS_HOOK,
 		CounterType.MEMPOOL_ERRORS_CONFLICT,
 		CounterType.MEMPOOL_ERRORS_OTHER,
+		CounterType.RADIX_ENGINE_PARSED_TXN_CACHE_HITS,
+		CounterType.RADIX_ENGINE_PARSED_TXN_CACHE_MISSES,
 		CounterType.RADIX_ENGINE_USER_TRANSACTIONS,
 		CounterType.RADIX_ENGINE_SYSTEM_TRANSACTIONS,
 		CounterType.MESSAGES_INBOUND_PROCESSED,
@@ -128,7 +133,9 @@ public class MetricsService {
 		CounterType.MESSAGES_INBOUND_RECEIVED,
 		CounterType.MESSAGES_OUTBOUND_PROCESSED,
 		CounterType.MESSAGES_OUTBOUND_ABORTED,
+		CounterType.MESSAGES_OUTBOUND_DROPPED,
 		CounterType.MESSAGES_OUTBOUND_PENDING,
+		CounterType.MESSAGES_OUTBOUND_PEER_PENDING_MAX,
 		CounterType.MESSAGES_OUTBOUND_SENT,
 		CounterType.PERSISTENCE_ATOM_LOG_WRITE_BYTES,
 		CounterType.PERSISTENCE_ATOM_LOG_WRITE_COMPRESSED,
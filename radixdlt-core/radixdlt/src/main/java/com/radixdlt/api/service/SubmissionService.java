@@ -20,6 +20,7 @@ package com.radixdlt.api.service;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.inject.Inject;
 import com.radixdlt.api.data.PreparedTransaction;
 import com.radixdlt.api.data.action.TransactionAction;
@@ -45,24 +46,40 @@ import com.radixdlt.utils.functional.Result;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
 
 import static com.radixdlt.api.data.ApiErrors.UNABLE_TO_PREPARE_TX;
 import static com.radixdlt.atom.actions.ActionErrors.SUBMISSION_FAILURE;
 import static com.radixdlt.atom.actions.ActionErrors.TRANSACTION_ADDRESS_DOES_NOT_MATCH;
 
 public final class SubmissionService {
+	// Upper bound for waiting on the mempool, so stalled submissions don't hold API requests forever
+	private static final long SUBMISSION_TIMEOUT_MS = 10_000L;
+
 	private final Logger logger = LogManager.getLogger();
 	private final RadixEngine<LedgerAndBFTProof> radixEngine;
 	private final EventDispatcher<MempoolAdd> mempoolAddEventDispatcher;
+	private final long submissionTimeoutMs;
 
 	@Inject
 	public SubmissionService(
 		RadixEngine<LedgerAndBFTProof> radixEngine,
 		EventDispatcher<MempoolAdd> mempoolAddEventDispatcher
+	) {
+		this(radixEngine, mempoolAddEventDispatcher, SUBMISSION_TIMEOUT_MS);
+	}
+
+	@VisibleForTesting
+	SubmissionService(
+		RadixEngine<LedgerAndBFTProof> radixEngine,
+		EventDispatcher<MempoolAdd> mempoolAddEventDispatcher,
+		long submissionTimeoutMs
 	) {
 		this.radixEngine = radixEngine;
 		this.mempoolAddEventDispatcher = mempoolAddEventDispatcher;
+		this.submissionTimeoutMs = submissionTimeoutMs;
 	}
 
 	public Result<PreparedTransaction> prepareTransaction(
@@ -90,46 +107,59 @@ public final class SubmissionService {
 		return txnConstructionRequest;
 	}
 
-	public Result<Txn> finalizeTxn(byte[] blob, ECDSASignature recoverable, boolean immediateSubmit) {
-		return Result.ok(buildTxn(blob, recoverable)).flatMap(txn -> submitNow(txn, immediateSubmit));
-	}
-
-	private Result<Txn> submitNow(Txn txn, boolean immediateSubmit) {
-		return immediateSubmit ? submit(txn) : Result.ok(txn);
+	public CompletableFuture<Result<Txn>> finalizeTxnAsync(byte[] blob, ECDSASignature recoverable, boolean immediateSubmit) {
+		var txn = buildTxn(blob, recoverable);
+		return immediateSubmit ? submitAsync(txn) : CompletableFuture.completedFuture(Result.ok(txn));
 	}
 
-	public Result<Txn> submitTx(byte[] blob, Optional<AID> txId) {
+	public CompletableFuture<Result<Txn>> submitTxAsync(byte[] blob, Optional<AID> txId) {
 		var txn = TxLowLevelBuilder.newBuilder(blob).build();
 
 		if (!sameTxId(txId, txn.getId())) {
-			return TRANSACTION_ADDRESS_DOES_NOT_MATCH.result();
+			return CompletableFuture.completedFuture(TRANSACTION_ADDRESS_DOES_NOT_MATCH.result());
 		}
 
-		return submit(txn);
+		return submitAsync(txn);
+	}
+
+	/**
+	 * Submits all transactions to the mempool at once. Resulting list contains outcome of each
+	 * submission in the same order as input blobs.
+	 */
+	public CompletableFuture<List<Result<Txn>>> submitTxBatch(List<byte[]> blobs) {
+		var submissions = blobs.stream()
+			.map(blob -> submitTxAsync(blob, Optional.empty()))
+			.collect(Collectors.toList());
+
+		return CompletableFuture.allOf(submissions.toArray(CompletableFuture[]::new))
+			.thenApply(__ -> submissions.stream().map(CompletableFuture::join).collect(Collectors.toList()));
 	}
 
 	private boolean sameTxId(Optional<AID> txId, AID newId) {
 		return txId.map(newId::equals).orElse(true);
 	}
 
-	private Result<Txn> submit(Txn txn) {
+	private CompletableFuture<Result<Txn>> submitAsync(Txn txn) {
 		var completableFuture = new CompletableFuture<MempoolAddSuccess>();
 		var mempoolAdd = MempoolAdd.create(txn, completableFuture);
 
 		mempoolAddEventDispatcher.dispatch(mempoolAdd);
 
-		try {
-			var success = completableFuture.get();
-			return Result.ok(success.getTxn());
-		} catch (ExecutionException e) {
-			var cause = lookupCause(e);
-
-			logger.warn("Unable to fulfill submission request for TxID (" + txn.getId() + ")", e);
-			return SUBMISSION_FAILURE.with(cause.getMessage()).result();
-		} catch (InterruptedException e) {
-			Thread.currentThread().interrupt();
-			throw new IllegalStateException(e);
+		return completableFuture
+			.orTimeout(submissionTimeoutMs, TimeUnit.MILLISECONDS)
+			.handle((success, error) -> error == null ? Result.ok(success.getTxn()) : submissionFailure(txn, error));
+	}
+
+	private Result<Txn> submissionFailure(Txn txn, Throwable error) {
+		if (error instanceof TimeoutException) {
+			logger.warn("Submission request for TxID ({}) timed out", txn.getId());
+			return SUBMISSION_FAILURE.with("timed out waiting for mempool").result();
 		}
+
+		var cause = lookupCause(error);
+
+		logger.warn("Unable to fulfill submission request for TxID (" + txn.getId() + ")", error);
+		return SUBMISSION_FAILURE.with(cause.getMessage()).result();
 	}
 
 	private Throwable lookupCause(Throwable e) {
@@ -158,15 +188,15 @@ public final class SubmissionService {
 		return TxLowLevelBuilder.newBuilder(blob).sig(recoverable).build();
 	}
 
-	public Result<AID> oneStepSubmit(
+	public CompletableFuture<Result<AID>> oneStepSubmit(
 		REAddr address, List<TransactionAction> steps,
 		Optional<String> message, HashSigner signer, boolean disableResourceAllocAndDestroy
 	) {
 		return prepareTransaction(address, steps, message, disableResourceAllocAndDestroy)
 			.onFailure(failure -> logger.error("Error preparing transaction {}", failure))
 			.map(prepared -> buildTxn(prepared.getBlob(), signer.sign(prepared.getHashToSign())))
-			.flatMap(this::submit)
-			.map(Txn::getId);
+			.fold(failure -> CompletableFuture.completedFuture(failure.<Txn>result()), this::submitAsync)
+			.thenApply(result -> result.map(Txn::getId));
 	}
 
 	private PreparedTransaction toPreparedTx(UnsignedTxnData unsignedTxnData) {
@@ -57,6 +57,7 @@ public class SystemConfigService {
 	static final List<CounterType> API_COUNTERS = List.of(
 		CounterType.COUNT_APIDB_QUEUE_SIZE,
 		CounterType.COUNT_APIDB_FLUSH_COUNT,
+		CounterType.COUNT_APIDB_REBUILD_STATE_VERSION,
 		CounterType.COUNT_APIDB_BALANCE_TOTAL,
 		CounterType.COUNT_APIDB_BALANCE_READ,
 		CounterType.COUNT_APIDB_BALANCE_WRITE,
@@ -78,7 +79,8 @@ public class SystemConfigService {
 		CounterType.ELAPSED_APIDB_TOKEN_WRITE,
 		CounterType.ELAPSED_APIDB_TRANSACTION_READ,
 		CounterType.ELAPSED_APIDB_TRANSACTION_WRITE,
-		CounterType.ELAPSED_APIDB_FLUSH_TIME
+		CounterType.ELAPSED_APIDB_FLUSH_TIME,
+		CounterType.ELAPSED_APIDB_REBUILD_BATCH
 	);
 
 	@VisibleForTesting
@@ -115,6 +117,9 @@ public class SystemConfigService {
 	@VisibleForTesting
 	static final List<CounterType> RADIX_ENGINE_COUNTERS = List.of(
 		CounterType.RADIX_ENGINE_INVALID_PROPOSED_COMMANDS,
+		CounterType.RADIX_ENGINE_PARSED_TXN_CACHE_HITS,
+		CounterType.RADIX_ENGINE_PARSED_TXN_CACHE_MISSES,
+		CounterType.RADIX_ENGINE_PREPARED_TRANSACTIONS_COMMITTED,
 		CounterType.RADIX_ENGINE_USER_TRANSACTIONS,
 		CounterType.RADIX_ENGINE_SYSTEM_TRANSACTIONS
 	);
@@ -135,7 +140,9 @@ public class SystemConfigService {
 		CounterType.MESSAGES_INBOUND_PROCESSED,
 		CounterType.MESSAGES_INBOUND_DISCARDED,
 		CounterType.MESSAGES_OUTBOUND_ABORTED,
+		CounterType.MESSAGES_OUTBOUND_DROPPED,
 		CounterType.MESSAGES_OUTBOUND_PENDING,
+		CounterType.MESSAGES_OUTBOUND_PEER_PENDING_MAX,
 		CounterType.MESSAGES_OUTBOUND_PROCESSED,
 		CounterType.MESSAGES_OUTBOUND_SENT,
 		CounterType.NETWORKING_UDP_DROPPED_MESSAGES,
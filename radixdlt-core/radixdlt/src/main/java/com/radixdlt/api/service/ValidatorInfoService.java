@@ -20,97 +20,107 @@ package com.radixdlt.api.service;
 import com.google.inject.Inject;
 import com.radixdlt.api.data.ValidatorInfoDetails;
 import com.radixdlt.api.service.reducer.AllValidators;
-import com.radixdlt.api.service.reducer.AllValidatorsReducer;
-import com.radixdlt.constraintmachine.Particle;
-import com.radixdlt.constraintmachine.SubstateDeserialization;
 import com.radixdlt.crypto.ECPublicKey;
+import com.radixdlt.engine.RadixEngine;
 import com.radixdlt.networks.Addressing;
 import com.radixdlt.statecomputer.LedgerAndBFTProof;
-import com.radixdlt.statecomputer.forks.Forks;
-import com.radixdlt.store.EngineStore;
-import com.radixdlt.systeminfo.InMemorySystemInfo;
 import com.radixdlt.utils.functional.FunctionalUtils;
 import com.radixdlt.utils.functional.Result;
 import com.radixdlt.utils.functional.Result.Mapper2;
 
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import static com.radixdlt.api.data.ApiErrors.UNKNOWN_VALIDATOR;
-import static com.radixdlt.utils.functional.FunctionalUtils.skipUntil;
 import static com.radixdlt.utils.functional.Tuple.tuple;
 
 public class ValidatorInfoService {
-	private final EngineStore<LedgerAndBFTProof> entryStore;
-	private final Forks forks;
-	private final InMemorySystemInfo inMemorySystemInfo;
+	private final RadixEngine<LedgerAndBFTProof> radixEngine;
 	private final Addressing addressing;
+	private final AtomicReference<ValidatorsSnapshot> snapshot = new AtomicReference<>();
 
 	@Inject
 	public ValidatorInfoService(
-		EngineStore<LedgerAndBFTProof> entryStore,
-		Forks forks,
-		InMemorySystemInfo inMemorySystemInfo,
+		RadixEngine<LedgerAndBFTProof> radixEngine,
 		Addressing addressing
 	) {
-		this.entryStore = entryStore;
-		this.forks = forks;
-		this.inMemorySystemInfo = inMemorySystemInfo;
+		this.radixEngine = radixEngine;
 		this.addressing = addressing;
 	}
 
 	public Mapper2<Optional<ECPublicKey>, List<ValidatorInfoDetails>> getValidators(int size, Optional<ECPublicKey> cursor) {
-		var result = getAllValidators();
-		var paged = cursor
-			.map(key -> skipUntil(result, v -> v.getValidatorKey().equals(key)))
-			.orElse(result);
+		var validators = currentSnapshot();
+		var start = cursor
+			.map(key -> Optional.ofNullable(validators.positions.get(key)).map(pos -> pos + 1).orElse(validators.sorted.size()))
+			.orElse(0);
 
-		var list = paged.stream().limit(size).collect(Collectors.toList());
+		var list = validators.sorted.stream().skip(start).limit(size).collect(Collectors.toList());
 		var newCursor = list.stream().reduce(FunctionalUtils::findLast).map(ValidatorInfoDetails::getValidatorKey);
 
 		return () -> Result.ok(tuple(newCursor, list));
 	}
 
 	public long getValidatorsCount() {
-		return getAllValidators().size();
+		return currentSnapshot().sorted.size();
 	}
 
 	public Result<ValidatorInfoDetails> getValidator(ECPublicKey validatorPublicKey) {
-		return getAllValidators()
-			.stream()
-			.filter(validatorInfoDetails -> validatorInfoDetails.getValidatorKey().equals(validatorPublicKey))
-			.findFirst()
+		var validators = currentSnapshot();
+
+		return Optional.ofNullable(validators.positions.get(validatorPublicKey))
+			.map(validators.sorted::get)
 			.map(Result::ok)
 			.orElseGet(() -> UNKNOWN_VALIDATOR.with(addressing.forValidators().of(validatorPublicKey)).result());
 	}
 
 	public List<ValidatorInfoDetails> getAllValidators() {
-		var reducer = new AllValidatorsReducer();
+		return currentSnapshot().sorted;
+	}
+
+	/**
+	 * Returns validators sorted by stake, derived from the state maintained by {@link
+	 * com.radixdlt.api.service.reducer.AllValidatorsReducer}. The reduced state is immutable,
+	 * so the sorted view is only rebuilt when the engine has produced a new state.
+	 */
+	private ValidatorsSnapshot currentSnapshot() {
+		var validators = radixEngine.getComputedState(AllValidators.class);
+		var current = snapshot.get();
+
+		if (current != null && current.source == validators) {
+			return current;
+		}
+
+		var next = ValidatorsSnapshot.create(validators);
+		snapshot.set(next);
+		return next;
+	}
 
-		var validators = entryStore.reduceUpParticles(
-			AllValidators.create(),
-			reducer.outputReducer(),
-			retrieveEpochParser(),
-			asArray(reducer.particleClasses())
-		);
+	private static final class ValidatorsSnapshot {
+		private final AllValidators source;
+		private final List<ValidatorInfoDetails> sorted;
+		private final Map<ECPublicKey, Integer> positions;
 
-		var result = validators.map(ValidatorInfoDetails::create);
-		result.sort(Comparator.comparing(ValidatorInfoDetails::getTotalStake).reversed());
+		private ValidatorsSnapshot(AllValidators source, List<ValidatorInfoDetails> sorted, Map<ECPublicKey, Integer> positions) {
+			this.source = source;
+			this.sorted = sorted;
+			this.positions = positions;
+		}
 
-		return result;
-	}
+		static ValidatorsSnapshot create(AllValidators validators) {
+			var result = validators.map(ValidatorInfoDetails::create);
+			result.sort(Comparator.comparing(ValidatorInfoDetails::getTotalStake).reversed());
 
-	private SubstateDeserialization retrieveEpochParser() {
-		return forks.get(inMemorySystemInfo.getCurrentProof().getEpoch())
-			.getParser()
-			.getSubstateDeserialization();
-	}
+			var positions = new HashMap<ECPublicKey, Integer>();
+			for (int i = 0; i < result.size(); i++) {
+				positions.put(result.get(i).getValidatorKey(), i);
+			}
 
-	@SuppressWarnings("unchecked")
-	private Class<? extends Particle>[] asArray(Set<Class<? extends Particle>> particleClasses) {
-		return particleClasses.toArray(new Class[particleClasses.size()]);
+			return new ValidatorsSnapshot(validators, List.copyOf(result), Map.copyOf(positions));
+		}
 	}
 }
@@ -26,14 +26,24 @@ import com.radixdlt.application.validators.state.ValidatorOwnerCopy;
 import com.radixdlt.application.validators.state.ValidatorRakeCopy;
 import com.radixdlt.application.validators.state.ValidatorRegisteredCopy;
 import com.radixdlt.constraintmachine.Particle;
+import com.radixdlt.crypto.ECPublicKey;
+import com.radixdlt.engine.StateReducer;
+import com.radixdlt.utils.UInt256;
 
 import java.util.Set;
 import java.util.function.BiFunction;
+import java.util.function.Supplier;
 
 /**
  * Reduces particles to Registered Validators
  */
-public final class AllValidatorsReducer {
+public final class AllValidatorsReducer implements StateReducer<AllValidators> {
+	@Override
+	public Class<AllValidators> stateClass() {
+		return AllValidators.class;
+	}
+
+	@Override
 	public Set<Class<? extends Particle>> particleClasses() {
 		// Use immutable set here so that we can guarantee order
 		// as there is a bit of a hack in that PreparedStake must be loaded
@@ -49,6 +59,12 @@ public final class AllValidatorsReducer {
 		);
 	}
 
+	@Override
+	public Supplier<AllValidators> initial() {
+		return AllValidators::create;
+	}
+
+	@Override
 	public BiFunction<AllValidators, Particle, AllValidators> outputReducer() {
 		return (prev, p) -> {
 			if (p instanceof ValidatorRegisteredCopy) {
@@ -77,4 +93,29 @@ public final class AllValidatorsReducer {
 			}
 		};
 	}
+
+	@Override
+	public BiFunction<AllValidators, Particle, AllValidators> inputReducer() {
+		return (prev, p) -> {
+			if (p instanceof PreparedStake) { // TODO: Remove for mainnet
+				var s = (PreparedStake) p;
+				return removePreparedStake(prev, s.getDelegateKey(), s.getAmount());
+			}
+			// All other validator substates are brought up again by the same transaction
+			// (or folded into ValidatorStakeData), so the following output overrides them
+			return prev;
+		};
+	}
+
+	private static AllValidators removePreparedStake(AllValidators prev, ECPublicKey delegateKey, UInt256 amount) {
+		if (amount.isZero()) {
+			return prev;
+		}
+
+		// Epoch change shuts prepared stakes down before the updated ValidatorStakeData comes up,
+		// which then sets the total stake, so an inconsistency here must not fail the commit
+		return prev.getStake(delegateKey).compareTo(amount) < 0
+			? prev.setStake(delegateKey, UInt256.ZERO)
+			: prev.remove(delegateKey, amount);
+	}
 }
@@ -60,25 +60,35 @@ import com.radixdlt.serialization.Serialization;
 import com.radixdlt.statecomputer.REOutput;
 import com.radixdlt.store.DatabaseEnvironment;
 import com.radixdlt.store.berkeley.BerkeleyLedgerEntryStore;
+import com.radixdlt.utils.Pair;
+import com.radixdlt.utils.ThreadFactories;
 import com.radixdlt.utils.UInt384;
 import com.radixdlt.utils.functional.Failure;
 import com.radixdlt.utils.functional.Result;
 import com.sleepycat.je.Database;
 import com.sleepycat.je.DatabaseConfig;
 import com.sleepycat.je.DatabaseEntry;
+import com.sleepycat.je.Environment;
 import com.sleepycat.je.OperationStatus;
+import com.sleepycat.je.Transaction;
 
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -100,6 +110,7 @@ import static com.radixdlt.counters.SystemCounters.CounterType.COUNT_APIDB_BALAN
 import static com.radixdlt.counters.SystemCounters.CounterType.COUNT_APIDB_BALANCE_WRITE;
 import static com.radixdlt.counters.SystemCounters.CounterType.COUNT_APIDB_FLUSH_COUNT;
 import static com.radixdlt.counters.SystemCounters.CounterType.COUNT_APIDB_QUEUE_SIZE;
+import static com.radixdlt.counters.SystemCounters.CounterType.COUNT_APIDB_REBUILD_STATE_VERSION;
 import static com.radixdlt.counters.SystemCounters.CounterType.COUNT_APIDB_TOKEN_BYTES_READ;
 import static com.radixdlt.counters.SystemCounters.CounterType.COUNT_APIDB_TOKEN_BYTES_WRITE;
 import static com.radixdlt.counters.SystemCounters.CounterType.COUNT_APIDB_TOKEN_READ;
@@ -113,6 +124,7 @@ import static com.radixdlt.counters.SystemCounters.CounterType.COUNT_APIDB_TRANS
 import static com.radixdlt.counters.SystemCounters.CounterType.ELAPSED_APIDB_BALANCE_READ;
 import static com.radixdlt.counters.SystemCounters.CounterType.ELAPSED_APIDB_BALANCE_WRITE;
 import static com.radixdlt.counters.SystemCounters.CounterType.ELAPSED_APIDB_FLUSH_TIME;
+import static com.radixdlt.counters.SystemCounters.CounterType.ELAPSED_APIDB_REBUILD_BATCH;
 import static com.radixdlt.counters.SystemCounters.CounterType.ELAPSED_APIDB_TOKEN_READ;
 import static com.radixdlt.counters.SystemCounters.CounterType.ELAPSED_APIDB_TOKEN_WRITE;
 import static com.radixdlt.counters.SystemCounters.CounterType.ELAPSED_APIDB_TRANSACTION_READ;
@@ -126,23 +138,34 @@ public class BerkeleyClientApiStore implements ClientApiStore {
 	private static final Logger log = LogManager.getLogger();
 
 	private static final String EXECUTED_TRANSACTIONS_DB = "radix.executed_transactions_db";
-	private static final String ADDRESS_BALANCE_DB = "radix.address.balance_db";
+	private static final String ADDRESS_BALANCE_DB = "radix.address.typed_balance_db";
+	// Balances keyed without balance type, migrated into ADDRESS_BALANCE_DB on open
+	private static final String LEGACY_ADDRESS_BALANCE_DB = "radix.address.balance_db";
 	private static final String SUPPLY_BALANCE_DB = "radix.supply.balance_db";
 	private static final String TOKEN_DEFINITION_DB = "radix.token_definition_db";
+	// Transaction ID -> key of the transaction history entry in EXECUTED_TRANSACTIONS_DB
+	private static final String TRANSACTION_ID_DB = "radix.transaction_id_db";
 
 	//Make sure this array contains all listed above DB names
 	private static final String[] DB_NAMES = {
 		EXECUTED_TRANSACTIONS_DB,
 		ADDRESS_BALANCE_DB,
 		SUPPLY_BALANCE_DB,
-		TOKEN_DEFINITION_DB
+		TOKEN_DEFINITION_DB,
+		TRANSACTION_ID_DB
 	};
 
+	// Not part of DB_NAMES, holds the progress of a rebuild so that it survives a restart
+	private static final String REBUILD_WATERMARK_DB = "radix.apidb.rebuild_db";
+	private static final byte[] REBUILD_WATERMARK_KEY = "rebuild.watermark".getBytes(StandardCharsets.UTF_8);
+	private static final int REBUILD_BATCH_SIZE = 1000;
+
 	private static final long DEFAULT_FLUSH_INTERVAL = 250L;
 	private static final int KEY_BUFFER_INITIAL_CAPACITY = 1024;
 	private static final int TIMESTAMP_SIZE = Long.BYTES + Integer.BYTES;
 	private static final Instant NOW = Instant.ofEpochMilli(Instant.now().toEpochMilli());
 	private static final Failure IGNORED = Failure.failure(0, "Ignored");
+	private static final int BALANCE_CACHE_SIZE = 16384;
 
 	private final DatabaseEnvironment dbEnv;
 	private final BerkeleyLedgerEntryStore store;
@@ -160,6 +183,8 @@ public class BerkeleyClientApiStore implements ClientApiStore {
 	private final Forks forks;
 
 	private Database transactionHistory;
+	private Database transactionIds;
+	private Database rebuildWatermarks;
 	private Database tokenDefinitions;
 	private Database addressBalances;
 	private Database supplyBalances;
@@ -168,6 +193,16 @@ public class BerkeleyClientApiStore implements ClientApiStore {
 		.maximumSize(1024)
 		.build();
 
+	// Raw stored balances of recently queried accounts. Entries are invalidated once a batch
+	// which touched the owner is committed, and the generation counter keeps lookups which raced
+	// with such a commit from caching what they read.
+	private final Cache<Pair<REAddr, BalanceType>, List<BalanceEntry>> balanceCache = CacheBuilder.newBuilder()
+		.maximumSize(BALANCE_CACHE_SIZE)
+		.build();
+	private final AtomicLong balanceGeneration = new AtomicLong();
+	// Owners whose balances were written by the running write transaction, guarded by inTransaction
+	private final Set<REAddr> touchedBalanceOwners = new HashSet<>();
+
 	public BerkeleyClientApiStore(
 		DatabaseEnvironment dbEnv,
 		REParser parser,
@@ -225,9 +260,13 @@ public class BerkeleyClientApiStore implements ClientApiStore {
 	}
 
 	private UInt384 computeStakeFromOwnership(ECPublicKey delegateKey, UInt384 ownership) {
+		return computeStakeFromOwnership(null, delegateKey, ownership);
+	}
+
+	private UInt384 computeStakeFromOwnership(Transaction dbTxn, ECPublicKey delegateKey, UInt384 ownership) {
 		var key = asAddrBalanceValidatorStakeKey(delegateKey);
 		var data = entry();
-		var status = addressBalances.get(null, key, data, null);
+		var status = addressBalances.get(dbTxn, key, data, null);
 		if (status == OperationStatus.NOTFOUND) {
 			// For pre-betanet3
 			return ownership;
@@ -236,7 +275,7 @@ public class BerkeleyClientApiStore implements ClientApiStore {
 
 		var key2 = asAddrBalanceValidatorStakeOwnership(delegateKey);
 		var data2 = entry();
-		addressBalances.get(null, key2, data2, null);
+		addressBalances.get(dbTxn, key2, data2, null);
 		var totalOwnership = restore(serialization, data2.getData(), BalanceEntry.class).toOptional().orElseThrow();
 		return totalStake.getAmount().multiply(ownership).divide(totalOwnership.getAmount());
 	}
@@ -259,36 +298,59 @@ public class BerkeleyClientApiStore implements ClientApiStore {
 
 	@Override
 	public Result<List<BalanceEntry>> getTokenBalances(REAddr addr, BalanceType type) {
+		var cacheKey = Pair.of(addr, type);
+		var entries = balanceCache.getIfPresent(cacheKey);
+
+		if (entries == null) {
+			var generation = balanceGeneration.get();
+			entries = readTokenBalances(addr, type);
+			if (balanceGeneration.get() == generation) {
+				balanceCache.put(cacheKey, entries);
+			}
+		}
+
+		return Result.ok(
+			entries.stream()
+				.map(entry -> entry.rri().equals("stake-ownership") ? computeStakeEntry(entry) : entry)
+				.collect(Collectors.toList())
+		);
+	}
+
+	private List<BalanceEntry> readTokenBalances(REAddr addr, BalanceType type) {
 		try (var cursor = addressBalances.openCursor(null, null)) {
-			var key = asAddrBalanceKey(addr);
+			var prefix = asAddrBalancePrefix(addr, type);
+			var key = entry(prefix);
 			var data = entry();
 			var status = readBalance(() -> cursor.getSearchKeyRange(key, data, null), data);
 
-			if (status != OperationStatus.SUCCESS) {
-				return Result.ok(List.of());
-			}
-
 			var list = new ArrayList<BalanceEntry>();
 
-			do {
+			// Keys start with owner and balance type, so the scan stops at the first key of another owner or type
+			while (status == OperationStatus.SUCCESS && startsWith(key, prefix)) {
 				restore(serialization, data.getData(), BalanceEntry.class)
 					.onFailureDo(
 						() -> log.error("Error deserializing existing balance while scanning DB for address {}", addr)
 					)
 					.toOptional()
-					.filter(entry -> entry.getType().equals(type))
-					.filter(entry -> entry.getOwner().equals(addr))
-					.map(entry -> entry.rri().equals("stake-ownership") ? computeStakeEntry(entry) : entry)
 					.ifPresent(list::add);
 
-
 				status = readBalance(() -> cursor.getNext(key, data, null), data);
-			} while (status == OperationStatus.SUCCESS);
+			}
 
-			return Result.ok(list);
+			return List.copyOf(list);
 		}
 	}
 
+	private static boolean startsWith(DatabaseEntry key, byte[] prefix) {
+		if (key.getSize() < prefix.length) {
+			return false;
+		}
+		return Arrays.equals(
+			key.getData(), key.getOffset(), key.getOffset() + prefix.length,
+			prefix, 0, prefix.length
+		);
+	}
+
 	@Override
 	public Result<UInt384> getTokenSupply(String rri) {
 		try (var cursor = supplyBalances.openCursor(null, null)) {
@@ -313,7 +375,11 @@ public class BerkeleyClientApiStore implements ClientApiStore {
 
 	@Override
 	public Result<TokenDefinitionRecord> getTokenDefinition(REAddr addr) {
-		try (var cursor = tokenDefinitions.openCursor(null, null)) {
+		return readTokenDefinition(null, addr);
+	}
+
+	private Result<TokenDefinitionRecord> readTokenDefinition(Transaction dbTxn, REAddr addr) {
+		try (var cursor = tokenDefinitions.openCursor(dbTxn, null)) {
 			var key = asAddrBalanceKey(addr);
 			var data = entry();
 
@@ -333,8 +399,12 @@ public class BerkeleyClientApiStore implements ClientApiStore {
 	}
 
 	private String getRriOrFail(REAddr addr) {
+		return getRriOrFail(null, addr);
+	}
+
+	private String getRriOrFail(Transaction dbTxn, REAddr addr) {
 		try {
-			return rriCache.get(addr, () -> getTokenDefinition(addr).toOptional().orElseThrow().rri(addressing));
+			return rriCache.get(addr, () -> readTokenDefinition(dbTxn, addr).toOptional().orElseThrow().rri(addressing));
 		} catch (ExecutionException e) {
 			log.error("Unable to find rri of token at address {}", addr);
 			throw new IllegalStateException(e);
@@ -343,6 +413,33 @@ public class BerkeleyClientApiStore implements ClientApiStore {
 
 	@Override
 	public Result<TxHistoryEntry> getTransaction(AID txId) {
+		return lookupTransactionById(txId)
+			.orElseGet(() -> scanTransactionHistory(txId));
+	}
+
+	private Optional<Result<TxHistoryEntry>> lookupTransactionById(AID txId) {
+		var key = entry(txId.getBytes());
+		var historyKey = entry();
+
+		if (transactionIds.get(null, key, historyKey, null) != OperationStatus.SUCCESS) {
+			return Optional.empty();
+		}
+
+		var data = entry();
+		var status = readTxHistory(() -> transactionHistory.get(null, historyKey, data, null), data);
+
+		if (status != OperationStatus.SUCCESS) {
+			return Optional.empty();
+		}
+
+		return restore(serialization, data.getData(), TxHistoryEntry.class)
+			.filter(txHistoryEntry -> txId.equals(txHistoryEntry.getTxId()), IGNORED)
+			.toOptional()
+			.map(Result::ok);
+	}
+
+	// Transactions stored before the ID index existed are located by scanning the creator's history
+	private Result<TxHistoryEntry> scanTransactionHistory(AID txId) {
 		return retrieveTx(txId)
 			.flatMap(txn -> extractCreator(txn)
 				.map(REAddr::ofPubKeyAccount)
@@ -554,7 +651,11 @@ public class BerkeleyClientApiStore implements ClientApiStore {
 				//TODO: Implement recovery, basically should be the same as fresh DB handling
 			}
 
-			if (isTest) {
+			var watermark = restoreRebuildWatermark();
+			if (watermark.isPresent()) {
+				//Previous rebuild was interrupted, continue where it stopped
+				resumeRebuild(watermark.get());
+			} else if (isTest) {
 				//FIXME: still not working properly
 				if (tokenDefinitions.count() == 0) {
 					//Fresh DB, rebuild from log
@@ -575,13 +676,40 @@ public class BerkeleyClientApiStore implements ClientApiStore {
 		var uniqueConfig = createUniqueConfig();
 
 		addressBalances = env.openDatabase(null, ADDRESS_BALANCE_DB, uniqueConfig);
+		migrateLegacyAddressBalances(env, uniqueConfig);
 		supplyBalances = env.openDatabase(null, SUPPLY_BALANCE_DB, uniqueConfig);
 		tokenDefinitions = env.openDatabase(null, TOKEN_DEFINITION_DB, uniqueConfig);
 		transactionHistory = env.openDatabase(null, EXECUTED_TRANSACTIONS_DB, uniqueConfig);
+		transactionIds = env.openDatabase(null, TRANSACTION_ID_DB, uniqueConfig);
+		rebuildWatermarks = env.openDatabase(null, REBUILD_WATERMARK_DB, uniqueConfig);
+	}
+
+	private void migrateLegacyAddressBalances(Environment env, DatabaseConfig config) {
+		if (!env.getDatabaseNames().contains(LEGACY_ADDRESS_BALANCE_DB)) {
+			return;
+		}
+
+		log.info("Migrating {} to {}", LEGACY_ADDRESS_BALANCE_DB, ADDRESS_BALANCE_DB);
+		var legacyBalances = env.openDatabase(null, LEGACY_ADDRESS_BALANCE_DB, config);
+		try (var cursor = legacyBalances.openCursor(null, null)) {
+			var key = entry();
+			var data = entry();
+			while (cursor.getNext(key, data, null) == OperationStatus.SUCCESS) {
+				var value = entry(data.getData());
+				restore(serialization, data.getData(), BalanceEntry.class)
+					.onSuccess(balanceEntry -> addressBalances.put(null, asAddrBalanceKey(balanceEntry), value))
+					.onFailure(this::reportError);
+			}
+		} finally {
+			legacyBalances.close();
+		}
+		env.removeDatabase(null, LEGACY_ADDRESS_BALANCE_DB);
 	}
 
 	private void closeAll() {
 		safeClose(transactionHistory);
+		safeClose(transactionIds);
+		safeClose(rebuildWatermarks);
 		safeClose(tokenDefinitions);
 		safeClose(addressBalances);
 		safeClose(supplyBalances);
@@ -611,12 +739,153 @@ public class BerkeleyClientApiStore implements ClientApiStore {
 		closeAll();
 		resetAll();
 		openAll();
+		balanceGeneration.incrementAndGet();
+		balanceCache.invalidateAll();
+
+		inTransaction(dbTxn -> storeRebuildWatermark(dbTxn, 0L));
 
-		store.forEach(txn -> txnParser.parseTxn(txn).onSuccess(this::processRETransaction));
+		replayLedger(0L);
 
 		log.info("Database rebuilding is finished successfully");
 	}
 
+	private void resumeRebuild(long stateVersion) {
+		log.info("Database rebuilding is resumed at state version {}", stateVersion);
+
+		replayLedger(stateVersion);
+
+		log.info("Database rebuilding is finished successfully");
+	}
+
+	/**
+	 * Replays the ledger into the API databases after the given state version.
+	 * Transactions are parsed in parallel, but applied strictly in ledger order, one
+	 * database transaction per batch. Each batch also advances the rebuild watermark
+	 * to the state version of its last transaction, so an interrupted rebuild continues
+	 * after the last applied batch.
+	 */
+	private void replayLedger(long fromStateVersion) {
+		var threads = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+		var executor = Executors.newFixedThreadPool(threads, ThreadFactories.daemonThreads("ApiDbRebuild"));
+		var parsed = new ArrayDeque<Pair<Long, Future<Result<REProcessedTxn>>>>(REBUILD_BATCH_SIZE * 2);
+
+		systemCounters.set(COUNT_APIDB_REBUILD_STATE_VERSION, fromStateVersion);
+
+		try {
+			store.forEachCommitted(fromStateVersion, (stateVersion, txn) -> {
+				parsed.add(Pair.of(stateVersion, executor.submit(() -> txnParser.parseTxn(txn))));
+
+				// Keep one batch parsing ahead while the previous one is being applied
+				if (parsed.size() >= REBUILD_BATCH_SIZE * 2) {
+					applyRebuildBatch(parsed);
+				}
+			});
+
+			while (!parsed.isEmpty()) {
+				applyRebuildBatch(parsed);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		inTransaction(dbTxn -> rebuildWatermarks.delete(dbTxn, entry(REBUILD_WATERMARK_KEY)));
+	}
+
+	private void applyRebuildBatch(ArrayDeque<Pair<Long, Future<Result<REProcessedTxn>>>> parsed) {
+		var batch = new ArrayList<Pair<Long, Future<Result<REProcessedTxn>>>>(REBUILD_BATCH_SIZE);
+		while (batch.size() < REBUILD_BATCH_SIZE && !parsed.isEmpty()) {
+			batch.add(parsed.poll());
+		}
+		var batchStateVersion = batch.get(batch.size() - 1).getFirst();
+
+		withTime(
+			() -> {
+				inTransaction(dbTxn -> {
+					for (var next : batch) {
+						awaitParsed(next.getSecond())
+							.onSuccess(reTxn -> processRETransaction(dbTxn, reTxn))
+							.onFailure(this::reportError);
+					}
+					storeRebuildWatermark(dbTxn, batchStateVersion);
+				});
+				return batchStateVersion;
+			},
+			() -> systemCounters.set(COUNT_APIDB_REBUILD_STATE_VERSION, batchStateVersion),
+			ELAPSED_APIDB_REBUILD_BATCH
+		);
+	}
+
+	private Result<REProcessedTxn> awaitParsed(Future<Result<REProcessedTxn>> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ClientApiStoreException("Interrupted while rebuilding database", e);
+		} catch (ExecutionException e) {
+			throw new ClientApiStoreException("Error while parsing transaction", e);
+		}
+	}
+
+	private synchronized void inTransaction(Consumer<Transaction> action) {
+		var transaction = dbEnv.getEnvironment().beginTransaction(null, null);
+		try {
+			action.accept(transaction);
+			transaction.commit();
+			invalidateTouchedBalances();
+		} catch (RuntimeException e) {
+			transaction.abort();
+			touchedBalanceOwners.clear();
+			// May hold token definitions read from the aborted transaction
+			rriCache.invalidateAll();
+			throw e;
+		}
+	}
+
+	private void invalidateTouchedBalances() {
+		if (touchedBalanceOwners.isEmpty()) {
+			return;
+		}
+
+		// Bump first, so that a lookup which read the balance before the commit does not cache it
+		// after its entry has been invalidated
+		balanceGeneration.incrementAndGet();
+		for (var owner : touchedBalanceOwners) {
+			for (var type : BalanceType.values()) {
+				balanceCache.invalidate(Pair.of(owner, type));
+			}
+		}
+		touchedBalanceOwners.clear();
+	}
+
+	private Optional<Long> restoreRebuildWatermark() {
+		var data = entry();
+		if (rebuildWatermarks.get(null, entry(REBUILD_WATERMARK_KEY), data, null) != OperationStatus.SUCCESS) {
+			return Optional.empty();
+		}
+
+		var buf = Unpooled.wrappedBuffer(data.getData());
+		var stateVersion = buf.readLong();
+		currentEpoch.set(buf.readLong());
+		currentRound.set(buf.readLong());
+		currentTimestamp.set(Instant.ofEpochSecond(buf.readLong(), buf.readInt()));
+		return Optional.of(stateVersion);
+	}
+
+	private void storeRebuildWatermark(Transaction dbTxn, long stateVersion) {
+		// The replay context is stored alongside, as skipped transactions are not processed on resume
+		var timestamp = currentTimestamp.get();
+		var value = entry(buffer()
+			.writeLong(stateVersion)
+			.writeLong(currentEpoch.get())
+			.writeLong(currentRound.get())
+			.writeLong(timestamp.getEpochSecond())
+			.writeInt(timestamp.getNano()));
+
+		if (rebuildWatermarks.put(dbTxn, entry(REBUILD_WATERMARK_KEY), value) != OperationStatus.SUCCESS) {
+			log.error("Error while storing rebuild watermark {}", stateVersion);
+		}
+	}
+
 	private void resetAll() {
 		var transaction = dbEnv.getEnvironment()
 			.beginTransaction(null, null);
@@ -650,10 +919,11 @@ public class BerkeleyClientApiStore implements ClientApiStore {
 	}
 
 	private void storeTransactionBatch(REOutput act) {
-		act.getProcessedTxns().forEach(this::processRETransaction);
+		inTransaction(dbTxn -> act.getProcessedTxns().forEach(reTxn -> processRETransaction(dbTxn, reTxn)));
 	}
 
 	private JSONObject accountingJson(
+		Transaction dbTxn,
 		long epoch,
 		REProcessedTxn reTxn,
 		List<REResourceAccounting> accountingObjects
@@ -690,7 +960,7 @@ public class BerkeleyClientApiStore implements ClientApiStore {
 					bucketJson.put("validator", addressing.forValidators().of(b.getValidatorKey()));
 				}
 				bucketJson.put("delta", i.toString());
-				bucketJson.put("asset", b.resourceAddr() == null ? "stake_ownership" : getRriOrFail(b.resourceAddr()));
+				bucketJson.put("asset", b.resourceAddr() == null ? "stake_ownership" : getRriOrFail(dbTxn, b.resourceAddr()));
 				bucketAccounting.put(bucketJson);
 			});
 			entry.put("entries", bucketAccounting);
@@ -699,14 +969,14 @@ public class BerkeleyClientApiStore implements ClientApiStore {
 		return txnJson;
 	}
 
-	private void processRETransaction(REProcessedTxn reTxn) {
+	private void processRETransaction(Transaction dbTxn, REProcessedTxn reTxn) {
 		// TODO: cur epoch retrieval a bit hacky but needs to be like this for now
 		// TODO: as epoch get updated at the end of an epoch transition
 		var curEpoch = currentEpoch.get();
-		processEvents(reTxn.getEvents());
+		processEvents(dbTxn, reTxn.getEvents());
 
 		var accountingObjects = reTxn.getGroupedStateUpdates().stream()
-			.map(updates -> processGroupedStateUpdates(updates, reTxn.getTxn().getId()))
+			.map(updates -> processGroupedStateUpdates(dbTxn, updates, reTxn.getTxn().getId()))
 			.collect(Collectors.toList());
 
 		var actions = accountingObjects.stream()
@@ -726,14 +996,20 @@ public class BerkeleyClientApiStore implements ClientApiStore {
 			reTxn,
 			actions,
 			currentTimestamp.get(),
-			this::getRriOrFail,
-			this::computeStakeFromOwnership
-		).onSuccess(parsed -> addresses.forEach(address -> storeSingleTransaction(parsed, address)));
+			addr -> getRriOrFail(dbTxn, addr),
+			(delegate, ownership) -> computeStakeFromOwnership(dbTxn, delegate, ownership)
+		).onSuccess(parsed -> {
+			addresses.forEach(address -> storeSingleTransaction(dbTxn, parsed, address));
+			reTxn.getSignedBy()
+				.map(REAddr::ofPubKeyAccount)
+				.or(() -> addresses.stream().findFirst())
+				.ifPresent(address -> storeTransactionId(dbTxn, parsed, address));
+		});
 
-		log.debug("TRANSACTION_LOG: {}", () -> accountingJson(curEpoch, reTxn, accountingObjects));
+		log.debug("TRANSACTION_LOG: {}", () -> accountingJson(dbTxn, curEpoch, reTxn, accountingObjects));
 	}
 
-	private void processEvents(List<REEvent> events) {
+	private void processEvents(Transaction dbTxn, List<REEvent> events) {
 		for (var event : events) {
 			if (event instanceof ResourceCreatedEvent) {
 				var resourceCreated = (ResourceCreatedEvent) event;
@@ -747,12 +1023,12 @@ public class BerkeleyClientApiStore implements ClientApiStore {
 					resourceCreated.getMetadata().getUrl(),
 					resourceCreated.getTokenResource().isMutable()
 				);
-				storeTokenDefinition(record);
+				storeTokenDefinition(dbTxn, record);
 			}
 		}
 	}
 
-	private REResourceAccounting processGroupedStateUpdates(List<REStateUpdate> updates, AID txId) {
+	private REResourceAccounting processGroupedStateUpdates(Transaction dbTxn, List<REStateUpdate> updates, AID txId) {
 		var curEpoch = currentEpoch.get();
 		for (var update : updates) {
 			var substate = update.getParsed();
@@ -776,7 +1052,7 @@ public class BerkeleyClientApiStore implements ClientApiStore {
 			.map(e -> {
 				var r = e.getKey();
 				var i = e.getValue();
-				var rri = r.resourceAddr() != null ? getRriOrFail(r.resourceAddr()) : "stake-ownership";
+				var rri = r.resourceAddr() != null ? getRriOrFail(dbTxn, r.resourceAddr()) : "stake-ownership";
 				var epochUnlock = r.getEpochUnlock();
 				var entry = BalanceEntry.create(
 					r.getOwner(),
@@ -805,13 +1081,13 @@ public class BerkeleyClientApiStore implements ClientApiStore {
 		var resourceEntries = accounting.resourceAccounting().entrySet().stream()
 			.filter(e -> !e.getValue().equals(BigInteger.ZERO))
 			.map(e -> {
-				var rri = getRriOrFail(e.getKey());
+				var rri = getRriOrFail(dbTxn, e.getKey());
 				var amt = UInt384.from(e.getValue().abs().toByteArray());
 				var isNegative = e.getValue().signum() == -1;
 				return BalanceEntry.resource(rri, amt, isNegative);
 			});
 		Streams.concat(bucketEntries, stakeOwnershipEntries, resourceEntries)
-			.forEach(this::storeBalanceEntry);
+			.forEach(entry -> storeBalanceEntry(dbTxn, entry));
 
 		return accounting;
 	}
@@ -824,12 +1100,12 @@ public class BerkeleyClientApiStore implements ClientApiStore {
 		}
 	}
 
-	private void storeSingleTransaction(TxHistoryEntry txn, REAddr address) {
+	private void storeSingleTransaction(Transaction dbTxn, TxHistoryEntry txn, REAddr address) {
 		var key = asTxnHistoryKey(address, txn.timestamp());
 		var data = serializeTo(entry(), txn);
 
 		var status = withTime(
-			() -> transactionHistory.put(null, key, data),
+			() -> transactionHistory.put(dbTxn, key, data),
 			() -> addTxHistoryWriteBytes(data),
 			ELAPSED_APIDB_TRANSACTION_WRITE
 		);
@@ -839,11 +1115,20 @@ public class BerkeleyClientApiStore implements ClientApiStore {
 		}
 	}
 
-	private void storeTokenDefinition(TokenDefinitionRecord tokenDefinition) {
+	private void storeTransactionId(Transaction dbTxn, TxHistoryEntry txn, REAddr address) {
+		var key = entry(txn.getTxId().getBytes());
+		var historyKey = asTxnHistoryKey(address, txn.timestamp());
+
+		if (transactionIds.put(dbTxn, key, historyKey) != OperationStatus.SUCCESS) {
+			log.error("Error while indexing transaction {} for {}", txn.getTxId(), address);
+		}
+	}
+
+	private void storeTokenDefinition(Transaction dbTxn, TokenDefinitionRecord tokenDefinition) {
 		var key = asAddrBalanceKey(tokenDefinition.addr());
 		var value = serializeTo(entry(), tokenDefinition);
 		var status = withTime(
-			() -> tokenDefinitions.putNoOverwrite(null, key, value),
+			() -> tokenDefinitions.putNoOverwrite(dbTxn, key, value),
 			() -> addTokenWriteBytes(value),
 			ELAPSED_APIDB_TOKEN_WRITE
 		);
@@ -853,15 +1138,24 @@ public class BerkeleyClientApiStore implements ClientApiStore {
 		}
 	}
 
-	private void storeBalanceEntry(BalanceEntry entry) {
+	private void storeBalanceEntry(Transaction dbTxn, BalanceEntry entry) {
+		if (entry.getOwner() != null) {
+			touchedBalanceOwners.add(entry.getOwner());
+		}
 		var key = entry.isSupply() ? asKey(entry.rri()) : asAddrBalanceKey(entry);
-		mergeBalances(key, entry(), entry, entry.isUnstake() || entry.isStake());
+		mergeBalances(dbTxn, key, entry(), entry, entry.isUnstake() || entry.isStake());
 	}
 
-	private void mergeBalances(DatabaseEntry key, DatabaseEntry value, BalanceEntry balanceEntry, boolean deleteIfZero) {
+	private void mergeBalances(
+		Transaction dbTxn,
+		DatabaseEntry key,
+		DatabaseEntry value,
+		BalanceEntry balanceEntry,
+		boolean deleteIfZero
+	) {
 		var database = balanceEntry.isSupply() ? supplyBalances : addressBalances;
 		var oldValue = entry();
-		var status = readBalance(() -> database.get(null, key, oldValue, null), oldValue);
+		var status = readBalance(() -> database.get(dbTxn, key, oldValue, null), oldValue);
 
 		if (status == OperationStatus.NOTFOUND) {
 			serializeTo(value, balanceEntry);
@@ -880,9 +1174,9 @@ public class BerkeleyClientApiStore implements ClientApiStore {
 		}
 
 		if (value.getData() == null) {
-			status = database.delete(null, key);
+			status = database.delete(dbTxn, key);
 		} else {
-			status = writeBalance(() -> database.put(null, key, value), value);
+			status = writeBalance(() -> database.put(dbTxn, key, value), value);
 		}
 
 		if (status != OperationStatus.SUCCESS) {
@@ -906,6 +1200,7 @@ public class BerkeleyClientApiStore implements ClientApiStore {
 		} else {
 			buf.writeZero(ECPublicKey.COMPRESSED_BYTES + 1);
 		}
+		buf.writeByte(balanceEntry.getType().ordinal());
 
 		buf.writeBytes(balanceEntry.rri().getBytes(StandardCharsets.UTF_8));
 
@@ -928,9 +1223,17 @@ public class BerkeleyClientApiStore implements ClientApiStore {
 		return entry(addr.getBytes());
 	}
 
+	private static byte[] asAddrBalancePrefix(REAddr addr, BalanceType type) {
+		var addrBytes = addr.getBytes();
+		var prefix = Arrays.copyOf(addrBytes, addrBytes.length + 1);
+		prefix[addrBytes.length] = (byte) type.ordinal();
+		return prefix;
+	}
+
 	private DatabaseEntry asAddrBalanceValidatorStakeKey(ECPublicKey validatorKey) {
 		var buf = buffer();
 		buf.writeZero(ECPublicKey.COMPRESSED_BYTES + 1);
+		buf.writeByte(BalanceType.STAKES.ordinal());
 		var rri = getRriOrFail(REAddr.ofNativeToken());
 		buf.writeBytes(rri.getBytes(StandardCharsets.UTF_8));
 		buf.writeBytes(validatorKey.getBytes());
@@ -941,6 +1244,7 @@ public class BerkeleyClientApiStore implements ClientApiStore {
 	private DatabaseEntry asAddrBalanceValidatorStakeOwnership(ECPublicKey validatorKey) {
 		var buf = buffer();
 		buf.writeZero(ECPublicKey.COMPRESSED_BYTES + 1);
+		buf.writeByte(BalanceType.STAKES.ordinal());
 		buf.writeBytes("stake-ownership".getBytes(StandardCharsets.UTF_8));
 		buf.writeBytes(validatorKey.getBytes());
 		buf.writeZero(Long.BYTES);
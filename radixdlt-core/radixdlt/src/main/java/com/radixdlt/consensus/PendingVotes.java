@@ -103,8 +103,7 @@ public final class PendingVotes {
 	 */
 	public VoteProcessingResult insertVote(Vote vote, BFTValidatorSet validatorSet) {
 		final BFTNode node = vote.getAuthor();
-		final VoteData voteData = vote.getVoteData();
-		final HashCode voteDataHash = this.hasher.hash(voteData);
+		final HashCode voteDataHash = vote.getVoteDataHash(this.hasher);
 
 		if (!validatorSet.containsNode(node)) {
 			return VoteProcessingResult.rejected(VoteRejectedReason.INVALID_AUTHOR);
@@ -114,14 +113,13 @@ public final class PendingVotes {
 			return VoteProcessingResult.rejected(VoteRejectedReason.DUPLICATE_VOTE);
 		}
 
-		return processVoteForQC(vote, validatorSet).<VoteProcessingResult>map(VoteProcessingResult::qcQuorum)
+		return processVoteForQC(vote, voteDataHash, validatorSet).<VoteProcessingResult>map(VoteProcessingResult::qcQuorum)
 			.or(() -> processVoteForTC(vote, validatorSet).map(VoteProcessingResult::tcQuorum))
 			.orElseGet(VoteProcessingResult::accepted);
 	}
 
-	private Optional<QuorumCertificate> processVoteForQC(Vote vote, BFTValidatorSet validatorSet) {
+	private Optional<QuorumCertificate> processVoteForQC(Vote vote, HashCode voteDataHash, BFTValidatorSet validatorSet) {
 		final VoteData voteData = vote.getVoteData();
-		final HashCode voteDataHash = this.hasher.hash(voteData);
 		final BFTNode node = vote.getAuthor();
 
 		final ValidationState validationState =
@@ -144,7 +142,7 @@ public final class PendingVotes {
 		final ECDSASignature timeoutSignature = vote.getTimeoutSignature().orElseThrow();
 
 		final VoteTimeout voteTimeout = VoteTimeout.of(vote);
-		final HashCode voteTimeoutHash = this.hasher.hash(voteTimeout);
+		final HashCode voteTimeoutHash = vote.getTimeoutHash(this.hasher);
 		final BFTNode node = vote.getAuthor();
 
 		final ValidationState validationState =
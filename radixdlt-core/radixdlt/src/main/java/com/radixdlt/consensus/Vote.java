@@ -21,8 +21,10 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.hash.HashCode;
 import com.google.errorprone.annotations.Immutable;
+import com.google.errorprone.annotations.concurrent.LazyInit;
 import com.radixdlt.consensus.bft.BFTNode;
 import com.radixdlt.consensus.bft.View;
+import com.radixdlt.consensus.liveness.VoteTimeout;
 import com.radixdlt.crypto.ECDSASignature;
 import com.radixdlt.crypto.Hasher;
 import com.radixdlt.crypto.exception.PublicKeyException;
@@ -65,6 +67,27 @@ public final class Vote implements ConsensusEvent {
 
 	private final Optional<ECDSASignature> timeoutSignature;
 
+	// A vote is hashed when its signatures are verified and again when it is counted towards a quorum,
+	// so the hashes are computed once per vote and reused. This is a benign race which does not affect
+	// the immutability of the vote: the hashes are derived from final fields only and published as an
+	// immutable holder, so concurrent callers at worst compute the same hashes twice.
+	@LazyInit
+	private volatile VoteHashes hashes;
+
+	private static final class VoteHashes {
+		private final Hasher hasher;
+		private final HashCode voteDataHash;
+		private final HashCode dataHash;
+		private final HashCode timeoutHash;
+
+		private VoteHashes(Hasher hasher, HashCode voteDataHash, HashCode dataHash, HashCode timeoutHash) {
+			this.hasher = hasher;
+			this.voteDataHash = voteDataHash;
+			this.dataHash = dataHash;
+			this.timeoutHash = timeoutHash;
+		}
+	}
+
 	@JsonCreator
 	Vote(
 		@JsonProperty("author") byte[] author,
@@ -118,13 +141,46 @@ public final class Vote implements ConsensusEvent {
 	}
 
 	public static HashCode getHashOfData(Hasher hasher, VoteData voteData, long timestamp) {
-		var opaque = hasher.hash(voteData);
+		return getHashOfData(hasher, hasher.hash(voteData), voteData, timestamp);
+	}
+
+	private static HashCode getHashOfData(Hasher hasher, HashCode voteDataHash, VoteData voteData, long timestamp) {
 		var header = voteData.getCommitted().map(BFTHeader::getLedgerHeader).orElse(null);
-		return ConsensusHasher.toHash(opaque, header, timestamp, hasher);
+		return ConsensusHasher.toHash(voteDataHash, header, timestamp, hasher);
 	}
 
+	/**
+	 * Returns the hash which is signed by the author of this vote.
+	 */
 	public HashCode getHashOfData(Hasher hasher) {
-		return getHashOfData(hasher, this.voteData, this.timestamp);
+		return hashes(hasher).dataHash;
+	}
+
+	/**
+	 * Returns the hash of the {@link VoteData} alone, which identifies the votes for the same vertex.
+	 */
+	public HashCode getVoteDataHash(Hasher hasher) {
+		return hashes(hasher).voteDataHash;
+	}
+
+	/**
+	 * Returns the hash of the {@link VoteTimeout} which is signed by the author of a timeout vote.
+	 */
+	public HashCode getTimeoutHash(Hasher hasher) {
+		var timeoutHash = hashes(hasher).timeoutHash;
+		return timeoutHash != null ? timeoutHash : hasher.hash(VoteTimeout.of(this));
+	}
+
+	private VoteHashes hashes(Hasher hasher) {
+		var current = this.hashes;
+		if (current == null || current.hasher != hasher) {
+			var voteDataHash = hasher.hash(this.voteData);
+			var dataHash = getHashOfData(hasher, voteDataHash, this.voteData, this.timestamp);
+			var timeoutHash = isTimeout() ? hasher.hash(VoteTimeout.of(this)) : null;
+			current = new VoteHashes(hasher, voteDataHash, dataHash, timeoutHash);
+			this.hashes = current;
+		}
+		return current;
 	}
 
 	public long getTimestamp() {
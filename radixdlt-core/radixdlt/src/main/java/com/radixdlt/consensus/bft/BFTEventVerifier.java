@@ -24,7 +24,6 @@ import com.radixdlt.consensus.BFTEventProcessor;
 import com.radixdlt.consensus.ConsensusEvent;
 import com.radixdlt.consensus.HashVerifier;
 import com.radixdlt.consensus.liveness.ScheduledLocalTimeout;
-import com.radixdlt.consensus.liveness.VoteTimeout;
 import com.radixdlt.crypto.Hasher;
 import com.radixdlt.consensus.Proposal;
 import com.radixdlt.consensus.Vote;
@@ -79,7 +78,7 @@ public final class BFTEventVerifier implements BFTEventProcessor {
 			}
 
 			boolean verifiedTimeoutData = vote.getTimeoutSignature()
-				.map(timeoutSignature -> verify(node, VoteTimeout.of(vote), timeoutSignature, vote))
+				.map(timeoutSignature -> verifyHash(node, vote.getTimeoutHash(hasher), timeoutSignature, vote))
 				.orElse(true);
 
 			if (!verifiedTimeoutData) {
@@ -22,14 +22,11 @@ import com.radixdlt.consensus.bft.BFTNode;
 import com.radixdlt.consensus.bft.BFTValidator;
 import com.radixdlt.consensus.bft.BFTValidatorSet;
 import com.radixdlt.utils.KeyComparator;
+import com.radixdlt.utils.MutableUInt384;
 import com.radixdlt.utils.UInt256;
-import com.radixdlt.utils.UInt256s;
 import com.radixdlt.utils.UInt384;
 import java.util.Arrays;
 import java.util.Comparator;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Map.Entry;
 
 /**
  * Rotates leaders with those having more power being proposed more often
@@ -39,17 +36,26 @@ import java.util.Map.Entry;
  * previous view and thus computing the leader for an arbitrary view can
  * be quite expensive.
  *
- * We resolve this by keeping a cache of some given size of the previous
- * views closest to the highest view calculated.
+ * We resolve this in two ways. Optionally, the leaders of the first views
+ * of the epoch are computed up front into a schedule which is then served
+ * by index. Beyond the schedule we keep a cache of some given size of the
+ * previous views closest to the highest view calculated, and views which
+ * have fallen out of the cache are replayed from the end of the schedule
+ * where possible rather than from genesis.
  *
  * This class stateful and is NOT thread-safe.
  */
 public final class WeightedRotatingLeaders implements ProposerElection {
 	private static final int DEFAULT_CACHE_SIZE = 10;
+	// Keeps the work done on epoch change and the memory held by the schedule bounded
+	private static final int MAX_SCHEDULE_SIZE = 10_000;
 	private static final UInt384 POW_2_256 = UInt384.from(UInt256.MAX_VALUE).increment();
 
-	private final BFTValidatorSet validatorSet;
-	private final Comparator<Entry<BFTValidator, UInt384>> weightsComparator;
+	// Ordered such that on equal weights the validator with the lowest index is the leader
+	private final BFTValidator[] validators;
+	private final UInt384 totalPower;
+	private final BFTNode[] schedule;
+	private final UInt384[] scheduleEndWeights;
 	private final CachingNextLeaderComputer nextLeaderComputer;
 
 	public WeightedRotatingLeaders(BFTValidatorSet validatorSet) {
@@ -57,70 +63,95 @@ public final class WeightedRotatingLeaders implements ProposerElection {
 	}
 
 	public WeightedRotatingLeaders(BFTValidatorSet validatorSet, int cacheSize) {
-		this.validatorSet = validatorSet;
-		this.weightsComparator = Comparator
-			.comparing(Entry<BFTValidator, UInt384>::getValue)
-			.thenComparing(v -> v.getKey().getNode().getKey(), KeyComparator.instance().reversed());
-		this.nextLeaderComputer = new CachingNextLeaderComputer(validatorSet, weightsComparator, cacheSize);
+		this(validatorSet, cacheSize, 0);
 	}
 
-	private static class CachingNextLeaderComputer {
-		private final BFTValidatorSet validatorSet;
-		private final Comparator<Entry<BFTValidator, UInt384>> weightsComparator;
-		private final Map<BFTValidator, UInt384> weights;
-		private final BFTValidator[] cache;
-		private final Long lcm;
+	public WeightedRotatingLeaders(BFTValidatorSet validatorSet, int cacheSize, int scheduleSize) {
+		if (scheduleSize < 0) {
+			throw new IllegalArgumentException("scheduleSize must be non-negative: " + scheduleSize);
+		}
+
+		this.validators = validatorSet.getValidators().stream()
+			.sorted(Comparator.comparing(v -> v.getNode().getKey(), KeyComparator.instance()))
+			.toArray(BFTValidator[]::new);
+		this.totalPower = UInt384.from(validatorSet.getTotalPower());
+
+		this.nextLeaderComputer = new CachingNextLeaderComputer(cacheSize, null);
+		this.nextLeaderComputer.resetToView(View.genesis());
+		this.schedule = new BFTNode[scheduleSize];
+		for (int view = 0; view < scheduleSize; view++) {
+			this.schedule[view] = this.nextLeaderComputer.resetToView(View.of(view)).getNode();
+		}
+		this.scheduleEndWeights = scheduleSize == 0 ? null : this.nextLeaderComputer.snapshotWeights();
+	}
+
+	/**
+	 * Creates a proposer election for an epoch, with the leaders of the views up
+	 * to the epoch's ceiling view precomputed.
+	 *
+	 * @param validatorSet the validator set of the epoch
+	 * @param epochCeilingView the highest view expected in the epoch
+	 * @return a proposer election for the epoch
+	 */
+	public static WeightedRotatingLeaders forEpoch(BFTValidatorSet validatorSet, View epochCeilingView) {
+		int scheduleSize = (int) Math.min(epochCeilingView.number() + 1, MAX_SCHEDULE_SIZE);
+		return new WeightedRotatingLeaders(validatorSet, DEFAULT_CACHE_SIZE, scheduleSize);
+	}
+
+	private final class CachingNextLeaderComputer {
+		// Weights are updated in place, indexed as validators
+		private final MutableUInt384[] weights;
+		private final int[] cache;
+		private final View checkpoint;
 		private View curView;
 
-		private CachingNextLeaderComputer(
-			BFTValidatorSet validatorSet,
-			Comparator<Entry<BFTValidator, UInt384>> weightsComparator,
-			int cacheSize
-		) {
-			this.validatorSet = validatorSet;
-			this.weightsComparator = weightsComparator;
-			this.weights = new HashMap<>();
-			this.cache = new BFTValidator[cacheSize];
-
-			UInt256[] powerArray = validatorSet.getValidators().stream().map(BFTValidator::getPower).toArray(UInt256[]::new);
-			// after cappedLCM is executed, the following invariant will be true:
-			// (lcm > 0 && lcm < 2^63 -1 ) || lcm == null
-			// This is due to use of 2^63 - 1 cap and also the invariant from ValidatorSet
-			// that powerArray will always be non-zero
-			UInt256 lcm256 = UInt256s.cappedLCM(UInt256.from(Long.MAX_VALUE), powerArray);
-			this.lcm = lcm256 == null ? null : lcm256.getLow().getLow();
-
-			this.resetToView(View.of(0));
+		private CachingNextLeaderComputer(int cacheSize, View checkpoint) {
+			this.weights = new MutableUInt384[validators.length];
+			for (int i = 0; i < weights.length; i++) {
+				weights[i] = new MutableUInt384();
+			}
+			this.cache = new int[cacheSize];
+			this.checkpoint = checkpoint;
+		}
+
+		private int cacheIndex(View view) {
+			return (int) (view.number() % cache.length);
 		}
 
-		private BFTValidator computeHeaviest() {
-			final Entry<BFTValidator, UInt384> max = weights.entrySet().stream()
-				.max(weightsComparator)
-				.orElseThrow(() -> new IllegalStateException("Weights cannot be empty"));
-			return max.getKey();
+		private int computeHeaviest() {
+			if (weights.length == 0) {
+				throw new IllegalStateException("Weights cannot be empty");
+			}
+			int heaviest = 0;
+			for (int i = 1; i < weights.length; i++) {
+				if (weights[i].compareTo(weights[heaviest]) > 0) {
+					heaviest = i;
+				}
+			}
+			return heaviest;
 		}
 
 		private void computeNext() {
 			// Reset current leader by subtracting total power
-			final int curIndex = (int) (this.curView.number() % cache.length);
-			final BFTValidator curLeader = cache[curIndex];
-			weights.merge(curLeader, UInt384.from(validatorSet.getTotalPower()), UInt384::subtract);
-
-			// Add weights relative to each validator's power
-			for (BFTValidator validator : validatorSet.getValidators()) {
-				weights.merge(validator, UInt384.from(validator.getPower()), UInt384::add);
+			weights[cache[cacheIndex(curView)]].subtract(totalPower);
+
+			// Add weights relative to each validator's power while looking for the
+			// heaviest, which becomes the next leader
+			int heaviest = 0;
+			for (int i = 0; i < weights.length; i++) {
+				weights[i].add(validators[i].getPower());
+				if (weights[i].compareTo(weights[heaviest]) > 0) {
+					heaviest = i;
+				}
 			}
 
-			// Compute next leader by getting heaviest validator
 			this.curView = this.curView.next();
-			int index = (int) (this.curView.number() % cache.length);
-			cache[index] = computeHeaviest();
+			cache[cacheIndex(curView)] = heaviest;
 		}
 
 		private BFTValidator checkCacheForProposer(View view) {
 			if (view.compareTo(curView) <= 0 && view.number() > curView.number() - cache.length) {
-				final int index = (int) (view.number() % cache.length);
-				return cache[index];
+				return validators[cache[cacheIndex(view)]];
 			}
 
 			return null;
@@ -132,37 +163,48 @@ public final class WeightedRotatingLeaders implements ProposerElection {
 			}
 		}
 
+		private UInt384[] snapshotWeights() {
+			return Arrays.stream(weights).map(MutableUInt384::toUInt384).toArray(UInt384[]::new);
+		}
+
 		private BFTValidator resetToView(View view) {
 			// reset if view isn't in cache
 			if (curView == null || view.number() < curView.number() - cache.length) {
-				if (lcm == null || lcm > view.number()) {
-					curView = View.genesis();
+				if (checkpoint != null && checkpoint.compareTo(view) <= 0) {
+					curView = checkpoint;
+					for (int i = 0; i < weights.length; i++) {
+						weights[i].set(scheduleEndWeights[i]);
+					}
 				} else {
-					long multipleOfLCM = view.number() / lcm;
-					curView = View.of(multipleOfLCM * lcm);
-				}
-
-				for (BFTValidator validator : validatorSet.getValidators()) {
-					weights.put(validator, POW_2_256.subtract(validator.getPower()));
+					curView = View.genesis();
+					for (int i = 0; i < weights.length; i++) {
+						// Not subtracted in place, as UInt384.subtract(UInt256) differs from exact arithmetic
+						// for powers of 2^128 and above and all nodes have to agree on the proposers
+						weights[i].set(POW_2_256.subtract(validators[i].getPower()));
+					}
 				}
-				cache[0] = computeHeaviest();
+				cache[cacheIndex(curView)] = computeHeaviest();
 			}
 
 			// compute to view
 			computeToView(view);
 
 			// guaranteed to return non-null;
-			return cache[(int) (view.number() % cache.length)];
+			return validators[cache[cacheIndex(view)]];
 		}
 
 		@Override
 		public String toString() {
-			return String.format("%s %s %s", this.curView, Arrays.toString(this.cache), this.weights);
+			return String.format("%s %s %s", this.curView, Arrays.toString(this.cache), Arrays.toString(this.weights));
 		}
 	}
 
 	@Override
 	public BFTNode getProposer(View view) {
+		if (view.number() < schedule.length) {
+			return schedule[(int) view.number()];
+		}
+
 		nextLeaderComputer.computeToView(view);
 
 		// validator will only be null if the view supplied is before the cache
@@ -172,8 +214,10 @@ public final class WeightedRotatingLeaders implements ProposerElection {
 			// dynamic program cache successful
 			return validator.getNode();
 		} else {
-			// cache doesn't have value, do the expensive operation
-			CachingNextLeaderComputer computer = new CachingNextLeaderComputer(validatorSet, weightsComparator, 1);
+			// cache doesn't have value, do the expensive operation, starting from the
+			// end of the schedule if there is one
+			View checkpoint = schedule.length == 0 ? null : View.of(schedule.length - 1L);
+			CachingNextLeaderComputer computer = new CachingNextLeaderComputer(1, checkpoint);
 			return computer.resetToView(view).getNode();
 		}
 	}
@@ -182,4 +226,4 @@ public final class WeightedRotatingLeaders implements ProposerElection {
 	public String toString() {
 		return String.format("%s %s", this.getClass().getSimpleName(), this.nextLeaderComputer);
 	}
-}
\ No newline at end of file
+}
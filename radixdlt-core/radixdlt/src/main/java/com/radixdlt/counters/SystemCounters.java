@@ -72,6 +72,8 @@ public interface SystemCounters {
 		COUNT_BDB_LEDGER_DELETES("count.bdb.ledger.deletes"),
 		COUNT_BDB_LEDGER_PROOFS_ADDED("count.bdb.ledger.proofs.added"),
 		COUNT_BDB_LEDGER_PROOFS_REMOVED("count.bdb.ledger.proofs.removed"),
+		COUNT_BDB_LEDGER_SUBSTATE_CACHE_HITS("count.bdb.ledger.substate_cache.hits"),
+		COUNT_BDB_LEDGER_SUBSTATE_CACHE_MISSES("count.bdb.ledger.substate_cache.misses"),
 
 		COUNT_BDB_ADDRESS_BOOK_TOTAL("count.bdb.address_book.total"),
 		COUNT_BDB_ADDRESS_BOOK_BYTES_READ("count.bdb.address_book.bytes.read"),
@@ -87,6 +89,7 @@ public interface SystemCounters {
 		// API DB metrics
 		COUNT_APIDB_QUEUE_SIZE("count.apidb.queue.size"),
 		COUNT_APIDB_FLUSH_COUNT("count.apidb.flush.count"),
+		COUNT_APIDB_REBUILD_STATE_VERSION("count.apidb.rebuild.state_version"),
 
 		COUNT_APIDB_BALANCE_TOTAL("count.apidb.balance.total"),
 		COUNT_APIDB_BALANCE_READ("count.apidb.balance.read"),
@@ -117,6 +120,7 @@ public interface SystemCounters {
 		ELAPSED_APIDB_TRANSACTION_WRITE("elapsed.apidb.transaction.write"),
 
 		ELAPSED_APIDB_FLUSH_TIME("elapsed.apidb.flush.time"),
+		ELAPSED_APIDB_REBUILD_BATCH("elapsed.apidb.rebuild.batch"),
 
 		ELAPSED_BDB_ADDRESS_BOOK("elapsed.bdb.address_book"),
 
@@ -152,6 +156,7 @@ public interface SystemCounters {
 		LEDGER_STATE_VERSION("ledger.state_version"),
 		LEDGER_SYNC_COMMANDS_PROCESSED("ledger.sync_commands_processed"),
 		LEDGER_BFT_COMMANDS_PROCESSED("ledger.bft_commands_processed"),
+		LEDGER_GROUPED_BATCHES("ledger.grouped_batches"),
 
 		SYNC_LAST_READ_MILLIS("sync.last_read_millis"),
 		SYNC_INVALID_COMMANDS_RECEIVED("sync.invalid_commands_received"),
@@ -170,6 +175,9 @@ public interface SystemCounters {
 		MEMPOOL_ERRORS_OTHER("mempool.errors.other"),
 
 		RADIX_ENGINE_INVALID_PROPOSED_COMMANDS("radix_engine.invalid_proposed_commands"),
+		RADIX_ENGINE_PARSED_TXN_CACHE_HITS("radix_engine.parsed_txn_cache_hits"),
+		RADIX_ENGINE_PARSED_TXN_CACHE_MISSES("radix_engine.parsed_txn_cache_misses"),
+		RADIX_ENGINE_PREPARED_TRANSACTIONS_COMMITTED("radix_engine.prepared_transactions_committed"),
 		RADIX_ENGINE_USER_TRANSACTIONS("radix_engine.user_transactions"),
 		RADIX_ENGINE_SYSTEM_TRANSACTIONS("radix_engine.system_transactions"),
 
@@ -177,7 +185,9 @@ public interface SystemCounters {
 		MESSAGES_INBOUND_PROCESSED("messages.inbound.processed"),
 		MESSAGES_INBOUND_DISCARDED("messages.inbound.discarded"),
 		MESSAGES_OUTBOUND_ABORTED("messages.outbound.aborted"),
+		MESSAGES_OUTBOUND_DROPPED("messages.outbound.dropped"),
 		MESSAGES_OUTBOUND_PENDING("messages.outbound.pending"),
+		MESSAGES_OUTBOUND_PEER_PENDING_MAX("messages.outbound.peer_pending_max"),
 		MESSAGES_OUTBOUND_PROCESSED("messages.outbound.processed"),
 		MESSAGES_OUTBOUND_SENT("messages.outbound.sent"),
 
@@ -23,6 +23,7 @@ import com.radixdlt.environment.EventDispatcher;
 import com.radixdlt.environment.EventProcessor;
 import com.radixdlt.environment.RemoteEventProcessor;
 import com.radixdlt.environment.StartProcessor;
+import com.radixdlt.environment.StopProcessor;
 import com.radixdlt.utils.ThreadFactories;
 import io.reactivex.rxjava3.core.Flowable;
 import io.reactivex.rxjava3.core.Observable;
@@ -56,6 +57,7 @@ public final class ModuleRunnerImpl implements ModuleRunner {
 	private CompositeDisposable compositeDisposable;
 
 	private final Set<StartProcessor> startProcessors;
+	private final Set<StopProcessor> stopProcessors;
 	private final List<Subscription<?>> subscriptions;
 	private final ImmutableList<Consumer<ScheduledExecutorService>> onStart;
 
@@ -82,11 +84,13 @@ public final class ModuleRunnerImpl implements ModuleRunner {
 	private ModuleRunnerImpl(
 		String threadName,
 		Set<StartProcessor> startProcessors, // TODO: combine with onStart
+		Set<StopProcessor> stopProcessors,
 		List<Subscription<?>> subscriptions,
 		ImmutableList<Consumer<ScheduledExecutorService>> onStart
 	) {
 		this.threadName = threadName;
 		this.startProcessors = startProcessors;
+		this.stopProcessors = stopProcessors;
 		this.subscriptions = subscriptions;
 		this.executorService = 	Executors.newSingleThreadScheduledExecutor(ThreadFactories.daemonThreads(threadName));
 		this.singleThreadScheduler = Schedulers.from(this.executorService);
@@ -95,6 +99,7 @@ public final class ModuleRunnerImpl implements ModuleRunner {
 
 	public static class Builder {
 		private HashSet<StartProcessor> startProcessors = new HashSet<>();
+		private HashSet<StopProcessor> stopProcessors = new HashSet<>();
 		private ImmutableList.Builder<Subscription<?>> subscriptionsBuilder = ImmutableList.builder();
 		private ImmutableList.Builder<Consumer<ScheduledExecutorService>> onStartBuilder = new ImmutableList.Builder<>();
 
@@ -103,6 +108,11 @@ public final class ModuleRunnerImpl implements ModuleRunner {
 			return this;
 		}
 
+		public Builder add(StopProcessor stopProcessor) {
+			stopProcessors.add(stopProcessor);
+			return this;
+		}
+
 		public <T> Builder add(Observable<T> o, EventProcessor<T> p) {
 			subscriptionsBuilder.add(new Subscription<>(o, p));
 			return this;
@@ -143,6 +153,7 @@ public final class ModuleRunnerImpl implements ModuleRunner {
 			return new ModuleRunnerImpl(
 				threadName,
 				Set.copyOf(startProcessors),
+				Set.copyOf(stopProcessors),
 				subscriptionsBuilder.build(),
 				onStartBuilder.build()
 			);
@@ -182,6 +193,7 @@ public final class ModuleRunnerImpl implements ModuleRunner {
 				compositeDisposable = null;
 
 				this.shutdownAndAwaitTermination();
+				this.stopProcessors.forEach(StopProcessor::stop);
 			}
 		}
 	}
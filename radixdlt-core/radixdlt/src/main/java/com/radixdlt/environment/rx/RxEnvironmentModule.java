@@ -37,6 +37,7 @@ import com.radixdlt.environment.RemoteEventProcessorOnRunner;
 import com.radixdlt.environment.Runners;
 import com.radixdlt.environment.ScheduledEventProducerOnRunner;
 import com.radixdlt.environment.StartProcessorOnRunner;
+import com.radixdlt.environment.StopProcessorOnRunner;
 import com.radixdlt.ledger.LedgerUpdate;
 import com.radixdlt.utils.ThreadFactories;
 
@@ -70,6 +71,7 @@ public final class RxEnvironmentModule extends AbstractModule {
 		Multibinder.newSetBinder(binder(), new TypeLiteral<EventProcessorOnRunner<?>>() { });
 		Multibinder.newSetBinder(binder(), new TypeLiteral<RemoteEventProcessorOnRunner<?>>() { });
 		Multibinder.newSetBinder(binder(), new TypeLiteral<ScheduledEventProducerOnRunner<?>>() { });
+		Multibinder.newSetBinder(binder(), StopProcessorOnRunner.class);
 	}
 
 	@Provides
@@ -97,7 +99,8 @@ public final class RxEnvironmentModule extends AbstractModule {
 		Set<RemoteEventProcessorOnRunner<?>> remoteProcessors,
 		RxRemoteEnvironment rxRemoteEnvironment,
 		Set<ScheduledEventProducerOnRunner<?>> scheduledEventProducers,
-		Set<StartProcessorOnRunner> startProcessors
+		Set<StartProcessorOnRunner> startProcessors,
+		Set<StopProcessorOnRunner> stopProcessors
 	) {
 		final var runnerName = Runners.CONSENSUS;
 		final var builder = ModuleRunnerImpl.builder();
@@ -105,6 +108,7 @@ public final class RxEnvironmentModule extends AbstractModule {
 		addRemoteProcessorsOnRunner(remoteProcessors, rxRemoteEnvironment, runnerName, builder);
 		addScheduledEventProducersOnRunner(scheduledEventProducers, runnerName, builder);
 		addStartProcessorsOnRunner(startProcessors, runnerName, builder);
+		addStopProcessorsOnRunner(stopProcessors, runnerName, builder);
 		return builder.build("BFT " + name);
 	}
 
@@ -291,6 +295,17 @@ public final class RxEnvironmentModule extends AbstractModule {
 			.forEach(builder::add);
 	}
 
+	private void addStopProcessorsOnRunner(
+		Set<StopProcessorOnRunner> allStopProcessors,
+		String runnerName,
+		ModuleRunnerImpl.Builder builder
+	) {
+		allStopProcessors.stream()
+			.filter(p -> p.getRunnerName().equals(runnerName))
+			.map(StopProcessorOnRunner::getProcessor)
+			.forEach(builder::add);
+	}
+
 	private void addRemoteProcessorsOnRunner(
 		Set<RemoteEventProcessorOnRunner<?>> allRemoteProcessors,
 		RxRemoteEnvironment rxRemoteEnvironment,
@@ -39,12 +39,16 @@ import com.radixdlt.environment.RemoteEventProcessor;
 import com.radixdlt.mempool.MempoolAdd;
 import com.radixdlt.utils.TimeSupplier;
 import com.radixdlt.store.LastProof;
+import com.radixdlt.utils.Pair;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * Synchronizes execution
@@ -92,6 +96,16 @@ public final class StateComputerLedger implements Ledger, NextTxnsGenerator {
 		List<Txn> getNextTxnsFromMempool(List<PreparedTxn> prepared);
 		StateComputerResult prepare(List<PreparedTxn> previous, VerifiedVertex vertex, long timestamp);
 		void commit(VerifiedTxnsAndProof verifiedTxnsAndProof, VerifiedVertexStoreState vertexStoreState);
+
+		/**
+		 * Commits consecutive batches, each along with the vertex store state it was committed
+		 * with or null if it was synced. Only the last batch may change the epoch.
+		 *
+		 * @param batches the batches to commit, in ledger order
+		 */
+		default void commitGroup(List<Pair<VerifiedTxnsAndProof, VerifiedVertexStoreState>> batches) {
+			batches.forEach(batch -> commit(batch.getFirst(), batch.getSecond()));
+		}
 	}
 
 	private final Comparator<LedgerProof> headerComparator;
@@ -100,6 +114,7 @@ public final class StateComputerLedger implements Ledger, NextTxnsGenerator {
 	private final LedgerAccumulator accumulator;
 	private final LedgerAccumulatorVerifier verifier;
 	private final Object lock = new Object();
+	private final Queue<Pair<VerifiedTxnsAndProof, VerifiedVertexStoreState>> pendingCommits = new ConcurrentLinkedQueue<>();
 	private final TimeSupplier timeSupplier;
 
 	private LedgerProof currentLedgerHeader;
@@ -240,38 +255,76 @@ public final class StateComputerLedger implements Ledger, NextTxnsGenerator {
 	}
 
 	private void commit(VerifiedTxnsAndProof verifiedTxnsAndProof, VerifiedVertexStoreState vertexStoreState) {
+		pendingCommits.add(Pair.of(verifiedTxnsAndProof, vertexStoreState));
 		synchronized (lock) {
+			// Batches queued up while another commit held the lock are committed together.
+			// The batch of this call may already have been committed by another thread.
+			while (!pendingCommits.isEmpty()) {
+				commitPending();
+			}
+		}
+	}
+
+	private void commitPending() {
+		var group = new ArrayList<Pair<VerifiedTxnsAndProof, VerifiedVertexStoreState>>();
+		var header = this.currentLedgerHeader;
+		Pair<VerifiedTxnsAndProof, VerifiedVertexStoreState> pending;
+		// Only the thread holding the lock takes batches off the queue
+		while ((pending = pendingCommits.peek()) != null) {
+			var verifiedTxnsAndProof = pending.getFirst();
 			final LedgerProof nextHeader = verifiedTxnsAndProof.getProof();
-			if (headerComparator.compare(nextHeader, this.currentLedgerHeader) <= 0) {
-				return;
+			if (headerComparator.compare(nextHeader, header) <= 0) {
+				pendingCommits.poll();
+				continue;
 			}
 
 			var verifiedExtension = verifier.verifyAndGetExtension(
-				this.currentLedgerHeader.getAccumulatorState(),
+				header.getAccumulatorState(),
 				verifiedTxnsAndProof.getTxns(),
 				txn -> txn.getId().asHashCode(),
-				verifiedTxnsAndProof.getProof().getAccumulatorState()
+				nextHeader.getAccumulatorState()
 			);
 
 			if (verifiedExtension.isEmpty()) {
-				throw new ByzantineQuorumException("Accumulator failure " + currentLedgerHeader + " " + verifiedTxnsAndProof);
+				if (!group.isEmpty()) {
+					// Commit the batches before the bad one
+					break;
+				}
+				pendingCommits.poll();
+				throw new ByzantineQuorumException("Accumulator failure " + header + " " + verifiedTxnsAndProof);
 			}
+			pendingCommits.poll();
 
 			var txns = verifiedExtension.get();
-			if (vertexStoreState == null) {
+			if (pending.getSecond() == null) {
 				this.counters.add(CounterType.LEDGER_SYNC_COMMANDS_PROCESSED, txns.size());
 			} else {
 				this.counters.add(CounterType.LEDGER_BFT_COMMANDS_PROCESSED, txns.size());
 			}
 
-			var txnsAndProof = VerifiedTxnsAndProof.create(txns, verifiedTxnsAndProof.getProof());
+			group.add(Pair.of(VerifiedTxnsAndProof.create(txns, nextHeader), pending.getSecond()));
+			header = nextHeader;
 
-			// persist
-			this.stateComputer.commit(txnsAndProof, vertexStoreState);
+			// The state computer changes its rules on epoch change, so batches of the next epoch go in the next group
+			if (nextHeader.isEndOfEpoch()) {
+				break;
+			}
+		}
+
+		if (group.isEmpty()) {
+			return;
+		}
 
-			// TODO: move all of the following to post-persist event handling
-			this.currentLedgerHeader = nextHeader;
-			this.counters.set(CounterType.LEDGER_STATE_VERSION, this.currentLedgerHeader.getStateVersion());
+		// persist
+		if (group.size() == 1) {
+			this.stateComputer.commit(group.get(0).getFirst(), group.get(0).getSecond());
+		} else {
+			this.stateComputer.commitGroup(group);
+			this.counters.add(CounterType.LEDGER_GROUPED_BATCHES, group.size());
 		}
+
+		// TODO: move all of the following to post-persist event handling
+		this.currentLedgerHeader = header;
+		this.counters.set(CounterType.LEDGER_STATE_VERSION, this.currentLedgerHeader.getStateVersion());
 	}
 }
@@ -97,11 +97,10 @@ public final class MempoolRelayer {
 			.collect(Collectors.toList());
 		peers.removeAll(ignorePeers);
 		Collections.shuffle(peers);
-		peers.stream()
+		final var receivers = peers.stream()
 			.limit(maxPeers)
-			.forEach(peer -> {
-				counters.add(CounterType.MEMPOOL_RELAYER_SENT_COUNT, txns.size());
-				this.remoteEventDispatcher.dispatch(peer, mempoolAddMsg);
-			});
+			.collect(Collectors.toList());
+		counters.add(CounterType.MEMPOOL_RELAYER_SENT_COUNT, (long) txns.size() * receivers.size());
+		this.remoteEventDispatcher.dispatch(receivers, mempoolAddMsg);
 	}
 }
@@ -30,6 +30,9 @@ import com.radixdlt.network.messaging.MessageFromPeer;
 import com.radixdlt.network.p2p.NodeId;
 
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 import io.reactivex.rxjava3.core.BackpressureStrategy;
 import io.reactivex.rxjava3.core.Flowable;
@@ -75,24 +78,35 @@ public final class MessageCentralBFTNetwork {
 	}
 
 	public RemoteEventDispatcher<Proposal> proposalDispatcher() {
-		return this::sendProposal;
-	}
-
-	private void sendProposal(BFTNode receiver, Proposal proposal) {
-		ConsensusEventMessage message = new ConsensusEventMessage(proposal);
-		send(message, receiver);
+		return consensusEventDispatcher(ConsensusEventMessage::new);
 	}
 
 	public RemoteEventDispatcher<Vote> voteDispatcher() {
-		return this::sendVote;
+		return consensusEventDispatcher(ConsensusEventMessage::new);
 	}
 
-	private void sendVote(BFTNode receiver, Vote vote) {
-		ConsensusEventMessage message = new ConsensusEventMessage(vote);
-		send(message, receiver);
+	private <T> RemoteEventDispatcher<T> consensusEventDispatcher(Function<T, ConsensusEventMessage> toMessage) {
+		return new RemoteEventDispatcher<>() {
+			@Override
+			public void dispatch(BFTNode receiver, T event) {
+				send(toMessage.apply(event), receiver);
+			}
+
+			@Override
+			public void dispatch(Iterable<BFTNode> receivers, T event) {
+				broadcast(toMessage.apply(event), receivers);
+			}
+		};
 	}
 
 	private void send(Message message, BFTNode recipient) {
 		this.messageCentral.send(NodeId.fromPublicKey(recipient.getKey()), message);
 	}
+
+	private void broadcast(Message message, Iterable<BFTNode> recipients) {
+		final var nodeIds = StreamSupport.stream(recipients.spliterator(), false)
+			.map(recipient -> NodeId.fromPublicKey(recipient.getKey()))
+			.collect(Collectors.toList());
+		this.messageCentral.broadcast(nodeIds, message);
+	}
 }
@@ -27,6 +27,8 @@ import com.radixdlt.network.messaging.MessageCentral;
 import com.radixdlt.network.p2p.NodeId;
 
 import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 import io.reactivex.rxjava3.core.BackpressureStrategy;
 import io.reactivex.rxjava3.core.Flowable;
@@ -44,9 +46,16 @@ public final class MessageCentralMempool {
 	}
 
 	public RemoteEventDispatcher<MempoolAdd> mempoolAddRemoteEventDispatcher() {
-		return (receiver, msg) -> {
-			MempoolAddMessage message = new MempoolAddMessage(msg.getTxns());
-			this.send(message, receiver);
+		return new RemoteEventDispatcher<>() {
+			@Override
+			public void dispatch(BFTNode receiver, MempoolAdd msg) {
+				send(new MempoolAddMessage(msg.getTxns()), receiver);
+			}
+
+			@Override
+			public void dispatch(Iterable<BFTNode> receivers, MempoolAdd msg) {
+				broadcast(new MempoolAddMessage(msg.getTxns()), receivers);
+			}
 		};
 	}
 
@@ -54,6 +63,13 @@ public final class MessageCentralMempool {
 		this.messageCentral.send(NodeId.fromPublicKey(recipient.getKey()), message);
 	}
 
+	private void broadcast(Message message, Iterable<BFTNode> recipients) {
+		final var nodeIds = StreamSupport.stream(recipients.spliterator(), false)
+			.map(recipient -> NodeId.fromPublicKey(recipient.getKey()))
+			.collect(Collectors.toList());
+		this.messageCentral.broadcast(nodeIds, message);
+	}
+
 	public Flowable<RemoteEvent<MempoolAdd>> mempoolComands() {
 		return messageCentral
 			.messagesOf(MempoolAddMessage.class)
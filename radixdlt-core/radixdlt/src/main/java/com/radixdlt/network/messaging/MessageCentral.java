@@ -18,6 +18,7 @@
 package com.radixdlt.network.messaging;
 
 import java.io.IOException;
+import java.util.Collection;
 
 import com.radixdlt.network.p2p.NodeId;
 import io.reactivex.rxjava3.core.Observable;
@@ -38,6 +39,16 @@ public interface MessageCentral {
 	 */
 	void send(NodeId receiver, Message message);
 
+	/**
+	 * Sends the same message to a number of nodes.
+	 * The message is serialized and compressed once, and the resulting bytes are
+	 * re-used for every receiver.
+	 *
+	 * @param receivers The nodes to send the message to
+	 * @param message The message to send
+	 */
+	void broadcast(Collection<NodeId> receivers, Message message);
+
 	/**
 	 * Returns a Flowable of inbound peer messages of specified type.
 	 * @param messageType the message type
@@ -42,6 +42,15 @@ public interface MessageCentralConfiguration {
 	 */
 	int messagingOutboundQueueMax(int defaultValue);
 
+	/**
+	 * Retrieves the maximum queue depth for outbound messages to a single peer
+	 * before further outgoing messages to that peer will be dropped.
+	 *
+	 * @param defaultValue a default value if no special configuration value is set
+	 * @return The maximum per-peer queue depth
+	 */
+	int messagingOutboundPeerQueueMax(int defaultValue);
+
 	/**
 	 * Retrieves the maximum time-to-live for inbound and outbound messages in milliseconds.
 	 * If messages are not processed and dispatched within this time, they will be
@@ -70,6 +79,11 @@ public interface MessageCentralConfiguration {
 				return properties.get("messaging.outbound.queue_max", defaultValue);
 			}
 
+			@Override
+			public int messagingOutboundPeerQueueMax(int defaultValue) {
+				return properties.get("messaging.outbound.peer_queue_max", defaultValue);
+			}
+
 			@Override
 			public long messagingTimeToLive(long defaultValue) {
 				return properties.get("messaging.time_to_live", defaultValue);
@@ -17,8 +17,15 @@
 
 package com.radixdlt.network.messaging;
 
+import java.util.Collection;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.google.inject.Provider;
 import com.radixdlt.network.p2p.NodeId;
@@ -29,17 +36,18 @@ import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.radix.network.messaging.Message;
-import org.radix.utils.SimpleThreadPool;
 
 import com.google.common.util.concurrent.RateLimiter;
 import com.google.inject.Inject;
 import com.radixdlt.counters.SystemCounters;
 import com.radixdlt.counters.SystemCounters.CounterType;
+import com.radixdlt.utils.ThreadFactories;
 import com.radixdlt.utils.TimeSupplier;
 import com.radixdlt.serialization.Serialization;
 
 final class MessageCentralImpl implements MessageCentral {
 	private static final Logger log = LogManager.getLogger();
+	private static final int OUTBOUND_DRAIN_BATCH_SIZE = 64;
 
 	// Dependencies
 	private final SystemCounters counters;
@@ -53,12 +61,17 @@ final class MessageCentralImpl implements MessageCentral {
 
 	private final RateLimiter outboundLogRateLimiter = RateLimiter.create(1.0);
 	private final RateLimiter discardedInboundMessagesLogRateLimiter = RateLimiter.create(1.0);
+	private final RateLimiter peerPendingSampleRateLimiter = RateLimiter.create(1.0);
 
 	private final Observable<MessageFromPeer<Message>> peerMessages;
 
 	// Outbound message handling
-	private final SimpleBlockingQueue<OutboundMessageEvent> outboundQueue;
-	private final SimpleThreadPool<OutboundMessageEvent> outboundThreadPool;
+	private final EventQueueFactory<OutboundMessageEvent> outboundEventQueueFactory;
+	private final int outboundQueueMax;
+	private final int outboundPeerQueueMax;
+	private final ConcurrentMap<NodeId, PeerOutboundQueue> outboundQueues = new ConcurrentHashMap<>();
+	private final AtomicInteger outboundPending = new AtomicInteger();
+	private final ExecutorService outboundExecutor;
 
 	@Inject
 	MessageCentralImpl(
@@ -71,10 +84,9 @@ final class MessageCentralImpl implements MessageCentral {
 		Provider<PeerControl> peerControl
 	) {
 		this.counters = Objects.requireNonNull(counters);
-		this.outboundQueue = outboundEventQueueFactory.createEventQueue(
-			config.messagingOutboundQueueMax(16384),
-			OutboundMessageEvent.comparator()
-		);
+		this.outboundEventQueueFactory = Objects.requireNonNull(outboundEventQueueFactory);
+		this.outboundQueueMax = config.messagingOutboundQueueMax(16384);
+		this.outboundPeerQueueMax = config.messagingOutboundPeerQueueMax(1024);
 
 		Objects.requireNonNull(timeSource);
 		Objects.requireNonNull(serialization);
@@ -95,15 +107,12 @@ final class MessageCentralImpl implements MessageCentral {
 			peerControl
 		);
 
-		// Start outbound processing thread
-		this.outboundThreadPool = new SimpleThreadPool<>(
-			"Outbound message processing",
-			1, // Ensure messages sent in-order
-			outboundQueue::take,
-			this::outboundMessageProcessor,
-			log
+		// Each peer's queue is drained by at most one of these threads at a time, so messages
+		// to a peer are sent in-order while a slow peer only holds up its own queue
+		this.outboundExecutor = Executors.newFixedThreadPool(
+			Math.max(2, Runtime.getRuntime().availableProcessors()),
+			ThreadFactories.daemonThreads("MessageCentralOutbound-%d")
 		);
-		this.outboundThreadPool.start();
 
 		this.peerMessages = peerManager.messages()
 			.map(this::processInboundMessage)
@@ -146,19 +155,125 @@ final class MessageCentralImpl implements MessageCentral {
 
 	@Override
 	public void close() {
-		this.outboundThreadPool.stop();
+		this.outboundExecutor.shutdownNow();
 	}
 
 	@Override
 	public void send(NodeId receiver, Message message) {
-		final var event = new OutboundMessageEvent(receiver, message, System.nanoTime() - timeBase);
-		if (!outboundQueue.offer(event) && outboundLogRateLimiter.tryAcquire()) {
-			log.error("Outbound message to {} dropped", receiver);
+		offer(new OutboundMessageEvent(receiver, message, System.nanoTime() - timeBase));
+	}
+
+	@Override
+	public void broadcast(Collection<NodeId> receivers, Message message) {
+		final var payload = new OutboundMessageEvent.Payload();
+		final var nanoTimeDiff = System.nanoTime() - timeBase;
+		receivers.forEach(receiver -> offer(new OutboundMessageEvent(receiver, message, nanoTimeDiff, payload)));
+	}
+
+	private void offer(OutboundMessageEvent event) {
+		while (true) {
+			final var peerQueue = outboundQueues.computeIfAbsent(event.receiver(), PeerOutboundQueue::new);
+			synchronized (peerQueue) {
+				if (peerQueue.closed) {
+					// Raced with the queue being drained and removed, retry with a fresh one
+					continue;
+				}
+				if (peerQueue.queue.size() >= outboundPeerQueueMax || outboundPending.get() >= outboundQueueMax) {
+					this.counters.increment(CounterType.MESSAGES_OUTBOUND_DROPPED);
+					if (outboundLogRateLimiter.tryAcquire()) {
+						log.error("Outbound message to {} dropped", event.receiver());
+					}
+					return;
+				}
+				peerQueue.queue.offer(event);
+				this.counters.set(CounterType.MESSAGES_OUTBOUND_PENDING, outboundPending.incrementAndGet());
+				if (!peerQueue.draining) {
+					peerQueue.draining = true;
+					scheduleDrain(peerQueue);
+				}
+				return;
+			}
+		}
+	}
+
+	private void drain(PeerOutboundQueue peerQueue) {
+		if (peerPendingSampleRateLimiter.tryAcquire()) {
+			this.counters.set(CounterType.MESSAGES_OUTBOUND_PEER_PENDING_MAX, maxPeerPending());
+		}
+		for (int i = 0; i < OUTBOUND_DRAIN_BATCH_SIZE; i++) {
+			final OutboundMessageEvent outbound;
+			synchronized (peerQueue) {
+				outbound = peerQueue.queue.poll();
+			}
+			if (outbound == null) {
+				break;
+			}
+			this.counters.set(CounterType.MESSAGES_OUTBOUND_PENDING, outboundPending.decrementAndGet());
+			outboundMessageProcessor(outbound);
+		}
+
+		synchronized (peerQueue) {
+			if (peerQueue.queue.size() > 0) {
+				// Yield to other peers' queues before continuing with this one
+				scheduleDrain(peerQueue);
+			} else {
+				closeQueue(peerQueue);
+			}
 		}
 	}
 
+	// Called while holding the monitor of peerQueue
+	private void scheduleDrain(PeerOutboundQueue peerQueue) {
+		try {
+			outboundExecutor.execute(() -> drain(peerQueue));
+		} catch (RejectedExecutionException e) {
+			// Closed, nothing will drain the queue anymore
+			var dropped = 0;
+			while (peerQueue.queue.poll() != null) {
+				dropped++;
+			}
+			this.counters.add(CounterType.MESSAGES_OUTBOUND_DROPPED, dropped);
+			this.counters.set(CounterType.MESSAGES_OUTBOUND_PENDING, outboundPending.addAndGet(-dropped));
+			log.debug("Outbound messages to {} dropped after close: {}", peerQueue.receiver, dropped);
+			closeQueue(peerQueue);
+		}
+	}
+
+	// Called while holding the monitor of peerQueue
+	private void closeQueue(PeerOutboundQueue peerQueue) {
+		peerQueue.draining = false;
+		peerQueue.closed = true;
+		outboundQueues.remove(peerQueue.receiver, peerQueue);
+	}
+
+	private long maxPeerPending() {
+		return outboundQueues.values().stream()
+			.mapToInt(peerQueue -> peerQueue.queue.size())
+			.max()
+			.orElse(0);
+	}
+
 	private void outboundMessageProcessor(OutboundMessageEvent outbound) {
-		this.counters.set(CounterType.MESSAGES_OUTBOUND_PENDING, outboundQueue.size());
-		messageDispatcher.send(outbound);
+		try {
+			messageDispatcher.send(outbound);
+		} catch (Exception ex) {
+			final var msg = String.format("Message dispatch to %s failed", outbound.receiver());
+			log.error(msg, ex);
+		}
+	}
+
+	/**
+	 * Pending outbound messages for a single peer. Only modified while holding its monitor.
+	 */
+	private final class PeerOutboundQueue {
+		private final NodeId receiver;
+		private final SimpleBlockingQueue<OutboundMessageEvent> queue;
+		private boolean draining;
+		private boolean closed;
+
+		PeerOutboundQueue(NodeId receiver) {
+			this.receiver = receiver;
+			this.queue = outboundEventQueueFactory.createEventQueue(outboundPeerQueueMax, OutboundMessageEvent.comparator());
+		}
 	}
 }
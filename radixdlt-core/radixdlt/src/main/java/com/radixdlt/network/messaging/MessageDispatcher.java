@@ -79,7 +79,7 @@ class MessageDispatcher {
 			return CompletableFuture.completedFuture(MESSAGE_EXPIRED.result());
 		}
 
-		final var bytes = serialize(message);
+		final var bytes = outboundMessage.payload(this::serialize);
 
 		return peerManager.findOrCreateChannel(outboundMessage.receiver())
 			.thenApply(channel -> send(channel, bytes))
@@ -20,6 +20,7 @@ package com.radixdlt.network.messaging;
 import java.util.Comparator;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
 
 import com.radixdlt.network.p2p.NodeId;
 import org.radix.network.messages.PeerPingMessage;
@@ -53,12 +54,18 @@ public final class OutboundMessageEvent {
 	private final long nanoTimeDiff;
 	private final NodeId receiver;
 	private final Message message;
+	private final Payload payload;
 
 	OutboundMessageEvent(NodeId receiver, Message message, long nanoTimeDiff) {
+		this(receiver, message, nanoTimeDiff, new Payload());
+	}
+
+	OutboundMessageEvent(NodeId receiver, Message message, long nanoTimeDiff, Payload payload) {
 		this.priority = MESSAGE_PRIORITIES.getOrDefault(message.getClass(), DEFAULT_PRIORITY);
 		this.nanoTimeDiff = nanoTimeDiff;
 		this.receiver = receiver;
 		this.message = message;
+		this.payload = Objects.requireNonNull(payload);
 	}
 
 	/**
@@ -98,6 +105,32 @@ public final class OutboundMessageEvent {
 		return message;
 	}
 
+	/**
+	 * Returns the serialized form of the message, computing it with the
+	 * specified serializer if no event sharing this payload has done so yet.
+	 *
+	 * @param serializer function to serialize the message with
+	 * @return the serialized message
+	 */
+	byte[] payload(Function<Message, byte[]> serializer) {
+		return payload.get(message, serializer);
+	}
+
+	/**
+	 * Serialized form of a message, shared between the events of a broadcast
+	 * so that the message is only serialized and compressed once.
+	 */
+	static final class Payload {
+		private byte[] bytes;
+
+		synchronized byte[] get(Message message, Function<Message, byte[]> serializer) {
+			if (bytes == null) {
+				bytes = serializer.apply(message);
+			}
+			return bytes;
+		}
+	}
+
 	@Override
 	public int hashCode() {
 		return Objects.hash(this.priority, this.nanoTimeDiff, this.receiver, this.message);
@@ -32,6 +32,14 @@ interface SimpleBlockingQueue<T> {
      */
 	T take() throws InterruptedException;
 
+    /**
+     * Retrieves and removes the head of this queue,
+     * or returns {@code null} if this queue is empty.
+     *
+     * @return the head of this queue, or {@code null} if this queue is empty
+     */
+	T poll();
+
     /**
      * Inserts the specified element into this queue if it is possible to do
      * so immediately without violating capacity restrictions, returning
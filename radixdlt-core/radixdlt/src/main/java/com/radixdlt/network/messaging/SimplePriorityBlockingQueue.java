@@ -70,6 +70,12 @@ class SimplePriorityBlockingQueue<T> implements SimpleBlockingQueue<T> {
 		return this.queue.take().getEntry();
 	}
 
+	@Override
+	public T poll() {
+		final var head = this.queue.poll();
+		return head == null ? null : head.getEntry();
+	}
+
 	@Override
 	public boolean offer(T item) {
 		return this.queue.offer(new SimpleEntry<>(Objects.requireNonNull(item)));
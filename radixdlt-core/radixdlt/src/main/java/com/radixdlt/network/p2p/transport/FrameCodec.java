@@ -18,6 +18,8 @@
 package com.radixdlt.network.p2p.transport;
 
 import com.radixdlt.network.p2p.transport.handshake.Secrets;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 import org.bouncycastle.crypto.StreamCipher;
 import org.bouncycastle.crypto.digests.KeccakDigest;
 import org.bouncycastle.crypto.engines.AESEngine;
@@ -25,27 +27,30 @@ import org.bouncycastle.crypto.modes.SICBlockCipher;
 import org.bouncycastle.crypto.params.KeyParameter;
 import org.bouncycastle.crypto.params.ParametersWithIV;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.OutputStream;
 import java.util.Optional;
 
 /**
  * Low-level codec for encrypted communication.
+ * <p>
+ * Frames are encrypted directly into a single pooled buffer, and decrypted from the
+ * received buffer straight into the resulting payload array, so each frame is copied once
+ * in either direction. Not thread-safe, callers are expected to synchronize access.
  */
 public final class FrameCodec {
 	private static final int HEADER_SIZE = 32;
 	private static final int MAC_SIZE = 16;
+	private static final int BLOCK_SIZE = 16;
+	private static final int CHUNK_SIZE = 8192;
 
 	private final StreamCipher enc;
 	private final StreamCipher dec;
 	private final KeccakDigest egressMac;
 	private final KeccakDigest ingressMac;
-	private final byte[] mac;
+	private final AESEngine macCipher;
+	private final byte[] egressChunk = new byte[CHUNK_SIZE];
 
 	public FrameCodec(Secrets secrets) {
-		this.mac = secrets.getMac();
-
 		final var encCipher = new AESEngine();
 		enc = new SICBlockCipher(encCipher);
 		enc.init(true, new ParametersWithIV(new KeyParameter(secrets.getAes()), new byte[encCipher.getBlockSize()]));
@@ -54,77 +59,103 @@ public final class FrameCodec {
 		dec = new SICBlockCipher(decCipher);
 		dec.init(false, new ParametersWithIV(new KeyParameter(secrets.getAes()), new byte[decCipher.getBlockSize()]));
 
+		// The MAC key never changes, so the key schedule only needs computing once
+		macCipher = new AESEngine();
+		macCipher.init(true, new KeyParameter(secrets.getMac()));
+
 		egressMac = secrets.getEgressMac();
 		ingressMac = secrets.getIngressMac();
 	}
 
-	public void writeFrame(byte[] frame, OutputStream out) throws IOException {
-		final var headBuffer = new byte[32];
-		headBuffer[0] = (byte) (frame.length >> 16);
-		headBuffer[1] = (byte) (frame.length >> 8);
-		headBuffer[2] = (byte) (frame.length);
-
-		enc.processBytes(headBuffer, 0, 16, headBuffer, 0);
-		updateMac(egressMac, headBuffer, headBuffer, 16, true);
-
-		final var buff = new byte[256];
-		out.write(headBuffer);
-		final var payloadStream = new ByteArrayInputStream(frame);
-		while (true) {
-			final var n = payloadStream.read(buff);
-			if (n <= 0) {
-				break;
+	/**
+	 * Encrypts the specified frame into a newly allocated buffer, ready to be written to the channel.
+	 * The frame array itself is left unmodified, so it may be shared between channels.
+	 *
+	 * @param frame the frame to encrypt
+	 * @param alloc the allocator to allocate the resulting buffer from
+	 * @return the encrypted frame, owned by the caller
+	 */
+	public ByteBuf writeFrame(byte[] frame, ByteBufAllocator alloc) throws IOException {
+		final var paddingSize = paddingSize(frame.length);
+		final var out = alloc.directBuffer(HEADER_SIZE + frame.length + paddingSize + MAC_SIZE);
+		try {
+			final var headBuffer = new byte[HEADER_SIZE];
+			headBuffer[0] = (byte) (frame.length >> 16);
+			headBuffer[1] = (byte) (frame.length >> 8);
+			headBuffer[2] = (byte) (frame.length);
+
+			enc.processBytes(headBuffer, 0, 16, headBuffer, 0);
+			updateMac(egressMac, headBuffer, headBuffer, 16, true);
+			out.writeBytes(headBuffer);
+
+			for (int offset = 0; offset < frame.length; offset += CHUNK_SIZE) {
+				final var n = Math.min(CHUNK_SIZE, frame.length - offset);
+				enc.processBytes(frame, offset, n, egressChunk, 0);
+				egressMac.update(egressChunk, 0, n);
+				out.writeBytes(egressChunk, 0, n);
+			}
+			if (paddingSize > 0) {
+				final var padding = new byte[BLOCK_SIZE];
+				enc.processBytes(padding, 0, paddingSize, padding, 0);
+				egressMac.update(padding, 0, paddingSize);
+				out.writeBytes(padding, 0, paddingSize);
 			}
-			enc.processBytes(buff, 0, n, buff, 0);
-			egressMac.update(buff, 0, n);
-			out.write(buff, 0, n);
-		}
-		final var paddingSize = 16 - (frame.length % 16);
-		final var padding = new byte[16];
-		if (paddingSize < 16) {
-			enc.processBytes(padding, 0, paddingSize, buff, 0);
-			egressMac.update(buff, 0, paddingSize);
-			out.write(buff, 0, paddingSize);
-		}
 
-		final var macBuffer = new byte[egressMac.getDigestSize()];
-		doSum(egressMac, macBuffer);
-		updateMac(egressMac, macBuffer, macBuffer, 0, true);
-		out.write(macBuffer, 0, 16);
+			final var macBuffer = new byte[egressMac.getDigestSize()];
+			doSum(egressMac, macBuffer);
+			updateMac(egressMac, macBuffer, macBuffer, 0, true);
+			out.writeBytes(macBuffer, 0, MAC_SIZE);
+			return out;
+		} catch (RuntimeException | IOException e) {
+			out.release();
+			throw e;
+		}
 	}
 
-	public Optional<byte[]> tryReadSingleFrame(byte[] input) throws IOException {
-		if (input.length < HEADER_SIZE) {
+	/**
+	 * Decrypts a single frame from the specified buffer, which must contain the whole frame.
+	 * The buffer's reader index is not modified.
+	 *
+	 * @param input the received frame
+	 * @return the decrypted payload, or empty if the buffer holds less than a complete frame
+	 * @throws IOException if the frame fails MAC verification
+	 */
+	public Optional<byte[]> tryReadSingleFrame(ByteBuf input) throws IOException {
+		if (input.readableBytes() < HEADER_SIZE) {
 			return Optional.empty();
 		}
 
-		final var totalBodySize = readHeader(input);
+		final var start = input.readerIndex();
+		final var totalBodySize = readHeader(input, start);
+		final var paddingSize = paddingSize(totalBodySize);
 
-		if (input.length < HEADER_SIZE + totalBodySize) {
+		if (input.readableBytes() < HEADER_SIZE + totalBodySize + paddingSize + MAC_SIZE) {
 			return Optional.empty();
 		}
 
-		final var paddingSize = totalBodySize % 16 == 0 ? 0 : 16 - (totalBodySize % 16);
-		final var payloadBuffer = new byte[totalBodySize + paddingSize + MAC_SIZE];
-		System.arraycopy(input, HEADER_SIZE, payloadBuffer, 0, payloadBuffer.length);
-
-		final var frameSize = payloadBuffer.length - MAC_SIZE;
-		ingressMac.update(payloadBuffer, 0, frameSize);
-		dec.processBytes(payloadBuffer, 0, frameSize, payloadBuffer, 0);
+		// The payload array is the only copy of the frame body made, decrypted in place
+		final var bodyBuffer = new byte[totalBodySize];
+		input.getBytes(start + HEADER_SIZE, bodyBuffer);
+		ingressMac.update(bodyBuffer, 0, totalBodySize);
+		dec.processBytes(bodyBuffer, 0, totalBodySize, bodyBuffer, 0);
+
+		final var trailer = new byte[BLOCK_SIZE + MAC_SIZE];
+		input.getBytes(start + HEADER_SIZE + totalBodySize, trailer, 0, paddingSize + MAC_SIZE);
+		if (paddingSize > 0) {
+			ingressMac.update(trailer, 0, paddingSize);
+			dec.processBytes(trailer, 0, paddingSize, trailer, 0);
+		}
 
 		final var macBuffer = new byte[ingressMac.getDigestSize()];
 		doSum(ingressMac, macBuffer);
-		updateMac(ingressMac, macBuffer, payloadBuffer, frameSize, false);
-
-		final var bodyBuffer = new byte[totalBodySize];
-		System.arraycopy(payloadBuffer, 0, bodyBuffer, 0, totalBodySize);
+		updateMac(ingressMac, macBuffer, trailer, paddingSize, false);
 
 		return Optional.of(bodyBuffer);
 	}
 
-	private int readHeader(byte[] input) throws IOException {
-		final var headBuffer = new byte[32];
-		System.arraycopy(input, 0, headBuffer, 0, 32);
+	private int readHeader(ByteBuf input, int start) throws IOException {
+		final var headBuffer = new byte[HEADER_SIZE];
+		input.getBytes(start, headBuffer);
 
 		updateMac(ingressMac, headBuffer, headBuffer, 16, false);
 		dec.processBytes(headBuffer, 0, 16, headBuffer, 0);
@@ -136,10 +167,14 @@ public final class FrameCodec {
 		return totalBodySize;
 	}
 
+	private static int paddingSize(int size) {
+		return size % BLOCK_SIZE == 0 ? 0 : BLOCK_SIZE - (size % BLOCK_SIZE);
+	}
+
 	private void updateMac(KeccakDigest mac, byte[] seed, byte[] out, int outOffset, boolean egress) throws IOException {
 		final var aesBlock = new byte[mac.getDigestSize()];
 		doSum(mac, aesBlock);
-		makeMacCipher().processBlock(aesBlock, 0, aesBlock, 0);
+		macCipher.processBlock(aesBlock, 0, aesBlock, 0);
 		for (int i = 0; i < MAC_SIZE; i++) {
 			aesBlock[i] ^= seed[i];
 		}
@@ -158,12 +193,6 @@ public final class FrameCodec {
 		}
 	}
 
-	private AESEngine makeMacCipher() {
-		final var aesEngine = new AESEngine();
-		aesEngine.init(true, new KeyParameter(mac));
-		return aesEngine;
-	}
-
 	private void doSum(KeccakDigest mac, byte[] out) {
 		new KeccakDigest(mac).doFinal(out, 0);
 	}
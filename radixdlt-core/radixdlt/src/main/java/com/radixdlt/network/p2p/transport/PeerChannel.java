@@ -38,6 +38,8 @@ import com.radixdlt.networks.Addressing;
 import com.radixdlt.serialization.Serialization;
 import com.radixdlt.utils.RateCalculator;
 import com.radixdlt.utils.functional.Result;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
@@ -50,7 +52,6 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.bouncycastle.crypto.InvalidCipherTextException;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.security.SecureRandom;
@@ -66,7 +67,7 @@ import static com.radixdlt.network.messaging.MessagingErrors.IO_ERROR;
  * creating the frame and message codec
  * and forwarding the messages to MessageCentral.
  */
-public final class PeerChannel extends SimpleChannelInboundHandler<byte[]> {
+public final class PeerChannel extends SimpleChannelInboundHandler<ByteBuf> {
 	private static final Logger log = LogManager.getLogger();
 
 	enum ChannelState {
@@ -172,7 +173,7 @@ public final class PeerChannel extends SimpleChannelInboundHandler<byte[]> {
 		}
 	}
 
-	private void handleMessage(byte[] buf) throws IOException {
+	private void handleMessage(ByteBuf buf) throws IOException {
 		synchronized (this.lock) {
 			final var maybeFrame = this.frameCodec.tryReadSingleFrame(buf);
 			maybeFrame.ifPresentOrElse(
@@ -194,12 +195,12 @@ public final class PeerChannel extends SimpleChannelInboundHandler<byte[]> {
 	}
 
 	@Override
-	public void channelRead0(ChannelHandlerContext ctx, byte[] buf) throws Exception {
+	public void channelRead0(ChannelHandlerContext ctx, ByteBuf buf) throws Exception {
 		switch (this.state) {
 			case INACTIVE:
 				throw new RuntimeException("Unexpected read on inactive channel");
 			case AUTH_HANDSHAKE:
-				this.handleHandshakeData(buf);
+				this.handleHandshakeData(ByteBufUtil.getBytes(buf));
 				break;
 			case ACTIVE:
 				this.handleMessage(buf);
@@ -242,7 +243,7 @@ public final class PeerChannel extends SimpleChannelInboundHandler<byte[]> {
 		ctx.close();
 	}
 
-	private void write(byte[] data) {
+	private void write(Object data) {
 		this.nettyChannel.writeAndFlush(data);
 	}
 
@@ -252,9 +253,7 @@ public final class PeerChannel extends SimpleChannelInboundHandler<byte[]> {
 				return IO_ERROR.result();
 			} else {
 				try {
-					final var baos = new ByteArrayOutputStream();
-					this.frameCodec.writeFrame(data, baos);
-					this.write(baos.toByteArray());
+					this.write(this.frameCodec.writeFrame(data, this.nettyChannel.alloc()));
 					this.outMessagesStats.tick();
 					return Result.ok(new Object());
 				} catch (IOException e) {
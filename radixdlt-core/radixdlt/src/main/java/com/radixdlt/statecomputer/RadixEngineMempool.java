@@ -17,6 +17,7 @@
 
 package com.radixdlt.statecomputer;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Sets;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
@@ -35,28 +36,36 @@ import com.radixdlt.mempool.MempoolDuplicateException;
 import com.radixdlt.mempool.MempoolFullException;
 import com.radixdlt.mempool.MempoolRejectedException;
 import com.radixdlt.utils.Pair;
+import com.radixdlt.utils.UInt256;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
  * A mempool which uses internal radix engine to be more efficient.
+ * Transactions are kept ordered by fee paid per byte so that proposals
+ * are made up of the highest paying conflict free transactions.
  */
 @Singleton
 public final class RadixEngineMempool implements Mempool<REProcessedTxn> {
 	private static final Logger logger = LogManager.getLogger();
+	private static final Comparator<Pair<UInt256, AID>> HIGHEST_FEE_FIRST =
+		Comparator.<Pair<UInt256, AID>, UInt256>comparing(Pair::getFirst).reversed()
+			.thenComparing(Pair::getSecond);
 
 	private final ConcurrentHashMap<AID, Pair<REProcessedTxn, MempoolMetadata>> data = new ConcurrentHashMap<>();
+	private final ConcurrentSkipListSet<Pair<UInt256, AID>> feeOrdered = new ConcurrentSkipListSet<>(HIGHEST_FEE_FIRST);
 	private final Map<SubstateId, Set<AID>> substateIndex = new ConcurrentHashMap<>();
 	private final RadixEngine<LedgerAndBFTProof> radixEngine;
 	private final int maxSize;
@@ -73,6 +82,11 @@ public final class RadixEngineMempool implements Mempool<REProcessedTxn> {
 		this.radixEngine = radixEngine;
 	}
 
+	private static Pair<UInt256, AID> feePriority(REProcessedTxn processedTxn) {
+		var size = Math.max(processedTxn.getTxn().getPayload().length, 1);
+		return Pair.of(processedTxn.getFeePaid().divide(UInt256.from(size)), processedTxn.getTxnId());
+	}
+
 	@Override
 	public void add(Txn txn) throws MempoolRejectedException {
 		if (this.data.size() >= maxSize) {
@@ -86,21 +100,40 @@ public final class RadixEngineMempool implements Mempool<REProcessedTxn> {
 		}
 
 		final RadixEngineResult result;
+		// Only delete our own branch so that branches retained for prepared vertices survive
+		RadixEngine.RadixEngineBranch<LedgerAndBFTProof> checker = radixEngine.transientBranch();
 		try {
-			RadixEngine.RadixEngineBranch<LedgerAndBFTProof> checker = radixEngine.transientBranch();
 			result = checker.execute(List.of(txn));
 		} catch (RadixEngineException e) {
 			// TODO: allow missing dependency atoms to live for a certain amount of time
 			throw new MempoolRejectedException(e);
 		} finally {
-			radixEngine.deleteBranches();
+			radixEngine.deleteBranch(checker);
 		}
 
+		var processedTxn = result.getProcessedTxn();
 		var mempoolTxn = MempoolMetadata.create(System.currentTimeMillis());
-		var data = Pair.of(result.getProcessedTxn(), mempoolTxn);
+		var data = Pair.of(processedTxn, mempoolTxn);
 		this.data.put(txn.getId(), data);
-		result.getProcessedTxn().substateDependencies()
-			.forEach(substateId -> substateIndex.merge(substateId, Set.of(txn.getId()), Sets::union));
+		processedTxn.substateDependencies()
+			.forEach(substateId -> substateIndex.merge(substateId, Set.of(txn.getId()), (a, b) -> Sets.union(a, b).immutableCopy()));
+		this.feeOrdered.add(feePriority(processedTxn));
+	}
+
+	private Pair<REProcessedTxn, MempoolMetadata> remove(AID txnId) {
+		var removed = data.remove(txnId);
+		if (removed == null) {
+			return null;
+		}
+
+		var processedTxn = removed.getFirst();
+		feeOrdered.remove(feePriority(processedTxn));
+		processedTxn.substateDependencies()
+			.forEach(substateId -> substateIndex.computeIfPresent(substateId, (id, txnIds) -> {
+				var remaining = Sets.difference(txnIds, Set.of(txnId)).immutableCopy();
+				return remaining.isEmpty() ? null : remaining;
+			}));
+		return removed;
 	}
 
 	@Override
@@ -110,18 +143,20 @@ public final class RadixEngineMempool implements Mempool<REProcessedTxn> {
 			.map(p -> p.getTxn().getId())
 			.collect(Collectors.toSet());
 
+		committedIds.forEach(this::remove);
+
 		transactions.stream()
 			.flatMap(REProcessedTxn::stateUpdates)
 			.filter(REStateUpdate::isShutDown)
 			.forEach(instruction -> {
 				var substateId = instruction.getId();
-				Set<AID> txnIds = substateIndex.remove(substateId);
+				Set<AID> txnIds = substateIndex.get(substateId);
 				if (txnIds == null) {
 					return;
 				}
 
 				for (var txnId : txnIds) {
-					var toRemove = data.remove(txnId);
+					var toRemove = remove(txnId);
 					// TODO: Cleanup
 					if (toRemove != null && !committedIds.contains(toRemove.getFirst().getTxn().getId())) {
 						removed.add(toRemove.getFirst().getTxn());
@@ -136,29 +171,32 @@ public final class RadixEngineMempool implements Mempool<REProcessedTxn> {
 		return removed;
 	}
 
+	private void excludeConflicts(REProcessedTxn processedTxn, Set<AID> excluded) {
+		processedTxn.stateUpdates()
+			.filter(REStateUpdate::isShutDown)
+			.forEach(i -> excluded.addAll(substateIndex.getOrDefault(i.getId(), Set.of())));
+	}
+
 	@Override
 	public List<Txn> getTxns(int count, List<REProcessedTxn> prepared) {
-		// TODO: Order by highest fees paid
-		var copy = new TreeSet<>(data.keySet());
-		prepared.stream()
-			.flatMap(REProcessedTxn::stateUpdates)
-			.filter(REStateUpdate::isShutDown)
-			.flatMap(i -> substateIndex.getOrDefault(i.getId(), Set.of()).stream())
-			.distinct()
-			.forEach(copy::remove);
+		var excluded = new HashSet<AID>();
+		prepared.forEach(p -> excludeConflicts(p, excluded));
 
 		var txns = new ArrayList<Txn>();
+		var iterator = feeOrdered.iterator();
+		while (txns.size() < count && iterator.hasNext()) {
+			var txId = iterator.next().getSecond();
+			if (excluded.contains(txId)) {
+				continue;
+			}
 
-		for (int i = 0; i < count && !copy.isEmpty(); i++) {
-			var txId = copy.first();
-			copy.remove(txId);
 			var txnData = data.get(txId);
-			txnData.getFirst().stateUpdates()
-				.filter(REStateUpdate::isShutDown)
-				.flatMap(inst -> substateIndex.getOrDefault(inst.getId(), Set.of()).stream())
-				.distinct()
-				.forEach(copy::remove);
+			if (txnData == null) {
+				continue;
+			}
 
+			excluded.add(txId);
+			excludeConflicts(txnData.getFirst(), excluded);
 			txns.add(txnData.getFirst().getTxn());
 		}
 
@@ -183,6 +221,12 @@ public final class RadixEngineMempool implements Mempool<REProcessedTxn> {
 		return this.data.size();
 	}
 
+	// Greybox stuff for testing
+	@VisibleForTesting
+	int getFeeOrderedCount() {
+		return this.feeOrdered.size();
+	}
+
 	@Override
 	public String toString() {
 		return String.format("%s[%x:%s/%s]",
@@ -22,22 +22,30 @@ import com.google.inject.Provides;
 import com.google.inject.Singleton;
 import com.google.inject.TypeLiteral;
 import com.google.inject.multibindings.Multibinder;
+import com.google.inject.multibindings.ProvidesIntoSet;
 import com.radixdlt.consensus.LedgerProof;
 import com.radixdlt.consensus.bft.View;
 import com.radixdlt.constraintmachine.ConstraintMachine;
 import com.radixdlt.engine.RadixEngine;
 import com.radixdlt.engine.StateReducer;
 import com.radixdlt.engine.parser.REParser;
+import com.radixdlt.environment.Runners;
+import com.radixdlt.environment.StopProcessorOnRunner;
 import com.radixdlt.statecomputer.forks.Forks;
 import com.radixdlt.statecomputer.forks.RERules;
 import com.radixdlt.store.EngineStore;
 import com.radixdlt.sync.CommittedReader;
 import com.radixdlt.utils.Pair;
+import com.radixdlt.utils.ThreadFactories;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.OptionalInt;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Module which manages execution of commands
@@ -93,28 +101,49 @@ public class RadixEngineModule extends AbstractModule {
 		return rules.getMaxValidators();
 	}
 
+	@Provides
+	@Singleton
+	@TxnParseExecutor
+	private ExecutorService txnParseExecutor() {
+		// Parsing and signature recovery are stateless so batches are parsed on all cores
+		var threads = Runtime.getRuntime().availableProcessors();
+		var executor = new ThreadPoolExecutor(
+			threads,
+			threads,
+			1,
+			TimeUnit.MINUTES,
+			new LinkedBlockingQueue<>(),
+			ThreadFactories.daemonThreads("RadixEngineParser-%d")
+		);
+		// Idle parser threads exit so that injectors which are never stopped do not keep them
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	@ProvidesIntoSet
+	private StopProcessorOnRunner txnParseExecutorStop(@TxnParseExecutor ExecutorService parseExecutor) {
+		return new StopProcessorOnRunner(Runners.CONSENSUS, parseExecutor::shutdown);
+	}
+
 	@Provides
 	@Singleton
 	private RadixEngine<LedgerAndBFTProof> getRadixEngine(
 		EngineStore<LedgerAndBFTProof> engineStore,
 		Set<StateReducer<?>> stateReducers,
 		Set<Pair<String, StateReducer<?>>> namedStateReducers,
-		RERules rules
+		RERules rules,
+		@TxnParseExecutor ExecutorService parseExecutor
 	) {
 		var cmConfig = rules.getConstraintMachineConfig();
-		var cm = new ConstraintMachine(
-			cmConfig.getProcedures(),
-			cmConfig.getDeserialization(),
-			cmConfig.getVirtualSubstateDeserialization(),
-			cmConfig.getMeter()
-		);
+		var cm = new ConstraintMachine(cmConfig);
 		var radixEngine = new RadixEngine<>(
 			rules.getParser(),
 			rules.getSerialization(),
 			rules.getActionConstructors(),
 			cm,
 			engineStore,
-			rules.getBatchVerifier()
+			rules.getBatchVerifier(),
+			parseExecutor
 		);
 
 		// Additional state reducers are not required for consensus so don't need to include their
@@ -20,6 +20,7 @@ package com.radixdlt.statecomputer;
 import com.google.common.collect.ImmutableClassToInstanceMap;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.hash.HashCode;
 import com.google.inject.Inject;
 import com.radixdlt.application.system.NextValidatorSetEvent;
 import com.radixdlt.atom.TxBuilderException;
@@ -30,6 +31,7 @@ import com.radixdlt.atom.actions.NextRound;
 import com.radixdlt.consensus.BFTConfiguration;
 import com.radixdlt.consensus.HighQC;
 import com.radixdlt.consensus.LedgerHeader;
+import com.radixdlt.consensus.LedgerProof;
 import com.radixdlt.consensus.QuorumCertificate;
 import com.radixdlt.consensus.UnverifiedVertex;
 import com.radixdlt.consensus.bft.BFTNode;
@@ -65,14 +67,19 @@ import com.radixdlt.mempool.MempoolRejectedException;
 import com.radixdlt.ledger.VerifiedTxnsAndProof;
 import com.radixdlt.ledger.StateComputerLedger.StateComputer;
 import com.radixdlt.statecomputer.forks.Forks;
+import com.radixdlt.utils.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.function.Function;
 import java.util.function.LongFunction;
 import java.util.stream.Collectors;
 
@@ -92,6 +99,7 @@ public final class RadixEngineStateComputer implements StateComputer {
 	private final SystemCounters systemCounters;
 	private final Hasher hasher;
 	private final Forks forks;
+	private final Map<HashCode, PreparedBranch> preparedBranches = new HashMap<>();
 
 	private ProposerElection proposerElection;
 	private View epochCeilingView;
@@ -157,6 +165,44 @@ public final class RadixEngineStateComputer implements StateComputer {
 		}
 	}
 
+	/**
+	 * The state of a branch after preparing a vertex, retained so that children
+	 * of the vertex can be prepared without re-executing all of its ancestors.
+	 */
+	private static final class PreparedBranch {
+		private final RadixEngineBranch<LedgerAndBFTProof> branch;
+		private final List<RadixEngineTxn> executed;
+
+		private PreparedBranch(RadixEngineBranch<LedgerAndBFTProof> branch, List<RadixEngineTxn> executed) {
+			this.branch = branch;
+			this.executed = executed;
+		}
+
+		private boolean hasExecuted(List<PreparedTxn> txns) {
+			return executed.size() == txns.size() && startsWith(txns, PreparedTxn::txn);
+		}
+
+		private <T> boolean startsWith(List<T> txns, Function<T, Txn> mapper) {
+			if (executed.size() < txns.size()) {
+				return false;
+			}
+
+			for (int i = 0; i < txns.size(); i++) {
+				if (!executed.get(i).txn.getId().equals(mapper.apply(txns.get(i)).getId())) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		private List<REProcessedTxn> processed(int count) {
+			return executed.subList(0, count).stream()
+				.map(RadixEngineTxn::processedTxn)
+				.collect(Collectors.toList());
+		}
+	}
+
 	@Override
 	public void addToMempool(MempoolAdd mempoolAdd, @Nullable BFTNode origin) {
 		mempoolAdd.getTxns().forEach(txn -> {
@@ -271,9 +317,14 @@ public final class RadixEngineStateComputer implements StateComputer {
 		}
 	}
 
-	@Override
-	public StateComputerResult prepare(List<PreparedTxn> previous, VerifiedVertex vertex, long timestamp) {
-		var next = vertex.getTxns();
+	private RadixEngineBranch<LedgerAndBFTProof> branchFor(List<PreparedTxn> previous, VerifiedVertex vertex) {
+		if (!previous.isEmpty()) {
+			var parentBranch = preparedBranches.get(vertex.getParentId());
+			if (parentBranch != null && parentBranch.hasExecuted(previous)) {
+				return parentBranch.branch.transientBranch();
+			}
+		}
+
 		var transientBranch = this.radixEngine.transientBranch();
 		for (PreparedTxn command : previous) {
 			// TODO: fix this cast with generics. Currently the fix would become a bit too messy
@@ -288,7 +339,47 @@ public final class RadixEngineStateComputer implements StateComputer {
 					+ radixEngineCommand.processed.getTxn().getId(), e);
 			}
 		}
+		return transientBranch;
+	}
 
+	private void retainBranch(
+		VerifiedVertex vertex,
+		RadixEngineBranch<LedgerAndBFTProof> branch,
+		List<PreparedTxn> previous,
+		List<PreparedTxn> prepared
+	) {
+		var executed = new ArrayList<RadixEngineTxn>(previous.size() + prepared.size());
+		// TODO: fix this cast with generics. Currently the fix would become a bit too messy
+		previous.forEach(p -> executed.add((RadixEngineTxn) p));
+		prepared.forEach(p -> executed.add((RadixEngineTxn) p));
+		var replaced = preparedBranches.put(vertex.getId(), new PreparedBranch(branch, executed));
+		if (replaced != null) {
+			// Children of the replaced branch read through its store so it can still be safely dropped
+			this.radixEngine.deleteBranch(replaced.branch);
+		}
+	}
+
+	/**
+	 * Retrieves the results of executing the given transactions if they have already
+	 * been executed on a retained branch. As retained branches are dropped on every
+	 * commit, any such branch was executed on top of the current committed state.
+	 */
+	private Optional<List<REProcessedTxn>> preparedResultsFor(List<Txn> txns) {
+		return preparedBranches.values().stream()
+			.filter(b -> b.startsWith(txns, Function.identity()))
+			.findFirst()
+			.map(b -> b.processed(txns.size()));
+	}
+
+	private void deletePreparedBranches() {
+		preparedBranches.clear();
+		this.radixEngine.deleteBranches();
+	}
+
+	@Override
+	public StateComputerResult prepare(List<PreparedTxn> previous, VerifiedVertex vertex, long timestamp) {
+		var next = vertex.getTxns();
+		var transientBranch = branchFor(previous, vertex);
 		var systemTxn = this.executeSystemUpdate(transientBranch, vertex, timestamp);
 		final ImmutableList.Builder<PreparedTxn> successBuilder = ImmutableList.builder();
 		successBuilder.add(systemTxn);
@@ -305,9 +396,11 @@ public final class RadixEngineStateComputer implements StateComputer {
 		if (nextValidatorSet.isEmpty()) {
 			this.executeUserCommands(vertex.getProposer(), transientBranch, next, successBuilder, exceptionBuilder);
 		}
-		this.radixEngine.deleteBranches();
 
-		return new StateComputerResult(successBuilder.build(), exceptionBuilder.build(), nextValidatorSet.orElse(null));
+		var successful = successBuilder.build();
+		retainBranch(vertex, transientBranch, previous, successful);
+
+		return new StateComputerResult(successful, exceptionBuilder.build(), nextValidatorSet.orElse(null));
 	}
 
 	private List<REProcessedTxn> commitInternal(
@@ -316,19 +409,72 @@ public final class RadixEngineStateComputer implements StateComputer {
 		var proof = verifiedTxnsAndProof.getProof();
 		var ledgerAndBFTProof = LedgerAndBFTProof.create(proof, vertexStoreState);
 
+		var preparedResults = preparedResultsFor(verifiedTxnsAndProof.getTxns());
+		// Retained branches are built on top of the state prior to this commit
+		deletePreparedBranches();
+
 		final RadixEngineResult result;
 		try {
-			result = this.radixEngine.execute(
-				verifiedTxnsAndProof.getTxns(),
-				ledgerAndBFTProof,
-				PermissionLevel.SUPER_USER
-			);
+			if (preparedResults.isPresent()) {
+				result = this.radixEngine.executeProcessed(preparedResults.get(), ledgerAndBFTProof);
+				systemCounters.add(SystemCounters.CounterType.RADIX_ENGINE_PREPARED_TRANSACTIONS_COMMITTED, result.getProcessedTxns().size());
+			} else {
+				result = this.radixEngine.execute(
+					verifiedTxnsAndProof.getTxns(),
+					ledgerAndBFTProof,
+					PermissionLevel.SUPER_USER
+				);
+			}
 		} catch (RadixEngineException e) {
 			throw new CommittedBadTxnException(verifiedTxnsAndProof, e);
 		} catch (MetadataException e) {
 			throw new ByzantineQuorumException(e.getMessage());
 		}
 
+		updateAfterExecution(proof, result.getProcessedTxns());
+		return result.getProcessedTxns();
+	}
+
+	private List<List<REProcessedTxn>> commitGroupInternal(List<Pair<VerifiedTxnsAndProof, VerifiedVertexStoreState>> batches) {
+		var engineBatches = batches.stream()
+			.map(b -> Pair.of(b.getFirst().getTxns(), LedgerAndBFTProof.create(b.getFirst().getProof(), b.getSecond())))
+			.collect(Collectors.toList());
+
+		// Retained branches are built on top of the state prior to this commit, so only
+		// the first batch could have been prepared and the group is executed in full
+		deletePreparedBranches();
+
+		final List<RadixEngineResult> results;
+		try {
+			results = this.radixEngine.executeBatches(engineBatches, PermissionLevel.SUPER_USER);
+		} catch (RadixEngineException e) {
+			throw new CommittedBadTxnException(batchOf(batches, e), e);
+		} catch (MetadataException e) {
+			throw new ByzantineQuorumException(e.getMessage());
+		}
+
+		var committed = new ArrayList<List<REProcessedTxn>>(batches.size());
+		for (int i = 0; i < batches.size(); i++) {
+			var processedTxns = results.get(i).getProcessedTxns();
+			updateAfterExecution(batches.get(i).getFirst().getProof(), processedTxns);
+			committed.add(processedTxns);
+		}
+		return committed;
+	}
+
+	private static VerifiedTxnsAndProof batchOf(
+		List<Pair<VerifiedTxnsAndProof, VerifiedVertexStoreState>> batches,
+		RadixEngineException e
+	) {
+		var failedTxnId = e.getTxn().getId();
+		return batches.stream()
+			.map(Pair::getFirst)
+			.filter(b -> b.getTxns().size() == e.getBatchSize() && b.getTxns().get(e.getTxnIndex()).getId().equals(failedTxnId))
+			.findFirst()
+			.orElseThrow(() -> new IllegalStateException("Failed txn " + failedTxnId + " not in committed batches", e));
+	}
+
+	private void updateAfterExecution(LedgerProof proof, List<REProcessedTxn> processedTxns) {
 		// Next epoch
 		if (proof.getNextValidatorSet().isPresent()) {
 			forks.ifForkGet(proof.getEpoch() + 1)
@@ -346,25 +492,42 @@ public final class RadixEngineStateComputer implements StateComputer {
 				});
 		}
 
-		result.getProcessedTxns().forEach(t -> {
+		processedTxns.forEach(t -> {
 			if (t.isSystemOnly()) {
 				systemCounters.increment(SystemCounters.CounterType.RADIX_ENGINE_SYSTEM_TRANSACTIONS);
 			} else {
 				systemCounters.increment(SystemCounters.CounterType.RADIX_ENGINE_USER_TRANSACTIONS);
 			}
 		});
-
-		return result.getProcessedTxns();
 	}
 
 	@Override
 	public void commit(VerifiedTxnsAndProof txnsAndProof, VerifiedVertexStoreState vertexStoreState) {
 		var txCommitted = commitInternal(txnsAndProof, vertexStoreState);
+		processCommitted(txnsAndProof, txCommitted);
+	}
+
+	/**
+	 * Commits the batches in a single engine store transaction, so either all of them
+	 * are committed or none are, and then processes each batch as if committed on its own.
+	 */
+	@Override
+	public void commitGroup(List<Pair<VerifiedTxnsAndProof, VerifiedVertexStoreState>> batches) {
+		var txCommitted = commitGroupInternal(batches);
+		for (int i = 0; i < batches.size(); i++) {
+			processCommitted(batches.get(i).getFirst(), txCommitted.get(i));
+		}
+	}
 
+	private void processCommitted(VerifiedTxnsAndProof txnsAndProof, List<REProcessedTxn> txCommitted) {
 		// TODO: refactor mempool to be less generic and make this more efficient
 		// TODO: Move this into engine
 		List<Txn> removed = this.mempool.committed(txCommitted);
 		systemCounters.set(SystemCounters.CounterType.MEMPOOL_COUNT, mempool.getCount());
+		radixEngine.getParser().getCache().ifPresent(cache -> {
+			systemCounters.set(SystemCounters.CounterType.RADIX_ENGINE_PARSED_TXN_CACHE_HITS, cache.hits());
+			systemCounters.set(SystemCounters.CounterType.RADIX_ENGINE_PARSED_TXN_CACHE_MISSES, cache.misses());
+		});
 		if (!removed.isEmpty()) {
 			AtomsRemovedFromMempool atomsRemovedFromMempool = AtomsRemovedFromMempool.create(removed);
 			mempoolAtomsRemovedEventDispatcher.dispatch(atomsRemovedFromMempool);
@@ -389,7 +552,7 @@ public final class RadixEngineStateComputer implements StateComputer {
 					Optional.empty(),
 					hasher
 				);
-			var proposerElection = new WeightedRotatingLeaders(validatorSet);
+			var proposerElection = WeightedRotatingLeaders.forEpoch(validatorSet, epochCeilingView);
 			var bftConfiguration = new BFTConfiguration(proposerElection, validatorSet, initialState);
 			return new EpochChange(header, bftConfiguration);
 		});
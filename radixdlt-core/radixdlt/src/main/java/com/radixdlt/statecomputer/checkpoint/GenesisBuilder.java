@@ -58,12 +58,7 @@ public final class GenesisBuilder {
 	) {
 		this.ledgerAccumulator = ledgerAccumulator;
 		var cmConfig = rules.getConstraintMachineConfig();
-		var cm = new ConstraintMachine(
-			cmConfig.getProcedures(),
-			cmConfig.getDeserialization(),
-			cmConfig.getVirtualSubstateDeserialization(),
-			cmConfig.getMeter()
-		);
+		var cm = new ConstraintMachine(cmConfig);
 		this.radixEngine = new RadixEngine<>(
 			rules.getParser(),
 			rules.getSerialization(),
@@ -78,6 +78,7 @@ import com.radixdlt.constraintmachine.meter.Meters;
 import com.radixdlt.constraintmachine.meter.ResourceFeeMeter;
 import com.radixdlt.constraintmachine.meter.SigsPerRoundMeter;
 import com.radixdlt.constraintmachine.meter.TxnSizeFeeMeter;
+import com.radixdlt.engine.parser.ParsedTxnCache;
 import com.radixdlt.engine.parser.REParser;
 import com.radixdlt.statecomputer.EpochProofVerifierV2;
 
@@ -122,7 +123,7 @@ public enum RERulesVersion {
 				v4.buildVirtualSubstateDeserialization(),
 				meter
 			);
-			var parser = new REParser(v4.buildSubstateDeserialization());
+			var parser = new REParser(v4.buildSubstateDeserialization(), new ParsedTxnCache(PARSED_TXN_CACHE_SIZE));
 			var serialization = v4.buildSubstateSerialization();
 			var actionConstructors = REConstructor.newBuilder()
 				.perByteFee(perByteFee)
@@ -169,6 +170,8 @@ public enum RERulesVersion {
 		}
 	};
 
+	// Enough to hold a full mempool along with the transactions in flight in consensus
+	private static final int PARSED_TXN_CACHE_SIZE = 16384;
 
 	public abstract RERules create(RERulesConfig config);
 }
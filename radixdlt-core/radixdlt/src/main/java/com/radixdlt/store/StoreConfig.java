@@ -22,15 +22,65 @@ package com.radixdlt.store;
  * Specifies high level configuration options for persistent storage
  */
 public final class StoreConfig {
+	private static final int DEFAULT_MAX_SYNC_RESPONSE_TXNS = 10_000;
+	// Keeps serialized responses well below the maximum network packet size
+	private static final int DEFAULT_MAX_SYNC_RESPONSE_BYTES = 512 * 1024;
+	private static final long DEFAULT_SUBSTATE_CACHE_SIZE = 64L * 1024 * 1024;
+
 	private final int minimumProofBlockSize;
+	private final int maxSyncResponseTxns;
+	private final int maxSyncResponseBytes;
+	private final long substateCacheSize;
+
 	public StoreConfig(int minimumProofBlockSize) {
+		this(minimumProofBlockSize, DEFAULT_MAX_SYNC_RESPONSE_TXNS, DEFAULT_MAX_SYNC_RESPONSE_BYTES);
+	}
+
+	public StoreConfig(int minimumProofBlockSize, int maxSyncResponseTxns, int maxSyncResponseBytes) {
+		this(minimumProofBlockSize, maxSyncResponseTxns, maxSyncResponseBytes, DEFAULT_SUBSTATE_CACHE_SIZE);
+	}
+
+	public StoreConfig(int minimumProofBlockSize, int maxSyncResponseTxns, int maxSyncResponseBytes, long substateCacheSize) {
 		if (minimumProofBlockSize < 1) {
 			throw new IllegalArgumentException("Proof block size must be >= 1.");
 		}
+		if (maxSyncResponseTxns < 1 || maxSyncResponseBytes < 1) {
+			throw new IllegalArgumentException("Sync response limits must be >= 1.");
+		}
+		if (substateCacheSize < 0) {
+			throw new IllegalArgumentException("Substate cache size must be >= 0.");
+		}
 		this.minimumProofBlockSize = minimumProofBlockSize;
+		this.maxSyncResponseTxns = maxSyncResponseTxns;
+		this.maxSyncResponseBytes = maxSyncResponseBytes;
+		this.substateCacheSize = substateCacheSize;
 	}
 
 	public int getMinimumProofBlockSize() {
 		return minimumProofBlockSize;
 	}
+
+	/**
+	 * Maximum number of transactions returned for a single sync request. A response always
+	 * contains the transactions up to the next proof, even if they exceed this limit.
+	 */
+	public int getMaxSyncResponseTxns() {
+		return maxSyncResponseTxns;
+	}
+
+	/**
+	 * Maximum total payload size of the transactions returned for a single sync request,
+	 * with the same exception as {@link #getMaxSyncResponseTxns()}.
+	 */
+	public int getMaxSyncResponseBytes() {
+		return maxSyncResponseBytes;
+	}
+
+	/**
+	 * Maximum size in bytes of the direct memory cache of substates in front of the ledger database.
+	 * Zero disables the cache.
+	 */
+	public long getSubstateCacheSize() {
+		return substateCacheSize;
+	}
 }
@@ -37,7 +37,6 @@ import com.sleepycat.je.Transaction;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import com.google.common.collect.ImmutableList;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.radixdlt.atom.CloseableCursor;
@@ -71,6 +70,7 @@ import com.sleepycat.je.Cursor;
 import com.sleepycat.je.Database;
 import com.sleepycat.je.DatabaseConfig;
 import com.sleepycat.je.DatabaseEntry;
+import com.sleepycat.je.Environment;
 import com.sleepycat.je.OperationStatus;
 import com.sleepycat.je.SecondaryConfig;
 import com.sleepycat.je.SecondaryCursor;
@@ -80,6 +80,7 @@ import java.io.File;
 import java.io.IOException;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.NoSuchElementException;
@@ -88,8 +89,8 @@ import java.util.Optional;
 import java.util.OptionalLong;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
-import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -97,7 +98,6 @@ import java.util.stream.Stream;
 import static com.google.common.primitives.UnsignedBytes.lexicographicalComparator;
 import static com.radixdlt.utils.Longs.fromByteArray;
 import static com.sleepycat.je.LockMode.DEFAULT;
-import static com.sleepycat.je.OperationStatus.NOTFOUND;
 import static com.sleepycat.je.OperationStatus.SUCCESS;
 
 @Singleton
@@ -109,12 +109,15 @@ public final class BerkeleyLedgerEntryStore implements EngineStore<LedgerAndBFTP
 	private final DatabaseEnvironment dbEnv;
 	private final SystemCounters systemCounters;
 	private final StoreConfig storeConfig;
+	private final SubstateCache substateCache;
 
 	// Engine Store databases
 	private static final String SUBSTATE_DB_NAME = "radix.substate_db";
 	private static final String RESOURCE_DB_NAME = "radix.resource_db";
 	private static final String MAP_DB_NAME = "radix.map_db";
-	private static final String INDEXED_SUBSTATE_DB_NAME = "radix.indexed_substate_db";
+	private static final String INDEXED_SUBSTATE_DB_NAME = "radix.resource_indexed_substate_db";
+	// Tokens indexed by account only, dropped once INDEXED_SUBSTATE_DB_NAME is populated on open
+	private static final String LEGACY_INDEXED_SUBSTATE_DB_NAME = "radix.indexed_substate_db";
 	private Database substatesDatabase; // Write/Delete
 	private SecondaryDatabase indexedSubstatesDatabase; // Write/Delete
 	private Database resourceDatabase; // Write-only (Resources are immutable)
@@ -136,6 +139,9 @@ public final class BerkeleyLedgerEntryStore implements EngineStore<LedgerAndBFTP
 	private Database txnIdDatabase; // Txns by AID; Append-only
 	private AppendLog txnLog; //Atom data append only log
 
+	// Last committed state version and proofs, recovered on open and replaced on every commit
+	private volatile LedgerTip committedTip;
+
 	@Inject
 	public BerkeleyLedgerEntryStore(
 		Serialization serialization,
@@ -147,6 +153,7 @@ public final class BerkeleyLedgerEntryStore implements EngineStore<LedgerAndBFTP
 		this.dbEnv = Objects.requireNonNull(dbEnv);
 		this.systemCounters = Objects.requireNonNull(systemCounters);
 		this.storeConfig = storeConfig;
+		this.substateCache = new SubstateCache(storeConfig.getSubstateCacheSize());
 
 		this.open();
 	}
@@ -169,6 +176,8 @@ public final class BerkeleyLedgerEntryStore implements EngineStore<LedgerAndBFTP
 		if (txnLog != null) {
 			txnLog.close();
 		}
+
+		substateCache.clear();
 	}
 
 	@Override
@@ -210,62 +219,74 @@ public final class BerkeleyLedgerEntryStore implements EngineStore<LedgerAndBFTP
 	@Override
 	public <R> R transaction(TransactionEngineStoreConsumer<LedgerAndBFTProof, R> consumer) throws RadixEngineException {
 		var dbTxn = createTransaction();
+		var cacheUpdates = new SubstateCache.Updates();
+		var tip = committedTip.copy();
 		try {
-			var result = consumer.start(new EngineStoreInTransaction<>() {
-				@Override
-				public void storeTxn(Txn txn, List<REStateUpdate> stateUpdates) {
-					BerkeleyLedgerEntryStore.this.storeTxn(dbTxn, txn, stateUpdates);
-				}
-
-				@Override
-				public void storeMetadata(LedgerAndBFTProof metadata) {
-					BerkeleyLedgerEntryStore.this.storeMetadata(dbTxn, metadata);
-				}
-
-				@Override
-				public ByteBuffer verifyVirtualSubstate(SubstateId substateId)
-					throws VirtualSubstateAlreadyDownException, VirtualParentStateDoesNotExist {
-					var parent = substateId.getVirtualParent().orElseThrow();
+			var result = consumer.start(inTransaction(dbTxn, cacheUpdates, tip));
+			dbTxn.commit();
+			committedTip = tip;
+			substateCache.apply(cacheUpdates);
+			return result;
+		} catch (Exception e) {
+			dbTxn.abort();
+			throw e;
+		}
+	}
 
-					var parentState = BerkeleyLedgerEntryStore.this.loadSubstate(dbTxn, parent);
-					if (parentState.isEmpty()) {
-						throw new VirtualParentStateDoesNotExist(parent);
-					}
+	private EngineStoreInTransaction<LedgerAndBFTProof> inTransaction(
+		Transaction dbTxn,
+		SubstateCache.Updates cacheUpdates,
+		LedgerTip tip
+	) {
+		return new EngineStoreInTransaction<>() {
+			@Override
+			public void storeTxn(Txn txn, List<REStateUpdate> stateUpdates) {
+				BerkeleyLedgerEntryStore.this.storeTxn(dbTxn, txn, stateUpdates, cacheUpdates, tip);
+			}
 
-					var buf = parentState.get();
-					if (buf.get() != SubstateTypeId.VIRTUAL_PARENT.id()) {
-						throw new VirtualParentStateDoesNotExist(parent);
-					}
-					buf.position(buf.position() - 1);
+			@Override
+			public void storeMetadata(LedgerAndBFTProof metadata) {
+				BerkeleyLedgerEntryStore.this.storeMetadata(dbTxn, metadata, tip);
+			}
 
-					if (BerkeleyLedgerEntryStore.this.isVirtualDown(dbTxn, substateId)) {
-						throw new VirtualSubstateAlreadyDownException(substateId);
-					}
+			@Override
+			public ByteBuffer verifyVirtualSubstate(SubstateId substateId)
+				throws VirtualSubstateAlreadyDownException, VirtualParentStateDoesNotExist {
+				var parent = substateId.getVirtualParent().orElseThrow();
 
-					return buf;
+				var parentState = BerkeleyLedgerEntryStore.this.loadSubstate(dbTxn, parent);
+				if (parentState.isEmpty()) {
+					throw new VirtualParentStateDoesNotExist(parent);
 				}
 
-				@Override
-				public Optional<ByteBuffer> loadSubstate(SubstateId substateId) {
-					return BerkeleyLedgerEntryStore.this.loadSubstate(dbTxn, substateId);
+				var buf = parentState.get();
+				if (buf.get() != SubstateTypeId.VIRTUAL_PARENT.id()) {
+					throw new VirtualParentStateDoesNotExist(parent);
 				}
+				buf.position(buf.position() - 1);
 
-				@Override
-				public CloseableCursor<RawSubstateBytes> openIndexedCursor(SubstateIndex<?> index) {
-					return BerkeleyLedgerEntryStore.this.openIndexedCursor(dbTxn, index);
+				if (BerkeleyLedgerEntryStore.this.isVirtualDown(dbTxn, substateId)) {
+					throw new VirtualSubstateAlreadyDownException(substateId);
 				}
 
-				@Override
-				public Optional<ByteBuffer> loadResource(REAddr addr) {
-					return BerkeleyLedgerEntryStore.this.loadAddr(dbTxn, addr);
-				}
-			});
-			dbTxn.commit();
-			return result;
-		} catch (Exception e) {
-			dbTxn.abort();
-			throw e;
-		}
+				return buf;
+			}
+
+			@Override
+			public Optional<ByteBuffer> loadSubstate(SubstateId substateId) {
+				return BerkeleyLedgerEntryStore.this.loadSubstate(dbTxn, substateId);
+			}
+
+			@Override
+			public CloseableCursor<RawSubstateBytes> openIndexedCursor(SubstateIndex<?> index) {
+				return BerkeleyLedgerEntryStore.this.openIndexedCursor(dbTxn, index);
+			}
+
+			@Override
+			public Optional<ByteBuffer> loadResource(REAddr addr) {
+				return BerkeleyLedgerEntryStore.this.loadAddr(dbTxn, addr);
+			}
+		};
 	}
 
 	@Override
@@ -275,69 +296,63 @@ public final class BerkeleyLedgerEntryStore implements EngineStore<LedgerAndBFTP
 
 	@Override
 	public Optional<RawSubstateBytes> get(SystemMapKey mapKey) {
-		var key = new DatabaseEntry(mapKey.array());
-		var substateId = new DatabaseEntry();
-		var result = mapDatabase.get(null, key, substateId, null);
-		if (result != SUCCESS) {
-			return Optional.empty();
-		}
-
-		var substate = loadSubstate(null, SubstateId.fromBytes(substateId.getData())).orElseThrow();
-		var substateBytes = new RawSubstateBytes(substateId.getData(), substate.array());
-		return Optional.of(substateBytes);
+		var substateId = loadCached(SubstateCache.SYSTEM_MAP, mapKey.array(), null, () -> {
+			var key = new DatabaseEntry(mapKey.array());
+			var value = new DatabaseEntry();
+			var result = mapDatabase.get(null, key, value, null);
+			return result == SUCCESS ? Optional.of(ByteBuffer.wrap(value.getData())) : Optional.empty();
+		});
+
+		return substateId.map(ByteBuffer::array).map(id -> {
+			var substate = loadSubstate(null, SubstateId.fromBytes(id)).orElseThrow();
+			return new RawSubstateBytes(id, substate.array());
+		});
 	}
 
-	private void storeTxn(Transaction dbTxn, Txn txn, List<REStateUpdate> stateUpdates) {
-		withTime(() -> doStore(dbTxn, txn, stateUpdates), CounterType.ELAPSED_BDB_LEDGER_STORE, CounterType.COUNT_BDB_LEDGER_STORE);
+	private void storeTxn(
+		Transaction dbTxn,
+		Txn txn,
+		List<REStateUpdate> stateUpdates,
+		SubstateCache.Updates cacheUpdates,
+		LedgerTip tip
+	) {
+		withTime(
+			() -> doStore(dbTxn, txn, stateUpdates, cacheUpdates, tip),
+			CounterType.ELAPSED_BDB_LEDGER_STORE,
+			CounterType.COUNT_BDB_LEDGER_STORE
+		);
 	}
 
-	private void storeMetadata(Transaction dbTxn, LedgerAndBFTProof ledgerAndBFTProof) {
+	private void storeMetadata(Transaction dbTxn, LedgerAndBFTProof ledgerAndBFTProof, LedgerTip tip) {
 		var proof = ledgerAndBFTProof.getProof();
 
 		// TODO: combine atom and proof store and remove these extra checks
-		try (var atomCursor = txnDatabase.openCursor(dbTxn, null)) {
-			var key = entry();
-			var status = atomCursor.getLast(key, null, DEFAULT);
-			if (status == NOTFOUND) {
-				throw new IllegalStateException("No atom found before storing proof.");
-			}
-
-			long lastVersion = Longs.fromByteArray(key.getData());
-			if (lastVersion != proof.getStateVersion()) {
-				throw new IllegalStateException("Proof version " + proof.getStateVersion()
-					+ " does not match last transaction: " + lastVersion);
-			}
+		if (tip.stateVersion == 0) {
+			throw new IllegalStateException("No atom found before storing proof.");
+		}
+		if (tip.stateVersion != proof.getStateVersion()) {
+			throw new IllegalStateException("Proof version " + proof.getStateVersion()
+				+ " does not match last transaction: " + tip.stateVersion);
 		}
 
-		try (var proofCursor = proofDatabase.openCursor(dbTxn, null)) {
-			var prevHeaderKey = entry();
-			var status = proofCursor.getLast(prevHeaderKey, null, DEFAULT);
-			// Cannot remove end of epoch proofs
-			if (status == SUCCESS && headerKeyEpoch(prevHeaderKey).isEmpty()) {
-				status = proofCursor.getPrev(prevHeaderKey, null, DEFAULT);
-				if (status == SUCCESS) {
-					long twoAwayStateVersion = Longs.fromByteArray(prevHeaderKey.getData());
-					long versionDiff = proof.getStateVersion() - twoAwayStateVersion;
-					if (versionDiff <= storeConfig.getMinimumProofBlockSize()) {
-						executeOrElseThrow(() -> proofCursor.getNext(null, null, DEFAULT), "Missing next.");
-						executeOrElseThrow(proofCursor::delete, "Could not delete header.");
-						systemCounters.increment(CounterType.COUNT_BDB_LEDGER_PROOFS_REMOVED);
-					}
-				}
+		// Cannot remove end of epoch proofs
+		if (tip.lastProofKey != null && headerKeyEpoch(tip.lastProofKey).isEmpty() && tip.previousProofStateVersion.isPresent()) {
+			long versionDiff = proof.getStateVersion() - tip.previousProofStateVersion.getAsLong();
+			if (versionDiff <= storeConfig.getMinimumProofBlockSize()) {
+				executeOrElseThrow(() -> proofDatabase.delete(dbTxn, tip.lastProofKey), "Could not delete header.");
+				systemCounters.increment(CounterType.COUNT_BDB_LEDGER_PROOFS_REMOVED);
+				tip.lastProofKey = null;
 			}
+		}
 
-			final var headerKey = toHeaderKey(proof);
-			final var headerData = entry(serialize(proof));
-			this.putNoOverwriteOrElseThrow(
-				proofCursor,
-				headerKey,
-				headerData,
-				"Header write failed: " + proof,
-				CounterType.COUNT_BDB_HEADER_BYTES_WRITE
-			);
+		final var headerKey = toHeaderKey(proof);
+		final var headerData = entry(serialize(proof));
+		executeOrElseThrow(() -> proofDatabase.putNoOverwrite(dbTxn, headerKey, headerData), "Header write failed: " + proof);
+		addBytesWrite(headerData, headerKey);
+		systemCounters.add(CounterType.COUNT_BDB_HEADER_BYTES_WRITE, (long) headerKey.getSize() + headerData.getSize());
+		systemCounters.increment(CounterType.COUNT_BDB_LEDGER_PROOFS_ADDED);
 
-			systemCounters.increment(CounterType.COUNT_BDB_LEDGER_PROOFS_ADDED);
-		}
+		tip.proofAdded(headerKey, proof);
 
 		ledgerAndBFTProof.vertexStoreState().ifPresent(v -> doSave(dbTxn, v));
 	}
@@ -363,8 +378,23 @@ public final class BerkeleyLedgerEntryStore implements EngineStore<LedgerAndBFTP
 		}, CounterType.ELAPSED_BDB_LEDGER_LAST_VERTEX, CounterType.COUNT_BDB_LEDGER_LAST_VERTEX);
 	}
 
-	public void forEach(Consumer<Txn> particleConsumer) {
-		txnLog.forEach((bytes, offset) -> particleConsumer.accept(Txn.create(bytes)));
+	/**
+	 * Passes committed transactions after the given state version to the consumer, along with their
+	 * state version and in ledger order. Chunks left in the log by aborted transactions are skipped.
+	 */
+	public void forEachCommitted(long afterStateVersion, BiConsumer<Long, Txn> txnConsumer) {
+		try (var cursor = txnDatabase.openCursor(null, null)) {
+			var key = toPKey(afterStateVersion + 1);
+			var value = entry();
+			var status = cursor.getSearchKeyRange(key, value, DEFAULT);
+			while (status == SUCCESS) {
+				var txnBytes = txnLog.read(fromByteArray(value.getData()));
+				txnConsumer.accept(fromByteArray(key.getData()), Txn.create(txnBytes));
+				status = cursor.getNext(key, value, DEFAULT);
+			}
+		} catch (IOException e) {
+			throw new BerkeleyStoreException("Unable to read from atom store.", e);
+		}
 	}
 
 	@Override
@@ -392,6 +422,7 @@ public final class BerkeleyLedgerEntryStore implements EngineStore<LedgerAndBFTP
 			mapDatabase = env.openDatabase(null, MAP_DB_NAME, rriConfig);
 			substatesDatabase = env.openDatabase(null, SUBSTATE_DB_NAME, primaryConfig);
 
+			var migrateIndexedSubstates = prepareIndexedSubstatesMigration(env);
 			indexedSubstatesDatabase = env.openSecondaryDatabase(
 				null, INDEXED_SUBSTATE_DB_NAME, substatesDatabase,
 				(SecondaryConfig) new SecondaryConfig()
@@ -408,8 +439,12 @@ public final class BerkeleyLedgerEntryStore implements EngineStore<LedgerAndBFTP
 
 								// 0: Type Byte
 								// 1: Reserved Byte
-								// 2-37: Account Address
-								prefixIndexSize = 2 + (1 + ECPublicKey.COMPRESSED_BYTES);
+								// 2-35: Account Address
+								// 36: Resource Address, one byte for the native token else 36-62
+								final int accountPrefixSize = 2 + (1 + ECPublicKey.COMPRESSED_BYTES);
+								var resourceAddrType = data.getData()[data.getOffset() + accountPrefixSize];
+								prefixIndexSize = accountPrefixSize
+									+ (resourceAddrType == REAddr.REAddrType.NATIVE_TOKEN.byteValue() ? 1 : 1 + REAddr.HASHED_KEY_BYTES);
 							} else if (substateTypeId == SubstateTypeId.STAKE_OWNERSHIP.id()) {
 								// Indexing not necessary for verification at the moment but useful for construction
 
@@ -457,11 +492,15 @@ public final class BerkeleyLedgerEntryStore implements EngineStore<LedgerAndBFTP
 							return true;
 						}
 					)
+					.setAllowPopulate(true)
 					.setBtreeComparator(lexicographicalComparator())
 					.setSortedDuplicates(true)
 					.setAllowCreate(true)
 					.setTransactional(true)
 			);
+			if (migrateIndexedSubstates) {
+				completeIndexedSubstatesMigration(env);
+			}
 
 			proofDatabase = env.openDatabase(null, PROOF_DB_NAME, primaryConfig);
 			txnIdDatabase = env.openDatabase(null, TXN_ID_DB_NAME, primaryConfig);
@@ -469,6 +508,7 @@ public final class BerkeleyLedgerEntryStore implements EngineStore<LedgerAndBFTP
 			epochProofDatabase = env.openSecondaryDatabase(null, EPOCH_PROOF_DB_NAME, proofDatabase, buildEpochProofConfig());
 
 			txnLog = AppendLog.openCompressed(new File(env.getHome(), LEDGER_NAME).getAbsolutePath(), systemCounters);
+			committedTip = recoverLedgerTip();
 		} catch (Exception e) {
 			throw new BerkeleyStoreException("Error while opening databases", e);
 		}
@@ -480,6 +520,29 @@ public final class BerkeleyLedgerEntryStore implements EngineStore<LedgerAndBFTP
 		}
 	}
 
+	/**
+	 * The new index is populated from the substates database when it is opened. The legacy index is only
+	 * dropped after that, so its presence marks a migration which has not completed yet. An index left
+	 * over from an interrupted migration may be partially populated, it is removed to be populated again.
+	 */
+	private boolean prepareIndexedSubstatesMigration(Environment env) {
+		var databaseNames = env.getDatabaseNames();
+		if (!databaseNames.contains(LEGACY_INDEXED_SUBSTATE_DB_NAME)) {
+			return false;
+		}
+
+		log.info("Populating {} to replace {}", INDEXED_SUBSTATE_DB_NAME, LEGACY_INDEXED_SUBSTATE_DB_NAME);
+		if (databaseNames.contains(INDEXED_SUBSTATE_DB_NAME)) {
+			env.removeDatabase(null, INDEXED_SUBSTATE_DB_NAME);
+		}
+		return true;
+	}
+
+	private void completeIndexedSubstatesMigration(Environment env) {
+		log.info("Dropping {} in favour of {}", LEGACY_INDEXED_SUBSTATE_DB_NAME, INDEXED_SUBSTATE_DB_NAME);
+		env.removeDatabase(null, LEGACY_INDEXED_SUBSTATE_DB_NAME);
+	}
+
 	private SecondaryConfig buildEpochProofConfig() {
 		return (SecondaryConfig) new SecondaryConfig()
 			.setKeyCreator(
@@ -708,11 +771,13 @@ public final class BerkeleyLedgerEntryStore implements EngineStore<LedgerAndBFTP
 	private void upParticle(
 		com.sleepycat.je.Transaction txn,
 		ByteBuffer bytes,
-		SubstateId substateId
+		SubstateId substateId,
+		SubstateCache.Updates cacheUpdates
 	) {
 		byte[] particleKey = substateId.asBytes();
 		var value = new DatabaseEntry(bytes.array(), bytes.position(), bytes.remaining());
 		substatesDatabase.putNoOverwrite(txn, entry(particleKey), value);
+		cacheUpdates.put(SubstateCache.SUBSTATE, particleKey, bytes);
 	}
 
 	private void downVirtualSubstate(com.sleepycat.je.Transaction txn, SubstateId substateId) {
@@ -720,11 +785,15 @@ public final class BerkeleyLedgerEntryStore implements EngineStore<LedgerAndBFTP
 		substatesDatabase.put(txn, entry(particleKey), downEntry());
 	}
 
-	private void downSubstate(com.sleepycat.je.Transaction txn, SubstateId substateId) {
-		var status = substatesDatabase.delete(txn, entry(substateId.asBytes()));
+	private void downSubstate(com.sleepycat.je.Transaction txn, SubstateId substateId, SubstateCache.Updates cacheUpdates) {
+		var particleKey = substateId.asBytes();
+		var status = substatesDatabase.delete(txn, entry(particleKey));
 		if (status != SUCCESS) {
 			throw new IllegalStateException("Downing particle does not exist " + substateId);
 		}
+		// Invalidated right away (after the record is locked), so reads within this transaction do not see the substate
+		substateCache.invalidate(SubstateCache.SUBSTATE, particleKey);
+		cacheUpdates.invalidate(SubstateCache.SUBSTATE, particleKey);
 	}
 
 	private DatabaseEntry downEntry() {
@@ -742,27 +811,35 @@ public final class BerkeleyLedgerEntryStore implements EngineStore<LedgerAndBFTP
 		return Optional.of(ByteBuffer.wrap(e.getData()));
 	}
 
-	private void insertIntoMapDatabaseOrFail(com.sleepycat.je.Transaction txn, SystemMapKey mapKey, SubstateId substateId) {
+	private void insertIntoMapDatabaseOrFail(
+		com.sleepycat.je.Transaction txn,
+		SystemMapKey mapKey,
+		SubstateId substateId,
+		SubstateCache.Updates cacheUpdates
+	) {
 		var key = new DatabaseEntry(mapKey.array());
 		var value = new DatabaseEntry(substateId.asBytes());
 		var result = mapDatabase.putNoOverwrite(txn, key, value);
 		if (result != SUCCESS) {
 			throw new IllegalStateException("Unable to insert into map database");
 		}
+		cacheUpdates.put(SubstateCache.SYSTEM_MAP, mapKey.array(), ByteBuffer.wrap(substateId.asBytes()));
 	}
 
-	private void deleteFromMapDatabaseOrFail(com.sleepycat.je.Transaction txn, SystemMapKey mapKey) {
+	private void deleteFromMapDatabaseOrFail(com.sleepycat.je.Transaction txn, SystemMapKey mapKey, SubstateCache.Updates cacheUpdates) {
 		var key = new DatabaseEntry(mapKey.array());
 		var result = mapDatabase.delete(txn, key);
 		if (result != SUCCESS) {
 			throw new IllegalStateException("Unable to delete from map database");
 		}
+		substateCache.invalidate(SubstateCache.SYSTEM_MAP, mapKey.array());
+		cacheUpdates.invalidate(SubstateCache.SYSTEM_MAP, mapKey.array());
 	}
 
-	private void executeStateUpdate(com.sleepycat.je.Transaction txn, REStateUpdate stateUpdate) {
+	private void executeStateUpdate(com.sleepycat.je.Transaction txn, REStateUpdate stateUpdate, SubstateCache.Updates cacheUpdates) {
 		if (stateUpdate.isBootUp()) {
 			var buf = stateUpdate.getStateBuf();
-			upParticle(txn, buf, stateUpdate.getId());
+			upParticle(txn, buf, stateUpdate.getId(), cacheUpdates);
 
 			// FIXME: Superhack
 			if (stateUpdate.getParsed() instanceof TokenResource) {
@@ -771,12 +848,13 @@ public final class BerkeleyLedgerEntryStore implements EngineStore<LedgerAndBFTP
 				var buf2 = stateUpdate.getStateBuf();
 				var value = new DatabaseEntry(buf2.array(), buf2.position(), buf2.remaining());
 				resourceDatabase.putNoOverwrite(txn, new DatabaseEntry(addr.getBytes()), value);
+				cacheUpdates.put(SubstateCache.RESOURCE, addr.getBytes(), buf2);
 			} else if (stateUpdate.getParsed() instanceof VirtualParent) {
 				var p = (VirtualParent) stateUpdate.getParsed();
 				var typeByte = p.getData()[0];
 				if (typeByte != SubstateTypeId.UNCLAIMED_READDR.id()) {
 					var mapKey = SystemMapKey.ofValidatorDataParent(typeByte);
-					insertIntoMapDatabaseOrFail(txn, mapKey, stateUpdate.getId());
+					insertIntoMapDatabaseOrFail(txn, mapKey, stateUpdate.getId(), cacheUpdates);
 				}
 			} else if (stateUpdate.getParsed() instanceof ValidatorData) {
 				var p = (ValidatorData) stateUpdate.getParsed();
@@ -784,16 +862,16 @@ public final class BerkeleyLedgerEntryStore implements EngineStore<LedgerAndBFTP
 					stateUpdate.typeByte(),
 					p.getValidatorKey().getCompressedBytes()
 				);
-				insertIntoMapDatabaseOrFail(txn, mapKey, stateUpdate.getId());
+				insertIntoMapDatabaseOrFail(txn, mapKey, stateUpdate.getId(), cacheUpdates);
 			} else if (stateUpdate.getParsed() instanceof SystemData) {
 				var mapKey = SystemMapKey.ofSystem(stateUpdate.typeByte());
-				insertIntoMapDatabaseOrFail(txn, mapKey, stateUpdate.getId());
+				insertIntoMapDatabaseOrFail(txn, mapKey, stateUpdate.getId(), cacheUpdates);
 			}
 		} else if (stateUpdate.isShutDown()) {
 			if (stateUpdate.getId().isVirtual()) {
 				downVirtualSubstate(txn, stateUpdate.getId());
 			} else {
-				downSubstate(txn, stateUpdate.getId());
+				downSubstate(txn, stateUpdate.getId(), cacheUpdates);
 
 				if (stateUpdate.getParsed() instanceof ValidatorData) {
 					var p = (ValidatorData) stateUpdate.getParsed();
@@ -801,10 +879,10 @@ public final class BerkeleyLedgerEntryStore implements EngineStore<LedgerAndBFTP
 						stateUpdate.typeByte(),
 						p.getValidatorKey().getCompressedBytes()
 					);
-					deleteFromMapDatabaseOrFail(txn, mapKey);
+					deleteFromMapDatabaseOrFail(txn, mapKey, cacheUpdates);
 				} else if (stateUpdate.getParsed() instanceof SystemData) {
 					var mapKey = SystemMapKey.ofSystem(stateUpdate.typeByte());
-					deleteFromMapDatabaseOrFail(txn, mapKey);
+					deleteFromMapDatabaseOrFail(txn, mapKey, cacheUpdates);
 				}
 			}
 		} else {
@@ -815,18 +893,11 @@ public final class BerkeleyLedgerEntryStore implements EngineStore<LedgerAndBFTP
 	private void doStore(
 		com.sleepycat.je.Transaction transaction,
 		Txn txn,
-		List<REStateUpdate> stateUpdates
+		List<REStateUpdate> stateUpdates,
+		SubstateCache.Updates cacheUpdates,
+		LedgerTip tip
 	) {
-		final long stateVersion;
-		try (var cursor = txnDatabase.openCursor(transaction, null)) {
-			var key = entry();
-			var status = cursor.getLast(key, null, DEFAULT);
-			if (status == OperationStatus.NOTFOUND) {
-				stateVersion = 1;
-			} else {
-				stateVersion = Longs.fromByteArray(key.getData()) + 1;
-			}
-		}
+		final long stateVersion = tip.stateVersion + 1;
 
 		try {
 			var aid = txn.getId();
@@ -840,6 +911,7 @@ public final class BerkeleyLedgerEntryStore implements EngineStore<LedgerAndBFTP
 			var idKey = entry(aid);
 			failIfNotSuccess(txnIdDatabase.put(transaction, idKey, atomPosData), "Atom Id write for", aid);
 			addBytesWrite(atomPosData, idKey);
+			tip.stateVersion = stateVersion;
 			systemCounters.increment(CounterType.COUNT_BDB_LEDGER_COMMIT);
 
 			var elapsed = Stopwatch.createStarted();
@@ -854,7 +926,7 @@ public final class BerkeleyLedgerEntryStore implements EngineStore<LedgerAndBFTP
 				}
 				var stateUpdate = stateUpdates.get(i);
 				try {
-					this.executeStateUpdate(transaction, stateUpdate);
+					this.executeStateUpdate(transaction, stateUpdate, cacheUpdates);
 				} catch (Exception e) {
 					if (transaction != null) {
 						transaction.abort();
@@ -884,49 +956,83 @@ public final class BerkeleyLedgerEntryStore implements EngineStore<LedgerAndBFTP
 
 	@Override
 	public VerifiedTxnsAndProof getNextCommittedTxns(DtoLedgerProof start) {
-
-		long stateVersion = start.getLedgerHeader().getAccumulatorState().getStateVersion();
+		final long startStateVersion = start.getLedgerHeader().getAccumulatorState().getStateVersion();
 		final var startTime = System.nanoTime();
 
+		// Consecutive proof-bounded chunks are collected in a single pass over both databases until the
+		// response budget is used up. Chunks never span an epoch change, as the receiver verifies the
+		// final proof against the validator set of the epoch it starts in. The budget is checked against
+		// the stored chunk sizes before any txn of a chunk is read, and once more against the payloads read.
+		final var txns = new ArrayList<Txn>();
+		LedgerProof lastProof = null;
+		long txnBytes = 0;
+
 		com.sleepycat.je.Transaction txn = beginTransaction();
-		final LedgerProof nextHeader;
-		try (var proofCursor = proofDatabase.openCursor(txn, null)) {
-			final var headerSearchKey = toPKey(stateVersion + 1);
-			final var headerValue = entry();
-			var headerCursorStatus = proofCursor.getSearchKeyRange(headerSearchKey, headerValue, DEFAULT);
-			if (headerCursorStatus != SUCCESS) {
-				return null;
-			}
-			nextHeader = deserializeOrElseFail(headerValue.getData(), LedgerProof.class);
-		} finally {
-			txn.commit();
-		}
+		try (var proofCursor = proofDatabase.openCursor(txn, null);
+			var txnCursor = txnDatabase.openCursor(txn, null)) {
+			final var proofKey = toPKey(startStateVersion + 1);
+			final var proofValue = entry();
+			var proofCursorStatus = proofCursor.getSearchKeyRange(proofKey, proofValue, DEFAULT);
+
+			final var txnKey = toPKey(startStateVersion + 1);
+			final var txnPosData = entry();
+			var txnCursorStatus = txnCursor.getSearchKeyRange(txnKey, txnPosData, DEFAULT);
+
+			long stateVersion = startStateVersion;
+			while (proofCursorStatus == SUCCESS) {
+				final var proof = deserializeOrElseFail(proofValue.getData(), LedgerProof.class);
+				final var chunkSize = proof.getStateVersion() - stateVersion;
+				if (lastProof != null && txns.size() + chunkSize > storeConfig.getMaxSyncResponseTxns()) {
+					break;
+				}
+
+				final var offsets = new long[(int) chunkSize];
+				long storedBytes = 0;
+				for (int i = 0; i < offsets.length; i++) {
+					if (txnCursorStatus != SUCCESS) {
+						throw new BerkeleyStoreException("Atom database search failure");
+					}
+					offsets[i] = fromByteArray(txnPosData.getData());
+					if (lastProof != null) {
+						storedBytes += txnLog.chunkSize(offsets[i]);
+					}
+					txnCursorStatus = txnCursor.getNext(txnKey, txnPosData, DEFAULT);
+				}
 
-		final var txns = ImmutableList.<Txn>builder();
-		final var atomSearchKey = toPKey(stateVersion + 1);
-		final var atomPosData = entry();
-
-		try (var atomCursor = txnDatabase.openCursor(null, null)) {
-			int atomCount = (int) (nextHeader.getStateVersion() - stateVersion);
-			int count = 0;
-			var atomCursorStatus = atomCursor.getSearchKeyRange(atomSearchKey, atomPosData, DEFAULT);
-			do {
-				if (atomCursorStatus != SUCCESS) {
-					throw new BerkeleyStoreException("Atom database search failure");
+				if (lastProof != null && txnBytes + storedBytes > storeConfig.getMaxSyncResponseBytes()) {
+					break;
 				}
-				var offset = fromByteArray(atomPosData.getData());
-				var txnBytes = txnLog.read(offset);
-				txns.add(Txn.create(txnBytes));
-				atomCursorStatus = atomCursor.getNext(atomSearchKey, atomPosData, DEFAULT);
-				count++;
-			} while (count < atomCount);
-
-			return VerifiedTxnsAndProof.create(txns.build(), nextHeader);
+
+				final var chunk = new ArrayList<Txn>(offsets.length);
+				long chunkBytes = 0;
+				for (var offset : offsets) {
+					var txnPayload = txnLog.read(offset);
+					chunk.add(Txn.create(txnPayload));
+					chunkBytes += txnPayload.length;
+				}
+
+				if (lastProof != null && txnBytes + chunkBytes > storeConfig.getMaxSyncResponseBytes()) {
+					break;
+				}
+
+				txns.addAll(chunk);
+				txnBytes += chunkBytes;
+				lastProof = proof;
+				stateVersion = proof.getStateVersion();
+
+				if (proof.isEndOfEpoch()) {
+					break;
+				}
+				proofCursorStatus = proofCursor.getNext(proofKey, proofValue, DEFAULT);
+			}
 		} catch (IOException e) {
 			throw new BerkeleyStoreException("Unable to read from atom store.", e);
 		} finally {
+			txn.commit();
 			addTime(startTime, CounterType.ELAPSED_BDB_LEDGER_ENTRIES, CounterType.COUNT_BDB_LEDGER_ENTRIES);
 		}
+
+		return lastProof == null ? null : VerifiedTxnsAndProof.create(txns, lastProof);
 	}
 
 	@Override
@@ -935,17 +1041,16 @@ public final class BerkeleyLedgerEntryStore implements EngineStore<LedgerAndBFTP
 	}
 
 	private Optional<ByteBuffer> loadAddr(Transaction dbTxn, REAddr addr) {
-		var buf = ByteBuffer.allocate(128);
-		buf.put(addr.getBytes());
-		var pos = buf.position();
-		var key = new DatabaseEntry(buf.array(), 0, pos);
-		var value = entry();
-		var status = resourceDatabase.get(dbTxn, key, value, DEFAULT);
-		if (status != SUCCESS) {
-			return Optional.empty();
-		}
+		return loadCached(SubstateCache.RESOURCE, addr.getBytes(), dbTxn, () -> {
+			var key = new DatabaseEntry(addr.getBytes());
+			var value = entry();
+			var status = resourceDatabase.get(dbTxn, key, value, DEFAULT);
+			if (status != SUCCESS) {
+				return Optional.empty();
+			}
 
-		return entryToSubstate(value);
+			return entryToSubstate(value);
+		});
 	}
 
 	private boolean isVirtualDown(Transaction dbTxn, SubstateId substateId) {
@@ -956,31 +1061,99 @@ public final class BerkeleyLedgerEntryStore implements EngineStore<LedgerAndBFTP
 	}
 
 	private Optional<ByteBuffer> loadSubstate(Transaction dbTxn, SubstateId substateId) {
-		var key = entry(substateId.asBytes());
-		var value = entry();
-		var status = substatesDatabase.get(dbTxn, key, value, DEFAULT);
-		if (status != SUCCESS) {
-			return Optional.empty();
+		var particleKey = substateId.asBytes();
+		return loadCached(SubstateCache.SUBSTATE, particleKey, dbTxn, () -> {
+			var key = entry(particleKey);
+			var value = entry();
+			var status = substatesDatabase.get(dbTxn, key, value, DEFAULT);
+			if (status != SUCCESS) {
+				return Optional.empty();
+			}
+
+			return entryToSubstate(value);
+		});
+	}
+
+	private Optional<ByteBuffer> loadCached(byte type, byte[] key, Transaction dbTxn, Supplier<Optional<ByteBuffer>> loader) {
+		var cached = substateCache.get(type, key);
+		if (cached.isPresent()) {
+			systemCounters.increment(CounterType.COUNT_BDB_LEDGER_SUBSTATE_CACHE_HITS);
+			return cached;
+		}
+
+		systemCounters.increment(CounterType.COUNT_BDB_LEDGER_SUBSTATE_CACHE_MISSES);
+		var generation = substateCache.generation(type, key);
+		var loaded = loader.get();
+
+		// Within a transaction uncommitted changes may be read, those are published only after commit
+		if (dbTxn == null && substateCache.isEnabled()) {
+			loaded.ifPresent(value -> substateCache.fill(type, key, value, generation));
 		}
 
-		return entryToSubstate(value);
+		return loaded;
 	}
 
 	@Override
 	public Optional<LedgerProof> getLastProof() {
-		return withTime(() -> {
-			try (var proofCursor = proofDatabase.openCursor(null, null)) {
-				var pKey = entry();
-				var value = entry();
+		return withTime(
+			() -> Optional.ofNullable(committedTip.lastProof),
+			CounterType.ELAPSED_BDB_LEDGER_LAST_COMMITTED,
+			CounterType.COUNT_BDB_LEDGER_LAST_COMMITTED
+		);
+	}
+
+	private LedgerTip recoverLedgerTip() {
+		var tip = new LedgerTip();
 
-				return Optional.of(proofCursor.getLast(pKey, value, DEFAULT))
-					.filter(status -> status == SUCCESS)
-					.map(status -> {
-						addBytesRead(value, pKey);
-						return deserializeOrElseFail(value.getData(), LedgerProof.class);
-					});
+		try (var txnCursor = txnDatabase.openCursor(null, null)) {
+			var key = entry();
+			if (txnCursor.getLast(key, null, DEFAULT) == SUCCESS) {
+				tip.stateVersion = Longs.fromByteArray(key.getData());
+			}
+		}
+
+		try (var proofCursor = proofDatabase.openCursor(null, null)) {
+			var key = entry();
+			var value = entry();
+			if (proofCursor.getLast(key, value, DEFAULT) == SUCCESS) {
+				var lastProof = deserializeOrElseFail(value.getData(), LedgerProof.class);
+				if (proofCursor.getPrev(key, null, DEFAULT) == SUCCESS) {
+					tip.proofAdded(key, null);
+				}
+				tip.proofAdded(toHeaderKey(lastProof), lastProof);
 			}
-		}, CounterType.ELAPSED_BDB_LEDGER_LAST_COMMITTED, CounterType.COUNT_BDB_LEDGER_LAST_COMMITTED);
+		}
+
+		return tip;
+	}
+
+	/**
+	 * Tip of the stored ledger. Each write transaction works on its own copy, which replaces
+	 * the committed one once the transaction is committed.
+	 */
+	private static final class LedgerTip {
+		private long stateVersion;
+		private LedgerProof lastProof;
+		private DatabaseEntry lastProofKey;
+		private OptionalLong previousProofStateVersion = OptionalLong.empty();
+
+		private LedgerTip copy() {
+			var copy = new LedgerTip();
+			copy.stateVersion = stateVersion;
+			copy.lastProof = lastProof;
+			copy.lastProofKey = lastProofKey;
+			copy.previousProofStateVersion = previousProofStateVersion;
+			return copy;
+		}
+
+		// Proof key replaced by the newly added proof, as long as it was not removed while pruning
+		private void proofAdded(DatabaseEntry key, LedgerProof proof) {
+			if (lastProofKey != null) {
+				previousProofStateVersion = OptionalLong.of(Longs.fromByteArray(lastProofKey.getData()));
+			}
+			lastProofKey = key;
+			lastProof = proof;
+		}
 	}
 
 	@Override
@@ -0,0 +1,343 @@
+/*
+ * (C) Copyright 2021 Radix DLT Ltd
+ *
+ * Radix DLT Ltd licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ */
+
+package com.radixdlt.store.berkeley;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Size-bounded cache of substate records kept in direct memory, so hot records do not have to be
+ * fetched from the database log and do not add to the garbage collector load.
+ * <p>
+ * The cache is split into segments by key hash, each with its own lock. Every segment stores its records
+ * in a single direct buffer used as a ring log, only the index of record offsets lives on the heap. When
+ * space is needed, records are reclaimed from the oldest end of the log, except for records read since
+ * they were written, which are moved to the newest end once.
+ * <p>
+ * Cache contents must always reflect committed state. Writers therefore invalidate entries as soon as
+ * they are removed within a database transaction and publish new entries via {@link Updates} only after
+ * the transaction is committed. Readers outside of a transaction may fill the cache with the values they
+ * have read, which is ignored if any entry of the same segment was invalidated in the meantime.
+ */
+final class SubstateCache {
+	static final byte SUBSTATE = 0;
+	static final byte RESOURCE = 1;
+	static final byte SYSTEM_MAP = 2;
+
+	private static final int MAX_SEGMENTS = 16;
+	private static final long MIN_SEGMENT_SIZE = 1024 * 1024;
+
+	private final Segment[] segments;
+
+	SubstateCache(long maxSize) {
+		if (maxSize <= 0) {
+			this.segments = new Segment[0];
+			return;
+		}
+
+		var count = (int) Math.max(1, Math.min(MAX_SEGMENTS, maxSize / MIN_SEGMENT_SIZE));
+		var capacity = (int) Math.min(Integer.MAX_VALUE, maxSize / count);
+		this.segments = new Segment[count];
+		for (int i = 0; i < count; i++) {
+			segments[i] = new Segment(capacity);
+		}
+	}
+
+	/**
+	 * Changes made by a single database transaction.
+	 */
+	static final class Updates {
+		private final List<Update> updates = new ArrayList<>();
+
+		void put(byte type, byte[] key, ByteBuffer value) {
+			updates.add(new Update(type, key, value));
+		}
+
+		void invalidate(byte type, byte[] key) {
+			updates.add(new Update(type, key, null));
+		}
+	}
+
+	private static final class Update {
+		private final byte type;
+		private final byte[] key;
+		private final ByteBuffer value;
+
+		private Update(byte type, byte[] key, ByteBuffer value) {
+			this.type = type;
+			this.key = key;
+			this.value = value == null ? null : value.duplicate();
+		}
+	}
+
+	boolean isEnabled() {
+		return segments.length > 0;
+	}
+
+	/**
+	 * Returns heap copy of the cached value.
+	 */
+	Optional<ByteBuffer> get(byte type, byte[] key) {
+		if (!isEnabled()) {
+			return Optional.empty();
+		}
+
+		var cacheKey = toKey(type, key);
+		return segmentFor(cacheKey).get(cacheKey);
+	}
+
+	/**
+	 * Returns the invalidation counter of the segment holding the given key, to be passed to
+	 * {@link #fill(byte, byte[], ByteBuffer, long)}.
+	 */
+	long generation(byte type, byte[] key) {
+		if (!isEnabled()) {
+			return 0;
+		}
+
+		return segmentFor(toKey(type, key)).generation();
+	}
+
+	/**
+	 * Stores value read from the database, unless any entry of the segment was invalidated since
+	 * {@code readGeneration}.
+	 */
+	void fill(byte type, byte[] key, ByteBuffer value, long readGeneration) {
+		if (!isEnabled()) {
+			return;
+		}
+
+		var cacheKey = toKey(type, key);
+		segmentFor(cacheKey).fill(cacheKey, value, readGeneration);
+	}
+
+	void invalidate(byte type, byte[] key) {
+		if (!isEnabled()) {
+			return;
+		}
+
+		var cacheKey = toKey(type, key);
+		segmentFor(cacheKey).remove(cacheKey);
+	}
+
+	void apply(Updates committed) {
+		if (!isEnabled()) {
+			return;
+		}
+
+		for (var update : committed.updates) {
+			var cacheKey = toKey(update.type, update.key);
+			var segment = segmentFor(cacheKey);
+			if (update.value == null) {
+				segment.remove(cacheKey);
+			} else {
+				segment.store(cacheKey, update.value);
+			}
+		}
+	}
+
+	/**
+	 * Drops all entries and releases the direct memory, which is allocated again on next use.
+	 */
+	void clear() {
+		for (var segment : segments) {
+			segment.clear();
+		}
+	}
+
+	private Segment segmentFor(ByteBuffer cacheKey) {
+		var hash = cacheKey.hashCode();
+		return segments[Math.floorMod(hash ^ (hash >>> 16), segments.length)];
+	}
+
+	private static ByteBuffer toKey(byte type, byte[] key) {
+		return ByteBuffer.allocate(key.length + 1).put(type).put(key).flip();
+	}
+
+	private static final class Slot {
+		private int offset;
+		private final int size;
+		private boolean referenced;
+
+		private Slot(int offset, int size) {
+			this.offset = offset;
+			this.size = size;
+		}
+	}
+
+	/**
+	 * Ring log of records laid out as key length, value length, key and value. Space between the
+	 * last record and the end of the buffer which is too small for the next record is skipped.
+	 */
+	private static final class Segment {
+		private static final int HEADER_SIZE = 2 * Integer.BYTES;
+		private static final int SKIPPED = -1;
+
+		private final int capacity;
+		private final Map<ByteBuffer, Slot> index = new HashMap<>();
+		private ByteBuffer slab;
+		// Records are written at head and reclaimed at tail, used includes skipped space
+		private int head;
+		private int tail;
+		private int used;
+		private long generation;
+
+		private Segment(int capacity) {
+			this.capacity = capacity;
+		}
+
+		synchronized Optional<ByteBuffer> get(ByteBuffer key) {
+			var slot = index.get(key);
+			if (slot == null) {
+				return Optional.empty();
+			}
+
+			slot.referenced = true;
+			var valueOffset = slot.offset + HEADER_SIZE + key.remaining();
+			var value = slab.duplicate();
+			value.limit(slot.offset + slot.size).position(valueOffset);
+
+			var copy = new byte[value.remaining()];
+			value.get(copy);
+			return Optional.of(ByteBuffer.wrap(copy));
+		}
+
+		synchronized long generation() {
+			return generation;
+		}
+
+		synchronized void fill(ByteBuffer key, ByteBuffer value, long readGeneration) {
+			if (readGeneration == generation) {
+				store(key, value);
+			}
+		}
+
+		synchronized void remove(ByteBuffer key) {
+			generation++;
+			// Record stays in the log until reclaimed, it is recognized as dead as it is no longer indexed
+			index.remove(key);
+		}
+
+		synchronized void clear() {
+			index.clear();
+			slab = null;
+			head = 0;
+			tail = 0;
+			used = 0;
+			generation++;
+		}
+
+		synchronized void store(ByteBuffer key, ByteBuffer value) {
+			var size = HEADER_SIZE + key.remaining() + value.remaining();
+			if (size > capacity / 16) {
+				index.remove(key);
+				return;
+			}
+
+			if (slab == null) {
+				slab = ByteBuffer.allocateDirect(capacity);
+			}
+
+			index.remove(key);
+			var offset = allocate(size);
+			writeRecord(offset, key, value);
+			index.put(key, new Slot(offset, size));
+		}
+
+		private void writeRecord(int offset, ByteBuffer key, ByteBuffer value) {
+			var target = slab.duplicate();
+			target.position(offset);
+			target.putInt(key.remaining()).putInt(value.remaining()).put(key.duplicate()).put(value.duplicate());
+		}
+
+		/**
+		 * Reserves contiguous space of the given size at head, reclaiming records at tail as needed.
+		 */
+		private int allocate(int size) {
+			while (true) {
+				if (used == 0) {
+					head = 0;
+					tail = 0;
+				}
+
+				if (head > tail || used == 0) {
+					// Free space is between head and the end, followed by the start up to tail
+					if (capacity - head >= size) {
+						return reserve(size);
+					}
+					used += capacity - head;
+					if (capacity - head >= Integer.BYTES) {
+						slab.putInt(head, SKIPPED);
+					}
+					head = 0;
+				} else {
+					// Free space is between head and tail
+					if (tail - head >= size) {
+						return reserve(size);
+					}
+					reclaim();
+				}
+			}
+		}
+
+		private int reserve(int size) {
+			var offset = head;
+			head += size;
+			used += size;
+			return offset;
+		}
+
+		private void reclaim() {
+			if (capacity - tail < HEADER_SIZE || slab.getInt(tail) == SKIPPED) {
+				used -= capacity - tail;
+				tail = 0;
+				return;
+			}
+
+			var offset = tail;
+			var keyLength = slab.getInt(offset);
+			var size = HEADER_SIZE + keyLength + slab.getInt(offset + Integer.BYTES);
+			var key = slab.duplicate();
+			key.limit(offset + HEADER_SIZE + keyLength).position(offset + HEADER_SIZE);
+
+			tail += size;
+			used -= size;
+
+			var slot = index.get(key);
+			if (slot == null || slot.offset != offset) {
+				return;
+			}
+
+			if (slot.referenced) {
+				// Second chance: move to head, which is directly in front of the freed record
+				var record = new byte[size];
+				slab.duplicate().position(offset).get(record);
+				slot.offset = reserve(size);
+				slot.referenced = false;
+				slab.duplicate().position(slot.offset).put(record);
+			} else {
+				index.remove(key);
+			}
+		}
+	}
+}
@@ -31,7 +31,12 @@ import java.util.function.BiConsumer;
  */
 public interface AppendLog {
 	/**
-	 * Open compressed R/W append log.
+	 * Size after which the active segment of a segmented log is sealed.
+	 */
+	long DEFAULT_SEGMENT_SIZE = 256L * 1024 * 1024;
+
+	/**
+	 * Open compressed R/W append log, split into segments.
 	 *
 	 * @param path log file path
 	 * @param counters system counters to use
@@ -41,7 +46,22 @@ public interface AppendLog {
 	 * @throws IOException
 	 */
 	static AppendLog openCompressed(String path, SystemCounters counters) throws IOException {
-		return CompressedAppendLog.open(openSimple(path), counters);
+		return CompressedAppendLog.open(openSegmented(path, DEFAULT_SEGMENT_SIZE), counters);
+	}
+
+	/**
+	 * Open plain R/W append log, split into segments of the specified size.
+	 * An existing plain log at the same path is opened as its first segment.
+	 *
+	 * @param path log file path of the first segment
+	 * @param segmentSize size after which a new segment is started
+	 *
+	 * @return append log
+	 *
+	 * @throws IOException
+	 */
+	static AppendLog openSegmented(String path, long segmentSize) throws IOException {
+		return SegmentedAppendLog.open(path, segmentSize);
 	}
 
 	/**
@@ -98,6 +118,15 @@ public interface AppendLog {
 	 */
 	Pair<byte[], Integer> readChunk(long offset) throws IOException;
 
+	/**
+	 * Read size of the chunk stored at specified position, without reading the chunk itself.
+	 *
+	 * @param offset offset of the chunk
+	 *
+	 * @return stored chunk length
+	 */
+	int chunkSize(long offset) throws IOException;
+
 	/**
 	 * Force flushing data to disk.
 	 */
@@ -22,6 +22,7 @@ import com.radixdlt.utils.Compress;
 import com.radixdlt.utils.Pair;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.function.BiConsumer;
 
 import static com.radixdlt.counters.SystemCounters.CounterType.PERSISTENCE_ATOM_LOG_WRITE_BYTES;
@@ -66,6 +67,11 @@ public class CompressedAppendLog implements AppendLog {
 		return Pair.of(Compress.uncompress(result.getFirst()), result.getSecond());
 	}
 
+	@Override
+	public int chunkSize(final long offset) throws IOException {
+		return delegate.chunkSize(offset);
+	}
+
 	@Override
 	public void flush() throws IOException {
 		delegate.flush();
@@ -78,18 +84,13 @@ public class CompressedAppendLog implements AppendLog {
 
 	@Override
 	public void forEach(BiConsumer<byte[], Long> chunkConsumer) {
-		var offset = 0L;
-		synchronized (delegate) {
-			var end = false;
-			while (!end) {
-				try {
-					var chunk = readChunk(offset);
-					chunkConsumer.accept(chunk.getFirst(), offset);
-					offset += chunk.getSecond() + Integer.BYTES;
-				} catch (IOException exception) {
-					end = true;
-				}
+		// Offsets are only known to the delegate, which may leave gaps between segments
+		delegate.forEach((chunk, offset) -> {
+			try {
+				chunkConsumer.accept(Compress.uncompress(chunk), offset);
+			} catch (IOException e) {
+				throw new UncheckedIOException("Unable to uncompress chunk at " + offset, e);
 			}
-		}
+		});
 	}
 }
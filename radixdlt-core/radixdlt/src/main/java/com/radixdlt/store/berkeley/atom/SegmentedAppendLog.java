@@ -0,0 +1,287 @@
+/*
+ * (C) Copyright 2021 Radix DLT Ltd
+ *
+ * Radix DLT Ltd licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ */
+package com.radixdlt.store.berkeley.atom;
+
+import com.radixdlt.utils.Pair;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+import static java.nio.ByteBuffer.allocate;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Append-only log split into segment files. Chunks have the same format as in {@link SimpleAppendLog}.
+ * <p>
+ * Once the active segment grows past the segment size, it is sealed and writing continues in a new
+ * segment. Sealed segments are memory mapped, so reads from them are lock-free and may run concurrently.
+ * Reads from the active segment use positional reads, and only appends are serialized.
+ * <p>
+ * Offsets are logical: the upper bits hold the segment index and the lower {@value #SEGMENT_OFFSET_BITS}
+ * bits the position within the segment. The first segment is stored under the log path itself, so an
+ * existing log written by {@link SimpleAppendLog} is read as the first segment with unchanged offsets.
+ */
+public final class SegmentedAppendLog implements AppendLog {
+	static final int SEGMENT_OFFSET_BITS = 40;
+	private static final long SEGMENT_OFFSET_MASK = (1L << SEGMENT_OFFSET_BITS) - 1;
+
+	private final String path;
+	private final long segmentSize;
+	private final List<Segment> segments;
+	private final Object writeLock = new Object();
+	private final ByteBuffer sizeBufferW = allocate(Integer.BYTES).order(ByteOrder.BIG_ENDIAN);
+
+	private SegmentedAppendLog(String path, long segmentSize, List<Segment> segments) {
+		this.path = path;
+		this.segmentSize = segmentSize;
+		this.segments = new CopyOnWriteArrayList<>(segments);
+	}
+
+	static AppendLog open(String path, long segmentSize) throws IOException {
+		if (segmentSize <= 0 || segmentSize > SEGMENT_OFFSET_MASK) {
+			throw new IllegalArgumentException("Invalid segment size " + segmentSize);
+		}
+
+		var segments = new ArrayList<Segment>();
+		var index = 0;
+		do {
+			segments.add(Segment.open(segmentPath(path, index)));
+			index++;
+		} while (Files.exists(segmentPath(path, index)));
+
+		for (int i = 0; i < segments.size() - 1; i++) {
+			segments.set(i, segments.get(i).seal());
+		}
+
+		return new SegmentedAppendLog(path, segmentSize, segments);
+	}
+
+	private static Path segmentPath(String path, int index) {
+		return index == 0 ? Path.of(path) : Path.of(path + "." + index);
+	}
+
+	private static long toOffset(int segmentIndex, long position) {
+		return ((long) segmentIndex << SEGMENT_OFFSET_BITS) | position;
+	}
+
+	@Override
+	public long write(byte[] data) throws IOException {
+		synchronized (writeLock) {
+			var segmentIndex = segments.size() - 1;
+			var active = segments.get(segmentIndex);
+			var position = active.channel.position();
+
+			sizeBufferW.clear().putInt(data.length).clear();
+			checkedWrite(active.channel, Integer.BYTES, sizeBufferW);
+			checkedWrite(active.channel, data.length, ByteBuffer.wrap(data));
+
+			// Rolling right after the write keeps position() accurate for the next chunk
+			if (active.channel.position() >= segmentSize) {
+				roll(segmentIndex, active);
+			}
+
+			return toOffset(segmentIndex, position);
+		}
+	}
+
+	private void roll(int segmentIndex, Segment active) throws IOException {
+		active.channel.force(true);
+		var next = Segment.open(segmentPath(path, segmentIndex + 1));
+		segments.add(next);
+		segments.set(segmentIndex, active.seal());
+	}
+
+	@Override
+	public Pair<byte[], Integer> readChunk(long offset) throws IOException {
+		var segmentIndex = offset >>> SEGMENT_OFFSET_BITS;
+		if (segmentIndex >= segments.size()) {
+			throw new IOException("No segment for offset " + offset);
+		}
+		return segments.get((int) segmentIndex).readChunk(offset & SEGMENT_OFFSET_MASK);
+	}
+
+	@Override
+	public int chunkSize(long offset) throws IOException {
+		var segmentIndex = offset >>> SEGMENT_OFFSET_BITS;
+		if (segmentIndex >= segments.size()) {
+			throw new IOException("No segment for offset " + offset);
+		}
+		return segments.get((int) segmentIndex).chunkSize(offset & SEGMENT_OFFSET_MASK);
+	}
+
+	@Override
+	public void flush() throws IOException {
+		synchronized (writeLock) {
+			segments.get(segments.size() - 1).channel.force(true);
+		}
+	}
+
+	@Override
+	public long position() {
+		try {
+			synchronized (writeLock) {
+				var segmentIndex = segments.size() - 1;
+				return toOffset(segmentIndex, segments.get(segmentIndex).channel.position());
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException("Unable to obtain current position in log", e);
+		}
+	}
+
+	@Override
+	public void truncate(long position) {
+		synchronized (writeLock) {
+			var segmentIndex = segments.size() - 1;
+			if (position >>> SEGMENT_OFFSET_BITS != segmentIndex) {
+				throw new IllegalStateException("Unable to truncate log into sealed segment at " + position);
+			}
+			try {
+				segments.get(segmentIndex).channel.truncate(position & SEGMENT_OFFSET_MASK);
+			} catch (IOException e) {
+				throw new IllegalStateException("Unable to truncate log", e);
+			}
+		}
+	}
+
+	@Override
+	public void close() {
+		synchronized (writeLock) {
+			try {
+				for (var segment : segments) {
+					segment.channel.close();
+				}
+			} catch (IOException e) {
+				throw new RuntimeException("Error while closing log", e);
+			}
+		}
+	}
+
+	@Override
+	public void forEach(BiConsumer<byte[], Long> chunkConsumer) {
+		for (int segmentIndex = 0; segmentIndex < segments.size(); segmentIndex++) {
+			var segment = segments.get(segmentIndex);
+			var position = 0L;
+
+			var end = false;
+			while (!end) {
+				try {
+					var chunk = segment.readChunk(position);
+					chunkConsumer.accept(chunk.getFirst(), toOffset(segmentIndex, position));
+					position += chunk.getSecond() + Integer.BYTES;
+				} catch (IOException exception) {
+					end = true;
+				}
+			}
+		}
+	}
+
+	private static void checkedWrite(FileChannel channel, int length, ByteBuffer buffer) throws IOException {
+		int len = channel.write(buffer);
+
+		if (len != length) {
+			throw new IOException("Written less bytes than requested: " + len + " vs " + length);
+		}
+	}
+
+	/**
+	 * Single segment file. Sealed segments no larger than {@link Integer#MAX_VALUE} are read through a
+	 * memory mapping; all others use positional reads, which do not need locking either.
+	 */
+	private static final class Segment {
+		private final FileChannel channel;
+		private final MappedByteBuffer mapped;
+
+		private Segment(FileChannel channel, MappedByteBuffer mapped) {
+			this.channel = channel;
+			this.mapped = mapped;
+		}
+
+		static Segment open(Path path) throws IOException {
+			var channel = FileChannel.open(path, EnumSet.of(READ, WRITE, CREATE));
+			channel.position(channel.size());
+			return new Segment(channel, null);
+		}
+
+		Segment seal() throws IOException {
+			var size = channel.size();
+			if (size > Integer.MAX_VALUE) {
+				return this;
+			}
+			return new Segment(channel, channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+		}
+
+		Pair<byte[], Integer> readChunk(long position) throws IOException {
+			return mapped != null ? readMapped(position) : readPositional(position);
+		}
+
+		int chunkSize(long position) throws IOException {
+			if (mapped != null) {
+				if (position + Integer.BYTES > mapped.capacity()) {
+					throw new IOException("Got less bytes than requested at " + position + ", size " + mapped.capacity());
+				}
+				return mapped.getInt((int) position);
+			}
+			return checkedRead(position, allocate(Integer.BYTES).order(ByteOrder.BIG_ENDIAN)).getInt();
+		}
+
+		private Pair<byte[], Integer> readMapped(long position) throws IOException {
+			if (position + Integer.BYTES > mapped.capacity()) {
+				throw new IOException("Got less bytes than requested at " + position + ", size " + mapped.capacity());
+			}
+			var readLength = mapped.getInt((int) position);
+			var start = (int) position + Integer.BYTES;
+			if (readLength < 0 || start + (long) readLength > mapped.capacity()) {
+				throw new IOException("Got less bytes than requested: " + readLength
+					+ " at " + position + ", size " + mapped.capacity());
+			}
+			var data = new byte[readLength];
+			mapped.duplicate().position(start).get(data);
+			return Pair.of(data, readLength);
+		}
+
+		private Pair<byte[], Integer> readPositional(long position) throws IOException {
+			var readLength = checkedRead(position, allocate(Integer.BYTES).order(ByteOrder.BIG_ENDIAN)).getInt();
+			if (readLength < 0) {
+				throw new IOException("Invalid chunk length " + readLength + " at " + position);
+			}
+			return Pair.of(checkedRead(position + Integer.BYTES, allocate(readLength)).array(), readLength);
+		}
+
+		private ByteBuffer checkedRead(long position, ByteBuffer buffer) throws IOException {
+			int len = channel.read(buffer, position);
+
+			if (len != buffer.capacity()) {
+				throw new IOException("Got less bytes than requested: " + len + " vs " + buffer.capacity()
+					+ " at " + position + ", size " + channel.size());
+			}
+			return buffer.flip();
+		}
+	}
+}
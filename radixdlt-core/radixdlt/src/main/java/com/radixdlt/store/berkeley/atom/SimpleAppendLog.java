@@ -75,6 +75,13 @@ public class SimpleAppendLog implements AppendLog {
 		}
 	}
 
+	@Override
+	public int chunkSize(long offset) throws IOException {
+		synchronized (channel) {
+			return checkedRead(offset, sizeBufferR.clear()).clear().getInt();
+		}
+	}
+
 	@Override
 	public void flush() throws IOException {
 		synchronized (channel) {
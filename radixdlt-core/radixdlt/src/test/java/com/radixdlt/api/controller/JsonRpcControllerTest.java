@@ -31,7 +31,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
 public class JsonRpcControllerTest {
-	private final JsonRpcServer jsonRpcServer = new JsonRpcServer(Map.of());
+	private final JsonRpcServer jsonRpcServer = new JsonRpcServer(Map.of(), Runnable::run);
 	private final JsonRpcController controller = new JsonRpcController(jsonRpcServer);
 
 	@Test
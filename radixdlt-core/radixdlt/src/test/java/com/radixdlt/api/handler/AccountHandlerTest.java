@@ -33,6 +33,8 @@ import com.radixdlt.identifiers.AID;
 import com.radixdlt.identifiers.REAddr;
 import com.radixdlt.utils.functional.Result;
 
+import java.util.concurrent.CompletableFuture;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
@@ -98,7 +100,7 @@ public class AccountHandlerTest {
 		var aid = AID.from(HashUtils.random256().asBytes());
 
 		when(submissionService.oneStepSubmit(any(), any(), any(), any(), eq(false)))
-			.thenReturn(Result.ok(aid));
+			.thenReturn(CompletableFuture.completedFuture(Result.ok(aid)));
 
 		var actions = jsonArray()
 			.put(
@@ -110,7 +112,7 @@ public class AccountHandlerTest {
 			.put(actions)
 			.put("message");
 
-		var response = handler.handleAccountSubmitTransactionSingleStep(requestWith(params));
+		var response = handler.handleAccountSubmitTransactionSingleStep(requestWith(params)).join();
 
 		assertNotNull(response);
 		assertTrue(response.has("result"));
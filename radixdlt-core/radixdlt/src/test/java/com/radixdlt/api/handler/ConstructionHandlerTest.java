@@ -39,6 +39,8 @@ import com.radixdlt.utils.UInt256;
 import com.radixdlt.utils.functional.Result;
 
 import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
@@ -52,6 +54,7 @@ import static org.mockito.Mockito.when;
 
 import static com.radixdlt.api.JsonRpcUtil.jsonArray;
 import static com.radixdlt.api.JsonRpcUtil.jsonObject;
+import static com.radixdlt.atom.actions.ActionErrors.SUBMISSION_FAILURE;
 
 public class ConstructionHandlerTest {
 	private static final ECPublicKey PUB_KEY = ECKeyPair.generateNew().getPublicKey();
@@ -125,8 +128,8 @@ public class ConstructionHandlerTest {
 	public void testFinalizeTransactionPositional() {
 		var txn = Txn.create(randomBytes());
 
-		when(submissionService.finalizeTxn(any(), any(), anyBoolean()))
-			.thenReturn(Result.ok(txn));
+		when(submissionService.finalizeTxnAsync(any(), any(), anyBoolean()))
+			.thenReturn(CompletableFuture.completedFuture(Result.ok(txn)));
 
 		var blob = randomBytes();
 		var hash = HashUtils.sha256(blob).asBytes();
@@ -137,7 +140,7 @@ public class ConstructionHandlerTest {
 			.put(encodeToDer(signature))
 			.put(keyPair.getPublicKey().toHex());
 
-		var response = handler.handleConstructionFinalizeTransaction(requestWith(params));
+		var response = handler.handleConstructionFinalizeTransaction(requestWith(params)).join();
 
 		assertNotNull(response);
 		assertTrue(response.has("result"));
@@ -155,8 +158,8 @@ public class ConstructionHandlerTest {
 	public void testFinalizeTransactionNamed() {
 		var txn = Txn.create(randomBytes());
 
-		when(submissionService.finalizeTxn(any(), any(), anyBoolean()))
-			.thenReturn(Result.ok(txn));
+		when(submissionService.finalizeTxnAsync(any(), any(), anyBoolean()))
+			.thenReturn(CompletableFuture.completedFuture(Result.ok(txn)));
 
 		var blob = randomBytes();
 		var hash = HashUtils.sha256(blob).asBytes();
@@ -167,7 +170,7 @@ public class ConstructionHandlerTest {
 			.put("signatureDER", encodeToDer(signature))
 			.put("publicKeyOfSigner", keyPair.getPublicKey().toHex());
 
-		var response = handler.handleConstructionFinalizeTransaction(requestWith(params));
+		var response = handler.handleConstructionFinalizeTransaction(requestWith(params)).join();
 
 		assertNotNull(response);
 		assertTrue(response.has("result"));
@@ -186,14 +189,14 @@ public class ConstructionHandlerTest {
 		var blob = randomBytes();
 		var txn = Txn.create(blob);
 
-		when(submissionService.submitTx(any(), any()))
-			.thenReturn(Result.ok(txn));
+		when(submissionService.submitTxAsync(any(), any()))
+			.thenReturn(CompletableFuture.completedFuture(Result.ok(txn)));
 
 		var params = jsonArray()
 			.put(Hex.toHexString(blob))
 			.put(txn.getId().toString());
 
-		var response = handler.handleConstructionSubmitTransaction(requestWith(params));
+		var response = handler.handleConstructionSubmitTransaction(requestWith(params)).join();
 
 		assertNotNull(response);
 		assertTrue(response.has("result"));
@@ -209,14 +212,14 @@ public class ConstructionHandlerTest {
 		var blob = randomBytes();
 		var txn = Txn.create(blob);
 
-		when(submissionService.submitTx(any(), any()))
-			.thenReturn(Result.ok(txn));
+		when(submissionService.submitTxAsync(any(), any()))
+			.thenReturn(CompletableFuture.completedFuture(Result.ok(txn)));
 
 		var params = jsonObject()
 			.put("blob", Hex.toHexString(blob))
 			.put("txID", txn.getId().toJson());
 
-		var response = handler.handleConstructionSubmitTransaction(requestWith(params));
+		var response = handler.handleConstructionSubmitTransaction(requestWith(params)).join();
 
 		assertNotNull(response);
 		assertTrue(response.has("result"));
@@ -228,6 +231,43 @@ public class ConstructionHandlerTest {
 		assertEquals(txn.getId(), result.get("txID"));
 	}
 
+	@Test
+	public void testSubmitTransactionBatch() {
+		var blob1 = randomBytes();
+		var blob2 = randomBytes();
+		var txn = Txn.create(blob1);
+
+		when(submissionService.submitTxBatch(any()))
+			.thenReturn(CompletableFuture.completedFuture(List.of(
+				Result.ok(txn),
+				SUBMISSION_FAILURE.with("rejected").<Txn>result()
+			)));
+
+		var params = jsonObject()
+			.put("blobs", jsonArray().put(Hex.toHexString(blob1)).put(Hex.toHexString(blob2)));
+
+		var response = handler.handleConstructionSubmitTransactionBatch(requestWith(params)).join();
+
+		assertNotNull(response);
+		assertTrue(response.has("result"));
+
+		var result = response.getJSONArray("result");
+
+		assertEquals(2, result.length());
+		assertEquals(txn.getId(), result.getJSONObject(0).get("txID"));
+		assertTrue(result.getJSONObject(1).has("error"));
+	}
+
+	@Test
+	public void testSubmitTransactionBatchRejectsEmptyBatch() {
+		var params = jsonObject().put("blobs", jsonArray());
+
+		var response = handler.handleConstructionSubmitTransactionBatch(requestWith(params)).join();
+
+		assertNotNull(response);
+		assertTrue(response.has("error"));
+	}
+
 	private String encodeToDer(ECDSASignature signature) {
 		try {
 			var vector = new ASN1EncodableVector();
@@ -18,20 +18,39 @@
 
 package com.radixdlt.api.server;
 
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.After;
 import org.junit.Test;
 
 import com.radixdlt.api.JsonRpcUtil.RpcError;
 
+import com.radixdlt.api.JsonRpcHandler;
+import com.radixdlt.utils.ThreadFactories;
+
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import static com.radixdlt.api.JsonRpcUtil.jsonArray;
 import static com.radixdlt.api.JsonRpcUtil.jsonObject;
+import static com.radixdlt.api.JsonRpcUtil.response;
 
 public class JsonRpcServerTest {
+	private final ExecutorService batchExecutor = JsonRpcServer.createBatchExecutor("TestJsonRpcBatch");
+
+	@After
+	public void tearDown() {
+		batchExecutor.shutdownNow();
+	}
+
 	@Test
 	public void when_send_json_rpc_request_with_no_id__return_json_error_response() {
-		var server = new JsonRpcServer(Map.of());
+		var server = new JsonRpcServer(Map.of(), batchExecutor);
 
 		var response = server.handle(jsonObject());
 
@@ -43,4 +62,82 @@ public class JsonRpcServerTest {
 		assertThat(response.getJSONObject("error").get("code")).isEqualTo(RpcError.INVALID_PARAMS.code());
 		assertThat(response.getJSONObject("error").getString("message")).isNotEmpty();
 	}
+
+	@Test
+	public void batch_responses_are_returned_in_request_order() {
+		JsonRpcHandler echo = request -> response(request, request.getJSONObject("params"));
+		var server = new JsonRpcServer(
+			Map.of("account.get_balances", echo, "construction.submit_transaction", echo),
+			batchExecutor
+		);
+
+		var batch = jsonArray();
+		for (int i = 0; i < 10; i++) {
+			var method = i % 3 == 0 ? "construction.submit_transaction" : "account.get_balances";
+			batch.put(jsonObject().put("id", i).put("method", method).put("params", jsonObject().put("n", i)));
+		}
+
+		var responses = (JSONArray) server.handleBody(batch).join();
+
+		assertThat(responses.length()).isEqualTo(10);
+		for (int i = 0; i < 10; i++) {
+			assertThat(responses.getJSONObject(i).getInt("id")).isEqualTo(i);
+			assertThat(responses.getJSONObject(i).getJSONObject("result").getInt("n")).isEqualTo(i);
+		}
+	}
+
+	@Test
+	public void batch_requests_are_not_executed_on_thread_completing_previous_request() {
+		var completer = Executors.newSingleThreadExecutor(ThreadFactories.daemonThreads("Completer"));
+		var threads = new ConcurrentHashMap<Integer, String>();
+		var submit = JsonRpcHandler.async(request -> {
+			threads.put(request.getInt("id"), Thread.currentThread().getName());
+			return CompletableFuture.supplyAsync(() -> response(request, jsonObject()), completer);
+		});
+		var server = new JsonRpcServer(Map.of("construction.submit_transaction", submit), batchExecutor);
+
+		var batch = jsonArray();
+		for (int i = 0; i < 3; i++) {
+			batch.put(jsonObject().put("id", i).put("method", "construction.submit_transaction"));
+		}
+
+		try {
+			var responses = (JSONArray) server.handleBody(batch).join();
+
+			assertThat(responses.length()).isEqualTo(3);
+			assertThat(threads).hasSize(3);
+			assertThat(threads.values()).allMatch(name -> name.startsWith("TestJsonRpcBatch"));
+		} finally {
+			completer.shutdownNow();
+		}
+	}
+
+	@Test
+	public void failed_request_in_batch_does_not_affect_others() {
+		JsonRpcHandler failing = request -> {
+			throw new IllegalStateException("failure");
+		};
+		var server = new JsonRpcServer(Map.of("account.get_balances", failing), batchExecutor);
+
+		var batch = jsonArray()
+			.put(jsonObject().put("id", 1).put("method", "account.get_balances"))
+			.put(jsonObject().put("id", 2).put("method", "account.unknown"))
+			.put(42);
+
+		var responses = (JSONArray) server.handleBody(batch).join();
+
+		assertThat(responses.length()).isEqualTo(3);
+		assertThat(responses.getJSONObject(0).getJSONObject("error").getInt("code")).isEqualTo(RpcError.SERVER_ERROR.code());
+		assertThat(responses.getJSONObject(1).getJSONObject("error").getInt("code")).isEqualTo(RpcError.METHOD_NOT_FOUND.code());
+		assertThat(responses.getJSONObject(2).getJSONObject("error").getInt("code")).isEqualTo(RpcError.INVALID_REQUEST.code());
+	}
+
+	@Test
+	public void empty_batch_is_rejected() {
+		var server = new JsonRpcServer(Map.of(), batchExecutor);
+
+		var response = (JSONObject) server.handleBody(jsonArray()).join();
+
+		assertThat(response.getJSONObject("error").getInt("code")).isEqualTo(RpcError.INVALID_REQUEST.code());
+	}
 }
@@ -70,6 +70,7 @@ import com.radixdlt.mempool.MempoolAdd;
 import com.radixdlt.mempool.MempoolAddFailure;
 import com.radixdlt.mempool.MempoolAddSuccess;
 import com.radixdlt.mempool.MempoolConfig;
+import com.radixdlt.mempool.MempoolRejectedException;
 import com.radixdlt.mempool.MempoolRelayTrigger;
 import com.radixdlt.serialization.Serialization;
 import com.radixdlt.statecomputer.AtomsRemovedFromMempool;
@@ -89,10 +90,13 @@ import com.radixdlt.utils.TypedMocks;
 import com.radixdlt.utils.UInt256;
 import com.radixdlt.utils.functional.Result;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -285,7 +289,7 @@ public class SubmissionServiceTest {
 			.onFailureDo(Assert::fail)
 			.flatMap(
 				prep -> signature.flatMap(
-					sig -> submissionService.finalizeTxn(prep.getBlob(), sig, false)
+					sig -> submissionService.finalizeTxnAsync(prep.getBlob(), sig, false).join()
 				)
 			)
 			.onFailure(failure -> Assert.fail(failure.message()))
@@ -301,14 +305,65 @@ public class SubmissionServiceTest {
 			.onFailureDo(Assert::fail)
 			.flatMap(
 				prep -> signature.flatMap(
-					sig -> submissionService.finalizeTxn(prep.getBlob(), sig, false)
+					sig -> submissionService.finalizeTxnAsync(prep.getBlob(), sig, false).join()
 				)
 			)
-			.flatMap(txn -> submissionService.submitTx(txn.getPayload(), Optional.of(txn.getId())))
+			.flatMap(txn -> submissionService.submitTxAsync(txn.getPayload(), Optional.of(txn.getId())).join())
 			.onFailure(failure -> Assert.fail(failure.message()))
 			.onSuccess(Assert::assertNotNull);
 	}
 
+	@Test
+	public void submission_times_out_if_mempool_does_not_respond() throws Exception {
+		var service = new SubmissionService(radixEngine, add -> { }, 50);
+
+		var result = service.submitTxAsync(new byte[] {1, 2, 3}, Optional.empty()).get(5, TimeUnit.SECONDS);
+
+		assertThat(result.isSuccess()).isFalse();
+		result.onFailure(failure -> assertThat(failure.message()).contains("timed out"));
+	}
+
+	@Test
+	public void batch_reports_outcome_of_each_submission_in_input_order() throws Exception {
+		var adds = new ArrayList<MempoolAdd>();
+		var service = new SubmissionService(radixEngine, adds::add, 10_000);
+		var blobs = List.of(new byte[] {1}, new byte[] {2}, new byte[] {3});
+
+		var batch = service.submitTxBatch(blobs);
+		assertThat(adds).hasSize(3);
+		// Completed in reverse order, with the middle one rejected
+		var last = adds.get(2);
+		last.onSuccess(MempoolAddSuccess.create(last.getTxns().get(0)));
+		adds.get(1).onFailure(new MempoolRejectedException("duplicate"));
+		var first = adds.get(0);
+		first.onSuccess(MempoolAddSuccess.create(first.getTxns().get(0)));
+		var results = batch.get(5, TimeUnit.SECONDS);
+
+		assertThat(results).hasSize(3);
+		assertThat(results.get(0).toOptional()).contains(first.getTxns().get(0));
+		assertThat(results.get(1).isSuccess()).isFalse();
+		results.get(1).onFailure(failure -> assertThat(failure.message()).contains("duplicate"));
+		assertThat(results.get(2).toOptional()).contains(last.getTxns().get(0));
+		assertThat(results.get(0).toOptional().orElseThrow().getPayload()).isEqualTo(blobs.get(0));
+		assertThat(results.get(2).toOptional().orElseThrow().getPayload()).isEqualTo(blobs.get(2));
+	}
+
+	@Test
+	public void batch_completes_only_after_all_submissions_complete() {
+		var adds = new ArrayList<MempoolAdd>();
+		var service = new SubmissionService(radixEngine, adds::add, 10_000);
+
+		var batch = service.submitTxBatch(List.of(new byte[] {1}, new byte[] {2}));
+		var first = adds.get(0);
+		first.onSuccess(MempoolAddSuccess.create(first.getTxns().get(0)));
+
+		assertThat(batch).isNotDone();
+
+		adds.get(1).onFailure(new MempoolRejectedException("rejected"));
+
+		assertThat(batch).isCompleted();
+	}
+
 	private Result<PreparedTransaction> buildTransaction() throws TxBuilderException, RadixEngineException {
 		var acct = REAddr.ofPubKeyAccount(key.getPublicKey());
 		var action = new TransferToken(nativeToken, acct, ALICE_ACCT, BIG_AMOUNT);
@@ -21,26 +21,20 @@ import org.junit.Test;
 
 import com.radixdlt.api.service.reducer.AllValidators;
 import com.radixdlt.application.validators.state.ValidatorMetaData;
-import com.radixdlt.consensus.LedgerProof;
-import com.radixdlt.constraintmachine.SubstateDeserialization;
 import com.radixdlt.crypto.ECPublicKey;
 import com.radixdlt.crypto.exception.PublicKeyException;
-import com.radixdlt.engine.parser.REParser;
+import com.radixdlt.engine.RadixEngine;
 import com.radixdlt.networks.Addressing;
 import com.radixdlt.networks.Network;
 import com.radixdlt.statecomputer.LedgerAndBFTProof;
-import com.radixdlt.statecomputer.forks.Forks;
-import com.radixdlt.statecomputer.forks.RERules;
-import com.radixdlt.store.EngineStore;
-import com.radixdlt.systeminfo.InMemorySystemInfo;
 import com.radixdlt.utils.UInt256;
 
 import java.util.Optional;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -112,17 +106,29 @@ public class ValidatorInfoServiceTest {
 		});
 	}
 
+	@Test
+	public void validatorIsLookedUpByKey() {
+		var validatorInfoService = setUpService();
+
+		validatorInfoService.getValidator(validator2)
+			.onFailure(failure -> fail(failure.message()))
+			.onSuccess(details -> assertEquals(UInt256.EIGHT, details.getTotalStake()));
+		assertTrue(validatorInfoService.getValidator(validator1).isSuccess());
+		assertEquals(3, validatorInfoService.getValidatorsCount());
+	}
+
+	@Test
+	public void sortedValidatorsAreReusedWhileStateIsUnchanged() {
+		var validatorInfoService = setUpService();
+
+		assertSame(validatorInfoService.getAllValidators(), validatorInfoService.getAllValidators());
+	}
+
 	@SuppressWarnings("unchecked")
 	private ValidatorInfoService setUpService() {
-		var engineStore = (EngineStore<LedgerAndBFTProof>) mock(EngineStore.class);
-		var inMemorySystemInfo = mock(InMemorySystemInfo.class);
-		var forks = mock(Forks.class);
-		var rules = mock(RERules.class);
-		var parser = mock(REParser.class);
+		var radixEngine = (RadixEngine<LedgerAndBFTProof>) mock(RadixEngine.class);
 
-		var validatorInfoService = new ValidatorInfoService(
-			engineStore, forks, inMemorySystemInfo, Addressing.ofNetwork(Network.LOCALNET)
-		);
+		var validatorInfoService = new ValidatorInfoService(radixEngine, Addressing.ofNetwork(Network.LOCALNET));
 
 		var particle1 = new ValidatorMetaData(validator1, "V1", "http://v1.com");
 		var particle2 = new ValidatorMetaData(validator2, "V2", "http://v2.com");
@@ -135,11 +141,7 @@ public class ValidatorInfoServiceTest {
 			.setStake(validator2, UInt256.EIGHT)
 			.setStake(validator3, UInt256.TEN);
 
-		when(inMemorySystemInfo.getCurrentProof()).thenReturn(LedgerProof.mock());
-		when(forks.get(anyLong())).thenReturn(rules);
-		when(rules.getParser()).thenReturn(parser);
-		when(parser.getSubstateDeserialization()).thenReturn(mock(SubstateDeserialization.class));
-		when(engineStore.reduceUpParticles(any(), any(), any(), any())).thenReturn(validators);
+		when(radixEngine.getComputedState(AllValidators.class)).thenReturn(validators);
 
 		return validatorInfoService;
 	}
@@ -46,7 +46,9 @@ import com.radixdlt.DefaultSerialization;
 import com.radixdlt.SingleNodeAndPeersDeterministicNetworkModule;
 import com.radixdlt.api.construction.TxnParser;
 import com.radixdlt.api.data.ActionType;
+import com.radixdlt.api.data.ScheduledQueueFlush;
 import com.radixdlt.api.store.ClientApiStore.BalanceType;
+import com.radixdlt.api.store.ClientApiStoreException;
 import com.radixdlt.api.store.TransactionParser;
 import com.radixdlt.atom.FixedTokenDefinition;
 import com.radixdlt.atom.MutableTokenDefinition;
@@ -58,6 +60,7 @@ import com.radixdlt.atom.actions.CreateMutableToken;
 import com.radixdlt.constraintmachine.PermissionLevel;
 import com.radixdlt.constraintmachine.REProcessedTxn;
 import com.radixdlt.counters.SystemCounters;
+import com.radixdlt.counters.SystemCounters.CounterType;
 import com.radixdlt.crypto.ECKeyPair;
 import com.radixdlt.crypto.ECPublicKey;
 import com.radixdlt.engine.RadixEngine;
@@ -70,6 +73,7 @@ import com.radixdlt.mempool.MempoolConfig;
 import com.radixdlt.qualifier.NumPeers;
 import com.radixdlt.serialization.Serialization;
 import com.radixdlt.statecomputer.LedgerAndBFTProof;
+import com.radixdlt.statecomputer.REOutput;
 import com.radixdlt.statecomputer.checkpoint.MockedGenesisModule;
 import com.radixdlt.statecomputer.forks.RadixEngineForksLatestOnlyModule;
 import com.radixdlt.store.DatabaseEnvironment;
@@ -84,17 +88,25 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.function.Consumer;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import static com.google.common.primitives.UnsignedBytes.lexicographicalComparator;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class BerkeleyClientApiStoreTest {
@@ -194,6 +206,90 @@ public class BerkeleyClientApiStoreTest {
 			.onFailureDo(() -> fail("Failure is not expected here"));
 	}
 
+	@Test
+	public void tokenBalancesAreLimitedToAddressAndType() throws Exception {
+		var tokenDef = prepareMutableTokenDef(TOKEN_KEYPAIR.getPublicKey(), SYMBOL);
+		var tx = engine.construct(
+			TxnConstructionRequest.create()
+				.createMutableToken(tokenDef)
+				.mint(TOKEN, TOKEN_ACCOUNT, UInt256.EIGHT)
+		).signAndBuild(TOKEN_KEYPAIR::sign);
+
+		var clientApiStore = prepareApiStore(tx);
+
+		clientApiStore.getTokenBalances(TOKEN_ACCOUNT, BalanceType.STAKES)
+			.onSuccess(list -> assertTrue(list.isEmpty()))
+			.onFailure(this::failWithMessage);
+
+		clientApiStore.getTokenBalances(OWNER_ACCOUNT, BalanceType.SPENDABLE)
+			.onSuccess(list -> assertTrue(list.isEmpty()))
+			.onFailure(this::failWithMessage);
+
+		// Second lookup is served from the cache
+		for (int i = 0; i < 2; i++) {
+			clientApiStore.getTokenBalances(TOKEN_ACCOUNT, BalanceType.SPENDABLE)
+				.onSuccess(list -> {
+					assertEquals(1, list.size());
+					assertEquals(UInt384.EIGHT, list.get(0).getAmount());
+				})
+				.onFailure(this::failWithMessage);
+		}
+	}
+
+	@Test
+	public void balanceReadDuringWriteIsNotCachedPastCommit() throws Exception {
+		// Receiver keys sort after the sender keys, so reading the receiver balances does not
+		// run into the sender balance locked by the write transaction
+		var receiver = Stream.generate(ECKeyPair::generateNew)
+			.map(keyPair -> REAddr.ofPubKeyAccount(keyPair.getPublicKey()))
+			.filter(addr -> lexicographicalComparator().compare(addr.getBytes(), TOKEN_ACCOUNT.getBytes()) > 0)
+			.findFirst()
+			.orElseThrow();
+		var tokenDef = prepareMutableTokenDef(TOKEN_KEYPAIR.getPublicKey(), SYMBOL);
+		var tx = engine.construct(
+			TxnConstructionRequest.create()
+				.createMutableToken(tokenDef)
+				.mint(TOKEN, TOKEN_ACCOUNT, UInt256.EIGHT)
+				.transfer(TOKEN, TOKEN_ACCOUNT, receiver, UInt256.FOUR)
+		).signAndBuild(TOKEN_KEYPAIR::sign);
+
+		var counters = mock(SystemCounters.class);
+		var clientApiStore = prepareApiStore(tx, new HashMap<>(), counters);
+
+		var transfer = engine.construct(
+			TxnConstructionRequest.create()
+				.transfer(TOKEN, TOKEN_ACCOUNT, receiver, UInt256.TWO)
+		).signAndBuild(TOKEN_KEYPAIR::sign);
+		var processed = engine.execute(List.of(transfer), LedgerAndBFTProof.create(ledgerProof(4, 10)), PermissionLevel.SUPER_USER)
+			.getProcessedTxns();
+
+		// Read the receiver balances from another thread whenever the write transaction reads a balance
+		var writer = Thread.currentThread();
+		var interleave = new AtomicBoolean(true);
+		var interleavedReads = new CopyOnWriteArrayList<UInt384>();
+		doAnswer(invocation -> {
+			if (interleave.get() && Thread.currentThread() == writer) {
+				var reader = new Thread(() -> clientApiStore.getTokenBalances(receiver, BalanceType.SPENDABLE)
+					.onSuccess(list -> list.forEach(entry -> interleavedReads.add(entry.getAmount()))));
+				reader.start();
+				reader.join(5000);
+			}
+			return 0L;
+		}).when(counters).add(eq(CounterType.ELAPSED_APIDB_BALANCE_READ), anyLong());
+
+		clientApiStore.atomsCommittedToLedgerEventProcessor().process(REOutput.create(processed));
+		clientApiStore.queueFlushProcessor().process(ScheduledQueueFlush.create());
+		interleave.set(false);
+
+		assertTrue(interleavedReads.contains(UInt384.FOUR));
+		clientApiStore.getTokenBalances(receiver, BalanceType.SPENDABLE)
+			.onSuccess(list -> {
+				assertEquals(1, list.size());
+				assertEquals(UInt384.SIX, list.get(0).getAmount());
+			})
+			.onFailure(this::failWithMessage);
+	}
+
 	@Test
 	public void tokenSupplyIsCalculateProperlyForInitialTokenIssuance() throws Exception {
 		var tokenDef = prepareMutableTokenDef(TOKEN_KEYPAIR.getPublicKey(), SYMBOL);
@@ -322,6 +418,24 @@ public class BerkeleyClientApiStoreTest {
 			.onSuccess(entry -> assertEquals(tx.getId(), entry.getTxId()));
 	}
 
+	@Test
+	public void singleTransactionIsLocatedByIdWithoutLedgerLookup() throws Exception {
+		var tokenDef = prepareMutableTokenDef(TOKEN_KEYPAIR.getPublicKey(), SYMBOL);
+		var tx = engine.construct(
+			TxnConstructionRequest.create()
+				.createMutableToken(tokenDef)
+				.mint(TOKEN, TOKEN_ACCOUNT, UInt256.TEN)
+		).signAndBuild(TOKEN_KEYPAIR::sign);
+
+		var clientApiStore = prepareApiStore(tx);
+
+		clientApiStore.getTransaction(tx.getId())
+			.onFailure(this::failWithMessage)
+			.onSuccess(entry -> assertEquals(tx.getId(), entry.getTxId()));
+
+		verify(ledgerStore, never()).get(any(AID.class));
+	}
+
 	@Test
 	public void incorrectPageSizeIsRejected() throws TxBuilderException, RadixEngineException {
 		var tokenDef = prepareMutableTokenDef(TOKEN_KEYPAIR.getPublicKey(), SYMBOL);
@@ -338,17 +452,83 @@ public class BerkeleyClientApiStoreTest {
 			.onSuccess(list -> fail("Request must be rejected"));
 	}
 
+	@Test
+	public void interruptedRebuildIsResumedAfterLastAppliedBatch() throws Exception {
+		var tokenDef = prepareMutableTokenDef(TOKEN_KEYPAIR.getPublicKey(), SYMBOL);
+		var tx = engine.construct(
+			TxnConstructionRequest.create()
+				.createMutableToken(tokenDef)
+				.mint(TOKEN, TOKEN_ACCOUNT, UInt256.EIGHT)
+				.transfer(TOKEN, TOKEN_ACCOUNT, OWNER_ACCOUNT, UInt256.FOUR)
+		).signAndBuild(TOKEN_KEYPAIR::sign);
+		var transactions = executeAfterNextRound(tx, new HashMap<>());
+
+		// Two batches worth of transactions, without any balance changes, are read before the rebuild
+		// is interrupted. Only the first batch is applied by then.
+		var appliedBatch = 1000L;
+		var skipped = Stream.generate(() -> Txn.create(new byte[] {0}))
+			.limit(2 * appliedBatch)
+			.collect(Collectors.toList());
+		doAnswer(invocation -> {
+			replay(skipped, invocation.<Long>getArgument(0), invocation.getArgument(1));
+			throw new IllegalStateException("Rebuild interrupted");
+		}).when(ledgerStore).forEachCommitted(anyLong(), any());
+
+		try {
+			createApiStore(mock(SystemCounters.class));
+			fail("Rebuild must be interrupted");
+		} catch (ClientApiStoreException e) {
+			// Expected
+		}
+
+		doAnswer(invocation -> {
+			replay(transactions, invocation.<Long>getArgument(0), invocation.getArgument(1));
+			return null;
+		}).when(ledgerStore).forEachCommitted(anyLong(), any());
+
+		var clientApiStore = createApiStore(mock(SystemCounters.class));
+
+		verify(ledgerStore).forEachCommitted(eq(appliedBatch), any());
+		clientApiStore.getTokenBalances(OWNER_ACCOUNT, BalanceType.SPENDABLE)
+			.onSuccess(list -> {
+				assertEquals(1, list.size());
+				assertEquals(UInt384.FOUR, list.get(0).getAmount());
+			})
+			.onFailureDo(() -> fail("Failure is not expected here"));
+		clientApiStore.getTokenBalances(TOKEN_ACCOUNT, BalanceType.SPENDABLE)
+			.onSuccess(list -> {
+				assertEquals(1, list.size());
+				assertEquals(UInt384.FOUR, list.get(0).getAmount());
+			})
+			.onFailureDo(() -> fail("Failure is not expected here"));
+	}
+
 	private BerkeleyClientApiStore prepareApiStore(Txn tx) throws TxBuilderException, RadixEngineException {
 		return prepareApiStore(tx, new HashMap<>());
 	}
 
-	@SuppressWarnings("unchecked")
 	private BerkeleyClientApiStore prepareApiStore(Txn tx, Map<AID, Txn> txMap) throws TxBuilderException, RadixEngineException {
-		var ledgerProof = new LedgerProof(
-			HashUtils.random256(),
-			LedgerHeader.create(0, View.of(9), new AccumulatorState(3, HashUtils.zero256()), 0),
-			new TimestampedECDSASignatures()
-		);
+		return prepareApiStore(tx, txMap, mock(SystemCounters.class));
+	}
+
+	private BerkeleyClientApiStore prepareApiStore(
+		Txn tx,
+		Map<AID, Txn> txMap,
+		SystemCounters systemCounters
+	) throws TxBuilderException, RadixEngineException {
+		var transactions = executeAfterNextRound(tx, txMap);
+
+		//Insert necessary values on DB rebuild
+		doAnswer(invocation -> {
+			replay(transactions, 0L, invocation.getArgument(1));
+			return null;
+		}).when(ledgerStore).forEachCommitted(anyLong(), any());
+
+		return createApiStore(systemCounters);
+	}
+
+	private List<Txn> executeAfterNextRound(Txn tx, Map<AID, Txn> txMap) throws TxBuilderException, RadixEngineException {
+		var ledgerProof = ledgerProof(3, 9);
 		var tx1 = engine.construct(new NextRound(1, true, 2, i -> self))
 			.buildWithoutSignature();
 		var transactions = engine.execute(List.of(tx1, tx), LedgerAndBFTProof.create(ledgerProof), PermissionLevel.SUPER_USER)
@@ -362,19 +542,24 @@ public class BerkeleyClientApiStoreTest {
 		when(ledgerStore.get(any(AID.class)))
 			.thenAnswer(invocation -> Optional.ofNullable(txMap.get(invocation.getArgument(0, AID.class))));
 
-		//Insert necessary values on DB rebuild
-		doAnswer(invocation -> {
-			transactions.forEach(invocation.<Consumer<Txn>>getArgument(0));
-			return null;
-		}).when(ledgerStore).forEach(any(Consumer.class));
+		return transactions;
+	}
+
+	private static void replay(List<Txn> transactions, long afterStateVersion, BiConsumer<Long, Txn> consumer) {
+		for (int i = 0; i < transactions.size(); i++) {
+			consumer.accept(afterStateVersion + i + 1, transactions.get(i));
+		}
+	}
 
+	@SuppressWarnings("unchecked")
+	private BerkeleyClientApiStore createApiStore(SystemCounters systemCounters) {
 		return new BerkeleyClientApiStore(
 			environment,
 			parser,
 			txnParser,
 			ledgerStore,
 			serialization,
-			mock(SystemCounters.class),
+			systemCounters,
 			mock(ScheduledEventDispatcher.class),
 			new TransactionParser(addressing),
 			true,
@@ -383,6 +568,14 @@ public class BerkeleyClientApiStoreTest {
 		);
 	}
 
+	private static LedgerProof ledgerProof(long stateVersion, long view) {
+		return new LedgerProof(
+			HashUtils.random256(),
+			LedgerHeader.create(0, View.of(view), new AccumulatorState(stateVersion, HashUtils.zero256()), 0),
+			new TimestampedECDSASignatures()
+		);
+	}
+
 	private void failWithMessage(com.radixdlt.utils.functional.Failure failure) {
 		fail(failure.message());
 	}
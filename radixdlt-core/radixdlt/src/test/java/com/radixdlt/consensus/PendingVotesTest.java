@@ -29,6 +29,7 @@ import com.radixdlt.consensus.bft.View;
 import com.radixdlt.consensus.bft.ViewVotingResult;
 import com.radixdlt.consensus.bft.VoteProcessingResult;
 import com.radixdlt.consensus.bft.VoteProcessingResult.VoteRejected.VoteRejectedReason;
+import com.radixdlt.consensus.liveness.VoteTimeout;
 import com.radixdlt.crypto.ECDSASignature;
 import com.radixdlt.crypto.HashUtils;
 import com.radixdlt.crypto.Hasher;
@@ -269,6 +270,8 @@ public class PendingVotesTest {
 		VoteData voteData = new VoteData(proposed, parent, null);
 		when(vote.getHashOfData(any()))
 			.thenReturn(Vote.getHashOfData(hasher, voteData, 123456L));
+		when(vote.getVoteDataHash(any())).thenReturn(hasher.hash(voteData));
+		when(vote.getTimeoutHash(any())).thenAnswer(invocation -> hasher.hash(VoteTimeout.of(vote)));
 		when(vote.getVoteData()).thenReturn(voteData);
 		when(vote.getTimestamp()).thenReturn(123456L);
 		when(vote.getAuthor()).thenReturn(author);
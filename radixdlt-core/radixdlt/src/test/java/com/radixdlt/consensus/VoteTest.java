@@ -21,10 +21,13 @@ import org.junit.Before;
 import org.junit.Test;
 
 import com.google.common.hash.HashCode;
+import com.google.common.primitives.Longs;
 import com.radixdlt.consensus.bft.BFTNode;
 import com.radixdlt.consensus.bft.View;
+import com.radixdlt.consensus.liveness.VoteTimeout;
 import com.radixdlt.crypto.ECDSASignature;
 import com.radixdlt.crypto.HashUtils;
+import com.radixdlt.crypto.Hasher;
 
 import java.util.Optional;
 
@@ -32,7 +35,11 @@ import nl.jqno.equalsverifier.EqualsVerifier;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class VoteTest {
 	private BFTNode author;
@@ -52,6 +59,7 @@ public class VoteTest {
 	@Test
 	public void equalsContract() {
 		EqualsVerifier.forClass(Vote.class)
+			.withIgnoredFields("hashes")
 			.withPrefabValues(HashCode.class, HashUtils.random256(), HashUtils.random256())
 			.verify();
 	}
@@ -64,6 +72,48 @@ public class VoteTest {
 		assertEquals(this.highQC, this.testObject.highQC());
 	}
 
+	@Test
+	public void hashing_twice_with_same_hasher_should_hash_vote_data_once() {
+		var hasher = hasher();
+
+		var voteDataHash = this.testObject.getVoteDataHash(hasher);
+		var dataHash = this.testObject.getHashOfData(hasher);
+
+		assertThat(this.testObject.getVoteDataHash(hasher)).isEqualTo(voteDataHash);
+		assertThat(this.testObject.getHashOfData(hasher)).isEqualTo(dataHash);
+		assertThat(dataHash).isEqualTo(Vote.getHashOfData(hasher(), this.voteData, this.testObject.getTimestamp()));
+		verify(hasher, times(1)).hash(this.voteData);
+	}
+
+	@Test
+	public void hashing_with_different_hasher_should_hash_again() {
+		var hasher = hasher();
+		var otherHasher = hasher();
+		this.testObject.getHashOfData(hasher);
+
+		var dataHash = this.testObject.getHashOfData(otherHasher);
+
+		assertThat(dataHash).isEqualTo(this.testObject.getHashOfData(hasher));
+		verify(hasher, times(1)).hash(this.voteData);
+		verify(otherHasher, times(1)).hash(this.voteData);
+	}
+
+	@Test
+	public void timeout_hash_should_be_hash_of_vote_timeout() {
+		var hasher = hasher();
+		var timeoutVote = this.testObject.withTimeoutSignature(ECDSASignature.zeroSignature());
+
+		assertThat(timeoutVote.getTimeoutHash(hasher)).isEqualTo(hasher.hash(VoteTimeout.of(timeoutVote)));
+		assertThat(this.testObject.getTimeoutHash(hasher)).isEqualTo(hasher.hash(VoteTimeout.of(this.testObject)));
+	}
+
+	private static Hasher hasher() {
+		var hasher = mock(Hasher.class);
+		when(hasher.hash(any())).thenAnswer(i -> HashUtils.sha256(Longs.toByteArray(i.getArgument(0).hashCode())));
+		when(hasher.hashBytes(any())).thenAnswer(i -> HashUtils.sha256((byte[]) i.getArgument(0)));
+		return hasher;
+	}
+
 	@Test
 	public void testToString() {
 		assertThat(this.testObject.toString())
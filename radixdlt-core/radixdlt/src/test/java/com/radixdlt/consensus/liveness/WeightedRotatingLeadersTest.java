@@ -30,12 +30,14 @@ import com.radixdlt.consensus.bft.BFTValidator;
 import com.radixdlt.consensus.bft.BFTValidatorSet;
 import com.radixdlt.crypto.ECKeyPair;
 import com.radixdlt.utils.KeyComparator;
+import com.radixdlt.utils.PrivateKeys;
 import com.radixdlt.utils.UInt256;
 
 import java.util.Comparator;
 import java.util.Map;
 import java.util.function.Supplier;
 import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 import org.junit.Test;
 
@@ -114,6 +116,98 @@ public class WeightedRotatingLeadersTest {
 		}
 	}
 
+	@Test
+	public void when_get_proposer_with_schedule__then_should_return_same_result_as_without() {
+		final int validatorSetSize = 8;
+		this.validatorsInOrder = IntStream.rangeClosed(1, validatorSetSize)
+			.mapToObj(p -> BFTValidator.from(BFTNode.random(), UInt256.from(p)))
+			.collect(ImmutableList.toImmutableList());
+		BFTValidatorSet validatorSet = BFTValidatorSet.from(validatorsInOrder);
+
+		final int scheduleSize = 50;
+		final int viewsToTest = 4 * scheduleSize;
+		WeightedRotatingLeaders unscheduled = new WeightedRotatingLeaders(validatorSet, 4);
+		BFTNode[] expected = Stream.iterate(View.of(0), View::next)
+			.limit(viewsToTest)
+			.map(unscheduled::getProposer)
+			.toArray(BFTNode[]::new);
+
+		WeightedRotatingLeaders scheduled = new WeightedRotatingLeaders(validatorSet, 4, scheduleSize);
+		for (int view = 0; view < viewsToTest; view++) {
+			assertThat(scheduled.getProposer(View.of(view))).isEqualTo(expected[view]);
+		}
+		// Views behind the cache window past the end of the schedule
+		for (int view = viewsToTest - 1; view >= 0; view -= 7) {
+			assertThat(scheduled.getProposer(View.of(view))).isEqualTo(expected[view]);
+		}
+	}
+
+	// Golden sequences computed with the implementation preceding the proposer schedule,
+	// given as the numeric private key of the proposer of each view starting at genesis
+	@Test
+	public void when_get_proposer__then_sequence_matches_previous_implementation() {
+		assertProposers(
+			powers(5, 3, 2, 1),
+			4, 1, 2, 3, 1, 2, 1, 3, 1, 2, 1, 4, 1, 2, 3, 1, 2, 1, 3, 1,
+			2, 1, 4, 1, 2, 3, 1, 2, 1, 3, 1, 2, 1, 4, 1, 2, 3, 1, 2, 1
+		);
+		assertProposers(
+			powers(7, 7, 3, 1, 1),
+			5, 1, 2, 3, 4, 1, 2, 1, 2, 3, 1, 2, 1, 2, 3, 1, 2, 1, 2, 5,
+			1, 2, 3, 4, 1, 2, 1, 2, 3, 1, 2, 1, 2, 3, 1, 2, 1, 2, 5, 1
+		);
+		// Powers of 2^128 and above
+		assertProposers(
+			new UInt256[] {UInt256.ONE.shiftLeft(200), UInt256.ONE.shiftLeft(199).increment(), UInt256.THREE},
+			1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1
+		);
+	}
+
+	@Test
+	public void when_get_proposer_far_view__then_matches_previous_implementation() {
+		BFTValidatorSet validatorSet = numericKeyValidators(powers(5, 3, 2, 1));
+		WeightedRotatingLeaders leaders = new WeightedRotatingLeaders(validatorSet);
+		assertThat(leaders.getProposer(View.of(1000))).isEqualTo(numericKeyNode(1));
+		assertThat(leaders.getProposer(View.of(1001))).isEqualTo(numericKeyNode(4));
+		assertThat(leaders.getProposer(View.of(1002))).isEqualTo(numericKeyNode(1));
+		assertThat(leaders.getProposer(View.of(10_000))).isEqualTo(numericKeyNode(1));
+		assertThat(leaders.getProposer(View.of(10_001))).isEqualTo(numericKeyNode(2));
+	}
+
+	private static void assertProposers(UInt256[] powers, int... expectedKeys) {
+		BFTValidatorSet validatorSet = numericKeyValidators(powers);
+		BFTNode[] expected = IntStream.of(expectedKeys)
+			.mapToObj(WeightedRotatingLeadersTest::numericKeyNode)
+			.toArray(BFTNode[]::new);
+
+		WeightedRotatingLeaders inOrder = new WeightedRotatingLeaders(validatorSet, 4);
+		WeightedRotatingLeaders scheduled = WeightedRotatingLeaders.forEpoch(validatorSet, View.of(expected.length / 2));
+		for (int view = 0; view < expected.length; view++) {
+			assertThat(inOrder.getProposer(View.of(view))).isEqualTo(expected[view]);
+			assertThat(scheduled.getProposer(View.of(view))).isEqualTo(expected[view]);
+		}
+		// Most views fall behind the cache window
+		WeightedRotatingLeaders reversed = new WeightedRotatingLeaders(validatorSet, 4);
+		for (int view = expected.length - 1; view >= 0; view--) {
+			assertThat(reversed.getProposer(View.of(view))).isEqualTo(expected[view]);
+		}
+	}
+
+	private static UInt256[] powers(long... powers) {
+		return LongStream.of(powers).mapToObj(UInt256::from).toArray(UInt256[]::new);
+	}
+
+	private static BFTValidatorSet numericKeyValidators(UInt256[] powers) {
+		return BFTValidatorSet.from(
+			IntStream.range(0, powers.length)
+				.mapToObj(i -> BFTValidator.from(numericKeyNode(i + 1), powers[i]))
+		);
+	}
+
+	private static BFTNode numericKeyNode(int key) {
+		return BFTNode.create(PrivateKeys.ofNumeric(key).getPublicKey());
+	}
+
 	@Test
 	public void when_validators_distributed_by_fibonacci__then_leaders_also_distributed_in_fibonacci() {
 		// fibonacci sequence can quickly explode so keep sizes small
@@ -20,8 +20,10 @@ package com.radixdlt.ledger;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -52,10 +54,12 @@ import com.radixdlt.utils.Pair;
 import com.radixdlt.utils.TypedMocks;
 
 import com.radixdlt.utils.UInt256;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
 import java.util.stream.Stream;
 import org.junit.Before;
 import org.junit.Test;
@@ -232,4 +236,62 @@ public class StateComputerLedgerTest {
 		verify(stateComputer, never()).commit(any(), any());
 		verify(mempool, never()).committed(any());
 	}
+
+	@Test
+	public void batches_queued_while_committing_are_committed_as_one_group() throws Exception {
+		// Arrange
+		genesisIsEndOfEpoch(false);
+		when(headerComparator.compare(any(), any()))
+			.thenAnswer(i -> Long.compare(
+				i.<LedgerProof>getArgument(0).getStateVersion(),
+				i.<LedgerProof>getArgument(1).getStateVersion()
+			));
+		var first = nextBatch(currentLedgerHeader.getAccumulatorState(), 1);
+		var second = nextBatch(first.getProof().getAccumulatorState(), 2);
+		var third = nextBatch(second.getProof().getAccumulatorState(), 3);
+
+		var committing = new CountDownLatch(1);
+		var release = new CountDownLatch(1);
+		doAnswer(i -> {
+			committing.countDown();
+			release.await();
+			return null;
+		}).when(stateComputer).commit(any(), any());
+
+		// Act
+		var committers = new ArrayList<Thread>();
+		for (var batch : List.of(first, second, third)) {
+			var committer = new Thread(() -> sut.syncEventProcessor().process(batch));
+			committer.start();
+			committers.add(committer);
+			if (batch == first) {
+				committing.await();
+			} else {
+				// Queued up in order behind the first commit
+				while (committer.getState() != Thread.State.BLOCKED) {
+					Thread.sleep(1);
+				}
+			}
+		}
+		release.countDown();
+		for (var committer : committers) {
+			committer.join();
+		}
+
+		// Assert
+		verify(stateComputer, times(1)).commit(any(), any());
+		verify(stateComputer).commit(first, null);
+		verify(stateComputer).commitGroup(List.of(Pair.of(second, null), Pair.of(third, null)));
+	}
+
+	private VerifiedTxnsAndProof nextBatch(AccumulatorState parent, int txnId) {
+		var txn = Txn.create(new byte[] {(byte) txnId});
+		var accumulatorState = accumulator.accumulate(parent, txn.getId().asHashCode());
+		var header = new LedgerProof(
+			HashUtils.random256(),
+			LedgerHeader.create(genesisEpoch, View.of(txnId), accumulatorState, 1234),
+			new TimestampedECDSASignatures()
+		);
+		return VerifiedTxnsAndProof.create(List.of(txn), header);
+	}
 }
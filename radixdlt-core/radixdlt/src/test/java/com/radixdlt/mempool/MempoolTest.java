@@ -225,6 +225,26 @@ public class MempoolTest {
 		assertThat(systemCounters.get(CounterType.MEMPOOL_COUNT)).isEqualTo(2);
 	}
 
+	@Test
+	public void conflicting_commands_should_not_be_proposed_together() throws Exception {
+		// Arrange
+		getInjector().injectMembers(this);
+		ECKeyPair keyPair = ECKeyPair.generateNew();
+		var txn = createTxn(keyPair, 2);
+		processor.handleMessage(getFirstPeer(), MempoolAdd.create(txn), null);
+		var txn2 = createTxn(keyPair, 1);
+		processor.handleMessage(getFirstPeer(), MempoolAdd.create(txn2), null);
+		var txn3 = createTxn(ECKeyPair.generateNew(), 1);
+		processor.handleMessage(getFirstPeer(), MempoolAdd.create(txn3), null);
+
+		// Act
+		var proposed = stateComputer.getNextTxnsFromMempool(List.of());
+
+		// Assert
+		assertThat(proposed).hasSize(2).contains(txn3);
+		assertThat(systemCounters.get(CounterType.MEMPOOL_COUNT)).isEqualTo(3);
+	}
+
 	@Test
 	public void add_bad_command_to_mempool() {
 		// Arrange
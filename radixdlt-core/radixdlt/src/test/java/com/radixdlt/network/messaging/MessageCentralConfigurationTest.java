@@ -36,12 +36,14 @@ public class MessageCentralConfigurationTest {
 
         when(properties.get(eq("messaging.inbound.queue_max"), anyInt())).thenReturn(100);
         when(properties.get(eq("messaging.outbound.queue_max"), anyInt())).thenReturn(102);
+        when(properties.get(eq("messaging.outbound.peer_queue_max"), anyInt())).thenReturn(103);
         when(properties.get(eq("messaging.time_to_live"), anyLong())).thenReturn(104L);
 
         MessageCentralConfiguration config = MessageCentralConfiguration.fromRuntimeProperties(properties);
 
         assertEquals(100, config.messagingInboundQueueMax(-1));
         assertEquals(102, config.messagingOutboundQueueMax(-1));
+        assertEquals(103, config.messagingOutboundPeerQueueMax(-1));
         assertEquals(104, config.messagingTimeToLive(-1));
     }
 }
\ No newline at end of file
@@ -0,0 +1,193 @@
+/*
+ * (C) Copyright 2021 Radix DLT Ltd
+ *
+ * Radix DLT Ltd licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package com.radixdlt.network.messaging;
+
+import org.junit.After;
+import org.junit.Test;
+import org.radix.network.messaging.Message;
+
+import com.radixdlt.counters.SystemCounters;
+import com.radixdlt.counters.SystemCounters.CounterType;
+import com.radixdlt.counters.SystemCountersImpl;
+import com.radixdlt.crypto.ECKeyPair;
+import com.radixdlt.network.p2p.NodeId;
+import com.radixdlt.network.p2p.PeerControl;
+import com.radixdlt.network.p2p.PeerManager;
+import com.radixdlt.network.p2p.transport.PeerChannel;
+import com.radixdlt.serialization.Serialization;
+import com.radixdlt.utils.TimeSupplier;
+import com.radixdlt.utils.functional.Result;
+import io.reactivex.rxjava3.core.Observable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class MessageCentralImplTest {
+	private final NodeId slowPeer = NodeId.fromPublicKey(ECKeyPair.generateNew().getPublicKey());
+	private final NodeId otherPeer = NodeId.fromPublicKey(ECKeyPair.generateNew().getPublicKey());
+	private final CountDownLatch slowPeerEntered = new CountDownLatch(1);
+	private final CountDownLatch slowPeerReleased = new CountDownLatch(1);
+	private final List<Message> dispatched = Collections.synchronizedList(new ArrayList<>());
+	private final SystemCounters counters = new SystemCountersImpl();
+	private final PeerChannel channel = mock(PeerChannel.class);
+	private MessageCentralImpl messageCentral;
+
+	@After
+	public void tearDown() {
+		slowPeerReleased.countDown();
+		if (messageCentral != null) {
+			messageCentral.close();
+		}
+	}
+
+	@Test
+	public void messages_to_a_peer_are_dispatched_in_order() {
+		createMessageCentral(16, 16);
+		var messages = messages(10);
+
+		messages.forEach(message -> messageCentral.send(otherPeer, message));
+
+		verify(channel, timeout(5000).times(10)).send(any());
+		assertThat(dispatched).containsExactlyElementsOf(messages);
+		assertThat(counters.get(CounterType.MESSAGES_OUTBOUND_PENDING)).isZero();
+	}
+
+	@Test
+	public void slow_peer_does_not_hold_up_other_peers() throws InterruptedException {
+		createMessageCentral(16, 16);
+		var slowMessage = mock(Message.class);
+		var otherMessage = mock(Message.class);
+
+		messageCentral.send(slowPeer, slowMessage);
+		assertThat(slowPeerEntered.await(5, TimeUnit.SECONDS)).isTrue();
+		messageCentral.send(otherPeer, otherMessage);
+
+		verify(channel, timeout(5000).times(1)).send(any());
+		assertThat(dispatched).containsExactly(slowMessage, otherMessage);
+
+		slowPeerReleased.countDown();
+		verify(channel, timeout(5000).times(2)).send(any());
+	}
+
+	@Test
+	public void messages_over_the_peer_queue_limit_are_dropped() throws InterruptedException {
+		createMessageCentral(16, 2);
+		var messages = messages(4);
+
+		messageCentral.send(slowPeer, messages.get(0));
+		assertThat(slowPeerEntered.await(5, TimeUnit.SECONDS)).isTrue();
+		messages.subList(1, 4).forEach(message -> messageCentral.send(slowPeer, message));
+
+		assertThat(counters.get(CounterType.MESSAGES_OUTBOUND_DROPPED)).isEqualTo(1);
+		assertThat(counters.get(CounterType.MESSAGES_OUTBOUND_PENDING)).isEqualTo(2);
+
+		slowPeerReleased.countDown();
+		verify(channel, timeout(5000).times(3)).send(any());
+		assertThat(dispatched).containsExactlyElementsOf(messages.subList(0, 3));
+	}
+
+	@Test
+	public void messages_over_the_total_queue_limit_are_dropped() throws InterruptedException {
+		createMessageCentral(2, 16);
+		var messages = messages(4);
+
+		messageCentral.send(slowPeer, messages.get(0));
+		assertThat(slowPeerEntered.await(5, TimeUnit.SECONDS)).isTrue();
+		messageCentral.send(slowPeer, messages.get(1));
+		messageCentral.send(slowPeer, messages.get(2));
+		messageCentral.send(otherPeer, messages.get(3));
+
+		assertThat(counters.get(CounterType.MESSAGES_OUTBOUND_DROPPED)).isEqualTo(1);
+		assertThat(counters.get(CounterType.MESSAGES_OUTBOUND_PENDING)).isEqualTo(2);
+
+		slowPeerReleased.countDown();
+		verify(channel, timeout(5000).times(3)).send(any());
+		assertThat(dispatched).containsExactlyElementsOf(messages.subList(0, 3));
+	}
+
+	@Test
+	public void messages_sent_after_close_are_dropped() {
+		createMessageCentral(16, 16);
+		messageCentral.close();
+
+		messageCentral.broadcast(List.of(slowPeer, otherPeer), mock(Message.class));
+
+		assertThat(counters.get(CounterType.MESSAGES_OUTBOUND_DROPPED)).isEqualTo(2);
+		assertThat(counters.get(CounterType.MESSAGES_OUTBOUND_PENDING)).isZero();
+		assertThat(dispatched).isEmpty();
+	}
+
+	private void createMessageCentral(int outboundQueueMax, int outboundPeerQueueMax) {
+		var config = mock(MessageCentralConfiguration.class);
+		when(config.messagingInboundQueueMax(anyInt())).thenReturn(16);
+		when(config.messagingOutboundQueueMax(anyInt())).thenReturn(outboundQueueMax);
+		when(config.messagingOutboundPeerQueueMax(anyInt())).thenReturn(outboundPeerQueueMax);
+		when(config.messagingTimeToLive(anyLong())).thenReturn(30_000L);
+
+		var serialization = mock(Serialization.class);
+		when(serialization.toDson(any(), any())).thenAnswer(invocation -> {
+			dispatched.add(invocation.getArgument(0));
+			return new byte[] {0};
+		});
+
+		var peerManager = mock(PeerManager.class);
+		when(peerManager.messages()).thenReturn(Observable.never());
+		when(peerManager.findOrCreateChannel(any())).thenAnswer(invocation -> {
+			if (slowPeer.equals(invocation.getArgument(0))) {
+				slowPeerEntered.countDown();
+				slowPeerReleased.await();
+			}
+			return CompletableFuture.completedFuture(channel);
+		});
+		when(channel.send(any())).thenReturn(Result.ok(new Object()));
+
+		var timeSupplier = mock(TimeSupplier.class);
+		when(timeSupplier.currentTime()).thenReturn(0L);
+
+		messageCentral = new MessageCentralImpl(
+			config,
+			serialization,
+			peerManager,
+			timeSupplier,
+			SimplePriorityBlockingQueue::new,
+			counters,
+			() -> mock(PeerControl.class)
+		);
+	}
+
+	private static List<Message> messages(int count) {
+		var messages = new ArrayList<Message>();
+		for (int i = 0; i < count; i++) {
+			messages.add(mock(Message.class));
+		}
+		return messages;
+	}
+}
@@ -17,6 +17,9 @@
 
 package com.radixdlt.network.messaging;
 
+import java.util.Collection;
+
+import com.radixdlt.network.p2p.NodeId;
 import io.reactivex.rxjava3.subjects.PublishSubject;
 import org.radix.network.messaging.Message;
 
@@ -38,6 +41,12 @@ public class MessageCentralMockProvider {
 			return null;
 		}).when(messageCentral).send(any(), any());
 
+		doAnswer(invocation -> {
+			Collection<NodeId> receivers = invocation.getArgument(0);
+			receivers.forEach(receiver -> messageProcessor.onNext(new MessageFromPeer<Message>(receiver, invocation.getArgument(1))));
+			return null;
+		}).when(messageCentral).broadcast(any(), any());
+
 		doAnswer(invocation ->
 			messageProcessor
 				.filter(p -> ((Class<?>) invocation.getArgument(0)).isInstance(p.getMessage()))
@@ -18,6 +18,8 @@
 package com.radixdlt.network.messaging;
 
 import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 import com.radixdlt.network.p2p.NodeId;
 import org.junit.Test;
@@ -38,9 +40,29 @@ public class OutboundMessageEventTest {
 	public void equalsContract() {
 		EqualsVerifier.forClass(OutboundMessageEvent.class)
 			.withRedefinedSuperclass()
+			.withIgnoredFields("payload")
 			.verify();
 	}
 
+	@Test
+	public void events_sharing_a_payload_should_serialize_once() {
+		Message message = mock(Message.class);
+		OutboundMessageEvent.Payload payload = new OutboundMessageEvent.Payload();
+		OutboundMessageEvent event1 = new OutboundMessageEvent(mock(NodeId.class), message, 1L, payload);
+		OutboundMessageEvent event2 = new OutboundMessageEvent(mock(NodeId.class), message, 1L, payload);
+		AtomicInteger serializations = new AtomicInteger();
+		Function<Message, byte[]> serializer = m -> {
+			serializations.incrementAndGet();
+			return new byte[] {1, 2, 3};
+		};
+
+		byte[] bytes1 = event1.payload(serializer);
+		byte[] bytes2 = event2.payload(serializer);
+
+		assertSame(bytes1, bytes2);
+		assertEquals(1, serializations.get());
+	}
+
 	@Test
 	public void sensibleToString() {
 		NodeId peer = mock(NodeId.class);
@@ -55,6 +55,19 @@ public class SimplePriorityBlockingQueueTest {
 		}
 	}
 
+	@Test
+	public void poll_should_return_head_or_null_when_empty() {
+		SimplePriorityBlockingQueue<Long> test = new SimplePriorityBlockingQueue<>(100, Long::compare);
+
+		assertNull(test.poll());
+		assertTrue(test.offer(4321L));
+		assertTrue(test.offer(1234L));
+
+		assertEquals(Long.valueOf(1234L), test.poll());
+		assertEquals(Long.valueOf(4321L), test.poll());
+		assertNull(test.poll());
+	}
+
 	@Test
 	public void sensibleToString() {
 		SimplePriorityBlockingQueue<Long> test = new SimplePriorityBlockingQueue<>(100, Long::compare);
@@ -32,6 +32,9 @@ import com.radixdlt.network.p2p.transport.PeerChannel;
 import com.radixdlt.networks.Addressing;
 import com.radixdlt.networks.Network;
 import com.radixdlt.serialization.Serialization;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.socket.SocketChannel;
@@ -86,15 +89,16 @@ final class MockP2PNetwork {
 			serverSocketChannel
 		);
 
+		when(clientSocketChannel.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+		when(serverSocketChannel.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+
 		when(clientSocketChannel.writeAndFlush(any())).thenAnswer(inv -> {
-			final var rawData = inv.getArgument(0);
-			serverChannel.channelRead0(null, (byte[]) rawData);
+			serverChannel.channelRead0(null, toByteBuf(inv.getArgument(0)));
 			return null;
 		});
 
 		when(serverSocketChannel.writeAndFlush(any())).thenAnswer(inv -> {
-			final var rawData = inv.getArgument(0);
-			clientChannel.channelRead0(null, (byte[]) rawData);
+			clientChannel.channelRead0(null, toByteBuf(inv.getArgument(0)));
 			return null;
 		});
 
@@ -121,4 +125,9 @@ final class MockP2PNetwork {
 			throw new RuntimeException(e);
 		}
 	}
+
+	private static ByteBuf toByteBuf(Object rawData) {
+		// Handshake messages are written as byte arrays, frames as buffers
+		return rawData instanceof byte[] ? Unpooled.wrappedBuffer((byte[]) rawData) : (ByteBuf) rawData;
+	}
 }
@@ -25,11 +25,12 @@ import com.radixdlt.network.p2p.transport.handshake.AuthHandshaker;
 import com.radixdlt.network.p2p.transport.handshake.Secrets;
 import com.radixdlt.serialization.Serialization;
 import com.radixdlt.utils.Pair;
+import io.netty.buffer.UnpooledByteBufAllocator;
 import org.junit.Test;
-import java.io.ByteArrayOutputStream;
 import java.security.SecureRandom;
 
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
 
 public final class FrameCodecTest {
 	private final Serialization serialization = DefaultSerialization.getInstance();
@@ -55,14 +56,41 @@ public final class FrameCodecTest {
 			final var message = new byte[messageLength];
 			secureRandom.nextBytes(message);
 
-			final var baos = new ByteArrayOutputStream();
-			source.writeFrame(message, baos);
-			final var readFrame = destination.tryReadSingleFrame(baos.toByteArray());
-
-			assertArrayEquals(message, readFrame.get());
+			final var frame = source.writeFrame(message, UnpooledByteBufAllocator.DEFAULT);
+			try {
+				final var readFrame = destination.tryReadSingleFrame(frame);
+				assertArrayEquals(message, readFrame.get());
+			} finally {
+				frame.release();
+			}
 		}
 	}
 
+	@Test
+	public void incomplete_frame_is_not_read() throws Exception {
+		final var secrets = agreeSecrets(ECKeyPair.generateNew(), ECKeyPair.generateNew());
+		final var source = new FrameCodec(secrets.getFirst());
+		final var destination = new FrameCodec(secrets.getSecond());
+
+		final var frame = source.writeFrame(new byte[100], UnpooledByteBufAllocator.DEFAULT);
+		final var truncated = frame.slice(0, frame.readableBytes() - 1);
+
+		assertFalse(destination.tryReadSingleFrame(truncated).isPresent());
+	}
+
+	@Test
+	public void writing_a_frame_does_not_modify_the_payload() throws Exception {
+		final var secrets = agreeSecrets(ECKeyPair.generateNew(), ECKeyPair.generateNew());
+		final var source = new FrameCodec(secrets.getFirst());
+
+		final var message = new byte[1000];
+		secureRandom.nextBytes(message);
+		final var copy = message.clone();
+		source.writeFrame(message, UnpooledByteBufAllocator.DEFAULT).release();
+
+		assertArrayEquals(copy, message);
+	}
+
 	private Pair<Secrets, Secrets> agreeSecrets(ECKeyPair nodeKey1, ECKeyPair nodeKey2) throws Exception {
 		final var handshaker1 = new AuthHandshaker(serialization, secureRandom, ECKeyOps.fromKeyPair(nodeKey1), (byte) 0x01);
 		final var handshaker2 = new AuthHandshaker(serialization, secureRandom, ECKeyOps.fromKeyPair(nodeKey2), (byte) 0x01);
@@ -0,0 +1,118 @@
+/*
+ * (C) Copyright 2021 Radix DLT Ltd
+ *
+ * Radix DLT Ltd licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package com.radixdlt.statecomputer;
+
+import com.radixdlt.atom.SubstateId;
+import com.radixdlt.atom.Txn;
+import com.radixdlt.constraintmachine.REProcessedTxn;
+import com.radixdlt.constraintmachine.REStateUpdate;
+import com.radixdlt.crypto.HashUtils;
+import com.radixdlt.engine.RadixEngine;
+import com.radixdlt.engine.RadixEngineResult;
+import com.radixdlt.identifiers.AID;
+import com.radixdlt.utils.UInt256;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class RadixEngineMempoolTest {
+	private RadixEngine<LedgerAndBFTProof> radixEngine;
+	private RadixEngine.RadixEngineBranch<LedgerAndBFTProof> branch;
+	private RadixEngineMempool mempool;
+
+	@Before
+	@SuppressWarnings("unchecked")
+	public void setUp() {
+		this.radixEngine = mock(RadixEngine.class);
+		this.branch = mock(RadixEngine.RadixEngineBranch.class);
+		when(radixEngine.transientBranch()).thenReturn(branch);
+		this.mempool = new RadixEngineMempool(radixEngine, 10);
+	}
+
+	@Test
+	public void later_txn_with_higher_fee_per_byte_is_proposed_first() throws Exception {
+		// 10 per byte
+		var cheap = add(txn(1, 100), UInt256.from(1000), substate());
+		// 50 per byte, lower total fee
+		var expensive = add(txn(2, 10), UInt256.from(500), substate());
+
+		var proposed = mempool.getTxns(10, List.of());
+
+		assertThat(proposed).containsExactly(expensive.getTxn(), cheap.getTxn());
+		assertThat(mempool.getTxns(1, List.of())).containsExactly(expensive.getTxn());
+	}
+
+	@Test
+	public void committed_txns_and_conflicts_are_removed_from_fee_order() throws Exception {
+		var shared = substate();
+		var committed = add(txn(1, 10), UInt256.from(100), shared);
+		var conflicting = add(txn(2, 10), UInt256.from(200), shared);
+		var remaining = add(txn(3, 10), UInt256.from(50), substate());
+		assertThat(mempool.getFeeOrderedCount()).isEqualTo(3);
+
+		var removed = mempool.committed(List.of(committed));
+
+		assertThat(removed).containsExactly(conflicting.getTxn());
+		assertThat(mempool.getCount()).isEqualTo(1);
+		assertThat(mempool.getFeeOrderedCount()).isEqualTo(1);
+		assertThat(mempool.getTxns(10, List.of())).containsExactly(remaining.getTxn());
+	}
+
+	private REProcessedTxn add(Txn txn, UInt256 feePaid, SubstateId... shutDown) throws Exception {
+		var updates = Arrays.stream(shutDown)
+			.map(RadixEngineMempoolTest::shutDown)
+			.collect(Collectors.toList());
+		var processed = mock(REProcessedTxn.class);
+		when(processed.getTxn()).thenReturn(txn);
+		when(processed.getTxnId()).thenReturn(txn.getId());
+		when(processed.getFeePaid()).thenReturn(feePaid);
+		when(processed.substateDependencies()).thenAnswer(invocation -> Arrays.stream(shutDown));
+		when(processed.stateUpdates()).thenAnswer(invocation -> updates.stream());
+
+		var result = mock(RadixEngineResult.class);
+		when(result.getProcessedTxn()).thenReturn(processed);
+		when(branch.execute(List.of(txn))).thenReturn(result);
+
+		mempool.add(txn);
+		return processed;
+	}
+
+	private static REStateUpdate shutDown(SubstateId substateId) {
+		var update = mock(REStateUpdate.class);
+		when(update.isShutDown()).thenReturn(true);
+		when(update.getId()).thenReturn(substateId);
+		return update;
+	}
+
+	private static SubstateId substate() {
+		return SubstateId.ofSubstate(AID.from(HashUtils.random256().asBytes()), 0);
+	}
+
+	private static Txn txn(int id, int size) {
+		var payload = new byte[size];
+		payload[0] = (byte) id;
+		return Txn.create(payload);
+	}
+}
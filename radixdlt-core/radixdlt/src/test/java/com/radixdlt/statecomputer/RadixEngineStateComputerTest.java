@@ -29,6 +29,7 @@ import com.google.inject.AbstractModule;
 import com.google.inject.Guice;
 import com.google.inject.Inject;
 import com.google.inject.Module;
+import com.google.inject.Scopes;
 import com.google.inject.TypeLiteral;
 import com.radixdlt.DefaultSerialization;
 import com.radixdlt.application.system.NextValidatorSetEvent;
@@ -61,6 +62,7 @@ import com.radixdlt.consensus.liveness.WeightedRotatingLeaders;
 import com.radixdlt.constraintmachine.exceptions.ConstraintMachineException;
 import com.radixdlt.constraintmachine.exceptions.InvalidPermissionException;
 import com.radixdlt.constraintmachine.PermissionLevel;
+import com.radixdlt.constraintmachine.REStateUpdate;
 import com.radixdlt.counters.SystemCounters;
 import com.radixdlt.counters.SystemCountersImpl;
 import com.radixdlt.crypto.ECKeyPair;
@@ -74,6 +76,7 @@ import com.radixdlt.ledger.ByzantineQuorumException;
 import com.radixdlt.ledger.LedgerAccumulator;
 import com.radixdlt.ledger.LedgerUpdate;
 import com.radixdlt.ledger.SimpleLedgerAccumulatorAndVerifier;
+import com.radixdlt.ledger.StateComputerLedger.PreparedTxn;
 import com.radixdlt.ledger.StateComputerLedger.StateComputerResult;
 import com.radixdlt.ledger.VerifiedTxnsAndProof;
 import com.radixdlt.mempool.MempoolAddFailure;
@@ -91,10 +94,12 @@ import com.radixdlt.statecomputer.forks.RadixEngineForksLatestOnlyModule;
 import com.radixdlt.store.EngineStore;
 import com.radixdlt.store.InMemoryEngineStore;
 import com.radixdlt.sync.CommittedReader;
+import com.radixdlt.utils.Pair;
 import com.radixdlt.utils.TypedMocks;
 import com.radixdlt.utils.UInt256;
 
 import java.util.List;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.assertj.core.api.Condition;
@@ -124,6 +129,9 @@ public class RadixEngineStateComputerTest {
 	@Inject
 	private ProposerElection proposerElection;
 
+	@Inject
+	private SystemCounters systemCounters;
+
 	private Serialization serialization = DefaultSerialization.getInstance();
 	private InMemoryEngineStore<LedgerAndBFTProof> engineStore;
 	private ImmutableList<ECKeyPair> registeredNodes = ImmutableList.of(
@@ -173,7 +181,7 @@ public class RadixEngineStateComputerTest {
 				bind(new TypeLiteral<EventDispatcher<LedgerUpdate>>() { })
 					.toInstance(TypedMocks.rmock(EventDispatcher.class));
 
-				bind(SystemCounters.class).to(SystemCountersImpl.class);
+				bind(SystemCounters.class).to(SystemCountersImpl.class).in(Scopes.SINGLETON);
 			}
 		};
 	}
@@ -347,6 +355,157 @@ public class RadixEngineStateComputerTest {
 		);
 	}
 
+	@Test
+	public void preparing_child_vertex_should_execute_on_top_of_prepared_parent() {
+		// Arrange
+		var parent = new VerifiedVertex(
+			UnverifiedVertex.create(
+				mock(QuorumCertificate.class),
+				View.of(1),
+				List.of(),
+				proposerElection.getProposer(View.of(1))
+			),
+			HashUtils.random256()
+		);
+		var parentResult = sut.prepare(List.of(), parent, 0);
+		var child = childOf(parent.getId());
+		// Re-executing the parent's system update with user permissions fails, so preparing
+		// the child only succeeds if the parent's retained branch is reused
+		var previous = withUserPermissions(parentResult.getSuccessfulCommands());
+
+		// Act
+		var result = sut.prepare(previous, child, 0);
+
+		// Assert
+		assertThat(parentResult.getSuccessfulCommands()).hasSize(1);
+		assertThat(result.getSuccessfulCommands()).hasSize(1);
+		assertThat(result.getFailedCommands()).isEmpty();
+		var parentRound = roundDataUpdate(parentResult.getSuccessfulCommands().get(0), REStateUpdate::isBootUp);
+		var childPreviousRound = roundDataUpdate(result.getSuccessfulCommands().get(0), REStateUpdate::isShutDown);
+		var childRound = roundDataUpdate(result.getSuccessfulCommands().get(0), REStateUpdate::isBootUp);
+		assertThat(parentRound.getParsed()).isEqualTo(new RoundData(1, 0));
+		assertThat(childPreviousRound.getId()).isEqualTo(parentRound.getId());
+		assertThat(childRound.getParsed()).isEqualTo(new RoundData(2, 0));
+	}
+
+	@Test
+	public void preparing_child_vertex_of_unprepared_parent_should_reexecute_previous() {
+		// Arrange
+		var parent = new VerifiedVertex(
+			UnverifiedVertex.create(
+				mock(QuorumCertificate.class),
+				View.of(1),
+				List.of(),
+				proposerElection.getProposer(View.of(1))
+			),
+			HashUtils.random256()
+		);
+		var parentResult = sut.prepare(List.of(), parent, 0);
+		var child = childOf(HashUtils.random256());
+		var previous = withUserPermissions(parentResult.getSuccessfulCommands());
+
+		// Act
+		// Assert
+		assertThatThrownBy(() -> sut.prepare(previous, child, 0))
+			.isInstanceOf(IllegalStateException.class);
+	}
+
+	private VerifiedVertex childOf(HashCode parentId) {
+		var qc = mock(QuorumCertificate.class);
+		var parentHeader = mock(BFTHeader.class);
+		when(parentHeader.getView()).thenReturn(View.of(1));
+		when(parentHeader.getVertexId()).thenReturn(parentId);
+		when(qc.getProposed()).thenReturn(parentHeader);
+		return new VerifiedVertex(
+			UnverifiedVertex.create(qc, View.of(2), List.of(), proposerElection.getProposer(View.of(2))),
+			HashUtils.random256()
+		);
+	}
+
+	private static List<PreparedTxn> withUserPermissions(List<PreparedTxn> preparedTxns) {
+		return preparedTxns.stream()
+			.map(RadixEngineStateComputer.RadixEngineTxn.class::cast)
+			.map(t -> new RadixEngineStateComputer.RadixEngineTxn(t.txn(), t.processedTxn(), PermissionLevel.USER))
+			.collect(Collectors.toList());
+	}
+
+	private static REStateUpdate roundDataUpdate(PreparedTxn preparedTxn, Predicate<REStateUpdate> filter) {
+		return ((RadixEngineStateComputer.RadixEngineTxn) preparedTxn).processedTxn().stateUpdates()
+			.filter(update -> update.getParsed() instanceof RoundData)
+			.filter(filter)
+			.findFirst()
+			.orElseThrow();
+	}
+
+	@Test
+	public void committing_prepared_txns_should_not_reexecute_them() {
+		// Arrange
+		var vertex = new VerifiedVertex(
+			UnverifiedVertex.create(
+				mock(QuorumCertificate.class),
+				View.of(1),
+				List.of(),
+				proposerElection.getProposer(View.of(1))
+			),
+			HashUtils.random256()
+		);
+		var result = sut.prepare(List.of(), vertex, 0);
+		var txns = result.getSuccessfulCommands().stream()
+			.map(PreparedTxn::txn)
+			.collect(Collectors.toList());
+		var proof = mock(LedgerProof.class);
+		when(proof.getAccumulatorState()).thenReturn(new AccumulatorState(genesisTxns.getTxns().size() + 1, HashUtils.random256()));
+		when(proof.getStateVersion()).thenReturn((long) genesisTxns.getTxns().size() + 1);
+		when(proof.getView()).thenReturn(View.of(1));
+
+		// Act
+		sut.commit(VerifiedTxnsAndProof.create(txns, proof), null);
+
+		// Assert
+		assertThat(systemCounters.get(SystemCounters.CounterType.RADIX_ENGINE_PREPARED_TRANSACTIONS_COMMITTED)).isEqualTo(1);
+		assertThat(systemCounters.get(SystemCounters.CounterType.RADIX_ENGINE_SYSTEM_TRANSACTIONS)).isEqualTo(1);
+	}
+
+	@Test
+	public void committing_group_should_commit_each_batch_in_order() throws Exception {
+		// Arrange
+		var branch = radixEngine.transientBranch();
+		var round1 = systemUpdateTxn(1, 1);
+		branch.execute(List.of(round1), PermissionLevel.SUPER_USER);
+		var round2 = branch.construct(new NextRound(2, false, 0, i -> registeredNodes.get(0).getPublicKey()))
+			.buildWithoutSignature();
+		radixEngine.deleteBranches();
+		var genesisVersion = genesisTxns.getTxns().size();
+
+		// Act
+		sut.commitGroup(List.of(
+			Pair.of(VerifiedTxnsAndProof.create(List.of(round1), proofAt(genesisVersion + 1, 1)), null),
+			Pair.of(VerifiedTxnsAndProof.create(List.of(round2), proofAt(genesisVersion + 2, 2)), null)
+		));
+
+		// Assert
+		assertThat(systemCounters.get(SystemCounters.CounterType.RADIX_ENGINE_SYSTEM_TRANSACTIONS)).isEqualTo(2);
+		var nextBranch = radixEngine.transientBranch();
+		var round3 = nextBranch.construct(new NextRound(3, false, 0, i -> registeredNodes.get(0).getPublicKey()))
+			.buildWithoutSignature();
+		var committedRound = nextBranch.execute(List.of(round3), PermissionLevel.SUPER_USER).getProcessedTxn().stateUpdates()
+			.filter(REStateUpdate::isShutDown)
+			.map(REStateUpdate::getParsed)
+			.filter(RoundData.class::isInstance)
+			.findFirst()
+			.orElseThrow();
+		radixEngine.deleteBranches();
+		assertThat(committedRound).isEqualTo(new RoundData(2, 0));
+	}
+
+	private static LedgerProof proofAt(long stateVersion, long view) {
+		var proof = mock(LedgerProof.class);
+		when(proof.getAccumulatorState()).thenReturn(new AccumulatorState(stateVersion, HashUtils.random256()));
+		when(proof.getStateVersion()).thenReturn(stateVersion);
+		when(proof.getView()).thenReturn(View.of(view));
+		return proof;
+	}
+
 	// TODO: should catch this and log it somewhere as proof of byzantine quorum
 	@Test
 	// Note that checking upper bound view for epoch now requires additional
@@ -0,0 +1,331 @@
+/*
+ * (C) Copyright 2021 Radix DLT Ltd
+ *
+ * Radix DLT Ltd licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ */
+
+package com.radixdlt.store.berkeley;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.radixdlt.DefaultSerialization;
+import com.radixdlt.application.tokens.state.TokensInAccount;
+import com.radixdlt.atom.SubstateId;
+import com.radixdlt.atom.SubstateTypeId;
+import com.radixdlt.atom.Txn;
+import com.radixdlt.consensus.LedgerHeader;
+import com.radixdlt.consensus.LedgerProof;
+import com.radixdlt.consensus.TimestampedECDSASignatures;
+import com.radixdlt.consensus.bft.BFTNode;
+import com.radixdlt.consensus.bft.BFTValidator;
+import com.radixdlt.consensus.bft.BFTValidatorSet;
+import com.radixdlt.consensus.bft.View;
+import com.radixdlt.constraintmachine.REOp;
+import com.radixdlt.constraintmachine.REStateUpdate;
+import com.radixdlt.constraintmachine.SubstateIndex;
+import com.radixdlt.counters.SystemCountersImpl;
+import com.radixdlt.crypto.ECKeyPair;
+import com.radixdlt.crypto.HashUtils;
+import com.radixdlt.identifiers.REAddr;
+import com.radixdlt.ledger.AccumulatorState;
+import com.radixdlt.statecomputer.LedgerAndBFTProof;
+import com.radixdlt.store.DatabaseEnvironment;
+import com.radixdlt.store.StoreConfig;
+import com.radixdlt.utils.UInt256;
+import com.sleepycat.je.DatabaseConfig;
+import com.sleepycat.je.DatabaseEntry;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BerkeleyLedgerEntryStoreTest {
+	private static final int TXN_SIZE = 100;
+	private static final String SUBSTATE_DB_NAME = "radix.substate_db";
+	private static final String INDEXED_SUBSTATE_DB_NAME = "radix.resource_indexed_substate_db";
+	private static final String LEGACY_INDEXED_SUBSTATE_DB_NAME = "radix.indexed_substate_db";
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	private final Random random = new Random(1234);
+	private final REAddr account = REAddr.ofPubKeyAccount(ECKeyPair.generateNew().getPublicKey());
+	private final REAddr otherAccount = REAddr.ofPubKeyAccount(ECKeyPair.generateNew().getPublicKey());
+	private final REAddr token = REAddr.ofHashedKey(ECKeyPair.generateNew().getPublicKey(), "test");
+	private final List<Txn> stored = new ArrayList<>();
+	private DatabaseEnvironment environment;
+	private BerkeleyLedgerEntryStore store;
+
+	@After
+	public void tearDown() {
+		if (store != null) {
+			store.close();
+		}
+		if (environment != null) {
+			environment.stop();
+		}
+	}
+
+	@Test
+	public void consecutive_chunks_are_returned_up_to_the_latest_proof() throws Exception {
+		openStore(10_000, 512 * 1024);
+		storeChunk(2, 1, false);
+		storeChunk(3, 1, false);
+		storeChunk(1, 1, false);
+
+		var result = store.getNextCommittedTxns(proof(0, 0, false).toDto());
+
+		assertThat(result.getTxns()).containsExactlyElementsOf(stored);
+		assertThat(result.getProof().getStateVersion()).isEqualTo(6);
+	}
+
+	@Test
+	public void response_continues_after_the_requested_proof() throws Exception {
+		openStore(10_000, 512 * 1024);
+		storeChunk(2, 1, false);
+		storeChunk(2, 1, false);
+
+		var result = store.getNextCommittedTxns(proof(2, 1, false).toDto());
+
+		assertThat(result.getTxns()).containsExactlyElementsOf(stored.subList(2, 4));
+		assertThat(result.getProof().getStateVersion()).isEqualTo(4);
+	}
+
+	@Test
+	public void chunks_over_the_txn_budget_are_left_for_the_next_request() throws Exception {
+		openStore(5, 512 * 1024);
+		storeChunk(2, 1, false);
+		storeChunk(2, 1, false);
+		storeChunk(2, 1, false);
+
+		var result = store.getNextCommittedTxns(proof(0, 0, false).toDto());
+
+		assertThat(result.getTxns()).containsExactlyElementsOf(stored.subList(0, 4));
+		assertThat(result.getProof().getStateVersion()).isEqualTo(4);
+	}
+
+	@Test
+	public void chunks_over_the_byte_budget_are_left_for_the_next_request() throws Exception {
+		// Two chunks of two incompressible txns fit, the stored size of a third one does not
+		openStore(10_000, 5 * TXN_SIZE);
+		storeChunk(2, 1, false);
+		storeChunk(2, 1, false);
+		storeChunk(2, 1, false);
+
+		var result = store.getNextCommittedTxns(proof(0, 0, false).toDto());
+
+		assertThat(result.getTxns()).containsExactlyElementsOf(stored.subList(0, 4));
+		assertThat(result.getProof().getStateVersion()).isEqualTo(4);
+	}
+
+	@Test
+	public void first_chunk_is_returned_even_if_over_budget() throws Exception {
+		openStore(1, TXN_SIZE / 2);
+		storeChunk(3, 1, false);
+		storeChunk(1, 1, false);
+
+		var result = store.getNextCommittedTxns(proof(0, 0, false).toDto());
+
+		assertThat(result.getTxns()).containsExactlyElementsOf(stored.subList(0, 3));
+		assertThat(result.getProof().getStateVersion()).isEqualTo(3);
+	}
+
+	@Test
+	public void response_stops_at_end_of_epoch_proof() throws Exception {
+		openStore(10_000, 512 * 1024);
+		storeChunk(2, 1, false);
+		storeChunk(2, 1, true);
+		storeChunk(2, 2, false);
+
+		var firstEpoch = store.getNextCommittedTxns(proof(0, 0, false).toDto());
+
+		assertThat(firstEpoch.getTxns()).containsExactlyElementsOf(stored.subList(0, 4));
+		assertThat(firstEpoch.getProof().isEndOfEpoch()).isTrue();
+		assertThat(firstEpoch.getProof().getStateVersion()).isEqualTo(4);
+
+		var secondEpoch = store.getNextCommittedTxns(firstEpoch.getProof().toDto());
+
+		assertThat(secondEpoch.getTxns()).containsExactlyElementsOf(stored.subList(4, 6));
+		assertThat(secondEpoch.getProof().getEpoch()).isEqualTo(2);
+	}
+
+	@Test
+	public void nothing_is_returned_past_the_latest_proof() throws Exception {
+		openStore(10_000, 512 * 1024);
+		storeChunk(2, 1, false);
+
+		assertThat(store.getNextCommittedTxns(proof(2, 1, false).toDto())).isNull();
+	}
+
+	@Test
+	public void tokens_are_indexed_by_owner_and_resource() throws Exception {
+		openStore(10_000, 512 * 1024);
+		var ids = storeSubstates(
+			tokens(account, REAddr.ofNativeToken()),
+			tokens(account, token),
+			tokens(otherAccount, REAddr.ofNativeToken()),
+			tokens(account, token)
+		);
+
+		assertThat(indexed(tokensPrefix(account, REAddr.ofNativeToken()))).containsExactly(ids.get(0));
+		assertThat(indexed(tokensPrefix(account, token))).containsExactlyInAnyOrder(ids.get(1), ids.get(3));
+		assertThat(indexed(tokensPrefix(account))).containsExactlyInAnyOrder(ids.get(0), ids.get(1), ids.get(3));
+		assertThat(indexed(tokensPrefix(otherAccount, token))).isEmpty();
+	}
+
+	@Test
+	public void legacy_index_is_replaced_by_populated_index() throws Exception {
+		openStore(10_000, 512 * 1024);
+		var ids = storeSubstates(tokens(account, REAddr.ofNativeToken()), tokens(account, token));
+		closeStore();
+		@SuppressWarnings("resource")
+		var env = environment.getEnvironment();
+		env.removeDatabase(null, INDEXED_SUBSTATE_DB_NAME);
+		env.openDatabase(null, LEGACY_INDEXED_SUBSTATE_DB_NAME, new DatabaseConfig().setAllowCreate(true).setTransactional(true)).close();
+
+		reopenStore();
+
+		assertThat(environment.getEnvironment().getDatabaseNames()).doesNotContain(LEGACY_INDEXED_SUBSTATE_DB_NAME);
+		assertThat(indexed(tokensPrefix(account, token))).containsExactly(ids.get(1));
+		assertThat(indexed(tokensPrefix(account))).containsExactlyInAnyOrder(ids.get(0), ids.get(1));
+	}
+
+	@Test
+	public void index_of_interrupted_migration_is_populated_again() throws Exception {
+		openStore(10_000, 512 * 1024);
+		var ids = storeSubstates(tokens(account, token));
+		closeStore();
+		// Substate missing from the index, as if the node stopped while populating it
+		@SuppressWarnings("resource")
+		var env = environment.getEnvironment();
+		var missingId = SubstateId.ofSubstate(stored.get(0).getId(), 1);
+		var substates = env.openDatabase(null, SUBSTATE_DB_NAME, new DatabaseConfig().setTransactional(true).setKeyPrefixing(true));
+		substates.put(null, new DatabaseEntry(missingId.asBytes()), new DatabaseEntry(tokens(account, token)));
+		substates.close();
+		env.openDatabase(null, LEGACY_INDEXED_SUBSTATE_DB_NAME, new DatabaseConfig().setAllowCreate(true).setTransactional(true)).close();
+
+		reopenStore();
+
+		assertThat(environment.getEnvironment().getDatabaseNames()).doesNotContain(LEGACY_INDEXED_SUBSTATE_DB_NAME);
+		assertThat(indexed(tokensPrefix(account, token))).containsExactlyInAnyOrder(ids.get(0), missingId);
+	}
+
+	private void openStore(int maxSyncResponseTxns, int maxSyncResponseBytes) {
+		environment = new DatabaseEnvironment(folder.getRoot().getAbsolutePath(), 0);
+		store = new BerkeleyLedgerEntryStore(
+			DefaultSerialization.getInstance(),
+			environment,
+			new StoreConfig(1, maxSyncResponseTxns, maxSyncResponseBytes),
+			new SystemCountersImpl()
+		);
+	}
+
+	private void closeStore() {
+		store.close();
+		store = null;
+	}
+
+	private void reopenStore() {
+		store = new BerkeleyLedgerEntryStore(
+			DefaultSerialization.getInstance(),
+			environment,
+			new StoreConfig(1),
+			new SystemCountersImpl()
+		);
+	}
+
+	private List<SubstateId> storeSubstates(byte[]... substates) throws Exception {
+		var payload = new byte[TXN_SIZE];
+		random.nextBytes(payload);
+		var txn = Txn.create(payload);
+
+		var ids = new ArrayList<SubstateId>();
+		var stateUpdates = new ArrayList<REStateUpdate>();
+		for (int i = 0; i < substates.length; i++) {
+			var id = SubstateId.ofSubstate(txn.getId(), i);
+			var substate = substates[i];
+			ids.add(id);
+			stateUpdates.add(REStateUpdate.of(REOp.UP, id, substate[0], null, () -> ByteBuffer.wrap(substate)));
+		}
+
+		var proof = proof(stored.size() + 1, 1, false);
+		store.transaction(tx -> {
+			tx.storeTxn(txn, stateUpdates);
+			tx.storeMetadata(LedgerAndBFTProof.create(proof));
+			return null;
+		});
+		stored.add(txn);
+		return ids;
+	}
+
+	private List<SubstateId> indexed(byte[] prefix) {
+		var ids = new ArrayList<SubstateId>();
+		try (var cursor = store.openIndexedCursor(SubstateIndex.create(prefix, TokensInAccount.class))) {
+			cursor.forEachRemaining(substate -> ids.add(SubstateId.fromBytes(substate.getId())));
+		}
+		return ids;
+	}
+
+	private byte[] tokens(REAddr holder, REAddr resource) {
+		var amount = new byte[UInt256.BYTES];
+		random.nextBytes(amount);
+		var prefix = tokensPrefix(holder, resource);
+		return ByteBuffer.allocate(prefix.length + amount.length).put(prefix).put(amount).array();
+	}
+
+	private static byte[] tokensPrefix(REAddr holder, REAddr... resource) {
+		var resourceBytes = resource.length == 0 ? new byte[0] : resource[0].getBytes();
+		return ByteBuffer.allocate(2 + holder.getBytes().length + resourceBytes.length)
+			.put(SubstateTypeId.TOKENS.id())
+			.put((byte) 0)
+			.put(holder.getBytes())
+			.put(resourceBytes)
+			.array();
+	}
+
+	private void storeChunk(int size, long epoch, boolean endOfEpoch) throws Exception {
+		var chunk = new ArrayList<Txn>();
+		for (int i = 0; i < size; i++) {
+			var payload = new byte[TXN_SIZE];
+			random.nextBytes(payload);
+			chunk.add(Txn.create(payload));
+		}
+
+		var proof = proof(stored.size() + size, epoch, endOfEpoch);
+		store.transaction(tx -> {
+			chunk.forEach(txn -> tx.storeTxn(txn, List.of()));
+			tx.storeMetadata(LedgerAndBFTProof.create(proof));
+			return null;
+		});
+		stored.addAll(chunk);
+	}
+
+	private static LedgerProof proof(long stateVersion, long epoch, boolean endOfEpoch) {
+		var nextValidators = endOfEpoch
+			? BFTValidatorSet.from(Stream.of(BFTValidator.from(BFTNode.random(), UInt256.ONE)))
+			: null;
+		return new LedgerProof(
+			HashUtils.zero256(),
+			LedgerHeader.create(epoch, View.of(stateVersion), new AccumulatorState(stateVersion, HashUtils.zero256()), 0, nextValidators),
+			new TimestampedECDSASignatures()
+		);
+	}
+}
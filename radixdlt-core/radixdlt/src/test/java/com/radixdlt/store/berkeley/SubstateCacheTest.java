@@ -0,0 +1,142 @@
+/*
+ * (C) Copyright 2021 Radix DLT Ltd
+ *
+ * Radix DLT Ltd licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ */
+
+package com.radixdlt.store.berkeley;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SubstateCacheTest {
+	private static final byte[] KEY = {1, 2, 3};
+	private static final byte[] VALUE = {4, 5, 6, 7};
+
+	@Test
+	public void committed_updates_are_visible() {
+		var cache = new SubstateCache(1024 * 1024);
+		var updates = new SubstateCache.Updates();
+		updates.put(SubstateCache.SUBSTATE, KEY, ByteBuffer.wrap(VALUE));
+
+		assertFalse(cache.get(SubstateCache.SUBSTATE, KEY).isPresent());
+
+		cache.apply(updates);
+
+		assertArrayEquals(VALUE, cache.get(SubstateCache.SUBSTATE, KEY).orElseThrow().array());
+		assertFalse(cache.get(SubstateCache.RESOURCE, KEY).isPresent());
+	}
+
+	@Test
+	public void updates_are_applied_in_order() {
+		var cache = new SubstateCache(1024 * 1024);
+		var updates = new SubstateCache.Updates();
+		updates.put(SubstateCache.SUBSTATE, KEY, ByteBuffer.wrap(VALUE));
+		updates.invalidate(SubstateCache.SUBSTATE, KEY);
+
+		cache.apply(updates);
+
+		assertFalse(cache.get(SubstateCache.SUBSTATE, KEY).isPresent());
+	}
+
+	@Test
+	public void stale_fill_is_ignored() {
+		var cache = new SubstateCache(1024 * 1024);
+		var generation = cache.generation(SubstateCache.SUBSTATE, KEY);
+
+		cache.invalidate(SubstateCache.SUBSTATE, KEY);
+		cache.fill(SubstateCache.SUBSTATE, KEY, ByteBuffer.wrap(VALUE), generation);
+		assertFalse(cache.get(SubstateCache.SUBSTATE, KEY).isPresent());
+
+		cache.fill(SubstateCache.SUBSTATE, KEY, ByteBuffer.wrap(VALUE), cache.generation(SubstateCache.SUBSTATE, KEY));
+		assertTrue(cache.get(SubstateCache.SUBSTATE, KEY).isPresent());
+	}
+
+	@Test
+	public void entries_read_since_written_survive_eviction() {
+		var cache = new SubstateCache(16 * 1024);
+		var value = ByteBuffer.wrap(new byte[512]);
+
+		for (int i = 0; i < 100; i++) {
+			if (i > 0) {
+				// keep first entry in use
+				assertTrue(cache.get(SubstateCache.SUBSTATE, new byte[] {0}).isPresent());
+			}
+			var key = new byte[] {(byte) i};
+			cache.fill(SubstateCache.SUBSTATE, key, value, cache.generation(SubstateCache.SUBSTATE, key));
+		}
+
+		assertTrue(cache.get(SubstateCache.SUBSTATE, new byte[] {0}).isPresent());
+		assertTrue(cache.get(SubstateCache.SUBSTATE, new byte[] {99}).isPresent());
+		assertFalse(cache.get(SubstateCache.SUBSTATE, new byte[] {1}).isPresent());
+	}
+
+	@Test
+	public void values_stay_intact_while_log_wraps_around() {
+		var cache = new SubstateCache(8 * 1024);
+		var random = new Random(42);
+		var expected = new HashMap<Integer, byte[]>();
+
+		for (int i = 0; i < 10_000; i++) {
+			var id = random.nextInt(200);
+			var key = ByteBuffer.allocate(Integer.BYTES).putInt(id).array();
+			if (random.nextInt(5) == 0) {
+				cache.invalidate(SubstateCache.SUBSTATE, key);
+				expected.remove(id);
+			} else {
+				var value = new byte[random.nextInt(100)];
+				random.nextBytes(value);
+				var updates = new SubstateCache.Updates();
+				updates.put(SubstateCache.SUBSTATE, key, ByteBuffer.wrap(value));
+				cache.apply(updates);
+				expected.put(id, value);
+			}
+
+			var lookup = random.nextInt(200);
+			var cached = cache.get(SubstateCache.SUBSTATE, ByteBuffer.allocate(Integer.BYTES).putInt(lookup).array());
+			cached.ifPresent(buf -> assertArrayEquals(expected.get(lookup), buf.array()));
+		}
+	}
+
+	@Test
+	public void cleared_cache_can_be_used_again() {
+		var cache = new SubstateCache(1024 * 1024);
+		cache.fill(SubstateCache.SUBSTATE, KEY, ByteBuffer.wrap(VALUE), cache.generation(SubstateCache.SUBSTATE, KEY));
+
+		cache.clear();
+		assertFalse(cache.get(SubstateCache.SUBSTATE, KEY).isPresent());
+
+		cache.fill(SubstateCache.SUBSTATE, KEY, ByteBuffer.wrap(VALUE), cache.generation(SubstateCache.SUBSTATE, KEY));
+		assertArrayEquals(VALUE, cache.get(SubstateCache.SUBSTATE, KEY).orElseThrow().array());
+	}
+
+	@Test
+	public void disabled_cache_stores_nothing() {
+		var cache = new SubstateCache(0);
+		var updates = new SubstateCache.Updates();
+		updates.put(SubstateCache.SUBSTATE, KEY, ByteBuffer.wrap(VALUE));
+
+		cache.apply(updates);
+
+		assertFalse(cache.get(SubstateCache.SUBSTATE, KEY).isPresent());
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ * (C) Copyright 2021 Radix DLT Ltd
+ *
+ * Radix DLT Ltd licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ */
+package com.radixdlt.store.berkeley.atom;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import static com.radixdlt.store.berkeley.atom.AppendLog.openSegmented;
+import static com.radixdlt.store.berkeley.atom.AppendLog.openSimple;
+
+public class SegmentedAppendLogTest {
+	private static final long SEGMENT_SIZE = 64;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void chunks_can_be_read_back_across_segments() throws IOException {
+		var path = folder.newFile().getAbsolutePath();
+		var appendLog = openSegmented(path, SEGMENT_SIZE);
+
+		var offsets = writeChunks(appendLog, 20);
+
+		assertThat(offsets.get(offsets.size() - 1) >>> SegmentedAppendLog.SEGMENT_OFFSET_BITS).isGreaterThan(0);
+		for (int i = 0; i < offsets.size(); i++) {
+			assertArrayEquals(chunk(i), appendLog.read(offsets.get(i)));
+		}
+		appendLog.close();
+	}
+
+	@Test
+	public void reopened_log_contains_all_chunks() throws IOException {
+		var path = folder.newFile().getAbsolutePath();
+		var appendLog = openSegmented(path, SEGMENT_SIZE);
+		var offsets = writeChunks(appendLog, 20);
+		appendLog.close();
+
+		var reopened = openSegmented(path, SEGMENT_SIZE);
+		var scanned = new ArrayList<Long>();
+		reopened.forEach((bytes, offset) -> {
+			assertArrayEquals(chunk(scanned.size()), bytes);
+			scanned.add(offset);
+		});
+		assertEquals(offsets, scanned);
+
+		var next = reopened.position();
+		reopened.write(chunk(20));
+		assertArrayEquals(chunk(20), reopened.read(next));
+		reopened.close();
+	}
+
+	@Test
+	public void simple_log_can_be_opened_as_first_segment() throws IOException {
+		var path = folder.newFile().getAbsolutePath();
+		var simpleLog = openSimple(path);
+		var offsets = writeChunks(simpleLog, 20);
+		simpleLog.close();
+
+		var appendLog = openSegmented(path, SEGMENT_SIZE);
+		for (int i = 0; i < offsets.size(); i++) {
+			assertArrayEquals(chunk(i), appendLog.read(offsets.get(i)));
+		}
+		appendLog.close();
+		assertThat(new File(path + ".1")).doesNotExist();
+	}
+
+	private List<Long> writeChunks(AppendLog appendLog, int count) throws IOException {
+		var offsets = new ArrayList<Long>();
+		for (int i = 0; i < count; i++) {
+			offsets.add(appendLog.write(chunk(i)));
+		}
+		return offsets;
+	}
+
+	private static byte[] chunk(int i) {
+		var data = new byte[i + 1];
+		for (int j = 0; j < data.length; j++) {
+			data[j] = (byte) (i + j);
+		}
+		return data;
+	}
+}
@@ -57,8 +57,8 @@ public class FaucetTokensTransferConstructor implements ActionConstructor<Faucet
 			.collect(Collectors.toList());
 		for (var e : toSend) {
 			var change = txBuilder.downFungible(
-				index,
-				p -> p.getResourceAddr().equals(e.getKey()) && p.getHoldingAddr().equals(action.from()),
+				action.from(),
+				e.getKey(),
 				AMOUNT_TO_TRANSFER.toSubunits(),
 				() -> new TxBuilderException("Not enough balance for transfer.")
 			);
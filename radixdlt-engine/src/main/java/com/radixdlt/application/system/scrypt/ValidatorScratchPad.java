@@ -24,6 +24,7 @@ import com.radixdlt.application.tokens.state.ExittingStake;
 import com.radixdlt.constraintmachine.exceptions.ProcedureException;
 import com.radixdlt.crypto.ECPublicKey;
 import com.radixdlt.identifiers.REAddr;
+import com.radixdlt.utils.MutableUInt384;
 import com.radixdlt.utils.UInt256;
 import com.radixdlt.utils.UInt384;
 
@@ -31,6 +32,8 @@ public final class ValidatorScratchPad {
 	private final ECPublicKey validatorKey;
 	private UInt384 totalStake;
 	private UInt384 totalOwnership;
+	// Reused for the stake <-> ownership conversions of every staker of this validator
+	private final MutableUInt384 conversion = new MutableUInt384();
 	private int rakePercentage;
 	private REAddr ownerAddr;
 	private boolean isRegistered;
@@ -90,7 +93,7 @@ public final class ValidatorScratchPad {
 			return new StakeOwnership(validatorKey, owner, this.totalOwnership.getLow());
 		}
 
-		var ownership384 = totalOwnership.multiply(stake).divide(totalStake);
+		var ownership384 = conversion.set(totalOwnership).multiply(stake).divide(totalStake).toUInt384();
 		var ownershipAmt = toSafeLow(ownership384);
 		this.totalStake = verifyNoOverflow(this.totalStake.add(stake));
 		this.totalOwnership = verifyNoOverflow(this.totalOwnership.add(ownershipAmt));
@@ -103,7 +106,7 @@ public final class ValidatorScratchPad {
 			throw new IllegalStateException("Not enough ownership");
 		}
 
-		var unstaked384 = totalStake.multiply(unstakeOwnership).divide(totalOwnership);
+		var unstaked384 = conversion.set(totalStake).multiply(unstakeOwnership).divide(totalOwnership).toUInt384();
 		var unstaked = toSafeLow(unstaked384);
 		this.totalStake = this.totalStake.subtract(unstaked);
 		this.totalOwnership = this.totalOwnership.subtract(unstakeOwnership);
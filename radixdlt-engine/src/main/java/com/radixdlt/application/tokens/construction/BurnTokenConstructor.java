@@ -19,15 +19,10 @@
 package com.radixdlt.application.tokens.construction;
 
 import com.radixdlt.atom.ActionConstructor;
-import com.radixdlt.atom.SubstateTypeId;
 import com.radixdlt.atom.TxBuilder;
 import com.radixdlt.atom.TxBuilderException;
 import com.radixdlt.atom.actions.BurnToken;
 import com.radixdlt.application.tokens.state.TokensInAccount;
-import com.radixdlt.constraintmachine.SubstateIndex;
-import com.radixdlt.crypto.ECPublicKey;
-
-import java.nio.ByteBuffer;
 
 public final class BurnTokenConstructor implements ActionConstructor<BurnToken> {
 
@@ -37,16 +32,9 @@ public final class BurnTokenConstructor implements ActionConstructor<BurnToken>
 			throw new TxBuilderException("Must transfer > 0.");
 		}
 
-		var buf = ByteBuffer.allocate(2 + 1 + ECPublicKey.COMPRESSED_BYTES);
-		buf.put(SubstateTypeId.TOKENS.id());
-		buf.put((byte) 0);
-		buf.put(action.from().getBytes());
-
-		var index = SubstateIndex.create(buf.array(), TokensInAccount.class);
 		var change = txBuilder.downFungible(
-			index,
-			p -> p.getResourceAddr().equals(action.resourceAddr())
-				&& p.getHoldingAddr().equals(action.from()),
+			action.from(),
+			action.resourceAddr(),
 			action.amount(),
 			() -> new TxBuilderException("Not enough balance for transfer.")
 		);
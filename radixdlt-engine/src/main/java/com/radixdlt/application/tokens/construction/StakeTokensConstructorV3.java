@@ -19,7 +19,6 @@
 package com.radixdlt.application.tokens.construction;
 
 import com.radixdlt.atom.ActionConstructor;
-import com.radixdlt.atom.SubstateTypeId;
 import com.radixdlt.atom.TxBuilder;
 import com.radixdlt.atom.TxBuilderException;
 import com.radixdlt.atom.actions.StakeTokens;
@@ -27,13 +26,9 @@ import com.radixdlt.application.tokens.state.PreparedStake;
 import com.radixdlt.application.tokens.state.TokensInAccount;
 import com.radixdlt.application.validators.state.AllowDelegationFlag;
 import com.radixdlt.application.validators.state.ValidatorOwnerCopy;
-import com.radixdlt.constraintmachine.SubstateIndex;
-import com.radixdlt.crypto.ECPublicKey;
 import com.radixdlt.identifiers.REAddr;
 import com.radixdlt.utils.UInt256;
 
-import java.nio.ByteBuffer;
-
 public class StakeTokensConstructorV3 implements ActionConstructor<StakeTokens> {
 	private final UInt256 minimumStake;
 
@@ -47,17 +42,9 @@ public class StakeTokensConstructorV3 implements ActionConstructor<StakeTokens>
 			throw new TxBuilderException("Minimum to stake is " + minimumStake + " but trying to stake " + action.amount());
 		}
 
-		// TODO: construct this based on substate definition
-		var buf = ByteBuffer.allocate(2 + 1 + ECPublicKey.COMPRESSED_BYTES);
-		buf.put(SubstateTypeId.TOKENS.id());
-		buf.put((byte) 0);
-		buf.put(action.from().getBytes());
-
-		var index = SubstateIndex.create(buf.array(), TokensInAccount.class);
 		var change = builder.downFungible(
-			index,
-			p -> p.getResourceAddr().isNativeToken()
-				&& p.getHoldingAddr().equals(action.from()),
+			action.from(),
+			REAddr.ofNativeToken(),
 			action.amount(),
 			() -> new TxBuilderException("Not enough balance for transfer.")
 		);
@@ -483,27 +483,46 @@ public final class TxBuilder {
 		throw exceptionSupplier.get();
 	}
 
-	public UInt256 getFeeReserve() {
-		return feeReservePut;
-	}
-
-	public <T extends ResourceInBucket> void putFeeReserve(
-		REAddr feePayer,
+	/**
+	 * Spends tokens of a single resource held by an account, using the
+	 * (account, resource) index so that only substates of that resource
+	 * are read.
+	 *
+	 * @return the amount spent above {@code amount}, to be returned as change
+	 */
+	public UInt256 downFungible(
+		REAddr holdingAddr,
+		REAddr resourceAddr,
 		UInt256 amount,
 		Supplier<TxBuilderException> exceptionSupplier
 	) throws TxBuilderException {
-		var buf = ByteBuffer.allocate(2 + 1 + ECPublicKey.COMPRESSED_BYTES);
+		var resourceAddrBytes = resourceAddr.getBytes();
+		var buf = ByteBuffer.allocate(2 + 1 + ECPublicKey.COMPRESSED_BYTES + resourceAddrBytes.length);
 		buf.put(SubstateTypeId.TOKENS.id());
 		buf.put((byte) 0);
-		buf.put(feePayer.getBytes());
+		buf.put(holdingAddr.getBytes());
+		buf.put(resourceAddrBytes);
 		var index = SubstateIndex.create(buf.array(), TokensInAccount.class);
-		// Take
-		var remainder = downFungible(
+
+		return downFungible(
 			index,
-			p -> p.getResourceAddr().isNativeToken() && p.getHoldingAddr().equals(feePayer),
+			p -> p.getResourceAddr().equals(resourceAddr) && p.getHoldingAddr().equals(holdingAddr),
 			amount,
 			exceptionSupplier
 		);
+	}
+
+	public UInt256 getFeeReserve() {
+		return feeReservePut;
+	}
+
+	public <T extends ResourceInBucket> void putFeeReserve(
+		REAddr feePayer,
+		UInt256 amount,
+		Supplier<TxBuilderException> exceptionSupplier
+	) throws TxBuilderException {
+		// Take
+		var remainder = downFungible(feePayer, REAddr.ofNativeToken(), amount, exceptionSupplier);
 		lowLevelBuilder.syscall(Syscall.FEE_RESERVE_PUT, amount);
 		if (!remainder.isZero()) {
 			up(new TokensInAccount(feePayer, REAddr.ofNativeToken(), remainder));
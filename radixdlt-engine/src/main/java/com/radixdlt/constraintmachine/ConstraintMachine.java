@@ -27,7 +27,6 @@ import com.radixdlt.constraintmachine.exceptions.ConstraintMachineException;
 import com.radixdlt.constraintmachine.exceptions.InvalidPermissionException;
 import com.radixdlt.constraintmachine.exceptions.LocalSubstateNotFoundException;
 import com.radixdlt.constraintmachine.exceptions.MeterException;
-import com.radixdlt.constraintmachine.exceptions.MissingProcedureException;
 import com.radixdlt.constraintmachine.exceptions.ProcedureException;
 import com.radixdlt.constraintmachine.exceptions.SignedSystemException;
 import com.radixdlt.constraintmachine.exceptions.SubstateNotFoundException;
@@ -36,7 +35,6 @@ import com.radixdlt.constraintmachine.exceptions.VirtualSubstateAlreadyDownExcep
 import com.radixdlt.engine.parser.exceptions.TrailingBytesException;
 import com.radixdlt.engine.parser.exceptions.TxnParseException;
 import com.radixdlt.constraintmachine.meter.Meter;
-import com.radixdlt.identifiers.REAddr;
 import com.radixdlt.serialization.DeserializeException;
 import com.radixdlt.store.CMStore;
 import com.radixdlt.utils.Pair;
@@ -59,7 +57,7 @@ import java.util.function.Supplier;
 // FIXME: unchecked, rawtypes
 @SuppressWarnings({"unchecked", "rawtypes"})
 public final class ConstraintMachine {
-	private final Procedures procedures;
+	private final ProcedureDispatch procedures;
 	private final VirtualSubstateDeserialization virtualSubstateDeserialization;
 	private final SubstateDeserialization deserialization;
 	private final Meter metering;
@@ -77,6 +75,29 @@ public final class ConstraintMachine {
 		SubstateDeserialization deserialization,
 		VirtualSubstateDeserialization virtualSubstateDeserialization,
 		Meter metering
+	) {
+		this(
+			ProcedureDispatch.compile(Objects.requireNonNull(procedures), deserialization),
+			deserialization,
+			virtualSubstateDeserialization,
+			metering
+		);
+	}
+
+	public ConstraintMachine(ConstraintMachineConfig config) {
+		this(
+			config.getProcedureDispatch(),
+			config.getDeserialization(),
+			config.getVirtualSubstateDeserialization(),
+			config.getMeter()
+		);
+	}
+
+	private ConstraintMachine(
+		ProcedureDispatch procedures,
+		SubstateDeserialization deserialization,
+		VirtualSubstateDeserialization virtualSubstateDeserialization,
+		Meter metering
 	) {
 		this.procedures = Objects.requireNonNull(procedures);
 		this.deserialization = deserialization;
@@ -240,17 +261,6 @@ public final class ConstraintMachine {
 		}
 	}
 
-	private Procedure loadProcedure(
-		ReducerState reducerState,
-		OpSignature opSignature
-	) throws MissingProcedureException {
-		var reducerStateClass = reducerState != null
-			? reducerState.getClass()
-			: VoidReducerState.class;
-		var key = ProcedureKey.of(reducerStateClass, opSignature);
-		return this.procedures.getProcedure(key);
-	}
-
 	/**
 	 * Executes a transition procedure given the next spun particle and a current validation state.
 	 */
@@ -309,8 +319,7 @@ public final class ConstraintMachine {
 
 				if (inst.getMicroOp() == REInstruction.REMicroOp.SYSCALL) {
 					CallData callData = inst.getData();
-					var opSignature = OpSignature.ofMethod(inst.getMicroOp().getOp(), REAddr.ofSystem());
-					var methodProcedure = loadProcedure(reducerState, opSignature);
+					var methodProcedure = procedures.getSystemCall(reducerState);
 					reducerState = callProcedure(methodProcedure, callData, reducerState, readableAddrs, context);
 				} else if (inst.getMicroOp().getOp() == REOp.READ) {
 					final Particle nextParticle;
@@ -329,8 +338,7 @@ public final class ConstraintMachine {
 					} else {
 						throw new IllegalStateException("Unknown read op " + inst.getMicroOp());
 					}
-					var eventId = OpSignature.ofSubstateUpdate(inst.getMicroOp().getOp(), nextParticle.getClass());
-					var methodProcedure = loadProcedure(reducerState, eventId);
+					var methodProcedure = procedures.get(reducerState, inst.getMicroOp().getOp(), nextParticle.getClass());
 					reducerState = callProcedure(methodProcedure, nextParticle, reducerState, readableAddrs, context);
 					expectEnd = reducerState == null;
 				} else if (inst.getMicroOp().getOp() == REOp.DOWNINDEX || inst.getMicroOp().getOp() == REOp.READINDEX) {
@@ -358,10 +366,7 @@ public final class ConstraintMachine {
 					};
 					var substateIterator = new IndexedSubstateIterator<>(index, iterator);
 					try {
-						var eventId = OpSignature.ofSubstateUpdate(
-							inst.getMicroOp().getOp(), index.getSubstateClass()
-						);
-						var methodProcedure = loadProcedure(reducerState, eventId);
+						var methodProcedure = procedures.get(reducerState, inst.getMicroOp().getOp(), index.getSubstateClass());
 						reducerState = callProcedure(methodProcedure, substateIterator, reducerState, readableAddrs, context);
 					} finally {
 						substateCursor.close();
@@ -404,8 +409,7 @@ public final class ConstraintMachine {
 					var op = inst.getMicroOp().getOp();
 					var typeByte = deserialization.classToByte(nextParticle.getClass());
 					stateUpdates.add(REStateUpdate.of(op, substateId, typeByte, nextParticle, substateBuffer));
-					var eventId = OpSignature.ofSubstateUpdate(op, nextParticle.getClass());
-					var methodProcedure = loadProcedure(reducerState, eventId);
+					var methodProcedure = procedures.get(reducerState, op, nextParticle.getClass());
 					reducerState = callProcedure(methodProcedure, nextParticle, reducerState, readableAddrs, context);
 					expectEnd = reducerState == null;
 				} else if (inst.getMicroOp() == REInstruction.REMicroOp.END) {
@@ -413,8 +417,7 @@ public final class ConstraintMachine {
 					stateUpdates = new ArrayList<>();
 
 					if (reducerState != null) {
-						var eventId = OpSignature.ofSubstateUpdate(inst.getMicroOp().getOp(), null);
-						var methodProcedure = loadProcedure(reducerState, eventId);
+						var methodProcedure = procedures.get(reducerState, inst.getMicroOp().getOp(), null);
 						reducerState = callProcedure(methodProcedure, reducerState, reducerState, readableAddrs, context);
 					}
 
@@ -460,4 +463,27 @@ public final class ConstraintMachine {
 		var validationState = new CMValidationState(virtualSubstateDeserialization, deserialization, cmStore);
 		return this.statefulVerify(context, validationState, instructions);
 	}
+
+	/**
+	 * Applies the metering of a transaction which has already been verified, without verifying it again.
+	 * Only the super user procedures and the signature are metered, as the rest of the metering
+	 * does not depend on what was executed before the transaction.
+	 */
+	public void meterVerified(REProcessedTxn processedTxn, ExecutionContext context) throws AuthorizationException, MeterException {
+		if (context.permissionLevel() == PermissionLevel.SYSTEM) {
+			return;
+		}
+
+		if (processedTxn.isSystemOnly()) {
+			try {
+				this.metering.onSuperUserProcedure(null, null, context);
+			} catch (Exception e) {
+				throw new MeterException(e);
+			}
+		}
+
+		if (processedTxn.getSignedBy().isPresent()) {
+			this.metering.onSigInstruction(context);
+		}
+	}
 }
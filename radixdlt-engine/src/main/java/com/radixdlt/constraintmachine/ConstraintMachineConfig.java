@@ -22,6 +22,7 @@ import com.radixdlt.constraintmachine.meter.Meter;
 
 public final class ConstraintMachineConfig {
 	private final Procedures procedures;
+	private final ProcedureDispatch procedureDispatch;
 	private final SubstateDeserialization deserialization;
 	private final VirtualSubstateDeserialization virtualSubstateDeserialization;
 	private final Meter metering;
@@ -33,6 +34,7 @@ public final class ConstraintMachineConfig {
 		Meter metering
 	) {
 		this.procedures = procedures;
+		this.procedureDispatch = ProcedureDispatch.compile(procedures, deserialization);
 		this.deserialization = deserialization;
 		this.virtualSubstateDeserialization = virtualSubstateDeserialization;
 		this.metering = metering;
@@ -50,6 +52,10 @@ public final class ConstraintMachineConfig {
 		return procedures;
 	}
 
+	public ProcedureDispatch getProcedureDispatch() {
+		return procedureDispatch;
+	}
+
 	public Meter getMeter() {
 		return metering;
 	}
@@ -0,0 +1,145 @@
+/*
+ * (C) Copyright 2021 Radix DLT Ltd
+ *
+ * Radix DLT Ltd licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ */
+
+package com.radixdlt.constraintmachine;
+
+import com.radixdlt.constraintmachine.exceptions.MissingProcedureException;
+import com.radixdlt.identifiers.REAddr;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * {@link Procedures} resolved into dense tables indexed by reducer state, op and substate
+ * type byte, so that dispatching an instruction neither allocates nor hashes a {@link ProcedureKey}.
+ * Procedures which do not fit a table are still looked up by key.
+ */
+public final class ProcedureDispatch {
+	private static final int OPS = REOp.values().length;
+	private static final int TYPE_BYTES = 256;
+	private static final REAddr SYSTEM_ADDR = REAddr.ofSystem();
+
+	private final Procedures procedures;
+	private final SubstateDeserialization deserialization;
+	private final Map<Class<?>, Integer> stateIds;
+	// Indexed by [stateId * OPS + op][typeByte], rows are only allocated for slots with procedures
+	private final Procedure[][] substateProcedures;
+	// Indexed by [stateId * OPS + op] for procedures without a substate type, e.g. END
+	private final Procedure[] untypedProcedures;
+	// Indexed by [stateId] for system calls
+	private final Procedure[] systemCallProcedures;
+
+	private ProcedureDispatch(
+		Procedures procedures,
+		SubstateDeserialization deserialization,
+		Map<Class<?>, Integer> stateIds,
+		Procedure[][] substateProcedures,
+		Procedure[] untypedProcedures,
+		Procedure[] systemCallProcedures
+	) {
+		this.procedures = procedures;
+		this.deserialization = deserialization;
+		this.stateIds = stateIds;
+		this.substateProcedures = substateProcedures;
+		this.untypedProcedures = untypedProcedures;
+		this.systemCallProcedures = systemCallProcedures;
+	}
+
+	@SuppressWarnings("unchecked")
+	public static ProcedureDispatch compile(Procedures procedures, SubstateDeserialization deserialization) {
+		var stateIds = new IdentityHashMap<Class<?>, Integer>();
+		stateIds.put(VoidReducerState.class, 0);
+		procedures.forEach((key, procedure) -> stateIds.computeIfAbsent(key.currentState(), c -> stateIds.size()));
+
+		var substateProcedures = new Procedure[stateIds.size() * OPS][];
+		var untypedProcedures = new Procedure[stateIds.size() * OPS];
+		var systemCallProcedures = new Procedure[stateIds.size()];
+
+		procedures.forEach((key, procedure) -> {
+			var stateId = stateIds.get(key.currentState());
+			var op = key.opSignature().op();
+			var type = key.opSignature().type();
+			var slot = stateId * OPS + op.ordinal();
+			if (type == null) {
+				untypedProcedures[slot] = procedure;
+			} else if (type instanceof Class) {
+				var typeIndex = deserialization.typeIndex((Class<? extends Particle>) type);
+				if (typeIndex >= 0) {
+					if (substateProcedures[slot] == null) {
+						substateProcedures[slot] = new Procedure[TYPE_BYTES];
+					}
+					substateProcedures[slot][typeIndex] = procedure;
+				}
+			} else if (op == REOp.SYSCALL && SYSTEM_ADDR.equals(type)) {
+				systemCallProcedures[stateId] = procedure;
+			}
+		});
+
+		return new ProcedureDispatch(
+			procedures,
+			deserialization,
+			stateIds,
+			substateProcedures,
+			untypedProcedures,
+			systemCallProcedures
+		);
+	}
+
+	private static Class<? extends ReducerState> stateClass(ReducerState reducerState) {
+		return reducerState != null ? reducerState.getClass() : VoidReducerState.class;
+	}
+
+	/**
+	 * Returns the procedure for a substate op, or for an op without a substate type
+	 * if {@code substateClass} is null.
+	 */
+	public Procedure get(
+		ReducerState reducerState,
+		REOp op,
+		Class<? extends Particle> substateClass
+	) throws MissingProcedureException {
+		var stateClass = stateClass(reducerState);
+		var stateId = stateIds.get(stateClass);
+		if (stateId != null) {
+			var slot = stateId * OPS + op.ordinal();
+			final Procedure procedure;
+			if (substateClass == null) {
+				procedure = untypedProcedures[slot];
+			} else {
+				var row = substateProcedures[slot];
+				var typeIndex = deserialization.typeIndex(substateClass);
+				procedure = row == null || typeIndex < 0 ? null : row[typeIndex];
+			}
+			if (procedure != null) {
+				return procedure;
+			}
+		}
+
+		return procedures.getProcedure(ProcedureKey.of(stateClass, OpSignature.ofSubstateUpdate(op, substateClass)));
+	}
+
+	public Procedure getSystemCall(ReducerState reducerState) throws MissingProcedureException {
+		var stateClass = stateClass(reducerState);
+		var stateId = stateIds.get(stateClass);
+		if (stateId != null && systemCallProcedures[stateId] != null) {
+			return systemCallProcedures[stateId];
+		}
+
+		return procedures.getProcedure(ProcedureKey.of(stateClass, OpSignature.ofMethod(REOp.SYSCALL, SYSTEM_ADDR)));
+	}
+}
@@ -33,6 +33,10 @@ public final class ProcedureKey {
 		return new ProcedureKey(currentState, opSignature);
 	}
 
+	public Class<? extends ReducerState> currentState() {
+		return currentState;
+	}
+
 	public OpSignature opSignature() {
 		return opSignature;
 	}
@@ -21,6 +21,7 @@ package com.radixdlt.constraintmachine;
 import com.radixdlt.constraintmachine.exceptions.MissingProcedureException;
 
 import java.util.Map;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -45,6 +46,10 @@ public final class Procedures {
 		return new Procedures(combinedProcedures);
 	}
 
+	void forEach(BiConsumer<ProcedureKey, Procedure> consumer) {
+		procedures.forEach(consumer);
+	}
+
 	public Procedure getProcedure(ProcedureKey key) throws MissingProcedureException {
 		var procedure = procedures.get(key);
 		if (procedure == null) {
@@ -28,20 +28,32 @@ import java.util.Map;
 import java.util.stream.Collectors;
 
 public final class SubstateDeserialization {
-	private final Map<Byte, SubstateDefinition<? extends Particle>> byteToDeserializer;
+	// Indexed by unsigned type byte
+	private final SubstateDefinition<? extends Particle>[] byteToDeserializer;
 	private final Map<Class<? extends Particle>, Byte> classToTypeByte;
 
+	@SuppressWarnings("unchecked")
 	public SubstateDeserialization(
 		Collection<SubstateDefinition<? extends Particle>> definitions
 	) {
-		this.byteToDeserializer = definitions.stream()
-			.collect(Collectors.toMap(SubstateDefinition::getTypeByte, d -> d));
+		this.byteToDeserializer = new SubstateDefinition[256];
+		for (var definition : definitions) {
+			var index = Byte.toUnsignedInt(definition.getTypeByte());
+			if (this.byteToDeserializer[index] != null) {
+				throw new IllegalStateException("Duplicate substate type byte: " + definition.getTypeByte());
+			}
+			this.byteToDeserializer[index] = definition;
+		}
 		this.classToTypeByte = definitions.stream()
 			.collect(Collectors.toMap(SubstateDefinition::getSubstateClass, SubstateDefinition::getTypeByte));
 	}
 
+	private SubstateDefinition<? extends Particle> definition(byte typeByte) {
+		return byteToDeserializer[Byte.toUnsignedInt(typeByte)];
+	}
+
 	public Class<? extends Particle> byteToClass(Byte typeByte) throws DeserializeException {
-		var definition = byteToDeserializer.get(typeByte);
+		var definition = definition(typeByte);
 		if (definition == null) {
 			throw new DeserializeException("Unknown substate byte type: " + typeByte);
 		}
@@ -56,6 +68,14 @@ public final class SubstateDeserialization {
 		return b;
 	}
 
+	/**
+	 * Returns the unsigned type byte of a substate class, or -1 if the class is unknown.
+	 */
+	int typeIndex(Class<? extends Particle> substateClass) {
+		var b = classToTypeByte.get(substateClass);
+		return b == null ? -1 : Byte.toUnsignedInt(b);
+	}
+
 	public SubstateIndex index(Class<? extends Particle> substateClass) {
 		return SubstateIndex.create(classToByte(substateClass), substateClass);
 	}
@@ -66,7 +86,7 @@ public final class SubstateDeserialization {
 
 	public Particle deserialize(ByteBuffer buf) throws DeserializeException {
 		var typeByte = buf.get();
-		var deserializer = byteToDeserializer.get(typeByte);
+		var deserializer = definition(typeByte);
 		if (deserializer == null) {
 			throw new DeserializeException("Unknown byte type: " + typeByte);
 		}
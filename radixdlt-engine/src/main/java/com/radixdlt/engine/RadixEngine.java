@@ -37,6 +37,7 @@ import com.radixdlt.constraintmachine.SubstateIndex;
 import com.radixdlt.constraintmachine.SystemMapKey;
 import com.radixdlt.constraintmachine.exceptions.AuthorizationException;
 import com.radixdlt.constraintmachine.exceptions.ConstraintMachineException;
+import com.radixdlt.constraintmachine.exceptions.MeterException;
 import com.radixdlt.constraintmachine.REProcessedTxn;
 import com.radixdlt.constraintmachine.PermissionLevel;
 import com.radixdlt.constraintmachine.Particle;
@@ -45,6 +46,8 @@ import com.radixdlt.constraintmachine.ConstraintMachine;
 import com.radixdlt.constraintmachine.SubstateSerialization;
 import com.radixdlt.engine.parser.exceptions.TxnParseException;
 import com.radixdlt.atom.TxnConstructionRequest;
+import com.radixdlt.engine.parser.ParsedTxn;
+import com.radixdlt.engine.parser.PreParsedTxns;
 import com.radixdlt.engine.parser.REParser;
 import com.radixdlt.identifiers.REAddr;
 import com.radixdlt.store.EngineStore;
@@ -62,6 +65,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
@@ -129,6 +133,7 @@ public final class RadixEngine<M> {
 	}
 
 	private final EngineStore<M> engineStore;
+	private final Executor parseExecutor;
 	private final Object stateUpdateEngineLock = new Object();
 	private final Map<Pair<Class<?>, String>, ApplicationStateReducer<?, M>> stateComputers = new HashMap<>();
 	private final List<RadixEngineBranch<M>> branches = new ArrayList<>();
@@ -156,6 +161,22 @@ public final class RadixEngine<M> {
 		ConstraintMachine constraintMachine,
 		EngineStore<M> engineStore,
 		BatchVerifier<M> batchVerifier
+	) {
+		this(parser, serialization, actionConstructors, constraintMachine, engineStore, batchVerifier, null);
+	}
+
+	/**
+	 * Creates a radix engine which parses and recovers signatures of batches of transactions
+	 * in parallel on the given executor before taking the state update lock.
+	 */
+	public RadixEngine(
+		REParser parser,
+		SubstateSerialization serialization,
+		REConstructor actionConstructors,
+		ConstraintMachine constraintMachine,
+		EngineStore<M> engineStore,
+		BatchVerifier<M> batchVerifier,
+		Executor parseExecutor
 	) {
 		this.parser = Objects.requireNonNull(parser);
 		this.serialization = Objects.requireNonNull(serialization);
@@ -163,6 +184,7 @@ public final class RadixEngine<M> {
 		this.constraintMachine = Objects.requireNonNull(constraintMachine);
 		this.engineStore = Objects.requireNonNull(engineStore);
 		this.batchVerifier = batchVerifier;
+		this.parseExecutor = parseExecutor;
 	}
 
 	/**
@@ -216,6 +238,12 @@ public final class RadixEngine<M> {
 		}
 	}
 
+	public REParser getParser() {
+		synchronized (stateUpdateEngineLock) {
+			return parser;
+		}
+	}
+
 	public void replaceConstraintMachine(
 		ConstraintMachineConfig constraintMachineConfig,
 		SubstateSerialization serialization,
@@ -224,12 +252,7 @@ public final class RadixEngine<M> {
 		REParser parser
 	) {
 		synchronized (stateUpdateEngineLock) {
-			this.constraintMachine = new ConstraintMachine(
-				constraintMachineConfig.getProcedures(),
-				constraintMachineConfig.getDeserialization(),
-				constraintMachineConfig.getVirtualSubstateDeserialization(),
-				constraintMachineConfig.getMeter()
-			);
+			this.constraintMachine = new ConstraintMachine(constraintMachineConfig);
 			this.actionConstructors = actionToConstructorMap;
 			this.batchVerifier = batchVerifier;
 			this.parser = parser;
@@ -242,10 +265,12 @@ public final class RadixEngine<M> {
 	 * A cheap radix engine branch which is purely transient
 	 */
 	public static class RadixEngineBranch<M> {
+		private final RadixEngine<M> root;
 		private final RadixEngine<M> engine;
 		private boolean deleted = false;
 
 		private RadixEngineBranch(
+			RadixEngine<M> root,
 			REParser parser,
 			SubstateSerialization serialization,
 			REConstructor actionToConstructorMap,
@@ -255,13 +280,15 @@ public final class RadixEngine<M> {
 		) {
 			var transientEngineStore = new TransientEngineStore<>(parentStore);
 
+			this.root = root;
 			this.engine = new RadixEngine<>(
 				parser,
 				serialization,
 				actionToConstructorMap,
 				constraintMachine,
 				transientEngineStore,
-				BatchVerifier.empty()
+				BatchVerifier.empty(),
+				root.parseExecutor
 			);
 			engine.stateComputers.putAll(stateComputers);
 		}
@@ -295,6 +322,19 @@ public final class RadixEngine<M> {
 			assertNotDeleted();
 			return engine.construct(request);
 		}
+
+		/**
+		 * Creates a branch on top of the state of this branch without re-executing
+		 * any of the transactions already executed on this branch. The child reads
+		 * through to this branch so this branch must not be executed on while the
+		 * child is in use.
+		 *
+		 * @return a new branch registered with the root engine
+		 */
+		public RadixEngineBranch<M> transientBranch() {
+			assertNotDeleted();
+			return root.transientBranch(engine.engineStore, engine.stateComputers);
+		}
 	}
 
 	public void deleteBranches() {
@@ -304,20 +344,35 @@ public final class RadixEngine<M> {
 		}
 	}
 
+	public void deleteBranch(RadixEngineBranch<M> branch) {
+		synchronized (stateUpdateEngineLock) {
+			branch.delete();
+			branches.remove(branch);
+		}
+	}
+
 	public RadixEngineBranch<M> transientBranch() {
+		return transientBranch(this.engineStore, this.stateComputers);
+	}
+
+	private RadixEngineBranch<M> transientBranch(
+		EngineStore<M> parentStore,
+		Map<Pair<Class<?>, String>, ApplicationStateReducer<?, M>> parentStateComputers
+	) {
 		synchronized (stateUpdateEngineLock) {
 			Map<Pair<Class<?>, String>, ApplicationStateReducer<?, M>> branchedStateComputers = new HashMap<>();
-			this.stateComputers.forEach((c, computer) -> {
+			parentStateComputers.forEach((c, computer) -> {
 				if (computer.includeInBranches) {
 					branchedStateComputers.put(c, computer.copy());
 				}
 			});
 			RadixEngineBranch<M> branch = new RadixEngineBranch<>(
+				this,
 				this.parser,
 				this.serialization,
 				this.actionConstructors,
 				this.constraintMachine,
-				this.engineStore,
+				parentStore,
 				branchedStateComputers
 			);
 
@@ -327,10 +382,11 @@ public final class RadixEngine<M> {
 		}
 	}
 
-	private REProcessedTxn verify(EngineStore.EngineStoreInTransaction<M> engineStoreInTransaction, Txn txn, ExecutionContext context)
-		throws AuthorizationException, TxnParseException, ConstraintMachineException {
-
-		var parsedTxn = parser.parse(txn);
+	private REProcessedTxn verify(
+		EngineStore.EngineStoreInTransaction<M> engineStoreInTransaction,
+		ParsedTxn parsedTxn,
+		ExecutionContext context
+	) throws AuthorizationException, TxnParseException, ConstraintMachineException {
 		parsedTxn.getSignedBy().ifPresent(context::setKey);
 		context.setDisableResourceAllocAndDestroy(parsedTxn.disableResourceAllocAndDestroy());
 
@@ -362,22 +418,144 @@ public final class RadixEngine<M> {
 	 * @throws RadixEngineException on state conflict or dependency issues
 	 */
 	public RadixEngineResult execute(List<Txn> txns, M meta, PermissionLevel permissionLevel) throws RadixEngineException {
+		// Parsing is stateless so do it before taking the lock
+		var preParsedTxns = PreParsedTxns.parse(getParser(), txns, parseExecutor);
+
 		synchronized (stateUpdateEngineLock) {
-			if (!branches.isEmpty()) {
-				throw new IllegalStateException(
-					String.format(
-						"%s transient branches still exist. Must delete branches before storing additional atoms.",
-						branches.size()
-					)
-				);
+			assertNoBranches();
+			var result = engineStore.transaction(store -> executeInternal(store, txns, preParsedTxns, meta, permissionLevel));
+			processStateUpdates(result.getProcessedTxns());
+			return result;
+		}
+	}
+
+	/**
+	 * Atomically stores consecutive batches of transactions in a single store transaction,
+	 * each batch along with its own metadata. Each batch is verified as if it were executed
+	 * on its own, but if any of the batches fails none of them are stored.
+	 *
+	 * @param batches transactions to execute, each along with the metadata to store with them
+	 * @param permissionLevel permission level to execute on
+	 * @return the result of each batch, in order
+	 * @throws RadixEngineException on state conflict or dependency issues in any of the batches
+	 */
+	public List<RadixEngineResult> executeBatches(
+		List<Pair<List<Txn>, M>> batches,
+		PermissionLevel permissionLevel
+	) throws RadixEngineException {
+		// Parsing is stateless so do it before taking the lock
+		var preParsedBatches = new ArrayList<PreParsedTxns>(batches.size());
+		for (var batch : batches) {
+			preParsedBatches.add(PreParsedTxns.parse(getParser(), batch.getFirst(), parseExecutor));
+		}
+
+		synchronized (stateUpdateEngineLock) {
+			assertNoBranches();
+			var results = engineStore.transaction(store -> {
+				var batchResults = new ArrayList<RadixEngineResult>(batches.size());
+				for (int i = 0; i < batches.size(); i++) {
+					var batch = batches.get(i);
+					batchResults.add(executeInternal(store, batch.getFirst(), preParsedBatches.get(i), batch.getSecond(), permissionLevel));
+				}
+				return batchResults;
+			});
+			results.forEach(result -> processStateUpdates(result.getProcessedTxns()));
+			return results;
+		}
+	}
+
+	/**
+	 * Atomically stores transactions which have already been verified on a branch
+	 * on top of the current state of the store, without parsing or verifying them again.
+	 * It is the responsibility of the caller to ensure that the store has not changed
+	 * since the transactions were processed. Signatures are still metered, as the number of
+	 * signatures allowed depends on the transactions executed before in the same batch.
+	 *
+	 * @param processedTxns transactions previously processed on a branch of this engine
+	 * @param meta metadata to store along with the transactions
+	 * @throws RadixEngineException if the signature metering of the batch fails
+	 */
+	public RadixEngineResult executeProcessed(List<REProcessedTxn> processedTxns, M meta) throws RadixEngineException {
+		synchronized (stateUpdateEngineLock) {
+			assertNoBranches();
+			var result = engineStore.transaction(store -> {
+				// Signatures are metered across the batch, so the budget carried between transactions is replayed
+				var sigsLeft = meta != null ? 0 : 1000;
+				var storageStopwatch = Stopwatch.createUnstarted();
+				for (int i = 0; i < processedTxns.size(); i++) {
+					var processedTxn = processedTxns.get(i);
+					var txn = processedTxn.getTxn();
+					var context = new ExecutionContext(txn, PermissionLevel.SUPER_USER, sigsLeft, Amount.ofTokens(200).toSubunits());
+					try {
+						constraintMachine.meterVerified(processedTxn, context);
+					} catch (AuthorizationException | MeterException e) {
+						throw new RadixEngineException(i, processedTxns.size(), txn, e);
+					}
+					sigsLeft = context.sigsLeft();
+
+					storageStopwatch.start();
+					storeProcessed(store, processedTxn);
+					storageStopwatch.stop();
+				}
+				storeMetadata(store, meta, processedTxns);
+				return RadixEngineResult.createUnverified(processedTxns, storageStopwatch.elapsed(TimeUnit.MILLISECONDS));
+			});
+			processStateUpdates(processedTxns);
+			return result;
+		}
+	}
+
+	private void assertNoBranches() {
+		if (!branches.isEmpty()) {
+			throw new IllegalStateException(
+				String.format(
+					"%s transient branches still exist. Must delete branches before storing additional atoms.",
+					branches.size()
+				)
+			);
+		}
+	}
+
+	private void storeProcessed(EngineStore.EngineStoreInTransaction<M> engineStoreInTransaction, REProcessedTxn parsedTxn) {
+		try {
+			engineStoreInTransaction.storeTxn(parsedTxn.getTxn(), parsedTxn.stateUpdates().collect(Collectors.toList()));
+		} catch (Exception e) {
+			logger.error("Store of atom failed: " + parsedTxn, e);
+			throw e;
+		}
+	}
+
+	private void processStateUpdates(List<REProcessedTxn> processedTxns) {
+		// TODO Feature: Return updated state for some given query (e.g. for current validator set)
+		// Non-persisted computed state, only updated once the store transaction has succeeded
+		for (var processedTxn : processedTxns) {
+			for (var group : processedTxn.getGroupedStateUpdates()) {
+				group.forEach(update -> stateComputers.forEach((a, computer) -> computer.processStateUpdate(update)));
 			}
-			return engineStore.transaction(store -> executeInternal(store, txns, meta, permissionLevel));
+		}
+	}
+
+	private void storeMetadata(
+		EngineStore.EngineStoreInTransaction<M> engineStoreInTransaction,
+		M meta,
+		List<REProcessedTxn> processedTxns
+	) {
+		try {
+			batchVerifier.testMetadata(meta, processedTxns);
+		} catch (MetadataException e) {
+			logger.error("Invalid metadata: " + processedTxns);
+			throw e;
+		}
+
+		if (meta != null) {
+			engineStoreInTransaction.storeMetadata(meta);
 		}
 	}
 
 	private RadixEngineResult executeInternal(
 		EngineStore.EngineStoreInTransaction<M> engineStoreInTransaction,
 		List<Txn> txns,
+		PreParsedTxns preParsedTxns,
 		M meta,
 		PermissionLevel permissionLevel
 	) throws RadixEngineException {
@@ -396,7 +574,7 @@ public final class RadixEngine<M> {
 			var context = new ExecutionContext(txn, permissionLevel, sigsLeft, Amount.ofTokens(200).toSubunits());
 			final REProcessedTxn parsedTxn;
 			try {
-				parsedTxn = this.verify(engineStoreInTransaction, txn, context);
+				parsedTxn = this.verify(engineStoreInTransaction, preParsedTxns.get(parser, i), context);
 			} catch (TxnParseException | AuthorizationException | ConstraintMachineException e) {
 				throw new RadixEngineException(i, txns.size(), txn, e);
 			}
@@ -406,33 +584,13 @@ public final class RadixEngine<M> {
 			sigsLeft = context.sigsLeft();
 
 			storageStopwatch.start();
-			try {
-				engineStoreInTransaction.storeTxn(txn, parsedTxn.stateUpdates().collect(Collectors.toList()));
-			} catch (Exception e) {
-				logger.error("Store of atom failed: " + parsedTxn, e);
-				throw e;
-			}
+			storeProcessed(engineStoreInTransaction, parsedTxn);
 			storageStopwatch.stop();
 
-			// TODO Feature: Return updated state for some given query (e.g. for current validator set)
-			// Non-persisted computed state
-			for (var group : parsedTxn.getGroupedStateUpdates()) {
-				group.forEach(update -> stateComputers.forEach((a, computer) -> computer.processStateUpdate(update)));
-			}
-
 			processedTxns.add(parsedTxn);
 		}
 
-		try {
-			batchVerifier.testMetadata(meta, processedTxns);
-		} catch (MetadataException e) {
-			logger.error("Invalid metadata: " + processedTxns);
-			throw e;
-		}
-
-		if (meta != null) {
-			engineStoreInTransaction.storeMetadata(meta);
-		}
+		storeMetadata(engineStoreInTransaction, meta, processedTxns);
 
 		return RadixEngineResult.create(
 			processedTxns,
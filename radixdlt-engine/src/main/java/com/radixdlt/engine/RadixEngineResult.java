@@ -21,13 +21,14 @@ package com.radixdlt.engine;
 import com.radixdlt.constraintmachine.REProcessedTxn;
 
 import java.util.List;
+import java.util.OptionalLong;
 
 public final class RadixEngineResult {
 	private final List<REProcessedTxn> processedTxns;
-	private final long verificationTime;
+	private final OptionalLong verificationTime;
 	private final long storeTime;
 
-	private RadixEngineResult(List<REProcessedTxn> processedTxns, long verificationTime, long storeTime) {
+	private RadixEngineResult(List<REProcessedTxn> processedTxns, OptionalLong verificationTime, long storeTime) {
 		this.processedTxns = processedTxns;
 		this.verificationTime = verificationTime;
 		this.storeTime = storeTime;
@@ -38,10 +39,17 @@ public final class RadixEngineResult {
 		long verificationTime,
 		long storeTime
 	) {
-		return new RadixEngineResult(processedTxns, verificationTime, storeTime);
+		return new RadixEngineResult(processedTxns, OptionalLong.of(verificationTime), storeTime);
 	}
 
-	public long getVerificationTime() {
+	/**
+	 * Result of storing transactions which were verified previously, which has no verification time.
+	 */
+	public static RadixEngineResult createUnverified(List<REProcessedTxn> processedTxns, long storeTime) {
+		return new RadixEngineResult(processedTxns, OptionalLong.empty(), storeTime);
+	}
+
+	public OptionalLong getVerificationTime() {
 		return verificationTime;
 	}
 
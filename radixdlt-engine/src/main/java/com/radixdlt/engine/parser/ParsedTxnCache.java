@@ -0,0 +1,83 @@
+/*
+ * (C) Copyright 2021 Radix DLT Ltd
+ *
+ * Radix DLT Ltd licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ */
+
+package com.radixdlt.engine.parser;
+
+import com.radixdlt.identifiers.AID;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A size bounded, least recently used cache of parsed transactions keyed by
+ * transaction id. As the id is the hash of the payload a cached parse is valid
+ * for any transaction with the same id.
+ */
+public final class ParsedTxnCache {
+	private final Map<AID, ParsedTxn> cache;
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+
+	public ParsedTxnCache(int maxSize) {
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+		}
+
+		this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<AID, ParsedTxn> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	ParsedTxn get(AID txnId) {
+		final ParsedTxn parsedTxn;
+		synchronized (cache) {
+			parsedTxn = cache.get(txnId);
+		}
+
+		if (parsedTxn == null) {
+			misses.incrementAndGet();
+		} else {
+			hits.incrementAndGet();
+		}
+		return parsedTxn;
+	}
+
+	void put(ParsedTxn parsedTxn) {
+		synchronized (cache) {
+			cache.put(parsedTxn.txn().getId(), parsedTxn);
+		}
+	}
+
+	public long hits() {
+		return hits.get();
+	}
+
+	public long misses() {
+		return misses.get();
+	}
+
+	public int size() {
+		synchronized (cache) {
+			return cache.size();
+		}
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * (C) Copyright 2021 Radix DLT Ltd
+ *
+ * Radix DLT Ltd licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ */
+
+package com.radixdlt.engine.parser;
+
+import com.radixdlt.atom.Txn;
+import com.radixdlt.engine.parser.exceptions.TxnParseException;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * The results of statelessly parsing a batch of transactions and recovering their
+ * signatures ahead of execution, so that this work does not have to happen while
+ * holding the engine lock.
+ */
+public final class PreParsedTxns {
+	private final REParser parser;
+	private final List<Txn> txns;
+	private final ParsedTxn[] parsed;
+
+	private PreParsedTxns(REParser parser, List<Txn> txns, ParsedTxn[] parsed) {
+		this.parser = parser;
+		this.txns = txns;
+		this.parsed = parsed;
+	}
+
+	/**
+	 * Parses the given transactions, in parallel on the given executor if there is
+	 * more than one transaction. Transactions which fail to parse are parsed again
+	 * on retrieval so that the failure is reported in execution order.
+	 *
+	 * @param parser the parser to use
+	 * @param txns the transactions to parse
+	 * @param executor executor to parse on, or {@code null} to parse on the calling thread
+	 * @return the parsed transactions
+	 */
+	public static PreParsedTxns parse(REParser parser, List<Txn> txns, Executor executor) {
+		var parsed = new ParsedTxn[txns.size()];
+		if (executor == null || txns.size() < 2) {
+			for (int i = 0; i < txns.size(); i++) {
+				parsed[i] = tryParse(parser, txns.get(i));
+			}
+		} else {
+			var futures = new CompletableFuture<?>[txns.size()];
+			for (int i = 0; i < txns.size(); i++) {
+				final var index = i;
+				try {
+					futures[i] = CompletableFuture.runAsync(() -> {
+						parsed[index] = tryParse(parser, txns.get(index));
+					}, executor);
+				} catch (RejectedExecutionException e) {
+					// Executor has been shut down, finish parsing on the calling thread
+					parsed[index] = tryParse(parser, txns.get(index));
+					futures[i] = CompletableFuture.completedFuture(null);
+				}
+			}
+			CompletableFuture.allOf(futures).join();
+		}
+
+		return new PreParsedTxns(parser, txns, parsed);
+	}
+
+	private static ParsedTxn tryParse(REParser parser, Txn txn) {
+		try {
+			return parser.parse(txn);
+		} catch (TxnParseException | RuntimeException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Retrieves the parsed transaction at the given index, parsing it again if it failed
+	 * to parse or if the parser has since been replaced.
+	 *
+	 * @param currentParser the parser currently in use by the engine
+	 * @param index index of the transaction in the batch
+	 * @return the parsed transaction
+	 * @throws TxnParseException if the transaction is not a valid transaction
+	 */
+	public ParsedTxn get(REParser currentParser, int index) throws TxnParseException {
+		var parsedTxn = parsed[index];
+		if (parsedTxn == null || currentParser != parser) {
+			return currentParser.parse(txns.get(index));
+		}
+		return parsedTxn;
+	}
+}
@@ -35,18 +35,33 @@ import com.radixdlt.utils.UInt256;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 public final class REParser {
 	private final SubstateDeserialization substateDeserialization;
+	private final ParsedTxnCache cache;
 
 	public REParser(SubstateDeserialization substateDeserialization) {
+		this(substateDeserialization, null);
+	}
+
+	/**
+	 * Creates a parser which consults the given cache before parsing and
+	 * recovering the signature of a transaction.
+	 */
+	public REParser(SubstateDeserialization substateDeserialization, ParsedTxnCache cache) {
 		this.substateDeserialization = substateDeserialization;
+		this.cache = cache;
 	}
 
 	public SubstateDeserialization getSubstateDeserialization() {
 		return substateDeserialization;
 	}
 
+	public Optional<ParsedTxnCache> getCache() {
+		return Optional.ofNullable(cache);
+	}
+
 	public static class ParserState {
 		private final Txn txn;
 		private final List<REInstruction> instructions = new ArrayList<>();
@@ -132,8 +147,23 @@ public final class REParser {
 		}
 	}
 
-	@SuppressWarnings("rawtypes")
 	public ParsedTxn parse(Txn txn) throws TxnParseException {
+		if (cache == null) {
+			return parseInternal(txn);
+		}
+
+		var cached = cache.get(txn.getId());
+		if (cached != null) {
+			return cached;
+		}
+
+		var parsedTxn = parseInternal(txn);
+		cache.put(parsedTxn);
+		return parsedTxn;
+	}
+
+	@SuppressWarnings("rawtypes")
+	private ParsedTxn parseInternal(Txn txn) throws TxnParseException {
 		UInt256 feePaid = null;
 		ECDSASignature sig = null;
 		int sigPosition = 0;
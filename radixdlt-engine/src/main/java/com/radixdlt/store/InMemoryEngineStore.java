@@ -39,18 +39,28 @@ import com.radixdlt.identifiers.REAddr;
 
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
 
 public final class InMemoryEngineStore<M> implements EngineStore<M> {
+	// Orders up substates by their data, then id, so that index prefixes map onto contiguous ranges
+	private static final Comparator<RawSubstateBytes> INDEX_ORDER =
+		Comparator.comparing(RawSubstateBytes::getData, UnsignedBytes.lexicographicalComparator())
+			.thenComparing(RawSubstateBytes::getId, UnsignedBytes.lexicographicalComparator());
+
 	private final Object lock = new Object();
 	private final Map<SubstateId, REStateUpdate> storedState = new HashMap<>();
+	private final Map<SubstateId, RawSubstateBytes> upSubstates = new HashMap<>();
+	private final NavigableSet<RawSubstateBytes> indexedSubstates = new TreeSet<>(INDEX_ORDER);
 	private final Map<REAddr, Supplier<ByteBuffer>> addrParticles = new HashMap<>();
 	private final Map<SystemMapKey, RawSubstateBytes> maps = new HashMap<>();
 
@@ -61,6 +71,7 @@ public final class InMemoryEngineStore<M> implements EngineStore<M> {
 			public void storeTxn(Txn txn, List<REStateUpdate> stateUpdates) {
 				synchronized (lock) {
 					stateUpdates.forEach(i -> storedState.put(i.getId(), i));
+					stateUpdates.forEach(InMemoryEngineStore.this::index);
 					stateUpdates.forEach(update -> {
 						// FIXME: Superhack
 						if (update.isBootUp()) {
@@ -153,25 +164,55 @@ public final class InMemoryEngineStore<M> implements EngineStore<M> {
 		});
 	}
 
+	private void index(REStateUpdate update) {
+		if (update.isBootUp()) {
+			var substate = update.getRawSubstateBytes();
+			var previous = upSubstates.put(update.getId(), substate);
+			if (previous != null) {
+				indexedSubstates.remove(previous);
+			}
+			indexedSubstates.add(substate);
+		} else {
+			var previous = upSubstates.remove(update.getId());
+			if (previous != null) {
+				indexedSubstates.remove(previous);
+			}
+		}
+	}
+
+	/**
+	 * Returns the up substates whose data starts with the index prefix, in descending
+	 * byte order of their data. Only the matching range of the index is visited.
+	 */
 	@Override
 	public CloseableCursor<RawSubstateBytes> openIndexedCursor(SubstateIndex<?> index) {
-		final List<RawSubstateBytes> substates = new ArrayList<>();
+		var prefix = index.getPrefix();
+		var from = new RawSubstateBytes(new byte[0], prefix);
+		var to = prefixUpperBound(prefix);
+
+		final List<RawSubstateBytes> substates;
 		synchronized (lock) {
-			for (var i : storedState.values()) {
-				if (!i.isBootUp()) {
-					continue;
-				}
-				if (!index.test(i.getRawSubstateBytes())) {
-					continue;
-				}
-				substates.add(i.getRawSubstateBytes());
-			}
+			var range = to == null
+				? indexedSubstates.tailSet(from, true)
+				: indexedSubstates.subSet(from, true, new RawSubstateBytes(new byte[0], to), false);
+			substates = new ArrayList<>(range.descendingSet());
 		}
-		substates.sort(Comparator.comparing(RawSubstateBytes::getData, UnsignedBytes.lexicographicalComparator().reversed()));
 
 		return CloseableCursor.wrapIterator(substates.iterator());
 	}
 
+	// Smallest byte string greater than every string starting with prefix, or null if there is none
+	private static byte[] prefixUpperBound(byte[] prefix) {
+		for (int i = prefix.length - 1; i >= 0; i--) {
+			if (prefix[i] != (byte) 0xff) {
+				var bound = Arrays.copyOf(prefix, i + 1);
+				bound[i]++;
+				return bound;
+			}
+		}
+		return null;
+	}
+
 	@Override
 	public Optional<RawSubstateBytes> get(SystemMapKey key) {
 		return Optional.ofNullable(maps.get(key));
@@ -33,6 +33,7 @@ import com.radixdlt.application.tokens.construction.MintTokenConstructor;
 import com.radixdlt.application.tokens.construction.TransferTokensConstructorV2;
 import com.radixdlt.application.tokens.scrypt.TokensConstraintScryptV3;
 import com.radixdlt.application.tokens.state.AccountBucket;
+import com.radixdlt.application.tokens.state.TokensInAccount;
 import com.radixdlt.atomos.CMAtomOS;
 import com.radixdlt.atomos.ConstraintScrypt;
 import com.radixdlt.constraintmachine.PermissionLevel;
@@ -171,4 +172,37 @@ public class TransferTokensTest {
 			);
 		assertThat(accounting.resourceAccounting()).isEmpty();
 	}
+
+	@Test
+	public void transfer_tokens_only_spends_the_transferred_resource() throws Exception {
+		// Arrange
+		var key = ECKeyPair.generateNew();
+		var accountAddr = REAddr.ofPubKeyAccount(key.getPublicKey());
+		var tokenAddr = REAddr.ofHashedKey(key.getPublicKey(), "test");
+		var otherTokenAddr = REAddr.ofHashedKey(key.getPublicKey(), "other");
+		var txn = this.engine.construct(
+			TxnConstructionRequest.create()
+				.action(new CreateMutableToken(key.getPublicKey(), "other", "Other", "", "", ""))
+				.action(new MintToken(otherTokenAddr, accountAddr, startAmt))
+				.action(new MintToken(otherTokenAddr, accountAddr, startAmt))
+				.action(new CreateMutableToken(key.getPublicKey(), "test", "Name", "", "", ""))
+				.action(new MintToken(tokenAddr, accountAddr, startAmt))
+		).signAndBuild(key::sign);
+		this.engine.execute(List.of(txn));
+
+		// Act
+		var to = REAddr.ofPubKeyAccount(ECKeyPair.generateNew().getPublicKey());
+		var transfer = this.engine.construct(new TransferToken(tokenAddr, accountAddr, to, transferAmt))
+			.signAndBuild(key::sign);
+		var result = this.engine.execute(List.of(transfer));
+
+		// Assert
+		var accounting = REResourceAccounting.compute(result.getProcessedTxn().getGroupedStateUpdates().get(0));
+		assertThat(accounting.bucketAccounting())
+			.hasSize(2)
+			.doesNotContainKey(new AccountBucket(otherTokenAddr, accountAddr));
+		assertThat(result.getProcessedTxn().getGroupedStateUpdates().get(0))
+			.noneMatch(u -> u.isShutDown() && u.getParsed() instanceof TokensInAccount
+				&& ((TokensInAccount) u.getParsed()).getResourceAddr().equals(otherTokenAddr));
+	}
 }
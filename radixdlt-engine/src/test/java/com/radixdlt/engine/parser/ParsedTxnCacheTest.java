@@ -0,0 +1,101 @@
+/*
+ * (C) Copyright 2021 Radix DLT Ltd
+ *
+ * Radix DLT Ltd licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ */
+
+package com.radixdlt.engine.parser;
+
+import com.radixdlt.application.system.construction.CreateSystemConstructorV2;
+import com.radixdlt.application.system.scrypt.SystemConstraintScrypt;
+import com.radixdlt.application.tokens.scrypt.TokensConstraintScryptV3;
+import com.radixdlt.atom.REConstructor;
+import com.radixdlt.atom.Txn;
+import com.radixdlt.atom.actions.CreateSystem;
+import com.radixdlt.atomos.CMAtomOS;
+import com.radixdlt.constraintmachine.ConstraintMachine;
+import com.radixdlt.constraintmachine.meter.Meter;
+import com.radixdlt.engine.RadixEngine;
+import com.radixdlt.store.InMemoryEngineStore;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ParsedTxnCacheTest {
+	private CMAtomOS cmAtomOS;
+	private Txn txn;
+	private Txn otherTxn;
+
+	@Before
+	public void setup() throws Exception {
+		this.cmAtomOS = new CMAtomOS();
+		cmAtomOS.load(new TokensConstraintScryptV3());
+		cmAtomOS.load(new SystemConstraintScrypt(Set.of()));
+		var cm = new ConstraintMachine(
+			cmAtomOS.getProcedures(),
+			cmAtomOS.buildSubstateDeserialization(),
+			cmAtomOS.buildVirtualSubstateDeserialization(),
+			Meter.EMPTY
+		);
+		var engine = new RadixEngine<Void>(
+			new REParser(cmAtomOS.buildSubstateDeserialization()),
+			cmAtomOS.buildSubstateSerialization(),
+			REConstructor.newBuilder()
+				.put(CreateSystem.class, new CreateSystemConstructorV2())
+				.build(),
+			cm,
+			new InMemoryEngineStore<>()
+		);
+		this.txn = engine.construct(new CreateSystem(0)).buildWithoutSignature();
+		this.otherTxn = engine.construct(new CreateSystem(1)).buildWithoutSignature();
+	}
+
+	@Test
+	public void parsing_same_txn_twice_should_hit_cache() throws Exception {
+		// Arrange
+		var cache = new ParsedTxnCache(10);
+		var parser = new REParser(cmAtomOS.buildSubstateDeserialization(), cache);
+
+		// Act
+		var first = parser.parse(txn);
+		var second = parser.parse(Txn.create(txn.getPayload()));
+
+		// Assert
+		assertThat(second).isSameAs(first);
+		assertThat(cache.hits()).isEqualTo(1);
+		assertThat(cache.misses()).isEqualTo(1);
+	}
+
+	@Test
+	public void least_recently_used_txn_should_be_evicted() throws Exception {
+		// Arrange
+		var cache = new ParsedTxnCache(1);
+		var parser = new REParser(cmAtomOS.buildSubstateDeserialization(), cache);
+		var first = parser.parse(txn);
+
+		// Act
+		parser.parse(otherTxn);
+		var reparsed = parser.parse(txn);
+
+		// Assert
+		assertThat(reparsed).isNotSameAs(first);
+		assertThat(cache.size()).isEqualTo(1);
+		assertThat(cache.hits()).isZero();
+		assertThat(cache.misses()).isEqualTo(3);
+	}
+}
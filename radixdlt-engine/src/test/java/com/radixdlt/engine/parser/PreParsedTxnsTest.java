@@ -0,0 +1,134 @@
+/*
+ * (C) Copyright 2021 Radix DLT Ltd
+ *
+ * Radix DLT Ltd licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ */
+
+package com.radixdlt.engine.parser;
+
+import com.radixdlt.application.system.construction.CreateSystemConstructorV2;
+import com.radixdlt.application.system.scrypt.SystemConstraintScrypt;
+import com.radixdlt.application.tokens.construction.CreateMutableTokenConstructor;
+import com.radixdlt.application.tokens.construction.MintTokenConstructor;
+import com.radixdlt.application.tokens.scrypt.TokensConstraintScryptV3;
+import com.radixdlt.atom.REConstructor;
+import com.radixdlt.atom.Txn;
+import com.radixdlt.atom.TxnConstructionRequest;
+import com.radixdlt.atom.actions.CreateMutableToken;
+import com.radixdlt.atom.actions.CreateSystem;
+import com.radixdlt.atom.actions.MintToken;
+import com.radixdlt.atomos.CMAtomOS;
+import com.radixdlt.constraintmachine.ConstraintMachine;
+import com.radixdlt.constraintmachine.meter.Meter;
+import com.radixdlt.crypto.ECKeyPair;
+import com.radixdlt.engine.RadixEngine;
+import com.radixdlt.engine.parser.exceptions.TxnParseException;
+import com.radixdlt.identifiers.REAddr;
+import com.radixdlt.store.InMemoryEngineStore;
+import com.radixdlt.utils.UInt256;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PreParsedTxnsTest {
+	private final ExecutorService executor = Executors.newFixedThreadPool(2);
+	private REParser parser;
+	private Txn txn;
+
+	@Before
+	public void setup() throws Exception {
+		var cmAtomOS = new CMAtomOS();
+		cmAtomOS.load(new TokensConstraintScryptV3());
+		cmAtomOS.load(new SystemConstraintScrypt(Set.of()));
+		var cm = new ConstraintMachine(
+			cmAtomOS.getProcedures(),
+			cmAtomOS.buildSubstateDeserialization(),
+			cmAtomOS.buildVirtualSubstateDeserialization(),
+			Meter.EMPTY
+		);
+		this.parser = new REParser(cmAtomOS.buildSubstateDeserialization());
+		var engine = new RadixEngine<Void>(
+			parser,
+			cmAtomOS.buildSubstateSerialization(),
+			REConstructor.newBuilder()
+				.put(CreateSystem.class, new CreateSystemConstructorV2())
+				.put(CreateMutableToken.class, new CreateMutableTokenConstructor())
+				.put(MintToken.class, new MintTokenConstructor())
+				.build(),
+			cm,
+			new InMemoryEngineStore<>()
+		);
+		var accountAddr = REAddr.ofPubKeyAccount(ECKeyPair.generateNew().getPublicKey());
+		this.txn = engine.construct(
+			TxnConstructionRequest.create()
+				.action(new CreateSystem(0))
+				.action(new CreateMutableToken(null, "xrd", "xrd", "", "", ""))
+				.action(new MintToken(REAddr.ofNativeToken(), accountAddr, UInt256.TEN))
+		).buildWithoutSignature();
+	}
+
+	@After
+	public void teardown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void parsing_in_parallel_should_retain_order() throws Exception {
+		// Arrange
+		var invalid = Txn.create(new byte[] {0x7f});
+
+		// Act
+		var preParsed = PreParsedTxns.parse(parser, List.of(invalid, txn), executor);
+
+		// Assert
+		assertThat(preParsed.get(parser, 1).txn()).isEqualTo(txn);
+		assertThatThrownBy(() -> preParsed.get(parser, 0)).isInstanceOf(TxnParseException.class);
+	}
+
+	@Test
+	public void parsing_on_shut_down_executor_should_parse_on_calling_thread() throws Exception {
+		// Arrange
+		executor.shutdown();
+
+		// Act
+		var preParsed = PreParsedTxns.parse(parser, List.of(txn, txn), executor);
+
+		// Assert
+		assertThat(preParsed.get(parser, 0).txn()).isEqualTo(txn);
+		assertThat(preParsed.get(parser, 1).txn()).isEqualTo(txn);
+	}
+
+	@Test
+	public void replaced_parser_should_parse_again() throws Exception {
+		// Arrange
+		var preParsed = PreParsedTxns.parse(parser, List.of(txn), null);
+		var otherParser = new REParser(parser.getSubstateDeserialization());
+
+		// Act
+		var parsed = preParsed.get(otherParser, 0);
+
+		// Assert
+		assertThat(parsed).isNotSameAs(preParsed.get(parser, 0));
+		assertThat(parsed.txn()).isEqualTo(txn);
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * (C) Copyright 2021 Radix DLT Ltd
+ *
+ * Radix DLT Ltd licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ */
+
+package com.radixdlt.store;
+
+import com.google.common.collect.Lists;
+import com.radixdlt.atom.SubstateId;
+import com.radixdlt.constraintmachine.REOp;
+import com.radixdlt.constraintmachine.REStateUpdate;
+import com.radixdlt.constraintmachine.RawSubstateBytes;
+import com.radixdlt.constraintmachine.SubstateIndex;
+import com.radixdlt.constraintmachine.Particle;
+import com.radixdlt.identifiers.AID;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InMemoryEngineStoreTest {
+	private final InMemoryEngineStore<Void> store = new InMemoryEngineStore<>();
+
+	@Test
+	public void indexed_cursor_returns_only_matching_up_substates_in_descending_order() throws Exception {
+		var low = up(0, new byte[] {1, 0, 1});
+		var high = up(1, new byte[] {1, (byte) 0xff});
+		var otherType = up(2, new byte[] {2, 0});
+		var shortData = up(3, new byte[] {1});
+		storeUpdates(low, high, otherType, shortData);
+
+		var result = dataOf(SubstateIndex.create((byte) 1, Particle.class));
+
+		assertThat(result).containsExactly(
+			new byte[] {1, (byte) 0xff},
+			new byte[] {1, 0, 1},
+			new byte[] {1}
+		);
+	}
+
+	@Test
+	public void indexed_cursor_handles_prefix_ending_in_max_byte() throws Exception {
+		storeUpdates(up(0, new byte[] {(byte) 0xff, (byte) 0xff, 3}), up(1, new byte[] {(byte) 0xfe, 0}));
+
+		var result = dataOf(SubstateIndex.create(new byte[] {(byte) 0xff, (byte) 0xff}, Particle.class));
+
+		assertThat(result).containsExactly(new byte[] {(byte) 0xff, (byte) 0xff, 3});
+	}
+
+	@Test
+	public void shut_down_substates_are_removed_from_the_index() throws Exception {
+		var substate = up(0, new byte[] {1, 2});
+		storeUpdates(substate, up(1, new byte[] {1, 3}));
+		storeUpdates(REStateUpdate.of(REOp.DOWN, substate.getId(), (byte) 1, null, substate::getStateBuf));
+
+		var result = dataOf(SubstateIndex.create((byte) 1, Particle.class));
+
+		assertThat(result).containsExactly(new byte[] {1, 3});
+		assertThat(store.contains(substate.getId())).isTrue();
+	}
+
+	private static REStateUpdate up(int index, byte[] data) {
+		var id = SubstateId.ofSubstate(AID.ZERO, index);
+		return REStateUpdate.of(REOp.UP, id, data[0], null, () -> ByteBuffer.wrap(data));
+	}
+
+	private void storeUpdates(REStateUpdate... updates) throws Exception {
+		store.transaction(tx -> {
+			tx.storeTxn(null, List.of(updates));
+			return null;
+		});
+	}
+
+	private List<byte[]> dataOf(SubstateIndex<?> index) {
+		try (var cursor = store.openIndexedCursor(index)) {
+			return Lists.newArrayList(cursor.map(RawSubstateBytes::getData));
+		}
+	}
+}
@@ -0,0 +1,230 @@
+/*
+ * (C) Copyright 2021 Radix DLT Ltd
+ *
+ * Radix DLT Ltd licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ */
+
+package com.radixdlt.utils;
+
+import java.util.Arrays;
+
+/**
+ * Arithmetic on unsigned integers held as little-endian arrays of 32-bit limbs.
+ * All results are truncated to the length of the destination array, and no method
+ * allocates; callers supply any scratch space.
+ */
+final class Limbs {
+	private static final long INT_MASK = (1L << Integer.SIZE) - 1L;
+
+	private Limbs() {
+		throw new IllegalStateException("Can't construct");
+	}
+
+	static void load(UInt128 value, int[] dst, int offset) {
+		dst[offset] = value.low;
+		dst[offset + 1] = value.midLow;
+		dst[offset + 2] = value.midHigh;
+		dst[offset + 3] = value.high;
+	}
+
+	static void load(UInt256 value, int[] dst, int offset) {
+		load(value.low, dst, offset);
+		load(value.high, dst, offset + 4);
+	}
+
+	static void load(UInt384 value, int[] dst, int offset) {
+		load(value.low, dst, offset);
+		load(value.high, dst, offset + 8);
+	}
+
+	static UInt128 toUInt128(int[] src, int offset) {
+		return UInt128.from(src[offset + 3], src[offset + 2], src[offset + 1], src[offset]);
+	}
+
+	static UInt256 toUInt256(int[] src, int offset) {
+		return UInt256.from(toUInt128(src, offset + 4), toUInt128(src, offset));
+	}
+
+	static UInt384 toUInt384(int[] src, int offset) {
+		return UInt384.from(toUInt128(src, offset + 8), toUInt256(src, offset));
+	}
+
+	static boolean isZero(int[] a) {
+		for (int limb : a) {
+			if (limb != 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	static int compare(int[] a, int[] b) {
+		for (int i = a.length - 1; i >= 0; i--) {
+			if (a[i] != b[i]) {
+				return Integer.compareUnsigned(a[i], b[i]);
+			}
+		}
+		return 0;
+	}
+
+	// acc += x, where x is no longer than acc
+	static void add(int[] acc, int[] x) {
+		long carry = 0;
+		for (int i = 0; i < acc.length; i++) {
+			long sum = (acc[i] & INT_MASK) + (i < x.length ? x[i] & INT_MASK : 0L) + carry;
+			acc[i] = (int) sum;
+			carry = sum >>> Integer.SIZE;
+		}
+	}
+
+	// acc -= x, where x is no longer than acc
+	static void subtract(int[] acc, int[] x) {
+		long borrow = 0;
+		for (int i = 0; i < acc.length; i++) {
+			long diff = (acc[i] & INT_MASK) - (i < x.length ? x[i] & INT_MASK : 0L) + borrow;
+			acc[i] = (int) diff;
+			borrow = diff >> Integer.SIZE;
+		}
+	}
+
+	// acc *= x, using product as scratch space of the same length as acc
+	static void multiply(int[] acc, int[] x, int[] product) {
+		Arrays.fill(product, 0);
+		for (int i = 0; i < x.length && i < acc.length; i++) {
+			long xi = x[i] & INT_MASK;
+			if (xi == 0) {
+				continue;
+			}
+			long carry = 0;
+			for (int j = 0; i + j < acc.length; j++) {
+				long t = xi * (acc[j] & INT_MASK) + (product[i + j] & INT_MASK) + carry;
+				product[i + j] = (int) t;
+				carry = t >>> Integer.SIZE;
+			}
+		}
+		System.arraycopy(product, 0, acc, 0, acc.length);
+	}
+
+	private static int significantLimbs(int[] a) {
+		int n = a.length;
+		while (n > 0 && a[n - 1] == 0) {
+			n--;
+		}
+		return n;
+	}
+
+	/**
+	 * Divides {@code u} by {@code v} using Knuth's algorithm D, replacing {@code u} with
+	 * the quotient, or with the remainder if {@code keepRemainder} is set.
+	 * {@code un} must be one limb longer than {@code u}, and {@code vn} as long as {@code v}.
+	 *
+	 * @throws IllegalArgumentException if {@code v} is zero
+	 */
+	static void divide(int[] u, int[] v, boolean keepRemainder, int[] q, int[] un, int[] vn) {
+		int n = significantLimbs(v);
+		if (n == 0) {
+			throw new IllegalArgumentException("Can't divide by zero");
+		}
+		int m = significantLimbs(u);
+		if (m < n) {
+			if (!keepRemainder) {
+				Arrays.fill(u, 0);
+			}
+			return;
+		}
+
+		Arrays.fill(q, 0);
+		if (n == 1) {
+			long d = v[0] & INT_MASK;
+			long r = 0;
+			for (int j = m - 1; j >= 0; j--) {
+				long cur = (r << Integer.SIZE) | (u[j] & INT_MASK);
+				q[j] = (int) Long.divideUnsigned(cur, d);
+				r = Long.remainderUnsigned(cur, d);
+			}
+			if (keepRemainder) {
+				Arrays.fill(u, 0);
+				u[0] = (int) r;
+			} else {
+				System.arraycopy(q, 0, u, 0, u.length);
+			}
+			return;
+		}
+
+		// Normalise so that the top limb of the divisor has its high bit set
+		int s = Integer.numberOfLeadingZeros(v[n - 1]);
+		for (int i = n - 1; i > 0; i--) {
+			vn[i] = (v[i] << s) | (int) ((v[i - 1] & INT_MASK) >>> (Integer.SIZE - s));
+		}
+		vn[0] = v[0] << s;
+		un[m] = (int) ((u[m - 1] & INT_MASK) >>> (Integer.SIZE - s));
+		for (int i = m - 1; i > 0; i--) {
+			un[i] = (u[i] << s) | (int) ((u[i - 1] & INT_MASK) >>> (Integer.SIZE - s));
+		}
+		un[0] = u[0] << s;
+
+		long vTop = vn[n - 1] & INT_MASK;
+		long vNext = vn[n - 2] & INT_MASK;
+		for (int j = m - n; j >= 0; j--) {
+			// Estimate the quotient limb from the top two limbs, then correct it
+			long num = ((un[j + n] & INT_MASK) << Integer.SIZE) | (un[j + n - 1] & INT_MASK);
+			long qhat = Long.divideUnsigned(num, vTop);
+			long rhat = Long.remainderUnsigned(num, vTop);
+			while (qhat > INT_MASK
+				|| Long.compareUnsigned(qhat * vNext, (rhat << Integer.SIZE) | (un[j + n - 2] & INT_MASK)) > 0) {
+				qhat--;
+				rhat += vTop;
+				if (rhat > INT_MASK) {
+					break;
+				}
+			}
+
+			// Multiply and subtract
+			long borrow = 0;
+			long t;
+			for (int i = 0; i < n; i++) {
+				long p = qhat * (vn[i] & INT_MASK);
+				t = (un[i + j] & INT_MASK) - borrow - (p & INT_MASK);
+				un[i + j] = (int) t;
+				borrow = (p >>> Integer.SIZE) - (t >> Integer.SIZE);
+			}
+			t = (un[j + n] & INT_MASK) - borrow;
+			un[j + n] = (int) t;
+
+			q[j] = (int) qhat;
+			if (t < 0) {
+				// Estimate was one too large, add the divisor back
+				q[j]--;
+				long carry = 0;
+				for (int i = 0; i < n; i++) {
+					t = (un[i + j] & INT_MASK) + (vn[i] & INT_MASK) + carry;
+					un[i + j] = (int) t;
+					carry = t >>> Integer.SIZE;
+				}
+				un[j + n] += (int) carry;
+			}
+		}
+
+		if (keepRemainder) {
+			Arrays.fill(u, 0);
+			for (int i = 0; i < n - 1; i++) {
+				u[i] = (un[i] >>> s) | (int) ((un[i + 1] & INT_MASK) << (Integer.SIZE - s));
+			}
+			u[n - 1] = un[n - 1] >>> s;
+		} else {
+			System.arraycopy(q, 0, u, 0, u.length);
+		}
+	}
+}
@@ -0,0 +1,150 @@
+/*
+ * (C) Copyright 2021 Radix DLT Ltd
+ *
+ * Radix DLT Ltd licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ */
+
+package com.radixdlt.utils;
+
+import com.radixdlt.SecurityCritical;
+import com.radixdlt.SecurityCritical.SecurityKind;
+
+/**
+ * A mutable 384-bit unsigned integer for accumulating long chains of arithmetic
+ * without allocating an intermediate {@link UInt384} for every step.
+ * Arithmetic wraps on overflow and underflow in the same way as {@link UInt384}.
+ * <p>
+ * This class is NOT thread-safe.
+ */
+@SecurityCritical(SecurityKind.NUMERIC)
+public final class MutableUInt384 implements Comparable<MutableUInt384> {
+	private static final int LIMBS = UInt384.SIZE / Integer.SIZE;
+	private static final int UINT256_LIMBS = UInt256.SIZE / Integer.SIZE;
+
+	// Little-endian limbs of the value
+	private final int[] value = new int[LIMBS];
+	// Scratch space for operands and intermediate results
+	private final int[] operand = new int[LIMBS];
+	private final int[] scratch = new int[LIMBS];
+	private final int[] normalisedDividend = new int[LIMBS + 1];
+	private final int[] normalisedDivisor = new int[LIMBS];
+
+	public MutableUInt384() {
+		// Zero
+	}
+
+	public MutableUInt384(UInt384 value) {
+		set(value);
+	}
+
+	public MutableUInt384 set(UInt384 value) {
+		Limbs.load(value, this.value, 0);
+		return this;
+	}
+
+	public MutableUInt384 set(MutableUInt384 value) {
+		System.arraycopy(value.value, 0, this.value, 0, LIMBS);
+		return this;
+	}
+
+	public MutableUInt384 add(UInt256 other) {
+		Limbs.add(this.value, load(other));
+		return this;
+	}
+
+	public MutableUInt384 add(UInt384 other) {
+		Limbs.add(this.value, load(other));
+		return this;
+	}
+
+	public MutableUInt384 subtract(UInt256 other) {
+		Limbs.subtract(this.value, load(other));
+		return this;
+	}
+
+	public MutableUInt384 subtract(UInt384 other) {
+		Limbs.subtract(this.value, load(other));
+		return this;
+	}
+
+	public MutableUInt384 multiply(UInt256 multiplicand) {
+		Limbs.multiply(this.value, load(multiplicand), this.scratch);
+		return this;
+	}
+
+	/**
+	 * Replaces {@code this} with {@code floor(this / divisor)}.
+	 *
+	 * @throws IllegalArgumentException if {@code divisor} is zero
+	 */
+	public MutableUInt384 divide(UInt256 divisor) {
+		return divide(load(divisor));
+	}
+
+	/**
+	 * Replaces {@code this} with {@code floor(this / divisor)}.
+	 *
+	 * @throws IllegalArgumentException if {@code divisor} is zero
+	 */
+	public MutableUInt384 divide(UInt384 divisor) {
+		return divide(load(divisor));
+	}
+
+	/**
+	 * Replaces {@code this} with the remainder of {@code this / divisor}.
+	 *
+	 * @throws IllegalArgumentException if {@code divisor} is zero
+	 */
+	public MutableUInt384 remainder(UInt384 divisor) {
+		Limbs.divide(this.value, load(divisor), true, this.scratch, this.normalisedDividend, this.normalisedDivisor);
+		return this;
+	}
+
+	private MutableUInt384 divide(int[] divisor) {
+		Limbs.divide(this.value, divisor, false, this.scratch, this.normalisedDividend, this.normalisedDivisor);
+		return this;
+	}
+
+	private int[] load(UInt256 other) {
+		Limbs.load(other, this.operand, 0);
+		for (int i = UINT256_LIMBS; i < LIMBS; i++) {
+			this.operand[i] = 0;
+		}
+		return this.operand;
+	}
+
+	private int[] load(UInt384 other) {
+		Limbs.load(other, this.operand, 0);
+		return this.operand;
+	}
+
+	public boolean isZero() {
+		return Limbs.isZero(this.value);
+	}
+
+	public UInt384 toUInt384() {
+		return Limbs.toUInt384(this.value, 0);
+	}
+
+	@Override
+	public int compareTo(MutableUInt384 other) {
+		return Limbs.compare(this.value, other.value);
+	}
+
+	@Override
+	public String toString() {
+		return toUInt384().toString();
+	}
+}
@@ -24,7 +24,6 @@ import com.radixdlt.SecurityCritical;
 import com.radixdlt.SecurityCritical.SecurityKind;
 import com.radixdlt.utils.functional.Result;
 
-import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Objects;
 
@@ -509,12 +508,7 @@ public final class UInt256 implements Comparable<UInt256> {
 	 * @throws IllegalArgumentException if {@code divisor} is zero
 	 */
 	public UInt256 divide(UInt256 divisor) {
-		if (divisor.isZero()) {
-			throw new IllegalArgumentException("Can't divide by zero");
-		}
-		BigInteger q = new BigInteger(1, this.toByteArray());
-		BigInteger d = new BigInteger(1, divisor.toByteArray());
-		return new UInt256(q.divide(d).toByteArray());
+		return new MutableUInt256(this).divide(divisor).toUInt256();
 	}
 
 	/**
@@ -526,12 +520,7 @@ public final class UInt256 implements Comparable<UInt256> {
 	 * @return The remainder of the division {@code this / divisor}.
 	 */
 	public UInt256 remainder(UInt256 divisor) {
-		if (divisor.isZero()) {
-			throw new IllegalArgumentException("Can't divide by zero");
-		}
-		BigInteger q = new BigInteger(1, this.toByteArray());
-		BigInteger d = new BigInteger(1, divisor.toByteArray());
-		return new UInt256(q.remainder(d).toByteArray());
+		return new MutableUInt256(this).remainder(divisor).toUInt256();
 	}
 
 	/**
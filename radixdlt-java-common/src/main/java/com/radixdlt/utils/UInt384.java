@@ -444,25 +444,7 @@ public final class UInt384 implements Comparable<UInt384> {
 	 * @throws IllegalArgumentException if {@code divisor} is zero
 	 */
 	public UInt384 divide(UInt384 divisor) {
-		if (divisor.isZero()) {
-			throw new IllegalArgumentException("Can't divide by zero");
-		}
-		UInt384 q = UInt384.ZERO;
-		UInt384 r = UInt384.ZERO;
-		UInt384 n = this;
-		for (int i = 0; i < SIZE; ++i) {
-			r = r.shiftLeft();
-			q = q.shiftLeft();
-			if (n.high.isHighBitSet()) {
-				r = r.or(UInt384.ONE);
-			}
-			n = n.shiftLeft();
-			if (r.compareTo(divisor) >= 0) {
-				r = r.subtract(divisor);
-				q = q.or(UInt384.ONE);
-			}
-		}
-		return q;
+		return new MutableUInt384(this).divide(divisor).toUInt384();
 	}
 
 	/**
@@ -473,25 +455,7 @@ public final class UInt384 implements Comparable<UInt384> {
 	 * @throws IllegalArgumentException if {@code divisor} is zero
 	 */
 	public UInt384 divide(UInt256 divisor) {
-		if (divisor.isZero()) {
-			throw new IllegalArgumentException("Can't divide by zero");
-		}
-		UInt384 q = UInt384.ZERO;
-		UInt384 r = UInt384.ZERO;
-		UInt384 n = this;
-		for (int i = 0; i < SIZE; ++i) {
-			r = r.shiftLeft();
-			q = q.shiftLeft();
-			if (n.high.isHighBitSet()) {
-				r = r.or(UInt384.ONE);
-			}
-			n = n.shiftLeft();
-			if (!r.high.isZero() || (r.low.compareTo(divisor) >= 0)) {
-				r = r.subtract(divisor);
-				q = q.or(UInt384.ONE);
-			}
-		}
-		return q;
+		return new MutableUInt384(this).divide(divisor).toUInt384();
 	}
 
 	/**
@@ -502,22 +466,7 @@ public final class UInt384 implements Comparable<UInt384> {
 	 * @return The remainder of the division {@code this / divisor}.
 	 */
 	public UInt384 remainder(UInt384 divisor) {
-		if (divisor.isZero()) {
-			throw new IllegalArgumentException("Can't divide by zero");
-		}
-		UInt384 r = UInt384.ZERO;
-		UInt384 n = this;
-		for (int i = 0; i < SIZE; ++i) {
-			r = r.shiftLeft();
-			if (n.high.isHighBitSet()) {
-				r = r.or(UInt384.ONE);
-			}
-			n = n.shiftLeft();
-			if (r.compareTo(divisor) >= 0) {
-				r = r.subtract(divisor);
-			}
-		}
-		return r;
+		return new MutableUInt384(this).remainder(divisor).toUInt384();
 	}
 
 	/**
@@ -0,0 +1,153 @@
+/*
+ * (C) Copyright 2021 Radix DLT Ltd
+ *
+ * Radix DLT Ltd licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ */
+
+package com.radixdlt.utils;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class MutableUInt256Test {
+	private static final BigInteger MODULUS = BigInteger.ONE.shiftLeft(UInt256.SIZE);
+
+	// Vectors which hit the rarely taken branches of Knuth's algorithm D
+	private static final String[][] DIVISION_VECTORS = {
+		// Estimate one too large, add back
+		{ "7fffffff800000000000000000000000", "800000000000000000000001" },
+		{ "7fffffff80000000000000000000000000000000000000000000000000000000", "80000000000000000000000000000000000000000000000000000001" },
+		// Estimate corrected once, then add back
+		{ "800000000000000000000000fffffffe", "800000000000000000000001" },
+		// Estimate corrected twice
+		{ "ffffffffffffffffffffffff", "80000000ffffffff" },
+		// One below a multiple of the divisor
+		{ "7fffffff8000000000000000fffffffe", "800000000000000000000001" },
+		// Divisor top limb with only the high bit set
+		{ "ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff", "8000000000000000000000000000000000000000000000000000000000000000" },
+		{ "ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff", "8000000000000000000000000000000000000000000000000000000000000001" },
+		// Single limb divisors
+		{ "ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff", "ffffffff" },
+		{ "ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff", "80000000" },
+		{ "100000000", "ffffffff" },
+		// Divisor equal to dividend
+		{ "ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff", "ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff" },
+		{ "800000000000000000000001", "800000000000000000000001" },
+	};
+
+	private final Random random = new Random(256);
+
+	@Test
+	public void when_operating_in_place__the_same_instance_is_returned() {
+		MutableUInt256 value = new MutableUInt256(UInt256.TEN);
+
+		assertSame(value, value.add(UInt256.ONE));
+		assertSame(value, value.subtract(UInt256.ONE));
+		assertSame(value, value.multiply(UInt256.TWO));
+		assertSame(value, value.divide(UInt256.TWO));
+		assertEquals(UInt256.TEN, value.toUInt256());
+	}
+
+	@Test
+	public void when_adding_and_subtracting_past_the_bounds__the_value_wraps() {
+		assertEquals(UInt256.ZERO, new MutableUInt256(UInt256.MAX_VALUE).add(UInt256.ONE).toUInt256());
+		assertEquals(UInt256.MAX_VALUE, new MutableUInt256().subtract(UInt256.ONE).toUInt256());
+	}
+
+	@Test
+	public void when_dividing_by_zero__an_exception_is_thrown() {
+		MutableUInt256 value = new MutableUInt256(UInt256.ONE);
+		assertThatThrownBy(() -> value.divide(UInt256.ZERO))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	public void when_comparing__ordering_matches_the_immutable_value() {
+		assertThat(new MutableUInt256())
+			.isLessThan(new MutableUInt256(UInt256.ONE))
+			.isEqualByComparingTo(new MutableUInt256(UInt256.ZERO));
+		assertTrue(new MutableUInt256().isZero());
+		assertThat(new MutableUInt256(UInt256.MAX_VALUE)).isGreaterThan(new MutableUInt256(UInt256.TEN));
+	}
+
+	@Test
+	public void when_performing_random_arithmetic__results_match_big_integer() {
+		for (int i = 0; i < 10_000; i++) {
+			UInt256 a = randomValue();
+			UInt256 b = randomValue();
+			BigInteger x = toBigInteger(a);
+			BigInteger y = toBigInteger(b);
+
+			assertEquals(x.add(y).mod(MODULUS), toBigInteger(new MutableUInt256(a).add(b).toUInt256()));
+			assertEquals(x.subtract(y).mod(MODULUS), toBigInteger(new MutableUInt256(a).subtract(b).toUInt256()));
+			if (!b.isZero()) {
+				assertEquals(x.divide(y), toBigInteger(new MutableUInt256(a).divide(b).toUInt256()));
+				assertEquals(x.mod(y), toBigInteger(new MutableUInt256(a).remainder(b).toUInt256()));
+			}
+		}
+	}
+
+	@Test
+	public void when_chaining_multiply_and_divide__results_match_big_integer() {
+		MutableUInt256 accumulator = new MutableUInt256();
+		for (int i = 0; i < 10_000; i++) {
+			UInt256 a = randomValue();
+			UInt256 m = UInt256.from(randomBytes(UInt256.BYTES));
+			UInt256 d = randomValue();
+			if (d.isZero()) {
+				continue;
+			}
+			BigInteger expected = toBigInteger(a).multiply(toBigInteger(m)).mod(MODULUS).divide(toBigInteger(d));
+
+			assertEquals(expected, toBigInteger(accumulator.set(a).multiply(m).divide(d).toUInt256()));
+		}
+	}
+
+	@Test
+	public void when_dividing_fixed_vectors__results_match_big_integer() {
+		for (String[] vector : DIVISION_VECTORS) {
+			UInt256 a = UInt256.from(Bytes.fromHexString(vector[0]));
+			UInt256 b = UInt256.from(Bytes.fromHexString(vector[1]));
+			BigInteger x = toBigInteger(a);
+			BigInteger y = toBigInteger(b);
+
+			assertEquals(vector[0] + " / " + vector[1], x.divide(y), toBigInteger(new MutableUInt256(a).divide(b).toUInt256()));
+			assertEquals(vector[0] + " % " + vector[1], x.mod(y), toBigInteger(new MutableUInt256(a).remainder(b).toUInt256()));
+		}
+	}
+
+	// Random lengths so that divisors of every limb count are exercised
+	private UInt256 randomValue() {
+		return UInt256.from(randomBytes(UInt256.BYTES));
+	}
+
+	private byte[] randomBytes(int maxLength) {
+		byte[] bytes = new byte[1 + random.nextInt(maxLength)];
+		random.nextBytes(bytes);
+		return bytes;
+	}
+
+	private static BigInteger toBigInteger(UInt256 value) {
+		return new BigInteger(1, value.toByteArray());
+	}
+}
@@ -0,0 +1,172 @@
+/*
+ * (C) Copyright 2021 Radix DLT Ltd
+ *
+ * Radix DLT Ltd licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in
+ * compliance with the License.  You may obtain a copy of the
+ * License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.  See the License for the specific
+ * language governing permissions and limitations under the License.
+ *
+ */
+
+package com.radixdlt.utils;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class MutableUInt384Test {
+	private static final BigInteger MODULUS = BigInteger.ONE.shiftLeft(UInt384.SIZE);
+
+	// Vectors which hit the rarely taken branches of Knuth's algorithm D
+	private static final String[][] DIVISION_VECTORS = {
+		// Estimate one too large, add back
+		{ "7fffffff800000000000000000000000000000000000000000000000", "800000000000000000000000000000000000000000000001" },
+		// Estimate corrected once, then add back
+		{ "800000000000000000000000000000000000000000000000fffffffe", "800000000000000000000000000000000000000000000001" },
+		// Estimate corrected repeatedly
+		{
+			"ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff",
+			"80000000ffffffffffffffffffffffffffffffff"
+		},
+		// One below a multiple of the divisor
+		{ "7fffffff8000000000000000fffffffe", "800000000000000000000001" },
+		// Divisor top limb with only the high bit set
+		{
+			"ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff",
+			"800000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000"
+		},
+		// Single limb divisors
+		{ "ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff", "ffffffff" },
+		{ "ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff", "80000000" },
+		// Divisor equal to dividend
+		{
+			"ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff",
+			"ffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffffff"
+		},
+	};
+
+	private final Random random = new Random(384);
+
+	@Test
+	public void when_operating_in_place__the_same_instance_is_returned() {
+		MutableUInt384 value = new MutableUInt384(UInt384.TEN);
+
+		assertSame(value, value.add(UInt384.ONE));
+		assertSame(value, value.subtract(UInt384.ONE));
+		assertSame(value, value.multiply(UInt256.TWO));
+		assertSame(value, value.divide(UInt384.TWO));
+		assertEquals(UInt384.TEN, value.toUInt384());
+	}
+
+	@Test
+	public void when_adding_and_subtracting_past_the_bounds__the_value_wraps() {
+		assertEquals(UInt384.ZERO, new MutableUInt384(UInt384.MAX_VALUE).add(UInt384.ONE).toUInt384());
+		assertEquals(UInt384.MAX_VALUE, new MutableUInt384().subtract(UInt384.ONE).toUInt384());
+	}
+
+	@Test
+	public void when_dividing_by_zero__an_exception_is_thrown() {
+		MutableUInt384 value = new MutableUInt384(UInt384.ONE);
+		assertThatThrownBy(() -> value.divide(UInt384.ZERO))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	public void when_comparing__ordering_matches_the_immutable_value() {
+		assertThat(new MutableUInt384())
+			.isLessThan(new MutableUInt384(UInt384.ONE))
+			.isEqualByComparingTo(new MutableUInt384(UInt384.ZERO));
+		assertTrue(new MutableUInt384().isZero());
+		assertThat(new MutableUInt384(UInt384.MAX_VALUE)).isGreaterThan(new MutableUInt384(UInt384.TEN));
+	}
+
+	@Test
+	public void when_performing_random_arithmetic__results_match_big_integer() {
+		for (int i = 0; i < 10_000; i++) {
+			UInt384 a = randomValue();
+			UInt384 b = randomValue();
+			BigInteger x = toBigInteger(a);
+			BigInteger y = toBigInteger(b);
+
+			assertEquals(x.add(y).mod(MODULUS), toBigInteger(new MutableUInt384(a).add(b).toUInt384()));
+			assertEquals(x.subtract(y).mod(MODULUS), toBigInteger(new MutableUInt384(a).subtract(b).toUInt384()));
+			if (!b.isZero()) {
+				assertEquals(x.divide(y), toBigInteger(new MutableUInt384(a).divide(b).toUInt384()));
+				assertEquals(x.mod(y), toBigInteger(new MutableUInt384(a).remainder(b).toUInt384()));
+			}
+		}
+	}
+
+	@Test
+	public void when_chaining_multiply_and_divide__results_match_big_integer() {
+		MutableUInt384 accumulator = new MutableUInt384();
+		for (int i = 0; i < 10_000; i++) {
+			UInt384 a = randomValue();
+			UInt256 m = UInt256.from(randomBytes(UInt256.BYTES));
+			UInt384 d = randomValue();
+			if (d.isZero()) {
+				continue;
+			}
+			BigInteger expected = toBigInteger(a).multiply(toBigInteger(m)).mod(MODULUS).divide(toBigInteger(d));
+
+			assertEquals(expected, toBigInteger(accumulator.set(a).multiply(m).divide(d).toUInt384()));
+		}
+	}
+
+	@Test
+	public void when_dividing_by_a_uint256__results_match_big_integer() {
+		for (int i = 0; i < 10_000; i++) {
+			UInt384 a = randomValue();
+			UInt256 b = UInt256.from(randomBytes(UInt256.BYTES));
+			if (b.isZero()) {
+				continue;
+			}
+
+			assertEquals(toBigInteger(a).divide(toBigInteger(b)), toBigInteger(new MutableUInt384(a).divide(b).toUInt384()));
+			assertEquals(a.divide(b), new MutableUInt384(a).divide(b).toUInt384());
+		}
+	}
+
+	@Test
+	public void when_dividing_fixed_vectors__results_match_big_integer() {
+		for (String[] vector : DIVISION_VECTORS) {
+			UInt384 a = UInt384.from(Bytes.fromHexString(vector[0]));
+			UInt384 b = UInt384.from(Bytes.fromHexString(vector[1]));
+			BigInteger x = toBigInteger(a);
+			BigInteger y = toBigInteger(b);
+
+			assertEquals(vector[0] + " / " + vector[1], x.divide(y), toBigInteger(new MutableUInt384(a).divide(b).toUInt384()));
+			assertEquals(vector[0] + " % " + vector[1], x.mod(y), toBigInteger(new MutableUInt384(a).remainder(b).toUInt384()));
+		}
+	}
+
+	// Random lengths so that divisors of every limb count are exercised
+	private UInt384 randomValue() {
+		return UInt384.from(randomBytes(UInt384.BYTES));
+	}
+
+	private byte[] randomBytes(int maxLength) {
+		byte[] bytes = new byte[1 + random.nextInt(maxLength)];
+		random.nextBytes(bytes);
+		return bytes;
+	}
+
+	private static BigInteger toBigInteger(UInt384 value) {
+		return new BigInteger(1, value.toByteArray());
+	}
+}